@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.autoscaling;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -28,6 +27,7 @@ import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.autoscaling.model.*;
+import com.amazonaws.services.autoscaling.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonAutoScaling.
@@ -305,11 +305,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeAccountLimitsResult> describeAccountLimitsAsync(final DescribeAccountLimitsRequest describeAccountLimitsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAccountLimitsResult>() {
-            public DescribeAccountLimitsResult call() throws Exception {
-                return describeAccountLimits(describeAccountLimitsRequest);
-        }
-    });
+        return invokeAsync(describeAccountLimitsRequest,
+                new DescribeAccountLimitsRequestMarshaller(),
+                new DescribeAccountLimitsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -348,19 +347,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeAccountLimitsRequest describeAccountLimitsRequest,
             final AsyncHandler<DescribeAccountLimitsRequest, DescribeAccountLimitsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAccountLimitsResult>() {
-            public DescribeAccountLimitsResult call() throws Exception {
-              DescribeAccountLimitsResult result;
-                try {
-                result = describeAccountLimits(describeAccountLimitsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAccountLimitsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeAccountLimitsRequest,
+                new DescribeAccountLimitsRequestMarshaller(),
+                new DescribeAccountLimitsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -388,11 +378,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeAutoScalingGroupsResult> describeAutoScalingGroupsAsync(final DescribeAutoScalingGroupsRequest describeAutoScalingGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingGroupsResult>() {
-            public DescribeAutoScalingGroupsResult call() throws Exception {
-                return describeAutoScalingGroups(describeAutoScalingGroupsRequest);
-        }
-    });
+        return invokeAsync(describeAutoScalingGroupsRequest,
+                new DescribeAutoScalingGroupsRequestMarshaller(),
+                new DescribeAutoScalingGroupsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -426,19 +415,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeAutoScalingGroupsRequest describeAutoScalingGroupsRequest,
             final AsyncHandler<DescribeAutoScalingGroupsRequest, DescribeAutoScalingGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingGroupsResult>() {
-            public DescribeAutoScalingGroupsResult call() throws Exception {
-              DescribeAutoScalingGroupsResult result;
-                try {
-                result = describeAutoScalingGroups(describeAutoScalingGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAutoScalingGroupsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeAutoScalingGroupsRequest,
+                new DescribeAutoScalingGroupsRequestMarshaller(),
+                new DescribeAutoScalingGroupsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -471,12 +451,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> enableMetricsCollectionAsync(final EnableMetricsCollectionRequest enableMetricsCollectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                enableMetricsCollection(enableMetricsCollectionRequest);
-                return null;
-        }
-    });
+        return invokeAsync(enableMetricsCollectionRequest,
+                new EnableMetricsCollectionRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -515,18 +492,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final EnableMetricsCollectionRequest enableMetricsCollectionRequest,
             final AsyncHandler<EnableMetricsCollectionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                enableMetricsCollection(enableMetricsCollectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableMetricsCollectionRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(enableMetricsCollectionRequest,
+                new EnableMetricsCollectionRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -556,12 +524,8 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> resumeProcessesAsync(final ResumeProcessesRequest resumeProcessesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resumeProcesses(resumeProcessesRequest);
-                return null;
-        }
-    });
+        return invokeAsync(resumeProcessesRequest, new ResumeProcessesRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -597,18 +561,8 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final ResumeProcessesRequest resumeProcessesRequest,
             final AsyncHandler<ResumeProcessesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                resumeProcesses(resumeProcessesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resumeProcessesRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(resumeProcessesRequest, new ResumeProcessesRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -636,11 +590,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeScalingProcessTypesResult> describeScalingProcessTypesAsync(final DescribeScalingProcessTypesRequest describeScalingProcessTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScalingProcessTypesResult>() {
-            public DescribeScalingProcessTypesResult call() throws Exception {
-                return describeScalingProcessTypes(describeScalingProcessTypesRequest);
-        }
-    });
+        return invokeAsync(describeScalingProcessTypesRequest,
+                new DescribeScalingProcessTypesRequestMarshaller(),
+                new DescribeScalingProcessTypesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -674,19 +627,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeScalingProcessTypesRequest describeScalingProcessTypesRequest,
             final AsyncHandler<DescribeScalingProcessTypesRequest, DescribeScalingProcessTypesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScalingProcessTypesResult>() {
-            public DescribeScalingProcessTypesResult call() throws Exception {
-              DescribeScalingProcessTypesResult result;
-                try {
-                result = describeScalingProcessTypes(describeScalingProcessTypesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeScalingProcessTypesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeScalingProcessTypesRequest,
+                new DescribeScalingProcessTypesRequestMarshaller(),
+                new DescribeScalingProcessTypesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -723,12 +667,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> createAutoScalingGroupAsync(final CreateAutoScalingGroupRequest createAutoScalingGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createAutoScalingGroup(createAutoScalingGroupRequest);
-                return null;
-        }
-    });
+        return invokeAsync(createAutoScalingGroupRequest,
+                new CreateAutoScalingGroupRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -771,18 +712,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final CreateAutoScalingGroupRequest createAutoScalingGroupRequest,
             final AsyncHandler<CreateAutoScalingGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                createAutoScalingGroup(createAutoScalingGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createAutoScalingGroupRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(createAutoScalingGroupRequest,
+                new CreateAutoScalingGroupRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -819,12 +751,8 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> attachInstancesAsync(final AttachInstancesRequest attachInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                attachInstances(attachInstancesRequest);
-                return null;
-        }
-    });
+        return invokeAsync(attachInstancesRequest, new AttachInstancesRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -867,18 +795,8 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final AttachInstancesRequest attachInstancesRequest,
             final AsyncHandler<AttachInstancesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                attachInstances(attachInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachInstancesRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(attachInstancesRequest, new AttachInstancesRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -909,11 +827,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeScalingActivitiesResult> describeScalingActivitiesAsync(final DescribeScalingActivitiesRequest describeScalingActivitiesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScalingActivitiesResult>() {
-            public DescribeScalingActivitiesResult call() throws Exception {
-                return describeScalingActivities(describeScalingActivitiesRequest);
-        }
-    });
+        return invokeAsync(describeScalingActivitiesRequest,
+                new DescribeScalingActivitiesRequestMarshaller(),
+                new DescribeScalingActivitiesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -950,19 +867,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeScalingActivitiesRequest describeScalingActivitiesRequest,
             final AsyncHandler<DescribeScalingActivitiesRequest, DescribeScalingActivitiesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScalingActivitiesResult>() {
-            public DescribeScalingActivitiesResult call() throws Exception {
-              DescribeScalingActivitiesResult result;
-                try {
-                result = describeScalingActivities(describeScalingActivitiesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeScalingActivitiesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeScalingActivitiesRequest,
+                new DescribeScalingActivitiesRequestMarshaller(),
+                new DescribeScalingActivitiesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -989,11 +897,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeTerminationPolicyTypesResult> describeTerminationPolicyTypesAsync(final DescribeTerminationPolicyTypesRequest describeTerminationPolicyTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTerminationPolicyTypesResult>() {
-            public DescribeTerminationPolicyTypesResult call() throws Exception {
-                return describeTerminationPolicyTypes(describeTerminationPolicyTypesRequest);
-        }
-    });
+        return invokeAsync(describeTerminationPolicyTypesRequest,
+                new DescribeTerminationPolicyTypesRequestMarshaller(),
+                new DescribeTerminationPolicyTypesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1026,19 +933,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeTerminationPolicyTypesRequest describeTerminationPolicyTypesRequest,
             final AsyncHandler<DescribeTerminationPolicyTypesRequest, DescribeTerminationPolicyTypesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTerminationPolicyTypesResult>() {
-            public DescribeTerminationPolicyTypesResult call() throws Exception {
-              DescribeTerminationPolicyTypesResult result;
-                try {
-                result = describeTerminationPolicyTypes(describeTerminationPolicyTypesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeTerminationPolicyTypesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeTerminationPolicyTypesRequest,
+                new DescribeTerminationPolicyTypesRequestMarshaller(),
+                new DescribeTerminationPolicyTypesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1094,11 +992,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<PutLifecycleHookResult> putLifecycleHookAsync(final PutLifecycleHookRequest putLifecycleHookRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutLifecycleHookResult>() {
-            public PutLifecycleHookResult call() throws Exception {
-                return putLifecycleHook(putLifecycleHookRequest);
-        }
-    });
+        return invokeAsync(putLifecycleHookRequest,
+                new PutLifecycleHookRequestMarshaller(),
+                new PutLifecycleHookResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1160,19 +1057,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final PutLifecycleHookRequest putLifecycleHookRequest,
             final AsyncHandler<PutLifecycleHookRequest, PutLifecycleHookResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutLifecycleHookResult>() {
-            public PutLifecycleHookResult call() throws Exception {
-              PutLifecycleHookResult result;
-                try {
-                result = putLifecycleHook(putLifecycleHookRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putLifecycleHookRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(putLifecycleHookRequest,
+                new PutLifecycleHookRequestMarshaller(),
+                new PutLifecycleHookResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1208,11 +1096,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeTagsResult> describeTagsAsync(final DescribeTagsRequest describeTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
-            public DescribeTagsResult call() throws Exception {
-                return describeTags(describeTagsRequest);
-        }
-    });
+        return invokeAsync(describeTagsRequest,
+                new DescribeTagsRequestMarshaller(), new DescribeTagsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1254,19 +1140,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeTagsRequest describeTagsRequest,
             final AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
-            public DescribeTagsResult call() throws Exception {
-              DescribeTagsResult result;
-                try {
-                result = describeTags(describeTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeTagsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeTagsRequest,
+                new DescribeTagsRequestMarshaller(), new DescribeTagsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1300,11 +1176,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DetachLoadBalancersResult> detachLoadBalancersAsync(final DetachLoadBalancersRequest detachLoadBalancersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachLoadBalancersResult>() {
-            public DetachLoadBalancersResult call() throws Exception {
-                return detachLoadBalancers(detachLoadBalancersRequest);
-        }
-    });
+        return invokeAsync(detachLoadBalancersRequest,
+                new DetachLoadBalancersRequestMarshaller(),
+                new DetachLoadBalancersResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1344,19 +1219,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DetachLoadBalancersRequest detachLoadBalancersRequest,
             final AsyncHandler<DetachLoadBalancersRequest, DetachLoadBalancersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachLoadBalancersResult>() {
-            public DetachLoadBalancersResult call() throws Exception {
-              DetachLoadBalancersResult result;
-                try {
-                result = detachLoadBalancers(detachLoadBalancersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachLoadBalancersRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(detachLoadBalancersRequest,
+                new DetachLoadBalancersRequestMarshaller(),
+                new DetachLoadBalancersResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1385,12 +1251,8 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> deletePolicyAsync(final DeletePolicyRequest deletePolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deletePolicy(deletePolicyRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deletePolicyRequest, new DeletePolicyRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -1425,18 +1287,8 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeletePolicyRequest deletePolicyRequest,
             final AsyncHandler<DeletePolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deletePolicy(deletePolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deletePolicyRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deletePolicyRequest, new DeletePolicyRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -1482,11 +1334,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<CompleteLifecycleActionResult> completeLifecycleActionAsync(final CompleteLifecycleActionRequest completeLifecycleActionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CompleteLifecycleActionResult>() {
-            public CompleteLifecycleActionResult call() throws Exception {
-                return completeLifecycleAction(completeLifecycleActionRequest);
-        }
-    });
+        return invokeAsync(completeLifecycleActionRequest,
+                new CompleteLifecycleActionRequestMarshaller(),
+                new CompleteLifecycleActionResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1538,19 +1389,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final CompleteLifecycleActionRequest completeLifecycleActionRequest,
             final AsyncHandler<CompleteLifecycleActionRequest, CompleteLifecycleActionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CompleteLifecycleActionResult>() {
-            public CompleteLifecycleActionResult call() throws Exception {
-              CompleteLifecycleActionResult result;
-                try {
-                result = completeLifecycleAction(completeLifecycleActionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(completeLifecycleActionRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(completeLifecycleActionRequest,
+                new CompleteLifecycleActionRequestMarshaller(),
+                new CompleteLifecycleActionResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1577,12 +1419,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> deleteNotificationConfigurationAsync(final DeleteNotificationConfigurationRequest deleteNotificationConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteNotificationConfiguration(deleteNotificationConfigurationRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteNotificationConfigurationRequest,
+                new DeleteNotificationConfigurationRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -1615,18 +1454,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteNotificationConfigurationRequest deleteNotificationConfigurationRequest,
             final AsyncHandler<DeleteNotificationConfigurationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteNotificationConfiguration(deleteNotificationConfigurationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteNotificationConfigurationRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteNotificationConfigurationRequest,
+                new DeleteNotificationConfigurationRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -1653,12 +1483,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> deleteScheduledActionAsync(final DeleteScheduledActionRequest deleteScheduledActionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteScheduledAction(deleteScheduledActionRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteScheduledActionRequest,
+                new DeleteScheduledActionRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -1691,18 +1518,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteScheduledActionRequest deleteScheduledActionRequest,
             final AsyncHandler<DeleteScheduledActionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteScheduledAction(deleteScheduledActionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteScheduledActionRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteScheduledActionRequest,
+                new DeleteScheduledActionRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -1732,12 +1550,8 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> setInstanceHealthAsync(final SetInstanceHealthRequest setInstanceHealthRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setInstanceHealth(setInstanceHealthRequest);
-                return null;
-        }
-    });
+        return invokeAsync(setInstanceHealthRequest, new SetInstanceHealthRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -1773,18 +1587,8 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final SetInstanceHealthRequest setInstanceHealthRequest,
             final AsyncHandler<SetInstanceHealthRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                setInstanceHealth(setInstanceHealthRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setInstanceHealthRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(setInstanceHealthRequest, new SetInstanceHealthRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -1829,12 +1633,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> createOrUpdateTagsAsync(final CreateOrUpdateTagsRequest createOrUpdateTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createOrUpdateTags(createOrUpdateTagsRequest);
-                return null;
-        }
-    });
+        return invokeAsync(createOrUpdateTagsRequest,
+                new CreateOrUpdateTagsRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -1885,18 +1686,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final CreateOrUpdateTagsRequest createOrUpdateTagsRequest,
             final AsyncHandler<CreateOrUpdateTagsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                createOrUpdateTags(createOrUpdateTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createOrUpdateTagsRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(createOrUpdateTagsRequest,
+                new CreateOrUpdateTagsRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -1937,12 +1729,8 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> suspendProcessesAsync(final SuspendProcessesRequest suspendProcessesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                suspendProcesses(suspendProcessesRequest);
-                return null;
-        }
-    });
+        return invokeAsync(suspendProcessesRequest, new SuspendProcessesRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -1989,18 +1777,8 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final SuspendProcessesRequest suspendProcessesRequest,
             final AsyncHandler<SuspendProcessesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                suspendProcesses(suspendProcessesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(suspendProcessesRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(suspendProcessesRequest, new SuspendProcessesRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -2037,11 +1815,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<AttachLoadBalancersResult> attachLoadBalancersAsync(final AttachLoadBalancersRequest attachLoadBalancersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachLoadBalancersResult>() {
-            public AttachLoadBalancersResult call() throws Exception {
-                return attachLoadBalancers(attachLoadBalancersRequest);
-        }
-    });
+        return invokeAsync(attachLoadBalancersRequest,
+                new AttachLoadBalancersRequestMarshaller(),
+                new AttachLoadBalancersResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2084,19 +1861,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final AttachLoadBalancersRequest attachLoadBalancersRequest,
             final AsyncHandler<AttachLoadBalancersRequest, AttachLoadBalancersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachLoadBalancersResult>() {
-            public AttachLoadBalancersResult call() throws Exception {
-              AttachLoadBalancersResult result;
-                try {
-                result = attachLoadBalancers(attachLoadBalancersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachLoadBalancersRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(attachLoadBalancersRequest,
+                new AttachLoadBalancersRequestMarshaller(),
+                new AttachLoadBalancersResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2124,11 +1892,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeAutoScalingInstancesResult> describeAutoScalingInstancesAsync(final DescribeAutoScalingInstancesRequest describeAutoScalingInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingInstancesResult>() {
-            public DescribeAutoScalingInstancesResult call() throws Exception {
-                return describeAutoScalingInstances(describeAutoScalingInstancesRequest);
-        }
-    });
+        return invokeAsync(describeAutoScalingInstancesRequest,
+                new DescribeAutoScalingInstancesRequestMarshaller(),
+                new DescribeAutoScalingInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2162,19 +1929,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeAutoScalingInstancesRequest describeAutoScalingInstancesRequest,
             final AsyncHandler<DescribeAutoScalingInstancesRequest, DescribeAutoScalingInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingInstancesResult>() {
-            public DescribeAutoScalingInstancesResult call() throws Exception {
-              DescribeAutoScalingInstancesResult result;
-                try {
-                result = describeAutoScalingInstances(describeAutoScalingInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAutoScalingInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeAutoScalingInstancesRequest,
+                new DescribeAutoScalingInstancesRequestMarshaller(),
+                new DescribeAutoScalingInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2212,11 +1970,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DetachInstancesResult> detachInstancesAsync(final DetachInstancesRequest detachInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachInstancesResult>() {
-            public DetachInstancesResult call() throws Exception {
-                return detachInstances(detachInstancesRequest);
-        }
-    });
+        return invokeAsync(detachInstancesRequest,
+                new DetachInstancesRequestMarshaller(), new DetachInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2260,19 +2016,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DetachInstancesRequest detachInstancesRequest,
             final AsyncHandler<DetachInstancesRequest, DetachInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachInstancesResult>() {
-            public DetachInstancesResult call() throws Exception {
-              DetachInstancesResult result;
-                try {
-                result = detachInstances(detachInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(detachInstancesRequest,
+                new DetachInstancesRequestMarshaller(), new DetachInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2299,11 +2045,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeLifecycleHookTypesResult> describeLifecycleHookTypesAsync(final DescribeLifecycleHookTypesRequest describeLifecycleHookTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLifecycleHookTypesResult>() {
-            public DescribeLifecycleHookTypesResult call() throws Exception {
-                return describeLifecycleHookTypes(describeLifecycleHookTypesRequest);
-        }
-    });
+        return invokeAsync(describeLifecycleHookTypesRequest,
+                new DescribeLifecycleHookTypesRequestMarshaller(),
+                new DescribeLifecycleHookTypesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2336,19 +2081,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeLifecycleHookTypesRequest describeLifecycleHookTypesRequest,
             final AsyncHandler<DescribeLifecycleHookTypesRequest, DescribeLifecycleHookTypesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLifecycleHookTypesResult>() {
-            public DescribeLifecycleHookTypesResult call() throws Exception {
-              DescribeLifecycleHookTypesResult result;
-                try {
-                result = describeLifecycleHookTypes(describeLifecycleHookTypesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeLifecycleHookTypesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeLifecycleHookTypesRequest,
+                new DescribeLifecycleHookTypesRequestMarshaller(),
+                new DescribeLifecycleHookTypesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2396,12 +2132,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> deleteAutoScalingGroupAsync(final DeleteAutoScalingGroupRequest deleteAutoScalingGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteAutoScalingGroup(deleteAutoScalingGroupRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteAutoScalingGroupRequest,
+                new DeleteAutoScalingGroupRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -2455,18 +2188,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteAutoScalingGroupRequest deleteAutoScalingGroupRequest,
             final AsyncHandler<DeleteAutoScalingGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteAutoScalingGroup(deleteAutoScalingGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteAutoScalingGroupRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteAutoScalingGroupRequest,
+                new DeleteAutoScalingGroupRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -2494,12 +2218,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> disableMetricsCollectionAsync(final DisableMetricsCollectionRequest disableMetricsCollectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disableMetricsCollection(disableMetricsCollectionRequest);
-                return null;
-        }
-    });
+        return invokeAsync(disableMetricsCollectionRequest,
+                new DisableMetricsCollectionRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -2533,18 +2254,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DisableMetricsCollectionRequest disableMetricsCollectionRequest,
             final AsyncHandler<DisableMetricsCollectionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                disableMetricsCollection(disableMetricsCollectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disableMetricsCollectionRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(disableMetricsCollectionRequest,
+                new DisableMetricsCollectionRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -2572,11 +2284,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeLaunchConfigurationsResult> describeLaunchConfigurationsAsync(final DescribeLaunchConfigurationsRequest describeLaunchConfigurationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLaunchConfigurationsResult>() {
-            public DescribeLaunchConfigurationsResult call() throws Exception {
-                return describeLaunchConfigurations(describeLaunchConfigurationsRequest);
-        }
-    });
+        return invokeAsync(describeLaunchConfigurationsRequest,
+                new DescribeLaunchConfigurationsRequestMarshaller(),
+                new DescribeLaunchConfigurationsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2610,19 +2321,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeLaunchConfigurationsRequest describeLaunchConfigurationsRequest,
             final AsyncHandler<DescribeLaunchConfigurationsRequest, DescribeLaunchConfigurationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLaunchConfigurationsResult>() {
-            public DescribeLaunchConfigurationsResult call() throws Exception {
-              DescribeLaunchConfigurationsResult result;
-                try {
-                result = describeLaunchConfigurations(describeLaunchConfigurationsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeLaunchConfigurationsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeLaunchConfigurationsRequest,
+                new DescribeLaunchConfigurationsRequestMarshaller(),
+                new DescribeLaunchConfigurationsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2651,11 +2353,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeScheduledActionsResult> describeScheduledActionsAsync(final DescribeScheduledActionsRequest describeScheduledActionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledActionsResult>() {
-            public DescribeScheduledActionsResult call() throws Exception {
-                return describeScheduledActions(describeScheduledActionsRequest);
-        }
-    });
+        return invokeAsync(describeScheduledActionsRequest,
+                new DescribeScheduledActionsRequestMarshaller(),
+                new DescribeScheduledActionsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2690,19 +2391,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeScheduledActionsRequest describeScheduledActionsRequest,
             final AsyncHandler<DescribeScheduledActionsRequest, DescribeScheduledActionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledActionsResult>() {
-            public DescribeScheduledActionsResult call() throws Exception {
-              DescribeScheduledActionsResult result;
-                try {
-                result = describeScheduledActions(describeScheduledActionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeScheduledActionsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeScheduledActionsRequest,
+                new DescribeScheduledActionsRequestMarshaller(),
+                new DescribeScheduledActionsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2729,11 +2421,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeAdjustmentTypesResult> describeAdjustmentTypesAsync(final DescribeAdjustmentTypesRequest describeAdjustmentTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAdjustmentTypesResult>() {
-            public DescribeAdjustmentTypesResult call() throws Exception {
-                return describeAdjustmentTypes(describeAdjustmentTypesRequest);
-        }
-    });
+        return invokeAsync(describeAdjustmentTypesRequest,
+                new DescribeAdjustmentTypesRequestMarshaller(),
+                new DescribeAdjustmentTypesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2766,19 +2457,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeAdjustmentTypesRequest describeAdjustmentTypesRequest,
             final AsyncHandler<DescribeAdjustmentTypesRequest, DescribeAdjustmentTypesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAdjustmentTypesResult>() {
-            public DescribeAdjustmentTypesResult call() throws Exception {
-              DescribeAdjustmentTypesResult result;
-                try {
-                result = describeAdjustmentTypes(describeAdjustmentTypesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAdjustmentTypesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeAdjustmentTypesRequest,
+                new DescribeAdjustmentTypesRequestMarshaller(),
+                new DescribeAdjustmentTypesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2813,12 +2495,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> putScheduledUpdateGroupActionAsync(final PutScheduledUpdateGroupActionRequest putScheduledUpdateGroupActionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putScheduledUpdateGroupAction(putScheduledUpdateGroupActionRequest);
-                return null;
-        }
-    });
+        return invokeAsync(putScheduledUpdateGroupActionRequest,
+                new PutScheduledUpdateGroupActionRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -2859,18 +2538,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final PutScheduledUpdateGroupActionRequest putScheduledUpdateGroupActionRequest,
             final AsyncHandler<PutScheduledUpdateGroupActionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                putScheduledUpdateGroupAction(putScheduledUpdateGroupActionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putScheduledUpdateGroupActionRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(putScheduledUpdateGroupActionRequest,
+                new PutScheduledUpdateGroupActionRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -2897,11 +2567,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeLifecycleHooksResult> describeLifecycleHooksAsync(final DescribeLifecycleHooksRequest describeLifecycleHooksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLifecycleHooksResult>() {
-            public DescribeLifecycleHooksResult call() throws Exception {
-                return describeLifecycleHooks(describeLifecycleHooksRequest);
-        }
-    });
+        return invokeAsync(describeLifecycleHooksRequest,
+                new DescribeLifecycleHooksRequestMarshaller(),
+                new DescribeLifecycleHooksResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2934,19 +2603,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeLifecycleHooksRequest describeLifecycleHooksRequest,
             final AsyncHandler<DescribeLifecycleHooksRequest, DescribeLifecycleHooksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLifecycleHooksResult>() {
-            public DescribeLifecycleHooksResult call() throws Exception {
-              DescribeLifecycleHooksResult result;
-                try {
-                result = describeLifecycleHooks(describeLifecycleHooksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeLifecycleHooksRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeLifecycleHooksRequest,
+                new DescribeLifecycleHooksRequestMarshaller(),
+                new DescribeLifecycleHooksResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2978,12 +2638,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> deleteLaunchConfigurationAsync(final DeleteLaunchConfigurationRequest deleteLaunchConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteLaunchConfiguration(deleteLaunchConfigurationRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteLaunchConfigurationRequest,
+                new DeleteLaunchConfigurationRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -3021,18 +2678,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteLaunchConfigurationRequest deleteLaunchConfigurationRequest,
             final AsyncHandler<DeleteLaunchConfigurationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteLaunchConfiguration(deleteLaunchConfigurationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteLaunchConfigurationRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteLaunchConfigurationRequest,
+                new DeleteLaunchConfigurationRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -3057,11 +2705,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribePoliciesResult> describePoliciesAsync(final DescribePoliciesRequest describePoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePoliciesResult>() {
-            public DescribePoliciesResult call() throws Exception {
-                return describePolicies(describePoliciesRequest);
-        }
-    });
+        return invokeAsync(describePoliciesRequest,
+                new DescribePoliciesRequestMarshaller(),
+                new DescribePoliciesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3092,19 +2739,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribePoliciesRequest describePoliciesRequest,
             final AsyncHandler<DescribePoliciesRequest, DescribePoliciesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePoliciesResult>() {
-            public DescribePoliciesResult call() throws Exception {
-              DescribePoliciesResult result;
-                try {
-                result = describePolicies(describePoliciesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describePoliciesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describePoliciesRequest,
+                new DescribePoliciesRequestMarshaller(),
+                new DescribePoliciesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3132,11 +2770,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeNotificationConfigurationsResult> describeNotificationConfigurationsAsync(final DescribeNotificationConfigurationsRequest describeNotificationConfigurationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNotificationConfigurationsResult>() {
-            public DescribeNotificationConfigurationsResult call() throws Exception {
-                return describeNotificationConfigurations(describeNotificationConfigurationsRequest);
-        }
-    });
+        return invokeAsync(describeNotificationConfigurationsRequest,
+                new DescribeNotificationConfigurationsRequestMarshaller(),
+                new DescribeNotificationConfigurationsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3170,19 +2807,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeNotificationConfigurationsRequest describeNotificationConfigurationsRequest,
             final AsyncHandler<DescribeNotificationConfigurationsRequest, DescribeNotificationConfigurationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNotificationConfigurationsResult>() {
-            public DescribeNotificationConfigurationsResult call() throws Exception {
-              DescribeNotificationConfigurationsResult result;
-                try {
-                result = describeNotificationConfigurations(describeNotificationConfigurationsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeNotificationConfigurationsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeNotificationConfigurationsRequest,
+                new DescribeNotificationConfigurationsRequestMarshaller(),
+                new DescribeNotificationConfigurationsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3213,11 +2841,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DeleteLifecycleHookResult> deleteLifecycleHookAsync(final DeleteLifecycleHookRequest deleteLifecycleHookRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLifecycleHookResult>() {
-            public DeleteLifecycleHookResult call() throws Exception {
-                return deleteLifecycleHook(deleteLifecycleHookRequest);
-        }
-    });
+        return invokeAsync(deleteLifecycleHookRequest,
+                new DeleteLifecycleHookRequestMarshaller(),
+                new DeleteLifecycleHookResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3254,19 +2881,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteLifecycleHookRequest deleteLifecycleHookRequest,
             final AsyncHandler<DeleteLifecycleHookRequest, DeleteLifecycleHookResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLifecycleHookResult>() {
-            public DeleteLifecycleHookResult call() throws Exception {
-              DeleteLifecycleHookResult result;
-                try {
-                result = deleteLifecycleHook(deleteLifecycleHookRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteLifecycleHookRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(deleteLifecycleHookRequest,
+                new DeleteLifecycleHookRequestMarshaller(),
+                new DeleteLifecycleHookResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3291,12 +2909,8 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> executePolicyAsync(final ExecutePolicyRequest executePolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                executePolicy(executePolicyRequest);
-                return null;
-        }
-    });
+        return invokeAsync(executePolicyRequest, new ExecutePolicyRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -3327,18 +2941,8 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final ExecutePolicyRequest executePolicyRequest,
             final AsyncHandler<ExecutePolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                executePolicy(executePolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(executePolicyRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(executePolicyRequest, new ExecutePolicyRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -3363,12 +2967,8 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> deleteTagsAsync(final DeleteTagsRequest deleteTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteTags(deleteTagsRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteTagsRequest, new DeleteTagsRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -3399,18 +2999,8 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteTagsRequest deleteTagsRequest,
             final AsyncHandler<DeleteTagsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteTags(deleteTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteTagsRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteTagsRequest, new DeleteTagsRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -3445,11 +3035,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<PutScalingPolicyResult> putScalingPolicyAsync(final PutScalingPolicyRequest putScalingPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutScalingPolicyResult>() {
-            public PutScalingPolicyResult call() throws Exception {
-                return putScalingPolicy(putScalingPolicyRequest);
-        }
-    });
+        return invokeAsync(putScalingPolicyRequest,
+                new PutScalingPolicyRequestMarshaller(),
+                new PutScalingPolicyResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3490,19 +3079,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final PutScalingPolicyRequest putScalingPolicyRequest,
             final AsyncHandler<PutScalingPolicyRequest, PutScalingPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutScalingPolicyResult>() {
-            public PutScalingPolicyResult call() throws Exception {
-              PutScalingPolicyResult result;
-                try {
-                result = putScalingPolicy(putScalingPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putScalingPolicyRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(putScalingPolicyRequest,
+                new PutScalingPolicyRequestMarshaller(),
+                new PutScalingPolicyResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3534,11 +3114,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<SetInstanceProtectionResult> setInstanceProtectionAsync(final SetInstanceProtectionRequest setInstanceProtectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetInstanceProtectionResult>() {
-            public SetInstanceProtectionResult call() throws Exception {
-                return setInstanceProtection(setInstanceProtectionRequest);
-        }
-    });
+        return invokeAsync(setInstanceProtectionRequest,
+                new SetInstanceProtectionRequestMarshaller(),
+                new SetInstanceProtectionResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3576,19 +3155,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final SetInstanceProtectionRequest setInstanceProtectionRequest,
             final AsyncHandler<SetInstanceProtectionRequest, SetInstanceProtectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetInstanceProtectionResult>() {
-            public SetInstanceProtectionResult call() throws Exception {
-              SetInstanceProtectionResult result;
-                try {
-                result = setInstanceProtection(setInstanceProtectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setInstanceProtectionRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(setInstanceProtectionRequest,
+                new SetInstanceProtectionRequestMarshaller(),
+                new SetInstanceProtectionResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3625,12 +3195,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> putNotificationConfigurationAsync(final PutNotificationConfigurationRequest putNotificationConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putNotificationConfiguration(putNotificationConfigurationRequest);
-                return null;
-        }
-    });
+        return invokeAsync(putNotificationConfigurationRequest,
+                new PutNotificationConfigurationRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -3673,18 +3240,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final PutNotificationConfigurationRequest putNotificationConfigurationRequest,
             final AsyncHandler<PutNotificationConfigurationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                putNotificationConfiguration(putNotificationConfigurationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putNotificationConfigurationRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(putNotificationConfigurationRequest,
+                new PutNotificationConfigurationRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -3714,11 +3272,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<ExitStandbyResult> exitStandbyAsync(final ExitStandbyRequest exitStandbyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ExitStandbyResult>() {
-            public ExitStandbyResult call() throws Exception {
-                return exitStandby(exitStandbyRequest);
-        }
-    });
+        return invokeAsync(exitStandbyRequest,
+                new ExitStandbyRequestMarshaller(), new ExitStandbyResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3754,19 +3310,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final ExitStandbyRequest exitStandbyRequest,
             final AsyncHandler<ExitStandbyRequest, ExitStandbyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ExitStandbyResult>() {
-            public ExitStandbyResult call() throws Exception {
-              ExitStandbyResult result;
-                try {
-                result = exitStandby(exitStandbyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(exitStandbyRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(exitStandbyRequest,
+                new ExitStandbyRequestMarshaller(), new ExitStandbyResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3793,11 +3339,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeAutoScalingNotificationTypesResult> describeAutoScalingNotificationTypesAsync(final DescribeAutoScalingNotificationTypesRequest describeAutoScalingNotificationTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingNotificationTypesResult>() {
-            public DescribeAutoScalingNotificationTypesResult call() throws Exception {
-                return describeAutoScalingNotificationTypes(describeAutoScalingNotificationTypesRequest);
-        }
-    });
+        return invokeAsync(describeAutoScalingNotificationTypesRequest,
+                new DescribeAutoScalingNotificationTypesRequestMarshaller(),
+                new DescribeAutoScalingNotificationTypesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3830,19 +3375,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeAutoScalingNotificationTypesRequest describeAutoScalingNotificationTypesRequest,
             final AsyncHandler<DescribeAutoScalingNotificationTypesRequest, DescribeAutoScalingNotificationTypesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingNotificationTypesResult>() {
-            public DescribeAutoScalingNotificationTypesResult call() throws Exception {
-              DescribeAutoScalingNotificationTypesResult result;
-                try {
-                result = describeAutoScalingNotificationTypes(describeAutoScalingNotificationTypesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAutoScalingNotificationTypesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeAutoScalingNotificationTypesRequest,
+                new DescribeAutoScalingNotificationTypesRequestMarshaller(),
+                new DescribeAutoScalingNotificationTypesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3869,11 +3405,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeLoadBalancersResult> describeLoadBalancersAsync(final DescribeLoadBalancersRequest describeLoadBalancersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancersResult>() {
-            public DescribeLoadBalancersResult call() throws Exception {
-                return describeLoadBalancers(describeLoadBalancersRequest);
-        }
-    });
+        return invokeAsync(describeLoadBalancersRequest,
+                new DescribeLoadBalancersRequestMarshaller(),
+                new DescribeLoadBalancersResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3906,19 +3441,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeLoadBalancersRequest describeLoadBalancersRequest,
             final AsyncHandler<DescribeLoadBalancersRequest, DescribeLoadBalancersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancersResult>() {
-            public DescribeLoadBalancersResult call() throws Exception {
-              DescribeLoadBalancersResult result;
-                try {
-                result = describeLoadBalancers(describeLoadBalancersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeLoadBalancersRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeLoadBalancersRequest,
+                new DescribeLoadBalancersRequestMarshaller(),
+                new DescribeLoadBalancersResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3955,12 +3481,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> createLaunchConfigurationAsync(final CreateLaunchConfigurationRequest createLaunchConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createLaunchConfiguration(createLaunchConfigurationRequest);
-                return null;
-        }
-    });
+        return invokeAsync(createLaunchConfigurationRequest,
+                new CreateLaunchConfigurationRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -4003,18 +3526,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final CreateLaunchConfigurationRequest createLaunchConfigurationRequest,
             final AsyncHandler<CreateLaunchConfigurationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                createLaunchConfiguration(createLaunchConfigurationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createLaunchConfigurationRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(createLaunchConfigurationRequest,
+                new CreateLaunchConfigurationRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -4044,11 +3558,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<EnterStandbyResult> enterStandbyAsync(final EnterStandbyRequest enterStandbyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnterStandbyResult>() {
-            public EnterStandbyResult call() throws Exception {
-                return enterStandby(enterStandbyRequest);
-        }
-    });
+        return invokeAsync(enterStandbyRequest,
+                new EnterStandbyRequestMarshaller(), new EnterStandbyResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4084,19 +3596,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final EnterStandbyRequest enterStandbyRequest,
             final AsyncHandler<EnterStandbyRequest, EnterStandbyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnterStandbyResult>() {
-            public EnterStandbyResult call() throws Exception {
-              EnterStandbyResult result;
-                try {
-                result = enterStandby(enterStandbyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enterStandbyRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(enterStandbyRequest,
+                new EnterStandbyRequestMarshaller(), new EnterStandbyResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -4163,12 +3665,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> updateAutoScalingGroupAsync(final UpdateAutoScalingGroupRequest updateAutoScalingGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateAutoScalingGroup(updateAutoScalingGroupRequest);
-                return null;
-        }
-    });
+        return invokeAsync(updateAutoScalingGroupRequest,
+                new UpdateAutoScalingGroupRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -4241,18 +3740,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final UpdateAutoScalingGroupRequest updateAutoScalingGroupRequest,
             final AsyncHandler<UpdateAutoScalingGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                updateAutoScalingGroup(updateAutoScalingGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateAutoScalingGroupRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(updateAutoScalingGroupRequest,
+                new UpdateAutoScalingGroupRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -4299,11 +3789,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<RecordLifecycleActionHeartbeatResult> recordLifecycleActionHeartbeatAsync(final RecordLifecycleActionHeartbeatRequest recordLifecycleActionHeartbeatRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RecordLifecycleActionHeartbeatResult>() {
-            public RecordLifecycleActionHeartbeatResult call() throws Exception {
-                return recordLifecycleActionHeartbeat(recordLifecycleActionHeartbeatRequest);
-        }
-    });
+        return invokeAsync(recordLifecycleActionHeartbeatRequest,
+                new RecordLifecycleActionHeartbeatRequestMarshaller(),
+                new RecordLifecycleActionHeartbeatResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4356,19 +3845,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final RecordLifecycleActionHeartbeatRequest recordLifecycleActionHeartbeatRequest,
             final AsyncHandler<RecordLifecycleActionHeartbeatRequest, RecordLifecycleActionHeartbeatResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RecordLifecycleActionHeartbeatResult>() {
-            public RecordLifecycleActionHeartbeatResult call() throws Exception {
-              RecordLifecycleActionHeartbeatResult result;
-                try {
-                result = recordLifecycleActionHeartbeat(recordLifecycleActionHeartbeatRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(recordLifecycleActionHeartbeatRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(recordLifecycleActionHeartbeatRequest,
+                new RecordLifecycleActionHeartbeatRequestMarshaller(),
+                new RecordLifecycleActionHeartbeatResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -4400,11 +3880,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeMetricCollectionTypesResult> describeMetricCollectionTypesAsync(final DescribeMetricCollectionTypesRequest describeMetricCollectionTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMetricCollectionTypesResult>() {
-            public DescribeMetricCollectionTypesResult call() throws Exception {
-                return describeMetricCollectionTypes(describeMetricCollectionTypesRequest);
-        }
-    });
+        return invokeAsync(describeMetricCollectionTypesRequest,
+                new DescribeMetricCollectionTypesRequestMarshaller(),
+                new DescribeMetricCollectionTypesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4442,19 +3921,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeMetricCollectionTypesRequest describeMetricCollectionTypesRequest,
             final AsyncHandler<DescribeMetricCollectionTypesRequest, DescribeMetricCollectionTypesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMetricCollectionTypesResult>() {
-            public DescribeMetricCollectionTypesResult call() throws Exception {
-              DescribeMetricCollectionTypesResult result;
-                try {
-                result = describeMetricCollectionTypes(describeMetricCollectionTypesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeMetricCollectionTypesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeMetricCollectionTypesRequest,
+                new DescribeMetricCollectionTypesRequestMarshaller(),
+                new DescribeMetricCollectionTypesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -4485,12 +3955,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> setDesiredCapacityAsync(final SetDesiredCapacityRequest setDesiredCapacityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setDesiredCapacity(setDesiredCapacityRequest);
-                return null;
-        }
-    });
+        return invokeAsync(setDesiredCapacityRequest,
+                new SetDesiredCapacityRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -4527,18 +3994,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final SetDesiredCapacityRequest setDesiredCapacityRequest,
             final AsyncHandler<SetDesiredCapacityRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                setDesiredCapacity(setDesiredCapacityRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setDesiredCapacityRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(setDesiredCapacityRequest,
+                new SetDesiredCapacityRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -4570,11 +4028,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<TerminateInstanceInAutoScalingGroupResult> terminateInstanceInAutoScalingGroupAsync(final TerminateInstanceInAutoScalingGroupRequest terminateInstanceInAutoScalingGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateInstanceInAutoScalingGroupResult>() {
-            public TerminateInstanceInAutoScalingGroupResult call() throws Exception {
-                return terminateInstanceInAutoScalingGroup(terminateInstanceInAutoScalingGroupRequest);
-        }
-    });
+        return invokeAsync(terminateInstanceInAutoScalingGroupRequest,
+                new TerminateInstanceInAutoScalingGroupRequestMarshaller(),
+                new TerminateInstanceInAutoScalingGroupResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4612,19 +4069,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final TerminateInstanceInAutoScalingGroupRequest terminateInstanceInAutoScalingGroupRequest,
             final AsyncHandler<TerminateInstanceInAutoScalingGroupRequest, TerminateInstanceInAutoScalingGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateInstanceInAutoScalingGroupResult>() {
-            public TerminateInstanceInAutoScalingGroupResult call() throws Exception {
-              TerminateInstanceInAutoScalingGroupResult result;
-                try {
-                result = terminateInstanceInAutoScalingGroup(terminateInstanceInAutoScalingGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(terminateInstanceInAutoScalingGroupRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(terminateInstanceInAutoScalingGroupRequest,
+                new TerminateInstanceInAutoScalingGroupRequestMarshaller(),
+                new TerminateInstanceInAutoScalingGroupResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
 }
@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.cloudwatch;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -28,6 +27,7 @@ import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.cloudwatch.model.*;
+import com.amazonaws.services.cloudwatch.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonCloudWatch.
@@ -345,12 +345,8 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<Void> putMetricAlarmAsync(final PutMetricAlarmRequest putMetricAlarmRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putMetricAlarm(putMetricAlarmRequest);
-                return null;
-        }
-    });
+        return invokeAsync(putMetricAlarmRequest, new PutMetricAlarmRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -393,18 +389,8 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final PutMetricAlarmRequest putMetricAlarmRequest,
             final AsyncHandler<PutMetricAlarmRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                putMetricAlarm(putMetricAlarmRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putMetricAlarmRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(putMetricAlarmRequest, new PutMetricAlarmRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -447,12 +433,8 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<Void> putMetricDataAsync(final PutMetricDataRequest putMetricDataRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putMetricData(putMetricDataRequest);
-                return null;
-        }
-    });
+        return invokeAsync(putMetricDataRequest, new PutMetricDataRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -501,18 +483,8 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final PutMetricDataRequest putMetricDataRequest,
             final AsyncHandler<PutMetricDataRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                putMetricData(putMetricDataRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putMetricDataRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(putMetricDataRequest, new PutMetricDataRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -549,11 +521,9 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<ListMetricsResult> listMetricsAsync(final ListMetricsRequest listMetricsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMetricsResult>() {
-            public ListMetricsResult call() throws Exception {
-                return listMetrics(listMetricsRequest);
-        }
-    });
+        return invokeAsync(listMetricsRequest,
+                new ListMetricsRequestMarshaller(), new ListMetricsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -596,19 +566,9 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final ListMetricsRequest listMetricsRequest,
             final AsyncHandler<ListMetricsRequest, ListMetricsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMetricsResult>() {
-            public ListMetricsResult call() throws Exception {
-              ListMetricsResult result;
-                try {
-                result = listMetrics(listMetricsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listMetricsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(listMetricsRequest,
+                new ListMetricsRequestMarshaller(), new ListMetricsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -667,11 +627,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<GetMetricStatisticsResult> getMetricStatisticsAsync(final GetMetricStatisticsRequest getMetricStatisticsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMetricStatisticsResult>() {
-            public GetMetricStatisticsResult call() throws Exception {
-                return getMetricStatistics(getMetricStatisticsRequest);
-        }
-    });
+        return invokeAsync(getMetricStatisticsRequest,
+                new GetMetricStatisticsRequestMarshaller(),
+                new GetMetricStatisticsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -736,19 +695,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final GetMetricStatisticsRequest getMetricStatisticsRequest,
             final AsyncHandler<GetMetricStatisticsRequest, GetMetricStatisticsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMetricStatisticsResult>() {
-            public GetMetricStatisticsResult call() throws Exception {
-              GetMetricStatisticsResult result;
-                try {
-                result = getMetricStatistics(getMetricStatisticsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getMetricStatisticsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(getMetricStatisticsRequest,
+                new GetMetricStatisticsRequestMarshaller(),
+                new GetMetricStatisticsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -776,12 +726,9 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<Void> disableAlarmActionsAsync(final DisableAlarmActionsRequest disableAlarmActionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disableAlarmActions(disableAlarmActionsRequest);
-                return null;
-        }
-    });
+        return invokeAsync(disableAlarmActionsRequest,
+                new DisableAlarmActionsRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -815,18 +762,9 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final DisableAlarmActionsRequest disableAlarmActionsRequest,
             final AsyncHandler<DisableAlarmActionsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                disableAlarmActions(disableAlarmActionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disableAlarmActionsRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(disableAlarmActionsRequest,
+                new DisableAlarmActionsRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -854,11 +792,9 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<DescribeAlarmsResult> describeAlarmsAsync(final DescribeAlarmsRequest describeAlarmsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsResult>() {
-            public DescribeAlarmsResult call() throws Exception {
-                return describeAlarms(describeAlarmsRequest);
-        }
-    });
+        return invokeAsync(describeAlarmsRequest,
+                new DescribeAlarmsRequestMarshaller(), new DescribeAlarmsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -892,19 +828,9 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final DescribeAlarmsRequest describeAlarmsRequest,
             final AsyncHandler<DescribeAlarmsRequest, DescribeAlarmsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsResult>() {
-            public DescribeAlarmsResult call() throws Exception {
-              DescribeAlarmsResult result;
-                try {
-                result = describeAlarms(describeAlarmsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAlarmsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeAlarmsRequest,
+                new DescribeAlarmsRequestMarshaller(), new DescribeAlarmsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -932,11 +858,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<DescribeAlarmsForMetricResult> describeAlarmsForMetricAsync(final DescribeAlarmsForMetricRequest describeAlarmsForMetricRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsForMetricResult>() {
-            public DescribeAlarmsForMetricResult call() throws Exception {
-                return describeAlarmsForMetric(describeAlarmsForMetricRequest);
-        }
-    });
+        return invokeAsync(describeAlarmsForMetricRequest,
+                new DescribeAlarmsForMetricRequestMarshaller(),
+                new DescribeAlarmsForMetricResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -970,19 +895,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final DescribeAlarmsForMetricRequest describeAlarmsForMetricRequest,
             final AsyncHandler<DescribeAlarmsForMetricRequest, DescribeAlarmsForMetricResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsForMetricResult>() {
-            public DescribeAlarmsForMetricResult call() throws Exception {
-              DescribeAlarmsForMetricResult result;
-                try {
-                result = describeAlarmsForMetric(describeAlarmsForMetricRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAlarmsForMetricRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeAlarmsForMetricRequest,
+                new DescribeAlarmsForMetricRequestMarshaller(),
+                new DescribeAlarmsForMetricResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1014,11 +930,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<DescribeAlarmHistoryResult> describeAlarmHistoryAsync(final DescribeAlarmHistoryRequest describeAlarmHistoryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmHistoryResult>() {
-            public DescribeAlarmHistoryResult call() throws Exception {
-                return describeAlarmHistory(describeAlarmHistoryRequest);
-        }
-    });
+        return invokeAsync(describeAlarmHistoryRequest,
+                new DescribeAlarmHistoryRequestMarshaller(),
+                new DescribeAlarmHistoryResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1056,19 +971,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final DescribeAlarmHistoryRequest describeAlarmHistoryRequest,
             final AsyncHandler<DescribeAlarmHistoryRequest, DescribeAlarmHistoryResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmHistoryResult>() {
-            public DescribeAlarmHistoryResult call() throws Exception {
-              DescribeAlarmHistoryResult result;
-                try {
-                result = describeAlarmHistory(describeAlarmHistoryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAlarmHistoryRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeAlarmHistoryRequest,
+                new DescribeAlarmHistoryRequestMarshaller(),
+                new DescribeAlarmHistoryResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1094,12 +1000,9 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<Void> enableAlarmActionsAsync(final EnableAlarmActionsRequest enableAlarmActionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                enableAlarmActions(enableAlarmActionsRequest);
-                return null;
-        }
-    });
+        return invokeAsync(enableAlarmActionsRequest,
+                new EnableAlarmActionsRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -1131,18 +1034,9 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final EnableAlarmActionsRequest enableAlarmActionsRequest,
             final AsyncHandler<EnableAlarmActionsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                enableAlarmActions(enableAlarmActionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableAlarmActionsRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(enableAlarmActionsRequest,
+                new EnableAlarmActionsRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -1168,12 +1062,8 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<Void> deleteAlarmsAsync(final DeleteAlarmsRequest deleteAlarmsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteAlarms(deleteAlarmsRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteAlarmsRequest, new DeleteAlarmsRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -1205,18 +1095,8 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final DeleteAlarmsRequest deleteAlarmsRequest,
             final AsyncHandler<DeleteAlarmsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteAlarms(deleteAlarmsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteAlarmsRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteAlarmsRequest, new DeleteAlarmsRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -1245,12 +1125,8 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<Void> setAlarmStateAsync(final SetAlarmStateRequest setAlarmStateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setAlarmState(setAlarmStateRequest);
-                return null;
-        }
-    });
+        return invokeAsync(setAlarmStateRequest, new SetAlarmStateRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -1285,18 +1161,8 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final SetAlarmStateRequest setAlarmStateRequest,
             final AsyncHandler<SetAlarmStateRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                setAlarmState(setAlarmStateRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setAlarmStateRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(setAlarmStateRequest, new SetAlarmStateRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
 }
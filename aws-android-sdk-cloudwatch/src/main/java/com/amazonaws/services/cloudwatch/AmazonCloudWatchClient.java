@@ -18,6 +18,8 @@ import org.w3c.dom.*;
 
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import com.amazonaws.*;
 import com.amazonaws.auth.*;
@@ -907,5 +909,19 @@ public class AmazonCloudWatchClient extends AmazonWebServiceClient implements Am
         DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
         return client.execute(request, responseHandler, errorResponseHandler, executionContext);
     }
+
+    /**
+     * Executes the request asynchronously on the given executor service, as
+     * {@link #invoke} does synchronously.
+     */
+    <X, Y extends AmazonWebServiceRequest> Future<X> invokeAsync(Y originalRequest,
+            Marshaller<Request<Y>, Y> marshaller,
+            Unmarshaller<X, StaxUnmarshallerContext> unmarshaller,
+            ExecutorService executorService, AsyncHandler<Y, X> asyncHandler) {
+        StaxResponseHandler<X> responseHandler = new StaxResponseHandler<X>(unmarshaller);
+        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
+        return executeAsync(originalRequest, marshaller, responseHandler, errorResponseHandler,
+                awsCredentialsProvider, executorService, asyncHandler);
+    }
 }
         
\ No newline at end of file
@@ -17,18 +17,24 @@ package com.amazonaws;
 
 import static com.amazonaws.SDKGlobalConfiguration.PROFILING_SYSTEM_PROPERTY;
 
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.RegionAwareSigner;
 import com.amazonaws.auth.Signer;
 import com.amazonaws.auth.SignerFactory;
+import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.handlers.RequestHandler;
 import com.amazonaws.handlers.RequestHandler2;
 import com.amazonaws.http.AmazonHttpClient;
 import com.amazonaws.http.ExecutionContext;
+import com.amazonaws.http.ExecutionFuture;
 import com.amazonaws.http.HttpClient;
+import com.amazonaws.http.HttpResponseHandler;
 import com.amazonaws.http.UrlHttpClient;
 import com.amazonaws.metrics.AwsSdkMetrics;
 import com.amazonaws.metrics.RequestMetricCollector;
 import com.amazonaws.regions.Region;
+import com.amazonaws.transform.Marshaller;
 import com.amazonaws.util.AWSRequestMetrics;
 import com.amazonaws.util.AWSRequestMetrics.Field;
 import com.amazonaws.util.AwsHostNameUtils;
@@ -42,6 +48,10 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Abstract base class for Amazon Web Service Java clients.
@@ -661,6 +671,171 @@ public abstract class AmazonWebServiceClient {
             awsRequestMetrics.log();
     }
 
+    /**
+     * Executes a request of an asynchronous client on the given executor
+     * service. The request is marshalled and signed in a task of the executor,
+     * then its attempts run as tasks of their own and the backoff between them
+     * is scheduled rather than slept, so that no thread of the executor waits
+     * for a retry. See
+     * {@link AmazonHttpClient#executeAsync(Request, HttpResponseHandler, HttpResponseHandler, ExecutionContext, ExecutorService)}.
+     *
+     * @param originalRequest The request as given by the caller
+     * @param marshaller The marshaller of the request
+     * @param responseHandler The handler of a successful response
+     * @param errorResponseHandler The handler of an unsuccessful response
+     * @param credentialsProvider The provider of the credentials to sign the
+     *            request with, unless the request has credentials of its own
+     * @param executorService The executor service running the request
+     * @param asyncHandler Notified of the result before the future completes,
+     *            or null
+     * @return a future of the result of the request
+     */
+    protected <X, Y extends AmazonWebServiceRequest> Future<X> executeAsync(
+            final Y originalRequest,
+            final Marshaller<Request<Y>, Y> marshaller,
+            final HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            final HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+            final AWSCredentialsProvider credentialsProvider,
+            final ExecutorService executorService,
+            final AsyncHandler<Y, X> asyncHandler) {
+        final ExecutionContext executionContext = createExecutionContext(originalRequest);
+        final AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        final AsyncExecutionFuture<X> future = new AsyncExecutionFuture<X>();
+        Runnable start = new Runnable() {
+            @Override
+            public void run() {
+                if (future.isDone()) {
+                    return;
+                }
+                awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+                Request<Y> request = null;
+                try {
+                    awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+                    try {
+                        request = marshaller.marshall(originalRequest);
+                        // Binds the request metrics to the current request.
+                        request.setAWSRequestMetrics(awsRequestMetrics);
+                    } finally {
+                        awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+                    }
+                    request.setEndpoint(endpoint);
+                    request.setTimeOffset(timeOffset);
+                    AWSCredentials credentials = originalRequest.getRequestCredentials();
+                    if (credentials == null) {
+                        awsRequestMetrics.startEvent(Field.CredentialsRequestTime);
+                        try {
+                            credentials = credentialsProvider.getCredentials();
+                        } finally {
+                            awsRequestMetrics.endEvent(Field.CredentialsRequestTime);
+                        }
+                    }
+                    executionContext.setCredentials(credentials);
+
+                    final Request<Y> marshalledRequest = request;
+                    future.setExecution(client.executeAsync(request, responseHandler,
+                            errorResponseHandler, executionContext, executorService,
+                            new ExecutionFuture<Response<X>>() {
+                                @Override
+                                protected void done() {
+                                    completeAsync(originalRequest, marshalledRequest, this,
+                                            awsRequestMetrics, asyncHandler, future);
+                                }
+                            }));
+                } catch (Exception e) {
+                    endClientExecution(awsRequestMetrics, request, null,
+                            LOGGING_AWS_REQUEST_METRIC);
+                    failAsync(e, asyncHandler, future);
+                } catch (Error e) {
+                    future.setException(e);
+                    throw e;
+                }
+            }
+        };
+        try {
+            executorService.execute(start);
+        } catch (RejectedExecutionException e) {
+            failAsync(new AmazonClientException("Unable to execute the request", e),
+                    asyncHandler, future);
+        }
+        return future;
+    }
+
+    /**
+     * Ends the client execution of an asynchronous request once its response
+     * future is done, and completes the future of its result.
+     */
+    private <X, Y extends AmazonWebServiceRequest> void completeAsync(Y originalRequest,
+            Request<Y> request, Future<Response<X>> responseFuture,
+            AWSRequestMetrics awsRequestMetrics, AsyncHandler<Y, X> asyncHandler,
+            ExecutionFuture<X> future) {
+        Response<X> response = null;
+        Throwable failure = null;
+        try {
+            response = responseFuture.get();
+        } catch (ExecutionException e) {
+            failure = e.getCause();
+        } catch (Exception e) {
+            // cancelled, or interrupted while the future is already done
+            failure = e;
+        }
+        endClientExecution(awsRequestMetrics, request, response, LOGGING_AWS_REQUEST_METRIC);
+        if (future.isCancelled()) {
+            return;
+        }
+        if (failure instanceof Exception) {
+            failAsync((Exception) failure, asyncHandler, future);
+            return;
+        }
+        if (failure != null) {
+            future.setException(failure);
+            return;
+        }
+        X result = response.getAwsResponse();
+        try {
+            if (asyncHandler != null) {
+                asyncHandler.onSuccess(originalRequest, result);
+            }
+        } catch (RuntimeException e) {
+            future.setException(e);
+            return;
+        }
+        future.set(result);
+    }
+
+    private static <X> void failAsync(Exception e, AsyncHandler<?, X> asyncHandler,
+            ExecutionFuture<X> future) {
+        try {
+            if (asyncHandler != null) {
+                asyncHandler.onError(e);
+            }
+        } finally {
+            future.setException(e);
+        }
+    }
+
+    /**
+     * Future of the result of an asynchronous request, which cancels the
+     * execution of the request when cancelled.
+     */
+    private static final class AsyncExecutionFuture<X> extends ExecutionFuture<X> {
+        private volatile Future<?> execution;
+
+        void setExecution(Future<?> execution) {
+            this.execution = execution;
+            if (isCancelled()) {
+                execution.cancel(false);
+            }
+        }
+
+        @Override
+        protected void done() {
+            Future<?> execution = this.execution;
+            if (isCancelled() && execution != null) {
+                execution.cancel(false);
+            }
+        }
+    }
+
     /**
      * @deprecated by {@link #getServiceName()}.
      */
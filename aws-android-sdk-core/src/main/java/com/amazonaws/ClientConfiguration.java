@@ -16,6 +16,7 @@
 package com.amazonaws;
 
 import com.amazonaws.http.IdleConnectionReaper;
+import com.amazonaws.retry.AdaptiveRateLimiter;
 import com.amazonaws.retry.PredefinedRetryPolicies;
 import com.amazonaws.retry.RetryPolicy;
 import com.amazonaws.util.VersionInfoUtils;
@@ -158,6 +159,20 @@ public class ClientConfiguration {
      */
     private boolean useReaper = DEFAULT_USE_REAPER;
 
+    /**
+     * Optional whether to limit the rate requests are sent at once the service
+     * starts throttling them.
+     *
+     * @see AdaptiveRateLimiter
+     */
+    private boolean useAdaptiveRateLimiting = false;
+
+    /**
+     * Optional whether to limit the connections concurrently in use for each
+     * host to the maximum number of connections.
+     */
+    private boolean limitConnectionsPerHost = false;
+
     /**
      * Optional override to control which signature algorithm should be used to
      * sign requests to the service. If not explicitly set, the client will
@@ -186,6 +201,8 @@ public class ClientConfiguration {
         this.socketTimeout = other.socketTimeout;
         this.userAgent = other.userAgent;
         this.useReaper = other.useReaper;
+        this.useAdaptiveRateLimiting = other.useAdaptiveRateLimiting;
+        this.limitConnectionsPerHost = other.limitConnectionsPerHost;
         this.socketReceiveBufferSizeHint = other.socketReceiveBufferSizeHint;
         this.socketSendBufferSizeHint = other.socketSendBufferSizeHint;
         this.signerOverride = other.signerOverride;
@@ -741,6 +758,86 @@ public class ClientConfiguration {
         return this;
     }
 
+    /**
+     * Checks if the rate requests are sent at is adapted to the throttling
+     * responses of the service.
+     *
+     * @return if the rate requests are sent at is adapted to throttling
+     * @see AdaptiveRateLimiter
+     */
+    public boolean useAdaptiveRateLimiting() {
+        return useAdaptiveRateLimiting;
+    }
+
+    /**
+     * Sets whether to adapt the rate requests are sent at to the throttling
+     * responses of the service. Once a request to an endpoint is throttled,
+     * the client smooths the rate of all its requests to that endpoint instead
+     * of only backing off the throttled request.
+     *
+     * @param use whether to adapt the rate requests are sent at to throttling
+     * @see AdaptiveRateLimiter
+     */
+    public void setUseAdaptiveRateLimiting(boolean use) {
+        this.useAdaptiveRateLimiting = use;
+    }
+
+    /**
+     * Sets whether to adapt the rate requests are sent at to the throttling
+     * responses of the service.
+     *
+     * @param use whether to adapt the rate requests are sent at to throttling
+     * @return The updated ClientConfiguration object.
+     * @see #setUseAdaptiveRateLimiting(boolean)
+     */
+    public ClientConfiguration withAdaptiveRateLimiting(boolean use) {
+        setUseAdaptiveRateLimiting(use);
+        return this;
+    }
+
+    /**
+     * Checks if the connections concurrently in use for each host are limited
+     * to {@link #getMaxConnections()}. Disabled by default.
+     *
+     * @return if the connections in use for each host are limited
+     */
+    public boolean isLimitConnectionsPerHost() {
+        return limitConnectionsPerHost;
+    }
+
+    /**
+     * Sets whether to limit the connections concurrently in use for each host
+     * to {@link #getMaxConnections()}. A connection is in use from the moment
+     * its request is sent until its response content is read to the end or
+     * closed, so with the limit enabled requests wait, for at most the
+     * connection timeout, while that many response streams to the host are
+     * left open, e.g. concurrent downloads of S3 objects.
+     * <p>
+     * Response content handed to the caller, such as the content of an S3
+     * object, holds its connection until it is read to the end, closed or
+     * aborted. Content that is abandoned without either keeps the connection
+     * in use for good, so enable the limit only if every response stream is
+     * closed.
+     *
+     * @param limit whether to limit the connections in use for each host
+     */
+    public void setLimitConnectionsPerHost(boolean limit) {
+        this.limitConnectionsPerHost = limit;
+    }
+
+    /**
+     * Sets whether to limit the connections concurrently in use for each host
+     * to {@link #getMaxConnections()}.
+     *
+     * @param limit whether to limit the connections in use for each host
+     * @return The updated ClientConfiguration object.
+     * @see #setLimitConnectionsPerHost(boolean)
+     */
+    public ClientConfiguration withLimitConnectionsPerHost(boolean limit) {
+        setLimitConnectionsPerHost(limit);
+        return this;
+    }
+
     /**
      * Returns the optional size hints (in bytes) for the low level TCP send and
      * receive buffers. This is an advanced option for advanced users who want
@@ -32,7 +32,9 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Signer implementation that signs requests with the AWS4 signing protocol.
@@ -47,6 +49,16 @@ public class AWS4Signer extends AbstractAWSSigner
 
     /** Seconds in a week, which is the max expiration time Sig-v4 accepts */
     private final static long MAX_EXPIRATION_TIME_IN_SECONDS = 60 * 60 * 24 * 7;
+
+    /** Maximum number of derived signing keys retained by the signer cache */
+    private static final int SIGNER_CACHE_MAX_SIZE = 300;
+
+    /**
+     * Cache of derived signing keys, shared across all signer instances. The
+     * derived key only changes with the secret key, date, region and service,
+     * so it can be reused by every request signed in the same day.
+     */
+    private static final SigningKeyCache SIGNER_CACHE = new SigningKeyCache(SIGNER_CACHE_MAX_SIZE);
     /**
      * Service name override for use when the endpoint can't be used to
      * determine the service name.
@@ -289,6 +301,31 @@ public class AWS4Signer extends AbstractAWSSigner
         String stringToSign = getStringToSign(algorithm, timeStamp, scope,
                 getCanonicalRequest(request, contentSha256));
 
+        byte[] kSigning = getSigningKey(sanitizedCredentials, dateStamp, regionName,
+                serviceName);
+
+        byte[] signature = sign(stringToSign.getBytes(StringUtils.UTF8), kSigning,
+                SigningAlgorithm.HmacSHA256);
+        return new HeaderSigningResult(timeStamp, scope, kSigning, signature);
+    }
+
+    /**
+     * Returns the signing key for the given credentials, date, region and
+     * service, deriving and caching a new one if it is not cached yet or the
+     * cached key was derived for a different date.
+     */
+    private byte[] getSigningKey(AWSCredentials sanitizedCredentials, String dateStamp,
+            String regionName, String serviceName) {
+        final String cacheKey = sanitizedCredentials.getAWSSecretKey() + "-" + regionName
+                + "-" + serviceName;
+        SigningKey signingKey;
+        synchronized (SIGNER_CACHE) {
+            signingKey = SIGNER_CACHE.get(cacheKey);
+        }
+        if (signingKey != null && dateStamp.equals(signingKey.getDateStamp())) {
+            return signingKey.getKSigning();
+        }
+
         // AWS4 uses a series of derived keys, formed by hashing different
         // pieces of data
         byte[] kSecret = ("AWS4" + sanitizedCredentials.getAWSSecretKey())
@@ -298,9 +335,10 @@ public class AWS4Signer extends AbstractAWSSigner
         byte[] kService = sign(serviceName, kRegion, SigningAlgorithm.HmacSHA256);
         byte[] kSigning = sign(TERMINATOR, kService, SigningAlgorithm.HmacSHA256);
 
-        byte[] signature = sign(stringToSign.getBytes(StringUtils.UTF8), kSigning,
-                SigningAlgorithm.HmacSHA256);
-        return new HeaderSigningResult(timeStamp, scope, kSigning, signature);
+        synchronized (SIGNER_CACHE) {
+            SIGNER_CACHE.put(cacheKey, new SigningKey(dateStamp, kSigning));
+        }
+        return kSigning;
     }
 
     protected final String getTimeStamp(long dateMilli) {
@@ -401,6 +439,49 @@ public class AWS4Signer extends AbstractAWSSigner
         }
     }
 
+    /**
+     * A derived signing key along with the date stamp it was derived for.
+     */
+    private static final class SigningKey {
+
+        private final String dateStamp;
+        private final byte[] kSigning;
+
+        SigningKey(String dateStamp, byte[] kSigning) {
+            this.dateStamp = dateStamp;
+            this.kSigning = kSigning;
+        }
+
+        String getDateStamp() {
+            return dateStamp;
+        }
+
+        byte[] getKSigning() {
+            return kSigning;
+        }
+    }
+
+    /**
+     * LinkedHashMap in access order that evicts the least recently used
+     * signing key once the max size has been reached. Callers must synchronize
+     * on the cache.
+     */
+    private static final class SigningKeyCache extends LinkedHashMap<String, SigningKey> {
+        private static final long serialVersionUID = 1L;
+        private static final float LOAD_FACTOR = 0.75f;
+        private final int maxSize;
+
+        SigningKeyCache(int maxSize) {
+            super(maxSize, LOAD_FACTOR, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SigningKey> eldest) {
+            return size() > maxSize;
+        }
+    }
+
     @Override
     public void presignRequest(Request<?> request, AWSCredentials credentials,
             Date expiration) {
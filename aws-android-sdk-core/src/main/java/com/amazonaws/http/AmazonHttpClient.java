@@ -34,7 +34,10 @@ import com.amazonaws.handlers.RequestHandler2;
 import com.amazonaws.internal.CRC32MismatchException;
 import com.amazonaws.metrics.AwsSdkMetrics;
 import com.amazonaws.metrics.RequestMetricCollector;
+import com.amazonaws.retry.AdaptiveRateLimiter;
+import com.amazonaws.retry.CircuitBreaker;
 import com.amazonaws.retry.RetryPolicy;
+import com.amazonaws.retry.RetryQuota;
 import com.amazonaws.retry.RetryUtils;
 import com.amazonaws.util.AWSRequestMetrics;
 import com.amazonaws.util.AWSRequestMetrics.Field;
@@ -46,7 +49,9 @@ import org.apache.commons.logging.LogFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.SocketTimeoutException;
 import java.net.URI;
+import java.net.URL;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
@@ -54,6 +59,15 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 public class AmazonHttpClient {
 
@@ -91,6 +105,16 @@ public class AmazonHttpClient {
 
     private final HttpRequestFactory requestFactory = new HttpRequestFactory();
 
+    /** Timer shared by all clients to wait out the backoff of asynchronous retries */
+    private static ScheduledExecutorService retryScheduler;
+
+    /** Retry quota and circuit breaker of the current retry policy */
+    private volatile RetryGuards retryGuards;
+
+    /** Adaptive rate limiters of this client, by endpoint host */
+    private final ConcurrentMap<String, AdaptiveRateLimiter> rateLimiters =
+            new ConcurrentHashMap<String, AdaptiveRateLimiter>();
+
     /**
      * Constructs a new AWS client using the specified client configuration
      * options (ex: max retry attempts, proxy settings, etc).
@@ -243,6 +267,120 @@ public class AmazonHttpClient {
         return requestHandler2s;
     }
 
+    /**
+     * Executes the request asynchronously and returns a future of the result.
+     * Each attempt of the request, including the handling of its response, is
+     * run as a separate task of the given executor, so no thread is tied up
+     * between attempts. The backoff before a retry is scheduled rather than
+     * slept: on the executor itself if it is a
+     * {@link ScheduledExecutorService}, otherwise on a timer shared by all
+     * clients which hands the retry back to the executor. The HTTP exchange
+     * itself is still performed by the blocking {@link HttpClient}.
+     *
+     * @param request The AmazonWebServices request to send to the remote server
+     * @param responseHandler A response handler to accept a successful response
+     *            from the remote server
+     * @param errorResponseHandler A response handler to accept an unsuccessful
+     *            response from the remote server
+     * @param executionContext Additional information about the context of this
+     *            web service call
+     * @param executorService The executor running the attempts of the request.
+     * @return a future of the response, which fails with the
+     *         {@link AmazonClientException} of the last attempt.
+     */
+    public <T> Future<Response<T>> executeAsync(Request<?> request,
+            HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+            HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+            ExecutionContext executionContext,
+            ExecutorService executorService) {
+        return executeAsync(request, responseHandler, errorResponseHandler, executionContext,
+                executorService, new ExecutionFuture<Response<T>>());
+    }
+
+    /**
+     * Executes the request asynchronously and completes the given future with
+     * the result, as {@link #executeAsync(Request, HttpResponseHandler,
+     * HttpResponseHandler, ExecutionContext, ExecutorService)} does. Callers
+     * override {@link ExecutionFuture#done()} to be notified of the
+     * completion without holding a thread to wait for it.
+     *
+     * @param future The future to complete. Cancelling it stops the request
+     *            from being attempted again.
+     * @return the given future
+     */
+    public <T> ExecutionFuture<Response<T>> executeAsync(final Request<?> request,
+            final HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+            final HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+            final ExecutionContext executionContext,
+            final ExecutorService executorService,
+            final ExecutionFuture<Response<T>> future) {
+        if (executionContext == null)
+            throw new AmazonClientException(
+                    "Internal SDK Error: No execution context parameter specified.");
+        final List<RequestHandler2> requestHandler2s = requestHandler2s(request,
+                executionContext);
+        final RequestExecution<T> execution = beginExecution(request, responseHandler,
+                errorResponseHandler, executionContext);
+        execution.requestHandler2s = requestHandler2s;
+        Runnable attempt = new Runnable() {
+            @Override
+            public void run() {
+                if (future.isDone()) {
+                    return;
+                }
+                Response<T> response = null;
+                try {
+                    if (!execution.sendRateAcquired) {
+                        execution.sendRateAcquired = true;
+                        long delay = acquireSendRate(execution);
+                        if (delay > 0) {
+                            scheduleAttempt(execution, this, delay, Field.RateLimitPauseTime,
+                                    executorService, future);
+                            return;
+                        }
+                    }
+                    execution.sendRateAcquired = false;
+                    response = executeAttempt(execution);
+                    if (response == null) {
+                        scheduleNextAttempt(execution, this, executorService, future);
+                        return;
+                    }
+                    TimingInfo timingInfo = execution.awsRequestMetrics.getTimingInfo()
+                            .endTiming();
+                    afterResponse(request, requestHandler2s, response, timingInfo);
+                    future.set(response);
+                } catch (AmazonClientException e) {
+                    failExecution(execution, response, e, future);
+                } catch (RuntimeException e) {
+                    future.setException(e);
+                } catch (Error e) {
+                    future.setException(e);
+                    throw e;
+                }
+            }
+        };
+        try {
+            executorService.execute(attempt);
+        } catch (RejectedExecutionException e) {
+            failExecution(execution, null, new AmazonClientException(
+                    "Unable to execute the request", e), future);
+        }
+        return future;
+    }
+
+    /**
+     * Fails an asynchronous request execution with the given exception, after
+     * notifying the request handlers of the error.
+     */
+    private <T> void failExecution(RequestExecution<T> execution, Response<T> response,
+            AmazonClientException e, ExecutionFuture<Response<T>> future) {
+        try {
+            afterError(execution.request, response, execution.requestHandler2s, e);
+        } finally {
+            future.setException(e);
+        }
+    }
+
     /**
      * Internal method to execute the HTTP method given.
      *
@@ -257,14 +395,28 @@ public class AmazonHttpClient {
             ExecutionContext executionContext)
             throws AmazonClientException, AmazonServiceException
     {
-        /*
-         * Depending on which response handler we end up choosing to handle the
-         * HTTP response, it might require us to leave the underlying HTTP
-         * connection open, depending on whether or not it reads the complete
-         * HTTP response stream from the HTTP connection, or if delays reading
-         * any of the content until after a response is returned to the caller.
-         */
-        boolean leaveHttpConnectionOpen = false;
+        RequestExecution<T> execution = beginExecution(request, responseHandler,
+                errorResponseHandler, executionContext);
+        while (true) {
+            if (execution.requestCount > 0) { // retry
+                pauseBeforeNextRetry(execution);
+            }
+            pauseBeforeSending(execution);
+            Response<T> response = executeAttempt(execution);
+            if (response != null) {
+                return response;
+            }
+        } /* end while (true) */
+    }
+
+    /**
+     * Prepares the request for its first attempt and returns the state shared
+     * by all of its attempts.
+     */
+    private <T> RequestExecution<T> beginExecution(Request<?> request,
+            HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+            HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+            ExecutionContext executionContext) {
         AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
         /*
          * add the service endpoint to the logs. You can infer service name from
@@ -277,189 +429,315 @@ public class AmazonHttpClient {
         // user-agent.
         setUserAgent(request);
         request.addHeader(HEADER_SDK_TRANSACTION_ID, UUID.randomUUID().toString());
-        int requestCount = 0;
-        long lastBackoffDelay = 0;
-        URI redirectedURI = null;
-        AmazonClientException retriedException = null;
-
-        // Make a copy of the original request params and headers so that we can
-        // permute it in this loop and start over with the original every time.
-        Map<String, String> originalParameters = new LinkedHashMap<String, String>();
-        originalParameters.putAll(request.getParameters());
-        Map<String, String> originalHeaders = new HashMap<String, String>();
-        originalHeaders.putAll(request.getHeaders());
-
-        final AWSCredentials credentials = executionContext.getCredentials();
-        Signer signer = null;
-        HttpResponse httpResponse = null;
-        HttpRequest httpRequest = null;
+        RequestExecution<T> execution = new RequestExecution<T>(request, responseHandler,
+                errorResponseHandler, executionContext, getRetryGuards(config.getRetryPolicy()));
+        if (config.useAdaptiveRateLimiting()) {
+            execution.rateLimiter = getRateLimiter(request.getEndpoint());
+        }
+        return execution;
+    }
 
-        while (true) {
-            ++requestCount;
-            awsRequestMetrics.setCounter(Field.RequestCount, requestCount);
-            if (requestCount > 1) { // retry
-                request.setParameters(originalParameters);
-                request.setHeaders(originalHeaders);
+    /**
+     * Returns the adaptive rate limiter of this client for the given endpoint,
+     * creating it on first use.
+     */
+    private AdaptiveRateLimiter getRateLimiter(URI endpoint) {
+        String host = endpoint.getHost();
+        AdaptiveRateLimiter rateLimiter = rateLimiters.get(host);
+        if (rateLimiter == null) {
+            AdaptiveRateLimiter newRateLimiter = new AdaptiveRateLimiter();
+            rateLimiter = rateLimiters.putIfAbsent(host, newRateLimiter);
+            if (rateLimiter == null) {
+                rateLimiter = newRateLimiter;
             }
+        }
+        return rateLimiter;
+    }
 
-            try {
-                if (requestCount > 1) { // retry
-                    awsRequestMetrics.startEvent(Field.RetryPauseTime);
-                    try {
-                        lastBackoffDelay = pauseBeforeNextRetry(request.getOriginalRequest(),
-                                retriedException,
-                                requestCount,
-                                config.getRetryPolicy());
-                    } finally {
-                        awsRequestMetrics.endEvent(Field.RetryPauseTime);
-                    }
-                }
-                request.addHeader(HEADER_SDK_RETRY_INFO,
-                        (requestCount - 1) + "/" + lastBackoffDelay);
-
-                // Sign the request if a signer was provided
-                if (signer == null)
-                    signer = executionContext.getSignerByURI(request.getEndpoint());
-                if (signer != null && credentials != null) {
-                    awsRequestMetrics.startEvent(Field.RequestSigningTime);
-                    try {
-                        signer.sign(request, credentials);
-                    } finally {
-                        awsRequestMetrics.endEvent(Field.RequestSigningTime);
-                    }
-                }
+    /**
+     * Takes a token out of the adaptive rate limiter of the given request
+     * execution, if any.
+     *
+     * @return the delay (in milliseconds) before the next attempt may be sent.
+     */
+    private long acquireSendRate(RequestExecution<?> execution) {
+        if (execution.rateLimiter == null) {
+            return 0;
+        }
+        long delay = execution.rateLimiter.acquire();
+        if (delay > 0 && log.isDebugEnabled()) {
+            log.debug("Sending rate limited, will send in " + delay + "ms");
+        }
+        return delay;
+    }
 
-                if (requestLog.isDebugEnabled()) {
-                    requestLog.debug("Sending Request: " + request.toString());
-                }
+    /**
+     * Sleeps until the adaptive rate limiter of the given request execution
+     * lets its next attempt through.
+     */
+    private void pauseBeforeSending(RequestExecution<?> execution) {
+        long delay = acquireSendRate(execution);
+        if (delay <= 0) {
+            return;
+        }
+        AWSRequestMetrics awsRequestMetrics = execution.awsRequestMetrics;
+        awsRequestMetrics.startEvent(Field.RateLimitPauseTime);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException(e.getMessage(), e);
+        } finally {
+            awsRequestMetrics.endEvent(Field.RateLimitPauseTime);
+        }
+    }
 
-                httpRequest = requestFactory.createHttpRequest(request, config,
-                        executionContext);
-                if (redirectedURI != null) {
-                    httpRequest.setUri(redirectedURI);
-                }
+    /**
+     * Updates the sending rate of the adaptive rate limiter of the given
+     * request execution, if any, with the response of its last attempt.
+     */
+    private static void updateSendRate(RequestExecution<?> execution, boolean throttled) {
+        if (execution.rateLimiter != null) {
+            execution.rateLimiter.updateSendingRate(throttled);
+        }
+    }
 
-                // mark input stream if supported
-                InputStream content = httpRequest.getContent();
-                if (content != null) {
-                    if (requestCount > 1) { // retry
-                        if (content.markSupported()) {
-                            content.reset();
-                            content.mark(-1);
-                        }
-                    } else {
-                        if (content.markSupported()) {
-                            content.mark(-1);
-                        }
-                    }
-                }
+    /**
+     * Returns the retry quota and circuit breaker of this client for the given
+     * retry policy, creating new ones when the retry policy has been replaced
+     * in the client configuration.
+     */
+    private RetryGuards getRetryGuards(RetryPolicy retryPolicy) {
+        RetryGuards guards = retryGuards;
+        if (guards == null || guards.retryPolicy != retryPolicy) {
+            guards = new RetryGuards(retryPolicy);
+            retryGuards = guards;
+        }
+        return guards;
+    }
+
+    /**
+     * Sends the request once and handles its response.
+     *
+     * @return the response if the request succeeded, or null if the request
+     *         has to be sent again, either to follow a redirect or to retry a
+     *         retriable error.
+     * @throws AmazonClientException if the request failed and shouldn't be
+     *             retried.
+     */
+    private <T> Response<T> executeAttempt(RequestExecution<T> execution)
+            throws AmazonClientException, AmazonServiceException {
+        final Request<?> request = execution.request;
+        final ExecutionContext executionContext = execution.executionContext;
+        final AWSRequestMetrics awsRequestMetrics = execution.awsRequestMetrics;
+        /*
+         * Depending on which response handler we end up choosing to handle the
+         * HTTP response, it might require us to leave the underlying HTTP
+         * connection open, depending on whether or not it reads the complete
+         * HTTP response stream from the HTTP connection, or if delays reading
+         * any of the content until after a response is returned to the caller.
+         */
+        boolean leaveHttpConnectionOpen = false;
+        boolean responseReturned = false;
+        HttpResponse httpResponse = null;
+        HttpRequest httpRequest = null;
+        final CircuitBreaker circuitBreaker = execution.retryGuards.circuitBreaker;
+        if (execution.requestCount == 0 && circuitBreaker != null
+                && !circuitBreaker.allowRequest()) {
+            throw new AmazonClientException("Unable to execute HTTP request: "
+                    + "the circuit breaker is open after too many failed requests");
+        }
+        final int requestCount = ++execution.requestCount;
+        awsRequestMetrics.setCounter(Field.RequestCount, requestCount);
+        if (requestCount > 1) { // retry
+            request.setParameters(execution.originalParameters);
+            request.setHeaders(execution.originalHeaders);
+        }
 
-                retriedException = null;
-                awsRequestMetrics.startEvent(Field.HttpRequestTime);
+        try {
+            request.addHeader(HEADER_SDK_RETRY_INFO,
+                    (requestCount - 1) + "/" + execution.lastBackoffDelay);
+
+            // Sign the request if a signer was provided
+            if (execution.signer == null)
+                execution.signer = executionContext.getSignerByURI(request.getEndpoint());
+            if (execution.signer != null && execution.credentials != null) {
+                awsRequestMetrics.startEvent(Field.RequestSigningTime);
                 try {
-                    httpResponse = httpClient.execute(httpRequest);
+                    execution.signer.sign(request, execution.credentials);
                 } finally {
-                    awsRequestMetrics.endEvent(Field.HttpRequestTime);
+                    awsRequestMetrics.endEvent(Field.RequestSigningTime);
                 }
+            }
 
-                if (isRequestSuccessful(httpResponse)) {
-                    awsRequestMetrics.addProperty(Field.StatusCode, httpResponse.getStatusCode());
-                    /*
-                     * If we get back any 2xx status code, then we know we
-                     * should treat the service call as successful.
-                     */
-                    leaveHttpConnectionOpen = responseHandler.needsConnectionLeftOpen();
-                    T response = handleResponse(request, responseHandler,
-                            httpResponse,
-                            executionContext);
-                    return new Response<T>(response, httpResponse);
-                } else if (isTemporaryRedirect(httpResponse)) {
-                    /*
-                     * S3 sends 307 Temporary Redirects if you try to delete an
-                     * EU bucket from the US endpoint. If we get a 307, we'll
-                     * point the HTTP method to the redirected location, and let
-                     * the next retry deliver the request to the right location.
-                     */
-                    String redirectedLocation = httpResponse.getHeaders().get("Location");
-                    log.debug("Redirecting to: " + redirectedLocation);
-                    // set redirect uri and retry
-                    redirectedURI = URI.create(redirectedLocation);
-                    awsRequestMetrics.addProperty(Field.StatusCode, httpResponse.getStatusCode());
-                    awsRequestMetrics.addProperty(Field.RedirectLocation, redirectedLocation);
-                    awsRequestMetrics.addProperty(Field.AWSRequestID, null);
-                } else {
-                    leaveHttpConnectionOpen = errorResponseHandler.needsConnectionLeftOpen();
-                    AmazonServiceException ase = handleErrorResponse(request, errorResponseHandler,
-                            httpResponse);
-                    awsRequestMetrics.addProperty(Field.AWSRequestID, ase.getRequestId());
-                    awsRequestMetrics.addProperty(Field.AWSErrorCode, ase.getErrorCode());
-                    awsRequestMetrics.addProperty(Field.StatusCode, ase.getStatusCode());
-
-                    if (!shouldRetry(request.getOriginalRequest(),
-                            httpRequest.getContent(),
-                            ase,
-                            requestCount,
-                            config.getRetryPolicy())) {
-                        throw ase;
-                    }
+            if (requestLog.isDebugEnabled()) {
+                requestLog.debug("Sending Request: " + request.toString());
+            }
+
+            httpRequest = requestFactory.createHttpRequest(request, config,
+                    executionContext);
+            if (execution.redirectedURI != null) {
+                httpRequest.setUri(execution.redirectedURI);
+            }
 
-                    // Cache the retryable exception
-                    retriedException = ase;
-                    /*
-                     * Checking for clock skew error again because we don't want
-                     * to set the global time offset for every service
-                     * exception.
-                     */
-                    if (RetryUtils.isClockSkewError(ase)) {
-                        int timeOffset = parseClockSkewOffset(httpResponse, ase);
-                        SDKGlobalConfiguration.setGlobalTimeOffset(timeOffset);
+            // mark input stream if supported
+            InputStream content = httpRequest.getContent();
+            if (content != null) {
+                if (requestCount > 1) { // retry
+                    if (content.markSupported()) {
+                        content.reset();
+                        content.mark(-1);
+                    }
+                } else {
+                    if (content.markSupported()) {
+                        content.mark(-1);
                     }
-                    resetRequestAfterError(request, ase);
-                }
-            } catch (IOException ioe) {
-                if (log.isInfoEnabled()) {
-                    log.info("Unable to execute HTTP request: " + ioe.getMessage(), ioe);
                 }
-                awsRequestMetrics.incrementCounter(Field.Exception);
-                awsRequestMetrics.addProperty(Field.Exception, ioe);
+            }
+
+            execution.retriedException = null;
+            captureConnectionPoolMetrics(httpRequest, awsRequestMetrics);
+            awsRequestMetrics.startEvent(Field.HttpRequestTime);
+            try {
+                httpResponse = httpClient.execute(httpRequest);
+            } finally {
+                awsRequestMetrics.endEvent(Field.HttpRequestTime);
+            }
+
+            if (isRequestSuccessful(httpResponse)) {
+                awsRequestMetrics.addProperty(Field.StatusCode, httpResponse.getStatusCode());
+                updateSendRate(execution, false);
+                recordAttemptOutcome(circuitBreaker, false);
+                releaseRetryQuota(execution);
+                /*
+                 * If we get back any 2xx status code, then we know we
+                 * should treat the service call as successful.
+                 */
+                leaveHttpConnectionOpen = execution.responseHandler.needsConnectionLeftOpen();
+                T response = handleResponse(request, execution.responseHandler,
+                        httpResponse,
+                        executionContext);
+                responseReturned = true;
+                return new Response<T>(response, httpResponse);
+            } else if (isTemporaryRedirect(httpResponse)) {
+                /*
+                 * S3 sends 307 Temporary Redirects if you try to delete an
+                 * EU bucket from the US endpoint. If we get a 307, we'll
+                 * point the HTTP method to the redirected location, and let
+                 * the next retry deliver the request to the right location.
+                 */
+                String redirectedLocation = httpResponse.getHeaders().get("Location");
+                log.debug("Redirecting to: " + redirectedLocation);
+                recordAttemptOutcome(circuitBreaker, false);
+                // set redirect uri and retry
+                execution.redirectedURI = URI.create(redirectedLocation);
+                awsRequestMetrics.addProperty(Field.StatusCode, httpResponse.getStatusCode());
+                awsRequestMetrics.addProperty(Field.RedirectLocation, redirectedLocation);
                 awsRequestMetrics.addProperty(Field.AWSRequestID, null);
+            } else {
+                leaveHttpConnectionOpen = execution.errorResponseHandler
+                        .needsConnectionLeftOpen();
+                AmazonServiceException ase = handleErrorResponse(request,
+                        execution.errorResponseHandler, httpResponse);
+                awsRequestMetrics.addProperty(Field.AWSRequestID, ase.getRequestId());
+                awsRequestMetrics.addProperty(Field.AWSErrorCode, ase.getErrorCode());
+                awsRequestMetrics.addProperty(Field.StatusCode, ase.getStatusCode());
+                updateSendRate(execution, RetryUtils.isThrottlingException(ase));
+                // Errors caused by the request itself don't count against the
+                // health of the service
+                recordAttemptOutcome(circuitBreaker,
+                        ase.getErrorType() == ErrorType.Service
+                                || RetryUtils.isThrottlingException(ase));
 
-                AmazonClientException ace = new AmazonClientException(
-                        "Unable to execute HTTP request: " + ioe.getMessage(), ioe);
                 if (!shouldRetry(request.getOriginalRequest(),
                         httpRequest.getContent(),
-                        ace,
+                        ase,
                         requestCount,
-                        config.getRetryPolicy())) {
-                    throw ace;
+                        config.getRetryPolicy())
+                        || !acquireRetryQuota(execution, ase)) {
+                    throw ase;
                 }
 
                 // Cache the retryable exception
-                retriedException = ace;
-                resetRequestAfterError(request, ioe);
-            } catch (RuntimeException e) {
-                throw handleUnexpectedFailure(e, awsRequestMetrics);
-            } catch (Error e) {
-                throw handleUnexpectedFailure(e, awsRequestMetrics);
-            } finally {
+                execution.retriedException = ase;
                 /*
-                 * Some response handlers need to manually manage the HTTP
-                 * connection and will take care of releasing the connection on
-                 * their own, but if this response handler doesn't need the
-                 * connection left open, we go ahead and release the it to free
-                 * up resources.
+                 * Checking for clock skew error again because we don't want
+                 * to set the global time offset for every service
+                 * exception.
                  */
-                if (!leaveHttpConnectionOpen && httpResponse != null) {
-                    try {
-                        if (httpResponse.getRawContent() != null) {
-                            httpResponse.getRawContent().close();
-                        }
-                    } catch (IOException e) {
-                        log.warn("Cannot close the response content.", e);
+                if (RetryUtils.isClockSkewError(ase)) {
+                    int timeOffset = parseClockSkewOffset(httpResponse, ase);
+                    SDKGlobalConfiguration.setGlobalTimeOffset(timeOffset);
+                }
+                resetRequestAfterError(request, ase);
+            }
+        } catch (IOException ioe) {
+            if (log.isInfoEnabled()) {
+                log.info("Unable to execute HTTP request: " + ioe.getMessage(), ioe);
+            }
+            awsRequestMetrics.incrementCounter(Field.Exception);
+            awsRequestMetrics.addProperty(Field.Exception, ioe);
+            awsRequestMetrics.addProperty(Field.AWSRequestID, null);
+
+            AmazonClientException ace = new AmazonClientException(
+                    "Unable to execute HTTP request: " + ioe.getMessage(), ioe);
+            recordAttemptOutcome(circuitBreaker, true);
+            if (!shouldRetry(request.getOriginalRequest(),
+                    httpRequest.getContent(),
+                    ace,
+                    requestCount,
+                    config.getRetryPolicy())
+                    || !acquireRetryQuota(execution, ace)) {
+                throw ace;
+            }
+
+            // Cache the retryable exception
+            execution.retriedException = ace;
+            resetRequestAfterError(request, ioe);
+        } catch (RuntimeException e) {
+            recordAttemptOutcome(circuitBreaker, true);
+            throw handleUnexpectedFailure(e, awsRequestMetrics);
+        } catch (Error e) {
+            recordAttemptOutcome(circuitBreaker, true);
+            throw handleUnexpectedFailure(e, awsRequestMetrics);
+        } finally {
+            /*
+             * Some response handlers need to manually manage the HTTP
+             * connection and will take care of releasing the connection on
+             * their own, but if this response handler doesn't need the
+             * connection left open, or no response is returned to take care
+             * of it because the attempt failed, we go ahead and release it to
+             * free up resources.
+             */
+            if ((!leaveHttpConnectionOpen || !responseReturned) && httpResponse != null) {
+                try {
+                    if (httpResponse.getRawContent() != null) {
+                        httpResponse.getRawContent().close();
                     }
+                } catch (IOException e) {
+                    log.warn("Cannot close the response content.", e);
                 }
             }
-        } /* end while (true) */
+        }
+        return null;
+    }
+
+    /**
+     * Captures the connection pool metrics of the host the request is sent to,
+     * if metrics are enabled and the underlying HTTP client tracks them.
+     */
+    private void captureConnectionPoolMetrics(HttpRequest httpRequest,
+            AWSRequestMetrics awsRequestMetrics) throws IOException {
+        if (awsRequestMetrics.isEnabled() && httpClient instanceof UrlHttpClient) {
+            UrlHttpClient urlHttpClient = (UrlHttpClient) httpClient;
+            URL url = httpRequest.getUri().toURL();
+            awsRequestMetrics.setCounter(Field.HttpClientPoolAvailableCount,
+                    urlHttpClient.getAvailableConnectionCount(url));
+            awsRequestMetrics.setCounter(Field.HttpClientPoolLeasedCount,
+                    urlHttpClient.getLeasedConnectionCount(url));
+            awsRequestMetrics.setCounter(Field.HttpClientPoolPendingCount,
+                    urlHttpClient.getPendingConnectionCount(url));
+        }
     }
 
     /**
@@ -593,6 +871,71 @@ public class AmazonHttpClient {
                 retries);
     }
 
+    /**
+     * Records whether the service failed to handle an attempt in the circuit
+     * breaker of this client, if any.
+     */
+    private static void recordAttemptOutcome(CircuitBreaker circuitBreaker,
+            boolean failed) {
+        if (circuitBreaker == null) {
+            return;
+        }
+        if (failed) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+    }
+
+    /**
+     * Acquires the capacity to retry a failed request from the retry quota of
+     * this client, if any. Retries are also refused while the circuit breaker
+     * of this client isn't closed.
+     *
+     * @return True if the failed request may be retried.
+     */
+    private boolean acquireRetryQuota(RequestExecution<?> execution,
+            AmazonClientException exception) {
+        RetryGuards guards = execution.retryGuards;
+        if (guards.circuitBreaker != null
+                && guards.circuitBreaker.getState() != CircuitBreaker.State.CLOSED) {
+            if (log.isDebugEnabled()) {
+                log.debug("Not retrying while the circuit breaker is "
+                        + guards.circuitBreaker.getState());
+            }
+            return false;
+        }
+        if (guards.retryQuota == null) {
+            return true;
+        }
+        int cost = exception.getCause() instanceof SocketTimeoutException
+                ? RetryQuota.TIMEOUT_RETRY_COST
+                : RetryQuota.RETRY_COST;
+        if (!guards.retryQuota.acquire(cost)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Retry quota exhausted, not retrying");
+            }
+            return false;
+        }
+        execution.retryQuotaAcquired += cost;
+        return true;
+    }
+
+    /**
+     * Refills the retry quota of this client after a successful request,
+     * returning the capacity drained by its retries if it has been retried.
+     */
+    private void releaseRetryQuota(RequestExecution<?> execution) {
+        RetryQuota retryQuota = execution.retryGuards.retryQuota;
+        if (retryQuota == null) {
+            return;
+        }
+        retryQuota.release(execution.retryQuotaAcquired > 0
+                ? execution.retryQuotaAcquired
+                : RetryQuota.NO_RETRY_INCREMENT);
+        execution.retryQuotaAcquired = 0;
+    }
+
     private static boolean isTemporaryRedirect(HttpResponse response) {
         int statusCode = response.getStatusCode();
         String location = response.getHeaders().get("Location");
@@ -717,6 +1060,99 @@ public class AmazonHttpClient {
         return exception;
     }
 
+    /**
+     * Schedules the next attempt of an asynchronous request execution to run
+     * on the executor once the backoff delay has elapsed. The wait is recorded
+     * as {@link Field#RetryPauseTime}.
+     */
+    private <T> void scheduleNextAttempt(RequestExecution<T> execution,
+            Runnable attempt, ExecutorService executorService,
+            ExecutionFuture<Response<T>> future) {
+        execution.lastBackoffDelay = computeBackoffDelay(
+                execution.request.getOriginalRequest(),
+                execution.retriedException,
+                execution.requestCount + 1,
+                config.getRetryPolicy());
+        scheduleAttempt(execution, attempt, execution.lastBackoffDelay, Field.RetryPauseTime,
+                executorService, future);
+    }
+
+    /**
+     * Schedules an attempt of an asynchronous request execution to run on the
+     * executor once the given delay has elapsed. The wait is recorded as the
+     * given metric event. An attempt that can't be scheduled fails the
+     * execution.
+     */
+    private <T> void scheduleAttempt(final RequestExecution<T> execution,
+            final Runnable attempt, long delay, final Field pauseEvent,
+            final ExecutorService executorService, final ExecutionFuture<Response<T>> future) {
+        final AWSRequestMetrics awsRequestMetrics = execution.awsRequestMetrics;
+        awsRequestMetrics.startEvent(pauseEvent);
+        Runnable resume = new Runnable() {
+            @Override
+            public void run() {
+                awsRequestMetrics.endEvent(pauseEvent);
+                if (executorService instanceof ScheduledExecutorService) {
+                    attempt.run();
+                    return;
+                }
+                try {
+                    executorService.execute(attempt);
+                } catch (RejectedExecutionException e) {
+                    failExecution(execution, null, new AmazonClientException(
+                            "Unable to schedule the next attempt of the request", e), future);
+                }
+            }
+        };
+        ScheduledExecutorService scheduler = executorService instanceof ScheduledExecutorService
+                ? (ScheduledExecutorService) executorService
+                : getRetryScheduler();
+        try {
+            scheduler.schedule(resume, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            awsRequestMetrics.endEvent(pauseEvent);
+            throw new AmazonClientException(
+                    "Unable to schedule the next attempt of the request", e);
+        }
+    }
+
+    /**
+     * Returns the timer shared by all clients to wait out the backoff of
+     * asynchronous retries, creating it on first use. It only hands attempts
+     * back to their executor, so a single daemon thread is enough.
+     */
+    private static synchronized ScheduledExecutorService getRetryScheduler() {
+        if (retryScheduler == null) {
+            retryScheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "aws-sdk-retry-scheduler");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return retryScheduler;
+    }
+
+    /**
+     * Sleeps before the next attempt of the given request execution and
+     * records the delay in the execution.
+     */
+    private void pauseBeforeNextRetry(RequestExecution<?> execution) {
+        AWSRequestMetrics awsRequestMetrics = execution.awsRequestMetrics;
+        awsRequestMetrics.startEvent(Field.RetryPauseTime);
+        try {
+            execution.lastBackoffDelay = pauseBeforeNextRetry(
+                    execution.request.getOriginalRequest(),
+                    execution.retriedException,
+                    execution.requestCount + 1,
+                    config.getRetryPolicy());
+        } finally {
+            awsRequestMetrics.endEvent(Field.RetryPauseTime);
+        }
+    }
+
     /**
      * Sleep for a period of time on failed request to avoid flooding a service
      * with retries.
@@ -733,6 +1169,34 @@ public class AmazonHttpClient {
             AmazonClientException previousException,
             int requestCount,
             RetryPolicy retryPolicy) {
+        long delay = computeBackoffDelay(originalRequest, previousException, requestCount,
+                retryPolicy);
+
+        try {
+            Thread.sleep(delay);
+            return delay;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the delay before the next retry of a failed request.
+     *
+     * @param originalRequest The original service request that is being
+     *            executed.
+     * @param previousException Exception information for the previous attempt,
+     *            if any.
+     * @param requestCount current request count (including the next attempt
+     *            after the delay)
+     * @param retryPolicy The retry policy configured in this http client.
+     * @return the delay in milliseconds.
+     */
+    private long computeBackoffDelay(AmazonWebServiceRequest originalRequest,
+            AmazonClientException previousException,
+            int requestCount,
+            RetryPolicy retryPolicy) {
         final int retries = requestCount // including next attempt
                 - 1 // number of attempted requests
                 - 1; // number of attempted retries
@@ -744,14 +1208,7 @@ public class AmazonHttpClient {
             log.debug("Retriable error detected, " +
                     "will retry in " + delay + "ms, attempt number: " + retries);
         }
-
-        try {
-            Thread.sleep(delay);
-            return delay;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new AmazonClientException(e.getMessage(), e);
-        }
+        return delay;
     }
 
     /**
@@ -804,6 +1261,78 @@ public class AmazonHttpClient {
         return (int) (diff / 1000);
     }
 
+    /**
+     * The state of a request shared across all of its attempts.
+     */
+    private static final class RequestExecution<T> {
+        final Request<?> request;
+        final HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler;
+        final HttpResponseHandler<AmazonServiceException> errorResponseHandler;
+        final ExecutionContext executionContext;
+        final AWSRequestMetrics awsRequestMetrics;
+        final AWSCredentials credentials;
+        final RetryGuards retryGuards;
+
+        /*
+         * A copy of the original request params and headers so that each
+         * attempt can permute them and start over with the original.
+         */
+        final Map<String, String> originalParameters;
+        final Map<String, String> originalHeaders;
+
+        Signer signer;
+        int requestCount;
+        long lastBackoffDelay;
+        URI redirectedURI;
+        AmazonClientException retriedException;
+        /* Capacity drained from the retry quota by the retries so far */
+        int retryQuotaAcquired;
+        AdaptiveRateLimiter rateLimiter;
+        /* Whether the next asynchronous attempt already waited for its turn */
+        boolean sendRateAcquired;
+        /* The request handlers notified of the end of an asynchronous execution */
+        List<RequestHandler2> requestHandler2s;
+
+        RequestExecution(Request<?> request,
+                HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+                HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+                ExecutionContext executionContext,
+                RetryGuards retryGuards) {
+            this.request = request;
+            this.responseHandler = responseHandler;
+            this.errorResponseHandler = errorResponseHandler;
+            this.executionContext = executionContext;
+            this.awsRequestMetrics = executionContext.getAwsRequestMetrics();
+            this.credentials = executionContext.getCredentials();
+            this.retryGuards = retryGuards;
+            this.originalParameters = new LinkedHashMap<String, String>();
+            this.originalParameters.putAll(request.getParameters());
+            this.originalHeaders = new HashMap<String, String>();
+            this.originalHeaders.putAll(request.getHeaders());
+        }
+    }
+
+    /**
+     * The retry quota and circuit breaker shared by the requests of this
+     * client, created from the retry policy they were configured by.
+     */
+    private static final class RetryGuards {
+        final RetryPolicy retryPolicy;
+        final RetryQuota retryQuota;
+        final CircuitBreaker circuitBreaker;
+
+        RetryGuards(RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            this.retryQuota = retryPolicy.getRetryQuotaCapacity() > 0
+                    ? new RetryQuota(retryPolicy.getRetryQuotaCapacity())
+                    : null;
+            this.circuitBreaker = retryPolicy.getCircuitBreakerFailureThreshold() > 0
+                    ? new CircuitBreaker(retryPolicy.getCircuitBreakerFailureThreshold(),
+                            retryPolicy.getCircuitBreakerResetTimeout())
+                    : null;
+        }
+    }
+
     @Override
     protected void finalize() throws Throwable {
         this.shutdown();
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.http;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Future of an asynchronous execution, completed by whichever task finishes
+ * the execution through {@link #set(Object)} or {@link #setException(Throwable)}
+ * rather than by running a task of its own. Only the first completion, or
+ * cancellation, takes effect. Cancelling the future doesn't interrupt the
+ * task running at that moment, but the execution doesn't go on to another
+ * attempt.
+ *
+ * @param <V> The type of the result
+ */
+public class ExecutionFuture<V> implements Future<V> {
+    private static final int PENDING = 0;
+    private static final int SUCCEEDED = 1;
+    private static final int FAILED = 2;
+    private static final int CANCELLED = 3;
+
+    /* All the following fields are guarded by this. */
+    private int state = PENDING;
+    private V value;
+    private Throwable exception;
+
+    /**
+     * Completes the future with the given result.
+     *
+     * @param value The result of the execution
+     * @return true if the future was completed by this call, false if it was
+     *         already done
+     */
+    public boolean set(V value) {
+        return complete(SUCCEEDED, value, null);
+    }
+
+    /**
+     * Completes the future with the given failure, which {@link #get()}
+     * throws wrapped in an {@link ExecutionException}.
+     *
+     * @param exception The failure of the execution
+     * @return true if the future was completed by this call, false if it was
+     *         already done
+     */
+    public boolean setException(Throwable exception) {
+        if (exception == null) {
+            throw new IllegalArgumentException("exception cannot be null");
+        }
+        return complete(FAILED, null, exception);
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return complete(CANCELLED, null, null);
+    }
+
+    private boolean complete(int state, V value, Throwable exception) {
+        synchronized (this) {
+            if (this.state != PENDING) {
+                return false;
+            }
+            this.state = state;
+            this.value = value;
+            this.exception = exception;
+            notifyAll();
+        }
+        done();
+        return true;
+    }
+
+    /**
+     * Invoked once when the future completes or is cancelled, by the thread
+     * doing so. Does nothing by default.
+     */
+    protected void done() {
+    }
+
+    @Override
+    public synchronized boolean isCancelled() {
+        return state == CANCELLED;
+    }
+
+    @Override
+    public synchronized boolean isDone() {
+        return state != PENDING;
+    }
+
+    @Override
+    public synchronized V get() throws InterruptedException, ExecutionException {
+        while (state == PENDING) {
+            wait();
+        }
+        return report();
+    }
+
+    @Override
+    public synchronized V get(long timeout, TimeUnit unit) throws InterruptedException,
+            ExecutionException, TimeoutException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (state == PENDING) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new TimeoutException();
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return report();
+    }
+
+    private V report() throws ExecutionException {
+        if (state == CANCELLED) {
+            throw new CancellationException();
+        }
+        if (state == FAILED) {
+            throw new ExecutionException(exception);
+        }
+        return value;
+    }
+}
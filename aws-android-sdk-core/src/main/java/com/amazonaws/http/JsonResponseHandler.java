@@ -32,9 +32,7 @@ import org.apache.commons.logging.LogFactory;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Collections;
 import java.util.zip.GZIPInputStream;
 
 /**
@@ -49,6 +47,13 @@ public class JsonResponseHandler<T> implements HttpResponseHandler<AmazonWebServ
     /** The JSON unmarshaller to use when handling the response */
     private Unmarshaller<T, JsonUnmarshallerContext> responseUnmarshaller;
 
+    /**
+     * Size of the buffer compressed content is read in, so that its CRC32
+     * checksum is calculated over large chunks rather than the 512 bytes
+     * GZIPInputStream reads by default.
+     */
+    private static final int GZIP_BUFFER_SIZE = 8 * 1024;
+
     /** Shared logger for profiling information */
     private static final Log log = LogFactory.getLog("com.amazonaws.request");
 
@@ -99,11 +104,10 @@ public class JsonResponseHandler<T> implements HttpResponseHandler<AmazonWebServ
             content = crc32ChecksumInputStream;
         }
         if ("gzip".equals(response.getHeaders().get("Content-Encoding"))) {
-            content = new GZIPInputStream(content);
+            content = new GZIPInputStream(content, GZIP_BUFFER_SIZE);
         }
 
-        AwsJsonReader jsonReader = JsonUtils.getJsonReader(new InputStreamReader(content,
-                StringUtils.UTF8));
+        AwsJsonReader jsonReader = JsonUtils.getJsonReader(content);
 
         try {
             AmazonWebServiceResponse<T> awsResponse = new AmazonWebServiceResponse<T>();
@@ -113,6 +117,10 @@ public class JsonResponseHandler<T> implements HttpResponseHandler<AmazonWebServ
             T result = responseUnmarshaller.unmarshall(unmarshallerContext);
 
             if (CRC32Checksum != null) {
+                if (!needsConnectionLeftOpen) {
+                    // Checksum whatever the unmarshaller left unread
+                    crc32ChecksumInputStream.drain();
+                }
                 long serverSideCRC = Long.parseLong(CRC32Checksum);
                 long clientSideCRC = crc32ChecksumInputStream.getCRC32Checksum();
                 if (clientSideCRC != serverSideCRC) {
@@ -123,10 +131,9 @@ public class JsonResponseHandler<T> implements HttpResponseHandler<AmazonWebServ
 
             awsResponse.setResult(result);
 
-            Map<String, String> metadata = new HashMap<String, String>();
-            metadata.put(ResponseMetadata.AWS_REQUEST_ID,
-                    response.getHeaders().get("x-amzn-RequestId"));
-            awsResponse.setResponseMetadata(new ResponseMetadata(metadata));
+            awsResponse.setResponseMetadata(new ResponseMetadata(Collections.singletonMap(
+                    ResponseMetadata.AWS_REQUEST_ID,
+                    response.getHeaders().get("x-amzn-RequestId"))));
 
             log.trace("Done parsing service response");
             return awsResponse;
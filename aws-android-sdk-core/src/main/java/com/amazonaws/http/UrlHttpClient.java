@@ -18,17 +18,24 @@ package com.amazonaws.http;
 import static com.amazonaws.SDKGlobalConfiguration.DISABLE_CERT_CHECKING_SYSTEM_PROPERTY;
 
 import com.amazonaws.ClientConfiguration;
+import com.amazonaws.internal.SdkFilterInputStream;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.ProtocolException;
+import java.net.SocketTimeoutException;
 import java.net.URL;
 import java.security.GeneralSecurityException;
 import java.security.cert.X509Certificate;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.HttpsURLConnection;
@@ -46,11 +53,30 @@ import javax.net.ssl.X509TrustManager;
  * some issue when talking to S3 service. See <a
  * href="http://docs.aws.amazon.com/AmazonS3/latest/API/RESTObjectPUT.html">S3's
  * Put Object API</a> for the requirement of handling 100-continue.
+ * <p>
+ * Connections are kept alive and reused by {@link HttpURLConnection} once the
+ * response content has been fully read and closed. When
+ * {@link ClientConfiguration#isLimitConnectionsPerHost()} is enabled, this
+ * client caps the number of connections concurrently in use for each host at
+ * {@link ClientConfiguration#getMaxConnections()}; a connection is considered
+ * in use from the moment the request is sent until its response content is
+ * read to the end, closed, or garbage collected.
  */
 public class UrlHttpClient implements HttpClient {
 
+    /**
+     * Size of the buffer the request content is copied through. Large
+     * uploads spend less time in write calls to the connection with a buffer
+     * of this size than with a few kilobytes.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private final ClientConfiguration config;
 
+    /** Connection permits of each host, keyed by the URL authority. */
+    private final ConcurrentMap<String, Semaphore> hostPermits =
+            new ConcurrentHashMap<String, Semaphore>();
+
     public UrlHttpClient(ClientConfiguration config) {
         this.config = config;
     }
@@ -58,16 +84,112 @@ public class UrlHttpClient implements HttpClient {
     @Override
     public HttpResponse execute(HttpRequest request) throws IOException {
         URL url = request.getUri().toURL();
-        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        Semaphore permits = acquireConnectionPermit(url);
+        boolean permitHandedOff = false;
+        try {
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+
+            configureConnection(connection);
+            applyHeadersAndMethod(request, connection);
+            writeContentToConnection(request, connection);
+            HttpResponse response = createHttpResponse(request, connection, permits);
+            permitHandedOff = response.getRawContent() != null;
+            return response;
+        } finally {
+            if (!permitHandedOff && permits != null) {
+                permits.release();
+            }
+        }
+    }
 
-        configureConnection(connection);
-        applyHeadersAndMethod(request, connection);
-        writeContentToConnection(request, connection);
-        return createHttpResponse(request, connection);
+    /**
+     * Returns the number of connections to the given host that are currently
+     * in use, i.e. sending a request or holding response content that has not
+     * been closed yet.
+     *
+     * @param url any URL of the host
+     * @return the number of leased connections to the host.
+     */
+    public int getLeasedConnectionCount(URL url) {
+        Semaphore permits = hostPermits.get(url.getAuthority());
+        return permits == null ? 0 : config.getMaxConnections() - permits.availablePermits();
+    }
+
+    /**
+     * Returns the number of additional connections to the given host that can
+     * be used before requests have to wait for a connection to be released.
+     *
+     * @param url any URL of the host
+     * @return the number of available connections to the host.
+     */
+    public int getAvailableConnectionCount(URL url) {
+        Semaphore permits = hostPermits.get(url.getAuthority());
+        return permits == null ? config.getMaxConnections() : permits.availablePermits();
+    }
+
+    /**
+     * Returns the number of requests to the given host blocked awaiting a
+     * connection to be released.
+     *
+     * @param url any URL of the host
+     * @return the number of pending requests to the host.
+     */
+    public int getPendingConnectionCount(URL url) {
+        Semaphore permits = hostPermits.get(url.getAuthority());
+        return permits == null ? 0 : permits.getQueueLength();
+    }
+
+    /**
+     * Waits for a connection permit of the URL's host, for at most the
+     * connection timeout.
+     *
+     * @return the permits of the host the permit was taken from, or null if
+     *         the number of connections isn't limited.
+     */
+    private Semaphore acquireConnectionPermit(URL url) throws IOException {
+        int maxConnections = config.getMaxConnections();
+        if (!config.isLimitConnectionsPerHost() || maxConnections <= 0) {
+            return null;
+        }
+        String host = url.getAuthority();
+        Semaphore permits = hostPermits.get(host);
+        if (permits == null) {
+            Semaphore newPermits = new Semaphore(maxConnections, true);
+            permits = hostPermits.putIfAbsent(host, newPermits);
+            if (permits == null) {
+                permits = newPermits;
+            }
+        }
+
+        int timeout = config.getConnectionTimeout();
+        try {
+            if (timeout > 0) {
+                if (!permits.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+                    throw new SocketTimeoutException("Timeout waiting for a connection to "
+                            + host + ", all " + maxConnections + " connections are in use");
+                }
+            } else {
+                permits.acquire();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for a connection to " + host);
+        }
+        return permits;
     }
 
     HttpResponse createHttpResponse(HttpRequest request, HttpURLConnection connection)
             throws IOException {
+        return createHttpResponse(request, connection, null);
+    }
+
+    /**
+     * Creates the response of the connection. If connection permits are given
+     * and the response has content, the permit is released when the content is
+     * closed.
+     */
+    private HttpResponse createHttpResponse(HttpRequest request, HttpURLConnection connection,
+            Semaphore permits) throws IOException {
 
         String statusText = connection.getResponseMessage();
         int statusCode = connection.getResponseCode();
@@ -83,6 +205,9 @@ public class UrlHttpClient implements HttpClient {
                 }
             }
         }
+        if (content != null && permits != null) {
+            content = new ConnectionReleasingInputStream(content, permits);
+        }
 
         HttpResponse.Builder builder = HttpResponse.builder()
                 .statusCode(statusCode)
@@ -166,7 +291,7 @@ public class UrlHttpClient implements HttpClient {
     }
 
     private void write(InputStream is, OutputStream os) throws IOException {
-        byte[] buf = new byte[1024 * 8];
+        byte[] buf = new byte[BUFFER_SIZE];
         int len;
         while ((len = is.read(buf)) != -1) {
             os.write(buf, 0, len);
@@ -211,6 +336,55 @@ public class UrlHttpClient implements HttpClient {
         connection.setHostnameVerifier(new AllowAllHostnameVerifier());
     }
 
+    /**
+     * Releases the connection permit once the response content is read to the
+     * end or closed, at which point {@link HttpURLConnection} returns the
+     * socket to its keep-alive cache.
+     */
+    private static final class ConnectionReleasingInputStream extends SdkFilterInputStream {
+        private final Semaphore permits;
+        private boolean released;
+
+        ConnectionReleasingInputStream(InputStream in, Semaphore permits) {
+            super(in);
+            this.permits = permits;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b == -1) {
+                release();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int count = super.read(b, off, len);
+            if (count == -1) {
+                release();
+            }
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                release();
+            }
+        }
+
+        private synchronized void release() {
+            if (!released) {
+                released = true;
+                permits.release();
+            }
+        }
+    }
+
     /**
      * An allow all hostname verifier, only used internally for testing purpose.
      */
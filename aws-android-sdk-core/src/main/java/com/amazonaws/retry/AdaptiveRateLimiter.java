@@ -0,0 +1,165 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.retry;
+
+/**
+ * Client side rate limiter that adapts the rate requests are sent at to the
+ * throttling responses of a service. The limiter lets requests through at
+ * full speed until the first throttling response; from then on, requests are
+ * smoothed through a token bucket whose fill rate follows the CUBIC congestion
+ * control algorithm: it is cut down on every throttling response and grows
+ * back along a cubic curve centered on the rate at which the last throttling
+ * happened. This class is thread safe.
+ *
+ * @see com.amazonaws.ClientConfiguration#setUseAdaptiveRateLimiting(boolean)
+ */
+public class AdaptiveRateLimiter {
+
+    /** Minimum fill rate (in requests per second) of the token bucket. */
+    private static final double MIN_FILL_RATE = 0.5;
+
+    /** Minimum capacity of the token bucket. */
+    private static final double MIN_CAPACITY = 1.0;
+
+    /** Weight of the latest measure in the smoothed sending rate. */
+    private static final double SMOOTH = 0.8;
+
+    /** Factor the sending rate is cut down by on a throttling response. */
+    private static final double BETA = 0.7;
+
+    /** Scale of the cubic growth of the sending rate. */
+    private static final double SCALE_CONSTANT = 0.4;
+
+    /* All the following fields are guarded by this, times are in seconds. */
+    private double fillRate;
+    private double maxCapacity;
+    private double currentCapacity;
+    private double lastTimestamp = -1;
+    private boolean enabled;
+
+    private double measuredTxRate;
+    private double lastTxRateBucket;
+    private long requestCount;
+    private double lastMaxRate;
+    private double lastThrottleTime;
+    private double timeWindow;
+
+    public AdaptiveRateLimiter() {
+        lastTxRateBucket = Math.floor(currentTimeSeconds());
+        lastThrottleTime = currentTimeSeconds();
+    }
+
+    /**
+     * Takes a token out of the bucket for the next request. While no request
+     * has been throttled yet, tokens are always available. Otherwise the
+     * bucket may go into debt, in which case the token is reserved and the
+     * caller has to wait out the returned delay before sending the request.
+     *
+     * @return The delay (in milliseconds) before the request may be sent.
+     */
+    public synchronized long acquire() {
+        if (!enabled) {
+            return 0;
+        }
+        refill();
+        currentCapacity -= 1;
+        if (currentCapacity >= 0) {
+            return 0;
+        }
+        return (long) Math.ceil(-currentCapacity / fillRate * 1000);
+    }
+
+    /**
+     * Updates the sending rate with the response of a request.
+     *
+     * @param throttled Whether the service responded with a throttling
+     *            error.
+     */
+    public synchronized void updateSendingRate(boolean throttled) {
+        updateMeasuredRate();
+        double calculatedRate;
+        if (throttled) {
+            double rateToUse = enabled ? Math.min(measuredTxRate, fillRate) : measuredTxRate;
+            lastMaxRate = rateToUse;
+            calculateTimeWindow();
+            lastThrottleTime = currentTimeSeconds();
+            calculatedRate = rateToUse * BETA;
+            enabled = true;
+        } else {
+            calculateTimeWindow();
+            double delta = currentTimeSeconds() - lastThrottleTime - timeWindow;
+            calculatedRate = SCALE_CONSTANT * delta * delta * delta + lastMaxRate;
+        }
+        updateRate(Math.min(calculatedRate, 2 * measuredTxRate));
+    }
+
+    /**
+     * @return Whether the sending rate is limited, which is the case once a
+     *         request has been throttled.
+     */
+    public synchronized boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return The rate (in requests per second) requests are currently let
+     *         through at.
+     */
+    public synchronized double getFillRate() {
+        return fillRate;
+    }
+
+    private void refill() {
+        double now = currentTimeSeconds();
+        if (lastTimestamp < 0) {
+            lastTimestamp = now;
+            return;
+        }
+        currentCapacity = Math.min(maxCapacity,
+                currentCapacity + (now - lastTimestamp) * fillRate);
+        lastTimestamp = now;
+    }
+
+    private void updateRate(double newRate) {
+        refill();
+        fillRate = Math.max(newRate, MIN_FILL_RATE);
+        maxCapacity = Math.max(newRate, MIN_CAPACITY);
+        currentCapacity = Math.min(currentCapacity, maxCapacity);
+    }
+
+    private void calculateTimeWindow() {
+        timeWindow = Math.cbrt(lastMaxRate * (1 - BETA) / SCALE_CONSTANT);
+    }
+
+    /**
+     * Measures the actual sending rate over half second buckets, smoothed
+     * with the previous measures.
+     */
+    private void updateMeasuredRate() {
+        double timeBucket = Math.floor(currentTimeSeconds() * 2) / 2;
+        requestCount++;
+        if (timeBucket > lastTxRateBucket) {
+            double currentRate = requestCount / (timeBucket - lastTxRateBucket);
+            measuredTxRate = currentRate * SMOOTH + measuredTxRate * (1 - SMOOTH);
+            requestCount = 0;
+            lastTxRateBucket = timeBucket;
+        }
+    }
+
+    double currentTimeSeconds() {
+        return System.nanoTime() / 1e9;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.retry;
+
+/**
+ * Circuit breaker shared by all the requests of a client. After a number of
+ * consecutive attempts failed with a retryable error, the circuit opens and
+ * requests fail fast without being sent. Once the reset timeout has elapsed,
+ * a single trial request is let through: the circuit closes again if it
+ * succeeds, and opens for another reset timeout if it fails. This class is
+ * thread safe.
+ *
+ * @see RetryPolicy#getCircuitBreakerFailureThreshold()
+ * @see RetryPolicy#getCircuitBreakerResetTimeout()
+ */
+public class CircuitBreaker {
+
+    /** The states of a circuit breaker. */
+    public static enum State {
+        /** Requests are sent and retried normally. */
+        CLOSED,
+        /** Requests fail fast without being sent. */
+        OPEN,
+        /** A single trial request is in flight to probe the service. */
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long resetTimeout;
+
+    /* Guarded by this. */
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+
+    /**
+     * Constructs a new closed circuit breaker.
+     *
+     * @param failureThreshold the number of consecutive failed attempts that
+     *            opens the circuit, must be positive.
+     * @param resetTimeout the time (in milliseconds) the circuit stays open
+     *            before a trial request is let through.
+     */
+    public CircuitBreaker(int failureThreshold, long resetTimeout) {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException(
+                    "Please provide a positive value for failureThreshold.");
+        }
+        if (resetTimeout < 0) {
+            throw new IllegalArgumentException(
+                    "Please provide a non-negative value for resetTimeout.");
+        }
+        this.failureThreshold = failureThreshold;
+        this.resetTimeout = resetTimeout;
+    }
+
+    /**
+     * Returns whether a new request may be sent. When the circuit is open and
+     * its reset timeout has elapsed, the calling request becomes the trial
+     * request and the circuit moves to {@link State#HALF_OPEN}.
+     *
+     * @return true if the request may be sent, false if it should fail fast.
+     */
+    public synchronized boolean allowRequest() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (currentTimeMillis() - openedAt >= resetTimeout) {
+                    state = State.HALF_OPEN;
+                    return true;
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Records an attempt that got a successful response, closing the circuit.
+     */
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        state = State.CLOSED;
+    }
+
+    /**
+     * Records an attempt that failed with a retryable error, opening the
+     * circuit if the trial request failed or too many attempts failed in a
+     * row.
+     */
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = currentTimeMillis();
+        }
+    }
+
+    /**
+     * @return the current state of the circuit.
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+}
@@ -45,6 +45,12 @@ public class PredefinedRetryPolicies {
     /** SDK default retry policy **/
     public static final RetryPolicy DEFAULT;
 
+    /**
+     * Default capacity of the retry quota, enough for 100 retries of failed
+     * requests in a row.
+     **/
+    public static final int DEFAULT_RETRY_QUOTA_CAPACITY = 100 * RetryQuota.RETRY_COST;
+
     /* Default for DynamoDB client */
 
     /** Default max retry count for DynamoDB client **/
@@ -117,6 +123,23 @@ public class PredefinedRetryPolicies {
                 false);
     }
 
+    /**
+     * Returns the SDK default retry policy with retries capped by a retry
+     * quota of {@link #DEFAULT_RETRY_QUOTA_CAPACITY}. This policy will honor
+     * the maxErrorRetry set in ClientConfiguration.
+     *
+     * @see RetryQuota
+     */
+    public static RetryPolicy getDefaultRetryPolicyWithRetryQuota() {
+        return new RetryPolicy(DEFAULT_RETRY_CONDITION,
+                DEFAULT_BACKOFF_STRATEGY,
+                DEFAULT_MAX_ERROR_RETRY,
+                true,
+                DEFAULT_RETRY_QUOTA_CAPACITY,
+                0,
+                0);
+    }
+
     /**
      * Returns the default retry policy for DynamoDB client with the specified
      * max retry count.
@@ -54,6 +54,24 @@ public final class RetryPolicy {
      */
     private final boolean honorMaxErrorRetryInClientConfig;
 
+    /**
+     * Capacity of the {@link RetryQuota} shared by the requests of a client,
+     * or 0 if retries are not capped by a quota.
+     */
+    private final int retryQuotaCapacity;
+
+    /**
+     * Number of consecutive failed attempts that opens the
+     * {@link CircuitBreaker} of a client, or 0 if there is no circuit breaker.
+     */
+    private final int circuitBreakerFailureThreshold;
+
+    /**
+     * Time (in milliseconds) the {@link CircuitBreaker} of a client stays open
+     * before a trial request is let through.
+     */
+    private final long circuitBreakerResetTimeout;
+
     /**
      * Constructs a new retry policy. See {@link PredefinedRetryPolicies} for
      * some pre-defined policy components, and also the default policies used by
@@ -77,6 +95,43 @@ public final class RetryPolicy {
             BackoffStrategy backoffStrategy,
             int maxErrorRetry,
             boolean honorMaxErrorRetryInClientConfig) {
+        this(retryCondition, backoffStrategy, maxErrorRetry,
+                honorMaxErrorRetryInClientConfig, 0, 0, 0);
+    }
+
+    /**
+     * Constructs a new retry policy that also caps the retries of a client
+     * with a {@link RetryQuota} and guards it with a {@link CircuitBreaker}.
+     * Each client using this policy gets its own quota and circuit breaker.
+     *
+     * @param retryCondition Retry condition on whether a specific request and
+     *            exception should be retried. If null value is specified, the
+     *            SDK' default retry condition is used.
+     * @param backoffStrategy Back-off strategy for controlling how long the
+     *            next retry should wait. If null value is specified, the SDK'
+     *            default exponential back-off strategy is used.
+     * @param maxErrorRetry Maximum number of retry attempts for failed
+     *            requests.
+     * @param honorMaxErrorRetryInClientConfig Whether this retry policy should
+     *            honor the max error retry set by
+     *            {@link ClientConfiguration#setMaxErrorRetry(int)}
+     * @param retryQuotaCapacity Capacity of the retry quota of a client, or 0
+     *            to not cap retries with a quota.
+     * @param circuitBreakerFailureThreshold Number of consecutive failed
+     *            attempts that opens the circuit breaker of a client, or 0 to
+     *            disable the circuit breaker.
+     * @param circuitBreakerResetTimeout Time (in milliseconds) the circuit
+     *            breaker stays open before a trial request is let through.
+     * @see RetryQuota
+     * @see CircuitBreaker
+     */
+    public RetryPolicy(RetryCondition retryCondition,
+            BackoffStrategy backoffStrategy,
+            int maxErrorRetry,
+            boolean honorMaxErrorRetryInClientConfig,
+            int retryQuotaCapacity,
+            int circuitBreakerFailureThreshold,
+            long circuitBreakerResetTimeout) {
         if (retryCondition == null) {
             retryCondition = PredefinedRetryPolicies.DEFAULT_RETRY_CONDITION;
         }
@@ -87,11 +142,26 @@ public final class RetryPolicy {
             throw new IllegalArgumentException(
                     "Please provide a non-negative value for maxErrorRetry.");
         }
+        if (retryQuotaCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Please provide a non-negative value for retryQuotaCapacity.");
+        }
+        if (circuitBreakerFailureThreshold < 0) {
+            throw new IllegalArgumentException(
+                    "Please provide a non-negative value for circuitBreakerFailureThreshold.");
+        }
+        if (circuitBreakerResetTimeout < 0) {
+            throw new IllegalArgumentException(
+                    "Please provide a non-negative value for circuitBreakerResetTimeout.");
+        }
 
         this.retryCondition = retryCondition;
         this.backoffStrategy = backoffStrategy;
         this.maxErrorRetry = maxErrorRetry;
         this.honorMaxErrorRetryInClientConfig = honorMaxErrorRetryInClientConfig;
+        this.retryQuotaCapacity = retryQuotaCapacity;
+        this.circuitBreakerFailureThreshold = circuitBreakerFailureThreshold;
+        this.circuitBreakerResetTimeout = circuitBreakerResetTimeout;
     };
 
     /**
@@ -133,6 +203,41 @@ public final class RetryPolicy {
         return honorMaxErrorRetryInClientConfig;
     }
 
+    /**
+     * Returns the capacity of the retry quota shared by the requests of a
+     * client.
+     *
+     * @return The capacity of the retry quota, or 0 if retries are not capped
+     *         by a quota.
+     * @see RetryQuota
+     */
+    public int getRetryQuotaCapacity() {
+        return retryQuotaCapacity;
+    }
+
+    /**
+     * Returns the number of consecutive failed attempts that opens the
+     * circuit breaker of a client.
+     *
+     * @return The failure threshold of the circuit breaker, or 0 if there is
+     *         no circuit breaker.
+     * @see CircuitBreaker
+     */
+    public int getCircuitBreakerFailureThreshold() {
+        return circuitBreakerFailureThreshold;
+    }
+
+    /**
+     * Returns the time (in milliseconds) the circuit breaker of a client stays
+     * open before a trial request is let through.
+     *
+     * @return The reset timeout of the circuit breaker.
+     * @see CircuitBreaker
+     */
+    public long getCircuitBreakerResetTimeout() {
+        return circuitBreakerResetTimeout;
+    }
+
     /**
      * The hook for providing custom condition on whether a failed request
      * should be retried.
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.retry;
+
+/**
+ * Token bucket shared by all the requests of a client to cap the number of
+ * retries it sends. Every retry drains some capacity from the bucket and every
+ * successful request puts some back, so that when a service keeps failing the
+ * client stops retrying once the bucket is empty instead of multiplying the
+ * load on the service by the max retry count. This class is thread safe.
+ *
+ * @see RetryPolicy#getRetryQuotaCapacity()
+ */
+public class RetryQuota {
+
+    /** Capacity drained by retrying a failed request. */
+    public static final int RETRY_COST = 5;
+
+    /** Capacity drained by retrying a request that timed out. */
+    public static final int TIMEOUT_RETRY_COST = 10;
+
+    /** Capacity returned by a request that succeeded on its first attempt. */
+    public static final int NO_RETRY_INCREMENT = 1;
+
+    private final int maxCapacity;
+
+    /** Guarded by this. */
+    private int availableCapacity;
+
+    /**
+     * Constructs a new full retry quota.
+     *
+     * @param maxCapacity the capacity of the bucket, must be positive.
+     */
+    public RetryQuota(int maxCapacity) {
+        if (maxCapacity <= 0) {
+            throw new IllegalArgumentException(
+                    "Please provide a positive value for maxCapacity.");
+        }
+        this.maxCapacity = maxCapacity;
+        this.availableCapacity = maxCapacity;
+    }
+
+    /**
+     * Drains the given amount of capacity from the bucket if it is available.
+     *
+     * @param amount the capacity to acquire.
+     * @return true if the capacity was acquired, false if there isn't enough
+     *         capacity left, in which case nothing is drained.
+     */
+    public synchronized boolean acquire(int amount) {
+        if (amount > availableCapacity) {
+            return false;
+        }
+        availableCapacity -= amount;
+        return true;
+    }
+
+    /**
+     * Returns the given amount of capacity to the bucket, never filling it
+     * beyond its max capacity.
+     *
+     * @param amount the capacity to release.
+     */
+    public synchronized void release(int amount) {
+        availableCapacity = Math.min(maxCapacity, availableCapacity + amount);
+    }
+
+    /**
+     * @return the capacity currently left in the bucket.
+     */
+    public synchronized int getAvailableCapacity() {
+        return availableCapacity;
+    }
+
+    /**
+     * @return the capacity of the bucket when full.
+     */
+    public int getMaxCapacity() {
+        return maxCapacity;
+    }
+}
@@ -123,6 +123,7 @@ public class AWSRequestMetrics {
          * /apidocs/org/apache/http/pool/PoolStats.html
          */
         HttpClientPoolPendingCount,
+        RateLimitPauseTime, // Time waited out by the adaptive rate limiter
         RetryPauseTime,
         // S3DownloadThroughput, // migrated to S3RequestMetric in the S3 clint
         // library
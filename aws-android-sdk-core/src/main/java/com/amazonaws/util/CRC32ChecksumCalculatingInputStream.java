@@ -27,6 +27,9 @@ import java.util.zip.CRC32;
  */
 public class CRC32ChecksumCalculatingInputStream extends SdkFilterInputStream {
 
+    /** Size of the chunks skipped bytes are read and checksummed in */
+    private static final int SKIP_BUFFER_SIZE = 8 * 1024;
+
     /** The CRC32 being calculated by this input stream */
     private CRC32 crc32;
 
@@ -39,6 +42,18 @@ public class CRC32ChecksumCalculatingInputStream extends SdkFilterInputStream {
         return crc32.getValue();
     }
 
+    /**
+     * Reads the rest of the wrapped stream so that the checksum covers all of
+     * its content, for example when the reader of this stream stopped before
+     * the end of it.
+     *
+     * @throws IOException if reading the wrapped stream failed.
+     */
+    public void drain() throws IOException {
+        while (skip(Long.MAX_VALUE) > 0) {
+        }
+    }
+
     /**
      * Resets the wrapped input stream and the CRC32 computation.
      *
@@ -76,4 +91,28 @@ public class CRC32ChecksumCalculatingInputStream extends SdkFilterInputStream {
         }
         return result;
     }
+
+    /**
+     * Reads the skipped bytes, up to a chunk at a time, so that they are
+     * checksummed.
+     *
+     * @see java.io.InputStream#skip(long)
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        abortIfNeeded();
+        if (n <= 0) {
+            return 0;
+        }
+        byte[] buffer = new byte[(int) Math.min(n, SKIP_BUFFER_SIZE)];
+        long skipped = 0;
+        while (skipped < n) {
+            int result = read(buffer, 0, (int) Math.min(n - skipped, buffer.length));
+            if (result == -1) {
+                break;
+            }
+            skipped += result;
+        }
+        return skipped;
+    }
 }
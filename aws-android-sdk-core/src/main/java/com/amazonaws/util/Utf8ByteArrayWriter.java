@@ -0,0 +1,170 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * A writer that encodes characters as UTF-8 straight into a growable byte
+ * array. Once written, the content can be read back as an input stream over
+ * that same array, so that a request payload is neither buffered as a string
+ * nor copied into a separate byte array before being sent. Malformed
+ * surrogate pairs are encoded as '?', like {@link String#getBytes(String)}
+ * does. This class is not thread safe.
+ */
+public class Utf8ByteArrayWriter extends Writer {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 256;
+
+    private byte[] buf;
+    private int count;
+
+    /** A high surrogate waiting for the low surrogate of its pair, or 0. */
+    private char highSurrogate;
+
+    public Utf8ByteArrayWriter() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity the initial size (in bytes) of the buffer.
+     */
+    public Utf8ByteArrayWriter(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Negative initial capacity: " + initialCapacity);
+        }
+        buf = new byte[initialCapacity];
+    }
+
+    @Override
+    public void write(int c) {
+        ensureCapacity(count + 4);
+        encode((char) c);
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) {
+        ensureCapacity(count + len);
+        for (int i = off; i < off + len; i++) {
+            char c = cbuf[i];
+            if (c < 0x80 && highSurrogate == 0) {
+                buf[count++] = (byte) c;
+            } else {
+                ensureCapacity(count + (off + len - i) * 3 + 1);
+                encode(c);
+            }
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) {
+        ensureCapacity(count + len);
+        for (int i = off; i < off + len; i++) {
+            char c = str.charAt(i);
+            if (c < 0x80 && highSurrogate == 0) {
+                buf[count++] = (byte) c;
+            } else {
+                ensureCapacity(count + (off + len - i) * 3 + 1);
+                encode(c);
+            }
+        }
+    }
+
+    /**
+     * Encodes a single character, the buffer having room for at least 4
+     * bytes.
+     */
+    private void encode(char c) {
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                buf[count++] = (byte) (0xf0 | (codePoint >> 18));
+                buf[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                buf[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                buf[count++] = (byte) (0x80 | (codePoint & 0x3f));
+                return;
+            }
+            buf[count++] = '?';
+        }
+        if (c < 0x80) {
+            buf[count++] = (byte) c;
+        } else if (c < 0x800) {
+            buf[count++] = (byte) (0xc0 | (c >> 6));
+            buf[count++] = (byte) (0x80 | (c & 0x3f));
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            buf[count++] = '?';
+        } else {
+            buf[count++] = (byte) (0xe0 | (c >> 12));
+            buf[count++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+            buf[count++] = (byte) (0x80 | (c & 0x3f));
+        }
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length << 1, minCapacity));
+        }
+    }
+
+    /**
+     * Writes out a high surrogate left without its low surrogate.
+     */
+    @Override
+    public void flush() {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            ensureCapacity(count + 1);
+            buf[count++] = '?';
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
+    /**
+     * @return the number of bytes written so far.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @return a copy of the bytes written so far.
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buf, count);
+    }
+
+    /**
+     * Returns an input stream over the bytes written so far, sharing the
+     * buffer of this writer. The writer shouldn't be written to afterwards.
+     *
+     * @return an input stream, which supports mark and reset, over the bytes
+     *         written so far.
+     */
+    public InputStream toInputStream() {
+        return new ByteArrayInputStream(buf, 0, count);
+    }
+}
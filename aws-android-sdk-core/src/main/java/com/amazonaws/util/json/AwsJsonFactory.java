@@ -15,6 +15,7 @@
 
 package com.amazonaws.util.json;
 
+import java.io.InputStream;
 import java.io.Reader;
 import java.io.Writer;
 
@@ -31,6 +32,16 @@ public interface AwsJsonFactory {
      */
     AwsJsonReader getJsonReader(Reader in);
 
+    /**
+     * Creates a JSON reader that decodes the UTF-8 encoded JSON straight from
+     * the given bytes, without going through a {@link Reader} if the engine
+     * supports it.
+     *
+     * @param in input {@link InputStream} of UTF-8 encoded JSON
+     * @return a JSON reader
+     */
+    AwsJsonReader getJsonReader(InputStream in);
+
     /**
      * Creates a JSON writer
      *
@@ -16,12 +16,15 @@
 package com.amazonaws.util.json;
 
 import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.StringUtils;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.Writer;
 import java.math.BigDecimal;
@@ -38,6 +41,12 @@ final class GsonFactory implements AwsJsonFactory {
         return new GsonReader(in);
     }
 
+    @Override
+    public AwsJsonReader getJsonReader(InputStream in) {
+        // Gson only parses characters
+        return new GsonReader(new InputStreamReader(in, StringUtils.UTF8));
+    }
+
     @Override
     public AwsJsonWriter getJsonWriter(Writer out) {
         return new GsonWriter(out);
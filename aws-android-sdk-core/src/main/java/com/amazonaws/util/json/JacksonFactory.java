@@ -23,6 +23,7 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
 import java.io.Writer;
 import java.math.BigDecimal;
@@ -41,6 +42,16 @@ final class JacksonFactory implements AwsJsonFactory {
         return new JacksonReader(factory, in);
     }
 
+    /**
+     * Returns a reader backed by the UTF-8 byte parser of Jackson, which
+     * decodes straight from the input bytes into buffers recycled per thread
+     * and canonicalizes field names, so repeated names aren't allocated again.
+     */
+    @Override
+    public AwsJsonReader getJsonReader(InputStream in) {
+        return new JacksonReader(factory, in);
+    }
+
     @Override
     public AwsJsonWriter getJsonWriter(Writer out) {
         return new JacksonWriter(factory, out);
@@ -59,6 +70,14 @@ final class JacksonFactory implements AwsJsonFactory {
             }
         }
 
+        public JacksonReader(JsonFactory factory, InputStream in) {
+            try {
+                reader = factory.createJsonParser(in);
+            } catch (IOException e) {
+                throw new AmazonClientException("Failed to create JSON reader", e);
+            }
+        }
+
         @Override
         public void beginArray() throws IOException {
             nextToken();
@@ -104,7 +123,7 @@ final class JacksonFactory implements AwsJsonFactory {
             nextToken();
             expect(JsonToken.FIELD_NAME);
             clearToken();
-            return reader.getText();
+            return reader.getCurrentName();
         }
 
         @Override
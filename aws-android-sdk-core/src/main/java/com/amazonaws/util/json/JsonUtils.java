@@ -18,6 +18,7 @@ package com.amazonaws.util.json;
 import com.amazonaws.AmazonClientException;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
@@ -101,6 +102,23 @@ public class JsonUtils {
         return factory.getJsonReader(in);
     }
 
+    /**
+     * Gets a JSON reader of UTF-8 encoded JSON. The {@link JsonEngine#Jackson}
+     * engine parses the bytes without decoding them into characters first.
+     * The default {@link JsonEngine#Gson} engine only parses characters, so
+     * it still decodes the bytes through a {@link Reader}. If no JSON engine
+     * is available, an {@link AmazonClientException} will be thrown.
+     *
+     * @param in input stream of UTF-8 encoded JSON
+     * @return a JSON reader
+     */
+    public static AwsJsonReader getJsonReader(InputStream in) {
+        if (factory == null) {
+            throw new IllegalStateException("Json engine is unavailable.");
+        }
+        return factory.getJsonReader(in);
+    }
+
     /**
      * Gets a JSON writer. If no JSON engine is available, an
      * {@link AmazonClientException} will be thrown.
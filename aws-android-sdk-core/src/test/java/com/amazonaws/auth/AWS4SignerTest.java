@@ -80,6 +80,51 @@ public class AWS4SignerTest {
                 request.getHeaders().get("Authorization"));
     }
 
+    /**
+     * Tests that cached signing keys are not reused across dates or after the
+     * credentials have been rotated.
+     */
+    @Test
+    public void testSigningKeyCache() throws Exception {
+        final String EXPECTED_AUTHORIZATION_HEADER =
+                "AWS4-HMAC-SHA256 Credential=access/19810216/us-east-1/demo/aws4_request, SignedHeaders=host;x-amz-archive-description;x-amz-date, Signature=77fe7c02927966018667f21d1dc3dfad9057e58401cbb9ed64f1b7868288e35a";
+
+        AWSCredentials credentials = new BasicAWSCredentials("access", "secret");
+        AWS4Signer cachingSigner = new AWS4Signer();
+
+        Calendar c = new GregorianCalendar();
+        c.set(1981, 1, 16, 6, 30, 0);
+        c.setTimeZone(TimeZone.getTimeZone("UTC"));
+        Date firstDay = c.getTime();
+        c.add(Calendar.DAY_OF_MONTH, 1);
+        Date secondDay = c.getTime();
+
+        cachingSigner.overrideDate(firstDay);
+        Request<?> request = generateBasicRequest();
+        cachingSigner.sign(request, credentials);
+        assertEquals(EXPECTED_AUTHORIZATION_HEADER, request.getHeaders().get("Authorization"));
+
+        // Day rollover derives a new key for the new date
+        cachingSigner.overrideDate(secondDay);
+        request = generateBasicRequest();
+        cachingSigner.sign(request, credentials);
+        assertTrue(request.getHeaders().get("Authorization")
+                .startsWith("AWS4-HMAC-SHA256 Credential=access/19810217/"));
+        assertFalse(EXPECTED_AUTHORIZATION_HEADER.equals(
+                request.getHeaders().get("Authorization")));
+
+        cachingSigner.overrideDate(firstDay);
+        request = generateBasicRequest();
+        cachingSigner.sign(request, credentials);
+        assertEquals(EXPECTED_AUTHORIZATION_HEADER, request.getHeaders().get("Authorization"));
+
+        // Rotated secret key must not reuse the previously derived key
+        request = generateBasicRequest();
+        cachingSigner.sign(request, new BasicAWSCredentials("access", "rotated"));
+        assertFalse(EXPECTED_AUTHORIZATION_HEADER.equals(
+                request.getHeaders().get("Authorization")));
+    }
+
     @Test
     public void testCorrectHeadersAreSigned() {
         // Make sure neccesary headers are signed
@@ -36,6 +36,8 @@ import com.amazonaws.handlers.CredentialsRequestHandler;
 import com.amazonaws.handlers.RequestHandler2;
 import com.amazonaws.internal.CRC32MismatchException;
 import com.amazonaws.metrics.RequestMetricCollector;
+import com.amazonaws.retry.PredefinedRetryPolicies;
+import com.amazonaws.retry.RetryPolicy;
 import com.amazonaws.util.AWSRequestMetrics;
 
 import org.easymock.Capture;
@@ -51,6 +53,17 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class AmazonHttpClientTest {
     private HttpClient httpClient;
@@ -167,6 +180,154 @@ public class AmazonHttpClientTest {
         EasyMock.verify(httpClient);
     }
 
+    @Test
+    public void testExecuteAsyncRetriesUntilSuccess() throws Exception {
+        HttpResponseHandler<AmazonWebServiceResponse<String>> handler =
+                EasyMock.createMock(HttpResponseHandler.class);
+        EasyMock.expect(handler.needsConnectionLeftOpen()).andReturn(false).anyTimes();
+        AmazonWebServiceResponse<String> awsResponse = new AmazonWebServiceResponse<String>();
+        awsResponse.setResult("result");
+        EasyMock.expect(handler.handle(EasyMock.<HttpResponse> anyObject()))
+                .andReturn(awsResponse);
+
+        HttpResponse response = HttpResponse.builder()
+                .content(new ByteArrayInputStream(new byte[0]))
+                .statusCode(200)
+                .statusText("OK")
+                .build();
+        EasyMock.expect(httpClient.execute(EasyMock.<HttpRequest> anyObject()))
+                .andThrow(new IOException("BOOM"));
+        EasyMock.expect(httpClient.execute(EasyMock.<HttpRequest> anyObject()))
+                .andReturn(response);
+        EasyMock.replay(handler, httpClient);
+
+        Request<?> request = new DefaultRequest<Object>("testsvc");
+        request.setEndpoint(java.net.URI.create("http://testsvc.region.amazonaws.com"));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Response<String>> future = client.executeAsync(request, handler, null,
+                    new ExecutionContext(), executor);
+            assertEquals("result", future.get(10, TimeUnit.SECONDS).getAwsResponse());
+        } finally {
+            executor.shutdown();
+        }
+        EasyMock.verify(httpClient);
+    }
+
+    @Test
+    public void testExecuteAsyncDoesNotBlockExecutorDuringBackoff() throws Exception {
+        RetryPolicy slowRetryPolicy = new RetryPolicy(
+                PredefinedRetryPolicies.DEFAULT_RETRY_CONDITION,
+                new RetryPolicy.BackoffStrategy() {
+                    @Override
+                    public long delayBeforeNextRetry(AmazonWebServiceRequest originalRequest,
+                            AmazonClientException exception, int retriesAttempted) {
+                        return 2000;
+                    }
+                }, 1, false);
+        client = new AmazonHttpClient(new ClientConfiguration().withRetryPolicy(slowRetryPolicy),
+                httpClient);
+        EasyMock.expect(httpClient.execute(EasyMock.<HttpRequest> anyObject()))
+                .andThrow(new IOException("BOOM"))
+                .times(2);
+        EasyMock.replay(httpClient);
+
+        Request<?> request = new DefaultRequest<Object>("testsvc");
+        request.setEndpoint(java.net.URI.create("http://testsvc.region.amazonaws.com"));
+
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            Future<Response<Object>> future = client.executeAsync(request, null, null,
+                    new ExecutionContext(), executor);
+            // The only thread of the executor stays free while the retry backs off
+            Future<Boolean> other = executor.submit(new Callable<Boolean>() {
+                @Override
+                public Boolean call() {
+                    return Boolean.TRUE;
+                }
+            });
+            assertTrue(other.get(1, TimeUnit.SECONDS));
+            try {
+                future.get(10, TimeUnit.SECONDS);
+                Assert.fail("No exception when request repeatedly fails!");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof AmazonClientException);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        EasyMock.verify(httpClient);
+    }
+
+    @Test
+    public void testExecuteAsyncFailsWhenRetryCannotBeScheduled() throws Exception {
+        RetryPolicy retryPolicy = new RetryPolicy(
+                PredefinedRetryPolicies.DEFAULT_RETRY_CONDITION,
+                new RetryPolicy.BackoffStrategy() {
+                    @Override
+                    public long delayBeforeNextRetry(AmazonWebServiceRequest originalRequest,
+                            AmazonClientException exception, int retriesAttempted) {
+                        return 100;
+                    }
+                }, 1, false);
+        client = new AmazonHttpClient(new ClientConfiguration().withRetryPolicy(retryPolicy),
+                httpClient);
+        EasyMock.expect(httpClient.execute(EasyMock.<HttpRequest> anyObject()))
+                .andThrow(new IOException("BOOM"));
+        EasyMock.replay(httpClient);
+
+        Request<?> request = new DefaultRequest<Object>("testsvc");
+        request.setEndpoint(java.net.URI.create("http://testsvc.region.amazonaws.com"));
+
+        // Runs attempts but rejects the backoff of the retry
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1) {
+            @Override
+            public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+                if (delay > 0) {
+                    throw new RejectedExecutionException("Rejected");
+                }
+                return super.schedule(command, delay, unit);
+            }
+        };
+        try {
+            client.executeAsync(request, null, null, new ExecutionContext(), executor)
+                    .get(10, TimeUnit.SECONDS);
+            Assert.fail("No exception when the retry cannot be scheduled!");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof AmazonClientException);
+            assertTrue(e.getCause().getCause() instanceof RejectedExecutionException);
+        } finally {
+            executor.shutdown();
+        }
+        EasyMock.verify(httpClient);
+    }
+
+    @Test
+    public void testExecuteAsyncFailsWithLastException() throws Exception {
+        IOException exception = new IOException("BOOM");
+        EasyMock.expect(httpClient.execute(EasyMock.<HttpRequest> anyObject()))
+                .andThrow(exception)
+                .times(4);
+        EasyMock.replay(httpClient);
+
+        Request<?> request = new DefaultRequest<Object>("testsvc");
+        request.setEndpoint(java.net.URI.create("http://testsvc.region.amazonaws.com"));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            client.executeAsync(request, null, null, new ExecutionContext(), executor)
+                    .get(10, TimeUnit.SECONDS);
+            Assert.fail("No exception when request repeatedly fails!");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof AmazonClientException);
+            Assert.assertSame(exception, e.getCause().getCause());
+        } finally {
+            executor.shutdown();
+        }
+        EasyMock.verify(httpClient);
+    }
+
     @Test
     public void testRetryIOExceptionFromHandler() throws Exception {
         final IOException exception = new IOException("BOOM");
@@ -218,6 +379,47 @@ public class AmazonHttpClientTest {
         EasyMock.verify(httpClient);
     }
 
+    @Test
+    public void testContentClosedWhenHandlerLeavingConnectionOpenFails() throws Exception {
+        final RuntimeException exception = new IllegalStateException("BOOM");
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        HttpResponseHandler<AmazonWebServiceResponse<Object>> handler =
+                EasyMock.createMock(HttpResponseHandler.class);
+        EasyMock.expect(handler.needsConnectionLeftOpen()).andReturn(true).anyTimes();
+        EasyMock.expect(handler.handle(EasyMock.<HttpResponse> anyObject()))
+                .andThrow(exception);
+
+        HttpResponse response = HttpResponse.builder()
+                .content(new ByteArrayInputStream(new byte[0]) {
+                    @Override
+                    public void close() throws IOException {
+                        closed.set(true);
+                        super.close();
+                    }
+                })
+                .statusCode(200)
+                .statusText("OK")
+                .build();
+        EasyMock.expect(httpClient.execute(EasyMock.<HttpRequest> anyObject()))
+                .andReturn(response);
+
+        EasyMock.replay(handler, httpClient);
+
+        Request<?> request = new DefaultRequest<Object>("testsvc");
+        request.setEndpoint(java.net.URI.create("http://testsvc.region.amazonaws.com"));
+
+        try {
+            client.execute(request, handler, null, new ExecutionContext());
+            Assert.fail("Expected the handler failure");
+        } catch (AmazonClientException e) {
+            Assert.assertSame(exception, e.getCause());
+        }
+        // nobody else holds the content to release the connection
+        Assert.assertTrue(closed.get());
+        EasyMock.verify(httpClient);
+    }
+
     @Test
     public void testHandleResponse() throws IOException {
 
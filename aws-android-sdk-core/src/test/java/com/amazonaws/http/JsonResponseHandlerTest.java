@@ -28,10 +28,12 @@ import com.amazonaws.util.StringUtils;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
 
 public class JsonResponseHandlerTest {
 
@@ -66,6 +68,41 @@ public class JsonResponseHandlerTest {
         assertEquals(awsResponse.getResult(), "Content");
     }
 
+    @Test
+    public void testHandleGzippedWithCRC32() throws Exception {
+        StringBuilder json = new StringBuilder("{\"key\" :\"Content\"}");
+        // trailing whitespace left unread by the unmarshaller
+        for (int i = 0; i < 20000; i++) {
+            json.append(' ');
+        }
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        GZIPOutputStream gzip = new GZIPOutputStream(gzipped);
+        gzip.write(json.toString().getBytes(StringUtils.UTF8));
+        gzip.close();
+
+        CRC32 crc32 = new CRC32();
+        crc32.update(gzipped.toByteArray());
+        HttpResponse response = new HttpResponse.Builder().statusText("testResponse")
+                .statusCode(200).header("Content-Encoding", "gzip")
+                .header("x-amz-crc32", String.valueOf(crc32.getValue()))
+                .content(new ByteArrayInputStream(gzipped.toByteArray())).build();
+
+        Unmarshaller<String, JsonUnmarshallerContext> unmarshaller = new Unmarshaller<String, JsonUnmarshallerContext>() {
+
+            @Override
+            public String unmarshall(JsonUnmarshallerContext in) throws Exception {
+                in.getReader().beginObject();
+                in.getReader().nextName();
+                return in.getReader().nextString();
+            }
+
+        };
+
+        JsonResponseHandler<String> toTest = new JsonResponseHandler<String>(unmarshaller);
+        AmazonWebServiceResponse<String> awsResponse = toTest.handle(response);
+        assertEquals(awsResponse.getResult(), "Content");
+    }
+
     @Test
     public void testHandleWithNoCRC32() throws Exception {
         ByteArrayInputStream bais = new ByteArrayInputStream(
@@ -20,11 +20,16 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.SDKGlobalConfiguration;
 import com.amazonaws.util.StringUtils;
 
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -33,8 +38,10 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.InetSocketAddress;
 import java.net.MalformedURLException;
 import java.net.ProtocolException;
+import java.net.SocketTimeoutException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -160,6 +167,101 @@ public class UrlHttpClientTest {
         ByteArrayOutputStream connOs = (ByteArrayOutputStream) connection.getOutputStream();
         assertEquals(new String(connOs.toByteArray(), StringUtils.UTF8), "Content");
     }
+
+    private static HttpServer startServer() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                byte[] body = "body".getBytes(StringUtils.UTF8);
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+                exchange.close();
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    @Test
+    public void testConnectionsNotLimitedByDefault() throws Exception {
+        HttpServer server = startServer();
+        try {
+            UrlHttpClient defaultClient = new UrlHttpClient(new ClientConfiguration()
+                    .withMaxConnections(1)
+                    .withConnectionTimeout(200));
+            URI uri = new URI("http://localhost:" + server.getAddress().getPort() + "/");
+
+            HttpResponse first = defaultClient.execute(new HttpRequest("GET", uri));
+            HttpResponse second = defaultClient.execute(new HttpRequest("GET", uri));
+            assertEquals(200, second.getStatusCode());
+            assertEquals(0, defaultClient.getLeasedConnectionCount(uri.toURL()));
+            first.getRawContent().close();
+            second.getRawContent().close();
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void testConnectionLimitPerHost() throws Exception {
+        HttpServer server = startServer();
+        try {
+            UrlHttpClient limitedClient = new UrlHttpClient(new ClientConfiguration()
+                    .withLimitConnectionsPerHost(true)
+                    .withMaxConnections(1)
+                    .withConnectionTimeout(200));
+            URI uri = new URI("http://localhost:" + server.getAddress().getPort() + "/");
+
+            HttpResponse first = limitedClient.execute(new HttpRequest("GET", uri));
+            assertEquals(1, limitedClient.getLeasedConnectionCount(uri.toURL()));
+            assertEquals(0, limitedClient.getAvailableConnectionCount(uri.toURL()));
+            try {
+                limitedClient.execute(new HttpRequest("GET", uri));
+                fail("Expected timeout waiting for a connection");
+            } catch (SocketTimeoutException e) {
+                // expected, the only connection hasn't been released
+            }
+
+            first.getRawContent().close();
+            assertEquals(0, limitedClient.getLeasedConnectionCount(uri.toURL()));
+            HttpResponse second = limitedClient.execute(new HttpRequest("GET", uri));
+            assertEquals(200, second.getStatusCode());
+            second.getRawContent().close();
+            assertEquals(1, limitedClient.getAvailableConnectionCount(uri.toURL()));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void testConnectionReleasedAtEndOfContent() throws Exception {
+        HttpServer server = startServer();
+        try {
+            UrlHttpClient limitedClient = new UrlHttpClient(new ClientConfiguration()
+                    .withLimitConnectionsPerHost(true)
+                    .withMaxConnections(1)
+                    .withConnectionTimeout(200));
+            URI uri = new URI("http://localhost:" + server.getAddress().getPort() + "/");
+
+            HttpResponse first = limitedClient.execute(new HttpRequest("GET", uri));
+            InputStream content = first.getRawContent();
+            byte[] buffer = new byte[16];
+            assertEquals(4, content.read(buffer));
+            assertEquals(1, limitedClient.getLeasedConnectionCount(uri.toURL()));
+            assertEquals(-1, content.read(buffer));
+            assertEquals(0, limitedClient.getLeasedConnectionCount(uri.toURL()));
+
+            // closing the content afterwards doesn't release the permit again
+            content.close();
+            assertEquals(1, limitedClient.getAvailableConnectionCount(uri.toURL()));
+            HttpResponse second = limitedClient.execute(new HttpRequest("GET", uri));
+            assertEquals(200, second.getStatusCode());
+            second.getRawContent().close();
+        } finally {
+            server.stop(0);
+        }
+    }
 }
 
 class MockHttpURLConnection extends HttpsURLConnection {
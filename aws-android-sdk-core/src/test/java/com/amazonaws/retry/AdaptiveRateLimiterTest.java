@@ -0,0 +1,75 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.retry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class AdaptiveRateLimiterTest {
+
+    private final double[] now = new double[1];
+
+    private final AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter() {
+        @Override
+        double currentTimeSeconds() {
+            return now[0];
+        }
+    };
+
+    @Test
+    public void testNotLimitedUntilThrottled() {
+        sendAtRate(20, 2);
+        assertFalse(rateLimiter.isEnabled());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0, rateLimiter.acquire());
+        }
+    }
+
+    @Test
+    public void testThrottlingLimitsSendingRate() {
+        sendAtRate(20, 2);
+        rateLimiter.updateSendingRate(true);
+        assertTrue(rateLimiter.isEnabled());
+        double throttledRate = rateLimiter.getFillRate();
+        assertTrue(throttledRate < 20);
+
+        // A burst drains the bucket, after which requests have to wait
+        long delay = 0;
+        for (int i = 0; i < 100 && delay == 0; i++) {
+            delay = rateLimiter.acquire();
+        }
+        assertTrue(delay > 0);
+
+        // The rate grows back as requests keep succeeding
+        sendAtRate(throttledRate, 10);
+        assertTrue(rateLimiter.getFillRate() > throttledRate);
+    }
+
+    /**
+     * Simulates requests succeeding at the given rate for the given time.
+     */
+    private void sendAtRate(double requestsPerSecond, int seconds) {
+        int requests = (int) (requestsPerSecond * seconds);
+        for (int i = 0; i < requests; i++) {
+            now[0] += 1 / requestsPerSecond;
+            rateLimiter.acquire();
+            rateLimiter.updateSendingRate(false);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.retry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.http.ExecutionContext;
+import com.amazonaws.util.AWSRequestMetrics;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+/**
+ * Tests the retry quota and circuit breaker configured by a
+ * {@link RetryPolicy}.
+ */
+public class RetryQuotaTest extends RetryPolicyTestBase {
+
+    @Test
+    public void testAcquireAndRelease() {
+        RetryQuota quota = new RetryQuota(10);
+        assertTrue(quota.acquire(RetryQuota.RETRY_COST));
+        assertFalse(quota.acquire(RetryQuota.TIMEOUT_RETRY_COST));
+        assertEquals(5, quota.getAvailableCapacity());
+        quota.release(100);
+        assertEquals(10, quota.getAvailableCapacity());
+    }
+
+    @Test
+    public void testRetryQuotaCapsRetriesAcrossRequests() {
+        clientConfiguration.setRetryPolicy(new RetryPolicy(
+                new ContextDataCollectionRetryCondition(),
+                new ContextDataCollectionBackoffStrategy(),
+                5, false,
+                2 * RetryQuota.RETRY_COST, 0, 0));
+        injectMockHttpClient(testedClient, new ReturnServiceErrorHttpClient(500, "error"));
+
+        // The quota affords two retries to the first request, and none to the
+        // second one.
+        assertEquals(3, executeFailingRequest());
+        assertEquals(1, executeFailingRequest());
+    }
+
+    @Test
+    public void testCircuitBreakerFailsFast() {
+        clientConfiguration.setRetryPolicy(new RetryPolicy(
+                new ContextDataCollectionRetryCondition(),
+                new ContextDataCollectionBackoffStrategy(),
+                5, false,
+                0, 3, 60 * 1000));
+        injectMockHttpClient(testedClient, new ThrowingExceptionHttpClient(
+                new IOException("fake IOException")));
+
+        // The circuit opens on the third failed attempt, which isn't retried
+        assertEquals(3, executeFailingRequest());
+        try {
+            testedClient.execute(getSampleRequestWithRepeatableContent(originalRequest),
+                    null, errorResponseHandler, new ExecutionContext(true));
+            fail("AmazonClientException is expected.");
+        } catch (AmazonClientException ace) {
+            assertTrue(ace.getMessage().contains("circuit breaker is open"));
+        }
+    }
+
+    @Test
+    public void testCircuitBreakerStates() {
+        final long[] now = new long[1];
+        CircuitBreaker breaker = new CircuitBreaker(2, 1000) {
+            @Override
+            long currentTimeMillis() {
+                return now[0];
+            }
+        };
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.allowRequest());
+
+        now[0] = 1000;
+        assertTrue(breaker.allowRequest());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.allowRequest());
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        now[0] = 2000;
+        assertTrue(breaker.allowRequest());
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.allowRequest());
+    }
+
+    /**
+     * Executes a request that fails with the simulated error and returns the
+     * number of times it was sent.
+     */
+    private int executeFailingRequest() {
+        ExecutionContext context = new ExecutionContext(true);
+        try {
+            testedClient.execute(getSampleRequestWithRepeatableContent(originalRequest),
+                    null, errorResponseHandler, context);
+            fail("AmazonClientException is expected.");
+        } catch (AmazonServiceException ase) {
+            assertEquals(500, ase.getStatusCode());
+        } catch (AmazonClientException ace) {
+            assertTrue(ace.getCause() instanceof IOException);
+        }
+        return context.getAwsRequestMetrics().getTimingInfo()
+                .getCounter(AWSRequestMetrics.Field.RequestCount.toString()).intValue();
+    }
+}
@@ -42,4 +42,21 @@ public class CRC32ChecksumInputStreamTest {
         assertEquals(expectedCRC32Checksum, crc32InputStream.getCRC32Checksum());
     }
 
+    @Test
+    public void testSkippedBytesAreChecksummed() throws IOException {
+        byte[] data = new byte[100 * 1024];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        CRC32 crc32 = new CRC32();
+        crc32.update(data);
+        CRC32ChecksumCalculatingInputStream crc32InputStream = new CRC32ChecksumCalculatingInputStream(
+                new ByteArrayInputStream(data));
+        assertEquals(10, crc32InputStream.read(new byte[10]));
+        assertEquals(1000, crc32InputStream.skip(1000));
+        crc32InputStream.drain();
+        assertEquals(-1, crc32InputStream.read());
+        assertEquals(crc32.getValue(), crc32InputStream.getCRC32Checksum());
+    }
+
 }
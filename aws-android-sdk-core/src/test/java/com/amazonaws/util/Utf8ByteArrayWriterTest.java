@@ -0,0 +1,85 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.util;
+
+import static com.amazonaws.util.StringUtils.UTF8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import com.amazonaws.util.json.AwsJsonWriter;
+import com.amazonaws.util.json.JsonUtils;
+
+import org.junit.Test;
+
+import java.io.InputStream;
+import java.io.StringWriter;
+
+public class Utf8ByteArrayWriterTest {
+
+    @Test
+    public void testEncodesLikeStringGetBytes() throws Exception {
+        String[] strings = {
+                "",
+                "plain ascii",
+                "café über €",
+                "emoji 😀 and 𝄞",
+                "lone high \ud83d surrogate",
+                "lone low \ude00 surrogate",
+                "trailing high \ud83d"
+        };
+        for (String s : strings) {
+            Utf8ByteArrayWriter writer = new Utf8ByteArrayWriter(1);
+            writer.write(s);
+            writer.close();
+            assertArrayEquals(s, s.getBytes(UTF8), writer.toByteArray());
+        }
+    }
+
+    @Test
+    public void testSurrogatePairSplitAcrossWrites() throws Exception {
+        Utf8ByteArrayWriter writer = new Utf8ByteArrayWriter();
+        writer.write('\ud83d');
+        writer.write(new char[] { '\ude00', 'a' }, 0, 2);
+        writer.close();
+        assertArrayEquals("😀a".getBytes(UTF8), writer.toByteArray());
+    }
+
+    @Test
+    public void testJsonContent() throws Exception {
+        StringWriter expected = new StringWriter();
+        writeJson(JsonUtils.getJsonWriter(expected));
+        Utf8ByteArrayWriter actual = new Utf8ByteArrayWriter();
+        writeJson(JsonUtils.getJsonWriter(actual));
+
+        byte[] expectedBytes = expected.toString().getBytes(UTF8);
+        assertEquals(expectedBytes.length, actual.size());
+        InputStream in = actual.toInputStream();
+        byte[] read = new byte[actual.size()];
+        assertEquals(read.length, in.read(read));
+        assertArrayEquals(expectedBytes, read);
+    }
+
+    private static void writeJson(AwsJsonWriter jsonWriter) throws Exception {
+        jsonWriter.beginObject();
+        jsonWriter.name("TableName").value("täble");
+        jsonWriter.name("Item").beginObject();
+        jsonWriter.name("key").beginObject().name("S").value("😀\"quoted\"")
+                .endObject();
+        jsonWriter.endObject();
+        jsonWriter.endObject();
+        jsonWriter.close();
+    }
+}
@@ -22,16 +22,22 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import com.amazonaws.util.StringUtils;
+
 import com.amazonaws.util.json.JsonUtils.JsonEngine;
 
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class JsonUtilsTest {
@@ -105,7 +111,22 @@ public class JsonUtilsTest {
 
     @Test
     public void testJsonReader() throws IOException {
-        AwsJsonReader reader = JsonUtils.getJsonReader(new StringReader(JSON_STRING));
+        verifyJsonReader(JsonUtils.getJsonReader(new StringReader(JSON_STRING)));
+    }
+
+    @Test
+    public void testJsonReaderFromBytes() throws IOException {
+        byte[] bytes = JSON_STRING.getBytes(StringUtils.UTF8);
+        try {
+            JsonUtils.setJsonEngine(JsonEngine.Jackson);
+            verifyJsonReader(JsonUtils.getJsonReader(new ByteArrayInputStream(bytes)));
+        } finally {
+            JsonUtils.setJsonEngine(JsonEngine.Gson);
+        }
+        verifyJsonReader(JsonUtils.getJsonReader(new ByteArrayInputStream(bytes)));
+    }
+
+    private void verifyJsonReader(AwsJsonReader reader) throws IOException {
         reader.beginObject();
         assertTrue("has properties", reader.hasNext());
         while (reader.hasNext()) {
@@ -201,6 +222,68 @@ public class JsonUtilsTest {
                 + (System.nanoTime() - start) / 1000000 + "ms");
     }
 
+    @Test
+    public void testBytesAndCharsReadSameTokens() throws IOException {
+        StringWriter out = new StringWriter();
+        AwsJsonWriter writer = JsonUtils.getJsonWriter(out);
+        writer.beginObject().name("Items").beginArray();
+        for (int i = 0; i < 5000; i++) {
+            writer.beginObject()
+                    .name("key").beginObject().name("S").value("key" + i).endObject()
+                    .name("value").beginObject().name("N").value(i).endObject()
+                    .endObject();
+        }
+        writer.endArray().endObject().close();
+        byte[] json = out.toString().getBytes(StringUtils.UTF8);
+
+        try {
+            for (JsonEngine engine : JsonEngine.values()) {
+                JsonUtils.setJsonEngine(engine);
+                List<String> charTokens = readAll(JsonUtils.getJsonReader(new InputStreamReader(
+                        new ByteArrayInputStream(json), StringUtils.UTF8)));
+                List<String> byteTokens = readAll(JsonUtils.getJsonReader(
+                        new ByteArrayInputStream(json)));
+                // 5 tokens around the array, 12 per item
+                assertEquals(engine.name(), 5 + 5000 * 12, charTokens.size());
+                assertEquals(engine.name(), charTokens, byteTokens);
+            }
+        } finally {
+            JsonUtils.setJsonEngine(JsonEngine.Gson);
+        }
+    }
+
+    /** Reads the tokens of the given JSON object, with their names and values. */
+    private static List<String> readAll(AwsJsonReader reader) throws IOException {
+        List<String> tokens = new ArrayList<String>();
+        int depth = 0;
+        do {
+            AwsJsonToken token = reader.peek();
+            if (token == AwsJsonToken.BEGIN_OBJECT) {
+                reader.beginObject();
+                depth++;
+                tokens.add(token.name());
+            } else if (token == AwsJsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+                depth++;
+                tokens.add(token.name());
+            } else if (token == AwsJsonToken.END_OBJECT) {
+                reader.endObject();
+                depth--;
+                tokens.add(token.name());
+            } else if (token == AwsJsonToken.END_ARRAY) {
+                reader.endArray();
+                depth--;
+                tokens.add(token.name());
+            } else if (token == AwsJsonToken.FIELD_NAME) {
+                tokens.add(token.name() + " " + reader.nextName());
+            } else {
+                tokens.add(token.name() + " " + reader.nextString());
+            }
+        } while (depth > 0);
+        reader.close();
+        return tokens;
+    }
+
     @Test
     public void testWritePerformance() throws IOException {
         Map<String, String> map = new HashMap<String, String>();
@@ -99,6 +99,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Pre-defined strategies for mapping between Java types and DynamoDB types.
@@ -196,6 +198,13 @@ public final class ConversionSchemas {
         }
     }
 
+    /**
+     * Converts items with the marshallers and unmarshallers of a marshaller
+     * set. The marshallers and unmarshallers are resolved once for each
+     * property, and the properties of each class are resolved once as well,
+     * so converting an item only invokes its getters or setters and the
+     * resolved marshallers or unmarshallers.
+     */
     static class StandardItemConverter implements ItemConverter {
 
         private final MarshallerSet marshallerSet;
@@ -203,6 +212,17 @@ public final class ConversionSchemas {
         private final DynamoDBReflector reflector;
         private final S3ClientCache s3cc;
 
+        /** Resolved marshallers, keyed by getter. */
+        private final ConcurrentMap<Method, ArgumentMarshaller> marshallers =
+                new ConcurrentHashMap<Method, ArgumentMarshaller>();
+
+        /** Resolved unmarshallers, keyed by getter. */
+        private final ConcurrentMap<Method, ArgumentUnmarshaller> unmarshallers =
+                new ConcurrentHashMap<Method, ArgumentUnmarshaller>();
+
+        private final ConcurrentMap<Class<?>, List<PropertyModel>> itemModels =
+                new ConcurrentHashMap<Class<?>, List<PropertyModel>>();
+
         public StandardItemConverter(
                 MarshallerSet marshallerSet,
                 UnmarshallerSet unmarshallerSet,
@@ -268,15 +288,15 @@ public final class ConversionSchemas {
             Map<String, AttributeValue> result =
                     new HashMap<String, AttributeValue>();
 
-            for (Method getter : reflector.getRelevantGetters(clazz)) {
+            for (PropertyModel property : getItemModel(clazz)) {
                 Object getterResult =
-                        ReflectionUtils.safeInvoke(getter, object);
+                        ReflectionUtils.safeInvoke(property.getter, object);
 
                 if (getterResult != null) {
-                    AttributeValue value = convert(getter, getterResult);
+                    AttributeValue value =
+                            getMarshaller(property.getter).marshall(getterResult);
                     if (value != null) {
-                        String name = reflector.getAttributeName(getter);
-                        result.put(name, value);
+                        result.put(property.attributeName, value);
                     }
                 }
             }
@@ -284,11 +304,31 @@ public final class ConversionSchemas {
             return result;
         }
 
-        private ArgumentMarshaller getMarshaller(Method getter) {
-            ArgumentMarshaller marshaller =
-                    marshallerSet.getMarshaller(getter);
+        /**
+         * Returns the properties of the class given, resolving them the first
+         * time the class is converted.
+         */
+        private List<PropertyModel> getItemModel(Class<?> clazz) {
+            List<PropertyModel> itemModel = itemModels.get(clazz);
+            if (itemModel == null) {
+                itemModel = new ArrayList<PropertyModel>();
+                for (Method getter : reflector.getRelevantGetters(clazz)) {
+                    itemModel.add(new PropertyModel(getter,
+                            reflector.getAttributeName(getter)));
+                }
+                // racing threads resolve the same properties
+                itemModels.put(clazz, itemModel);
+            }
+            return itemModel;
+        }
 
-            marshaller = augment(getter.getGenericReturnType(), marshaller);
+        private ArgumentMarshaller getMarshaller(Method getter) {
+            ArgumentMarshaller marshaller = marshallers.get(getter);
+            if (marshaller == null) {
+                marshaller = marshallerSet.getMarshaller(getter);
+                marshaller = augment(getter.getGenericReturnType(), marshaller);
+                marshallers.put(getter, marshaller);
+            }
 
             return marshaller;
         }
@@ -413,11 +453,10 @@ public final class ConversionSchemas {
                 return result;
             }
 
-            for (Method m : reflector.getRelevantGetters(clazz)) {
-                String attributeName = reflector.getAttributeName(m);
-                AttributeValue av = value.get(attributeName);
+            for (PropertyModel property : getItemModel(clazz)) {
+                AttributeValue av = value.get(property.attributeName);
                 if (av != null) {
-                    setValue(result, m, av);
+                    setValue(result, property, av);
                 }
             }
 
@@ -426,12 +465,16 @@ public final class ConversionSchemas {
 
         private void setValue(
                 Object target,
-                Method getter,
+                PropertyModel property,
                 AttributeValue value) {
 
-            Method setter = reflector.getSetter(getter);
+            Method setter = property.setter;
+            if (setter == null) {
+                setter = reflector.getSetter(property.getter);
+                property.setter = setter;
+            }
             ArgumentUnmarshaller unmarshaller =
-                    getUnmarshaller(getter, setter);
+                    getUnmarshaller(property.getter, setter);
 
             Object unmarshalled = unmarshall(unmarshaller, setter, value);
             ReflectionUtils.safeInvoke(setter, target, unmarshalled);
@@ -441,13 +484,16 @@ public final class ConversionSchemas {
                 Method getter,
                 Method setter) {
 
-            ArgumentUnmarshaller unmarshaller =
-                    unmarshallerSet.getUnmarshaller(getter, setter);
-
-            unmarshaller = augment(
-                    setter.getGenericParameterTypes()[0], unmarshaller);
+            ArgumentUnmarshaller unmarshaller = unmarshallers.get(getter);
+            if (unmarshaller == null) {
+                unmarshaller = unmarshallerSet.getUnmarshaller(getter, setter);
+                unmarshaller = augment(
+                        setter.getGenericParameterTypes()[0], unmarshaller);
+                unmarshaller = new NullableUnmarshaller(unmarshaller);
+                unmarshallers.put(getter, unmarshaller);
+            }
 
-            return new NullableUnmarshaller(unmarshaller);
+            return unmarshaller;
         }
 
         private ArgumentUnmarshaller getMemberUnmarshaller(Type type) {
@@ -601,6 +647,23 @@ public final class ConversionSchemas {
 
     }
 
+    /**
+     * A mapped property of a class, with its attribute name resolved.
+     */
+    private static final class PropertyModel {
+
+        final Method getter;
+        final String attributeName;
+
+        /** The setter, resolved the first time the property is set. */
+        volatile Method setter;
+
+        PropertyModel(Method getter, String attributeName) {
+            this.getter = getter;
+            this.attributeName = attributeName;
+        }
+    }
+
     static interface MarshallerSet {
         ArgumentMarshaller getMarshaller(Method getter);
 
@@ -1259,13 +1322,18 @@ public final class ConversionSchemas {
         }
     }
 
+    /**
+     * Caches the marshallers of a marshaller set. The caches are read without
+     * locking, and a missing marshaller is resolved once while holding the
+     * lock of its cache.
+     */
     static class CachingMarshallerSet implements MarshallerSet {
 
-        private final Map<Method, ArgumentMarshaller> cache =
-                new HashMap<Method, ArgumentMarshaller>();
+        private final ConcurrentMap<Method, ArgumentMarshaller> cache =
+                new ConcurrentHashMap<Method, ArgumentMarshaller>();
 
-        private final Map<Type, ArgumentMarshaller> memberCache =
-                new HashMap<Type, ArgumentMarshaller>();
+        private final ConcurrentMap<Type, ArgumentMarshaller> memberCache =
+                new ConcurrentHashMap<Type, ArgumentMarshaller>();
 
         private final MarshallerSet wrapped;
 
@@ -1275,6 +1343,10 @@ public final class ConversionSchemas {
 
         @Override
         public ArgumentMarshaller getMarshaller(Method getter) {
+            ArgumentMarshaller cached = cache.get(getter);
+            if (cached != null) {
+                return cached;
+            }
             synchronized (cache) {
                 ArgumentMarshaller marshaler = cache.get(getter);
                 if (marshaler != null) {
@@ -1289,6 +1361,10 @@ public final class ConversionSchemas {
 
         @Override
         public ArgumentMarshaller getMemberMarshaller(Type memberType) {
+            ArgumentMarshaller cached = memberCache.get(memberType);
+            if (cached != null) {
+                return cached;
+            }
             synchronized (memberCache) {
                 ArgumentMarshaller marshaller = memberCache.get(memberType);
                 if (marshaller != null) {
@@ -1302,13 +1378,17 @@ public final class ConversionSchemas {
         }
     }
 
+    /**
+     * Caches the unmarshallers of an unmarshaller set, the same way
+     * {@link CachingMarshallerSet} caches marshallers.
+     */
     static class CachingUnmarshallerSet implements UnmarshallerSet {
 
-        private final Map<Method, ArgumentUnmarshaller> cache =
-                new HashMap<Method, ArgumentUnmarshaller>();
+        private final ConcurrentMap<Method, ArgumentUnmarshaller> cache =
+                new ConcurrentHashMap<Method, ArgumentUnmarshaller>();
 
-        private final Map<Type, ArgumentUnmarshaller> memberCache =
-                new HashMap<Type, ArgumentUnmarshaller>();
+        private final ConcurrentMap<Type, ArgumentUnmarshaller> memberCache =
+                new ConcurrentHashMap<Type, ArgumentUnmarshaller>();
 
         private final UnmarshallerSet wrapped;
 
@@ -1321,6 +1401,10 @@ public final class ConversionSchemas {
                 Method getter,
                 Method setter) {
 
+            ArgumentUnmarshaller cached = cache.get(getter);
+            if (cached != null) {
+                return cached;
+            }
             synchronized (cache) {
                 ArgumentUnmarshaller unmarshaler = cache.get(getter);
                 if (unmarshaler != null) {
@@ -1335,6 +1419,10 @@ public final class ConversionSchemas {
 
         @Override
         public ArgumentUnmarshaller getMemberUnmarshaller(Type memberType) {
+            ArgumentUnmarshaller cached = memberCache.get(memberType);
+            if (cached != null) {
+                return cached;
+            }
             synchronized (memberCache) {
                 ArgumentUnmarshaller unmarshaller = memberCache.get(memberType);
                 if (unmarshaller != null) {
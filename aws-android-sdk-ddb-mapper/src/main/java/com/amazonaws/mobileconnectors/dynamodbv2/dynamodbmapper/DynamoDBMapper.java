@@ -20,6 +20,7 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.AmazonWebServiceRequest;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapperConfig.ConsistentReads;
+import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapperConfig.ConsumedCapacityListener;
 import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapperConfig.PaginationLoadingStrategy;
 import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapperConfig.SaveBehavior;
 import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBTableSchemaParser.TableIndexesInfo;
@@ -48,6 +49,7 @@ import com.amazonaws.services.dynamodbv2.model.PutItemResult;
 import com.amazonaws.services.dynamodbv2.model.PutRequest;
 import com.amazonaws.services.dynamodbv2.model.QueryRequest;
 import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.ReturnConsumedCapacity;
 import com.amazonaws.services.dynamodbv2.model.ReturnValue;
 import com.amazonaws.services.dynamodbv2.model.ScanRequest;
 import com.amazonaws.services.dynamodbv2.model.ScanResult;
@@ -69,6 +71,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -76,6 +79,14 @@ import java.util.Map.Entry;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Object mapper for domain-object interaction with DynamoDB.
@@ -178,11 +189,34 @@ public class DynamoDBMapper {
     private final DynamoDBTableSchemaParser schemaParser = new DynamoDBTableSchemaParser();
     private final VersionIncrementor incrementor = new VersionIncrementor();
 
+    /**
+     * The item converters of the most recently used conversion schemas, kept
+     * so that the properties and marshallers they resolve are reused by later
+     * operations. Schemas are told apart by identity, so an entry lives as
+     * long as its schema is among the {@link #MAX_CACHED_CONVERTERS} last
+     * ones used by this mapper. Callers must synchronize on the cache.
+     */
+    private final ConverterCache converters = new ConverterCache(MAX_CACHED_CONVERTERS);
+
     private final AttributeTransformer transformer;
 
+    /**
+     * The executor service sending the background requests of the operations
+     * whose configuration doesn't provide one, created when first needed.
+     */
+    private volatile ExecutorService executorService;
+
+    /** The base back off time for batch operations */
+    static final long BASE_BACKOFF_IN_MILLISECONDS = 500;
+
     /** The max back off time for batch write */
     static final long MAX_BACKOFF_IN_MILLISECONDS = 1000 * 3;
 
+    private final Random random = new Random();
+
+    /** The max number of conversion schemas whose item converter is kept */
+    static final int MAX_CACHED_CONVERTERS = 8;
+
     /** The max number of items allowed in a BatchWrite request */
     static final int MAX_ITEMS_PER_BATCH = 25;
     /**
@@ -1443,6 +1477,12 @@ public class DynamoDBMapper {
      * Saves and deletes the objects given using one or more calls to the
      * {@link AmazonDynamoDB#batchWriteItem(BatchWriteItemRequest)} API.
      * <p>
+     * The objects are sent in batches of 25 items, as many at the same time as
+     * the batch parallelism of the configuration allows. The unprocessed items
+     * of a batch are sent again after a jittered exponential backoff, and the
+     * batches back off longer while DynamoDB keeps throttling them.
+     * </p>
+     * <p>
      * This method fails to save the batch if the size of an individual object
      * in the batch exceeds 400 KB. For more information on batch restrictions
      * see, http://docs.aws.amazon
@@ -1457,12 +1497,16 @@ public class DynamoDBMapper {
      *            version checks are performed</b>, as required by the
      *            {@link AmazonDynamoDB#batchWriteItem(BatchWriteItemRequest)}
      *            API.
-     * @param config Only {@link DynamoDBMapperConfig#getTableNameOverride()} is
-     *            considered; if specified, all objects in the two parameter
-     *            lists will be considered to belong to the given table
-     *            override. In particular, this method <b>always acts as if
-     *            SaveBehavior.CLOBBER was specified</b> regardless of the value
-     *            of the config parameter.
+     * @param config Only {@link DynamoDBMapperConfig#getTableNameOverride()},
+     *            {@link DynamoDBMapperConfig#getBatchParallelism()},
+     *            {@link DynamoDBMapperConfig#getExecutorService()} and
+     *            {@link DynamoDBMapperConfig#getConsumedCapacityListener()} are
+     *            considered; if a table name override is specified, all
+     *            objects in the two parameter lists will be considered to
+     *            belong to the given table override. In particular, this
+     *            method <b>always acts as if SaveBehavior.CLOBBER was
+     *            specified</b> regardless of the value of the config
+     *            parameter.
      * @return A list of failed batches which includes the unprocessed items and
      *         the exceptions causing the failure.
      */
@@ -1531,7 +1575,9 @@ public class DynamoDBMapper {
                     new WriteRequest().withDeleteRequest(new DeleteRequest().withKey(key)));
         }
 
-        // Break into chunks of 25 items and make service requests to DynamoDB
+        // Break into chunks of 25 items
+        List<Map<String, List<WriteRequest>>> batches =
+                new ArrayList<Map<String, List<WriteRequest>>>();
         while (!requestItems.isEmpty()) {
 
             HashMap<String, List<WriteRequest>> batch =
@@ -1561,21 +1607,34 @@ public class DynamoDBMapper {
                 }
             }
 
-            List<FailedBatch> failedBatches = writeOneBatch(batch);
-            if (failedBatches != null) {
-                totalFailedBatches.addAll(failedBatches);
+            batches.add(batch);
+        }
 
-                // If contains throttling exception, we do a backoff
-                if (containsThrottlingException(failedBatches)) {
-                    try {
-                        Thread.sleep(1000 * 2);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        throw new AmazonClientException(e.getMessage(), e);
+        // Make service requests to DynamoDB, several at the same time if the
+        // configuration allows it
+        final DynamoDBMapperConfig batchConfig = config;
+        final List<FailedBatch> failedBatchesOfAllTasks =
+                Collections.synchronizedList(totalFailedBatches);
+        final AtomicInteger throttledBatches = new AtomicInteger();
+        List<Runnable> tasks = new ArrayList<Runnable>(batches.size());
+        for (final Map<String, List<WriteRequest>> batch : batches) {
+            tasks.add(new Runnable() {
+                @Override
+                public void run() {
+                    List<FailedBatch> failedBatches = writeOneBatch(batch, batchConfig);
+                    failedBatchesOfAllTasks.addAll(failedBatches);
+
+                    // If contains throttling exception, we back off longer
+                    // with each throttled batch until a batch goes through
+                    if (containsThrottlingException(failedBatches)) {
+                        pauseExponentially(throttledBatches.incrementAndGet());
+                    } else if (failedBatches.isEmpty()) {
+                        throttledBatches.set(0);
                     }
                 }
-            }
+            });
         }
+        runBatchTasks(tasks, config);
 
         // Once the entire batch is processed, update assigned keys in memory
         for (ValueUpdate update : inMemoryUpdates) {
@@ -1591,11 +1650,19 @@ public class DynamoDBMapper {
      * beyond 1M).
      */
     List<FailedBatch> writeOneBatch(Map<String, List<WriteRequest>> batch) {
+        return writeOneBatch(batch, config);
+    }
+
+    /**
+     * @param config never null
+     */
+    private List<FailedBatch> writeOneBatch(Map<String, List<WriteRequest>> batch,
+            DynamoDBMapperConfig config) {
 
         List<FailedBatch> failedBatches = new LinkedList<FailedBatch>();
         Map<String, List<WriteRequest>> firstHalfBatch = new HashMap<String, List<WriteRequest>>();
         Map<String, List<WriteRequest>> secondHalfBatch = new HashMap<String, List<WriteRequest>>();
-        FailedBatch failedBatch = callUntilCompletion(batch);
+        FailedBatch failedBatch = callUntilCompletion(batch, config);
 
         if (failedBatch != null) {
             // If the exception is request entity too large, we divide the batch
@@ -1613,8 +1680,8 @@ public class DynamoDBMapper {
                     failedBatches.add(failedBatch);
                 } else {
                     divideBatch(batch, firstHalfBatch, secondHalfBatch);
-                    failedBatches.addAll(writeOneBatch(firstHalfBatch));
-                    failedBatches.addAll(writeOneBatch(secondHalfBatch));
+                    failedBatches.addAll(writeOneBatch(firstHalfBatch, config));
+                    failedBatches.addAll(writeOneBatch(secondHalfBatch, config));
                 }
 
             } else {
@@ -1679,23 +1746,33 @@ public class DynamoDBMapper {
 
     /**
      * Continue trying to process the batch until it finishes or an exception
-     * occurs.
+     * occurs. Only the unprocessed items are sent again, after a jittered
+     * exponential backoff.
      */
 
-    private FailedBatch callUntilCompletion(Map<String, List<WriteRequest>> batch) {
+    private FailedBatch callUntilCompletion(Map<String, List<WriteRequest>> batch,
+            DynamoDBMapperConfig config) {
         BatchWriteItemResult result = null;
         int retries = 0;
         FailedBatch failedBatch = null;
+        ConsumedCapacityListener listener = config.getConsumedCapacityListener();
         while (true) {
             try {
-                result = db.batchWriteItem(applyBatchOperationUserAgent(
-                        new BatchWriteItemRequest().withRequestItems(batch)));
+                BatchWriteItemRequest request = new BatchWriteItemRequest()
+                        .withRequestItems(batch);
+                if (listener != null) {
+                    request.setReturnConsumedCapacity(ReturnConsumedCapacity.TOTAL);
+                }
+                result = db.batchWriteItem(applyBatchOperationUserAgent(request));
             } catch (Exception e) {
                 failedBatch = new FailedBatch();
                 failedBatch.setUnprocessedItems(batch);
                 failedBatch.setException(e);
                 return failedBatch;
             }
+            if (listener != null && result.getConsumedCapacity() != null) {
+                listener.onConsumedCapacity(result.getConsumedCapacity());
+            }
             retries++;
             batch = result.getUnprocessedItems();
             if (batch.size() > 0) {
@@ -1726,8 +1803,11 @@ public class DynamoDBMapper {
      *
      * @param itemsToGet Key objects, corresponding to the class to fetch, with
      *            their primary key values set.
-     * @param config Only {@link DynamoDBMapperConfig#getTableNameOverride()}
-     *            and {@link DynamoDBMapperConfig#getConsistentReads()} are
+     * @param config Only {@link DynamoDBMapperConfig#getTableNameOverride()},
+     *            {@link DynamoDBMapperConfig#getConsistentReads()},
+     *            {@link DynamoDBMapperConfig#getBatchParallelism()},
+     *            {@link DynamoDBMapperConfig#getExecutorService()} and
+     *            {@link DynamoDBMapperConfig#getConsumedCapacityListener()} are
      *            considered.
      * @return A map of the loaded objects. Each key in the map is the name of a
      *         DynamoDB table. Each value in the map is a list of objects that
@@ -1744,11 +1824,12 @@ public class DynamoDBMapper {
         }
 
         Map<String, KeysAndAttributes> requestItems = new HashMap<String, KeysAndAttributes>();
-        Map<String, Class<?>> classesByTableName = new HashMap<String, Class<?>>();
-        Map<String, List<Object>> resultSet = new HashMap<String, List<Object>>();
+        final Map<String, Class<?>> classesByTableName = new HashMap<String, Class<?>>();
+        final Map<String, List<Object>> resultSet = new HashMap<String, List<Object>>();
+        List<Map<String, KeysAndAttributes>> batches = new ArrayList<Map<String, KeysAndAttributes>>();
         int count = 0;
 
-        ItemConverter converter = getConverter(config);
+        final ItemConverter converter = getConverter(config);
 
         for (Object keyObject : itemsToGet) {
             Class<?> clazz = keyObject.getClass();
@@ -1770,17 +1851,29 @@ public class DynamoDBMapper {
             // Reach the maximum number which can be handled in a single
             // batchGet
             if (++count == 100) {
-                processBatchGetRequest(classesByTableName, requestItems, resultSet, config,
-                        converter);
-                requestItems.clear();
+                batches.add(requestItems);
+                requestItems = new HashMap<String, KeysAndAttributes>();
                 count = 0;
             }
         }
 
         if (count > 0) {
-            processBatchGetRequest(classesByTableName, requestItems, resultSet, config, converter);
+            batches.add(requestItems);
         }
 
+        final DynamoDBMapperConfig batchConfig = config;
+        List<Runnable> tasks = new ArrayList<Runnable>(batches.size());
+        for (final Map<String, KeysAndAttributes> batch : batches) {
+            tasks.add(new Runnable() {
+                @Override
+                public void run() {
+                    processBatchGetRequest(classesByTableName, batch, resultSet, batchConfig,
+                            converter);
+                }
+            });
+        }
+        runBatchTasks(tasks, config);
+
         return resultSet;
     }
 
@@ -1849,6 +1942,10 @@ public class DynamoDBMapper {
         BatchGetItemRequest batchGetItemRequest = new BatchGetItemRequest()
                 .withRequestMetricCollector(config.getRequestMetricCollector());
         batchGetItemRequest.setRequestItems(requestItems);
+        ConsumedCapacityListener listener = config.getConsumedCapacityListener();
+        if (listener != null) {
+            batchGetItemRequest.setReturnConsumedCapacity(ReturnConsumedCapacity.TOTAL);
+        }
 
         int retries = 0;
 
@@ -1869,26 +1966,30 @@ public class DynamoDBMapper {
 
             batchGetItemResult = db.batchGetItem(
                     applyBatchOperationUserAgent(batchGetItemRequest));
+            if (listener != null && batchGetItemResult.getConsumedCapacity() != null) {
+                listener.onConsumedCapacity(batchGetItemResult.getConsumedCapacity());
+            }
 
             Map<String, List<Map<String, AttributeValue>>> responses = batchGetItemResult
                     .getResponses();
             for (String tableName : responses.keySet()) {
-                List<Object> objects = null;
-                if (resultSet.get(tableName) != null) {
-                    objects = resultSet.get(tableName);
-                } else {
-                    objects = new LinkedList<Object>();
-                }
-
                 Class<?> clazz = classesByTableName.get(tableName);
 
+                // Unmarshall outside the lock shared with the other batches
+                List<Object> objects = new LinkedList<Object>();
                 for (Map<String, AttributeValue> item : responses.get(tableName)) {
                     AttributeTransformer.Parameters<?> parameters =
                             toParameters(item, clazz, tableName, config);
                     objects.add(privateMarshallIntoObject(converter, parameters));
                 }
 
-                resultSet.put(tableName, objects);
+                synchronized (resultSet) {
+                    if (resultSet.get(tableName) != null) {
+                        resultSet.get(tableName).addAll(objects);
+                    } else {
+                        resultSet.put(tableName, objects);
+                    }
+                }
             }
             // To see whether there are unprocessed keys.
         } while (batchGetItemResult.getUnprocessedKeys() != null
@@ -1896,6 +1997,74 @@ public class DynamoDBMapper {
 
     }
 
+    /**
+     * Runs the tasks of a batch operation, at most as many at the same time as
+     * the batch parallelism of the configuration. The calling thread runs
+     * tasks itself while helper tasks submitted to the executor service run
+     * the others, so the operation completes even if the executor service is
+     * busy. Once a task fails no other task is started, and the failure,
+     * including an error thrown on a helper thread, is thrown on the calling
+     * thread once the running tasks are done.
+     *
+     * @param config never null
+     */
+    private void runBatchTasks(final List<Runnable> tasks, DynamoDBMapperConfig config) {
+        int parallelism = (config.getBatchParallelism() == null)
+                ? 1
+                : config.getBatchParallelism();
+        final AtomicInteger nextTask = new AtomicInteger();
+        final AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+        final CountDownLatch remainingTasks = new CountDownLatch(tasks.size());
+        Runnable worker = new Runnable() {
+            @Override
+            public void run() {
+                int task;
+                while ((task = nextTask.getAndIncrement()) < tasks.size()) {
+                    try {
+                        if (error.get() == null) {
+                            tasks.get(task).run();
+                        }
+                    } catch (Throwable t) {
+                        error.compareAndSet(null, t);
+                    } finally {
+                        remainingTasks.countDown();
+                    }
+                }
+            }
+        };
+
+        List<Future<?>> helpers = new ArrayList<Future<?>>();
+        if (parallelism > 1 && tasks.size() > 1) {
+            ExecutorService helperExecutor = getExecutorService(config);
+            for (int i = 1; i < Math.min(parallelism, tasks.size()); i++) {
+                try {
+                    helpers.add(helperExecutor.submit(worker));
+                } catch (RejectedExecutionException e) {
+                    // the calling thread runs the remaining tasks
+                    break;
+                }
+            }
+        }
+        try {
+            worker.run();
+            remainingTasks.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException(e.getMessage(), e);
+        } finally {
+            for (Future<?> helper : helpers) {
+                helper.cancel(true);
+            }
+        }
+
+        Throwable t = error.get();
+        if (t instanceof Error) {
+            throw (Error) t;
+        } else if (t != null) {
+            throw (RuntimeException) t;
+        }
+    }
+
     private final class ValueUpdate {
 
         private final Method method;
@@ -2024,10 +2193,13 @@ public class DynamoDBMapper {
 
     /**
      * Scans through an Amazon DynamoDB table on logically partitioned segments
-     * in parallel. This method will create a thread pool of the specified size,
-     * and each thread will issue scan requests for its assigned segment,
-     * following the returned continuation token, until the end of its segment.
-     * Callers should be responsible for setting the appropriate number of total
+     * in parallel. Each segment is scanned in the background, following the
+     * returned continuation token, until the end of its segment, and fetches
+     * its next pages while the results it already returned are consumed. The
+     * results of the segments are added to the list as they arrive. The
+     * executor service, the number of pages fetched ahead by each segment and
+     * the page budget of the whole scan are set by the
+     * {@link DynamoDBMapperConfig}. Callers should be responsible for setting the appropriate number of total
      * segments. More scan segments would result in better performance but more
      * consumed capacity of the table. The results are returned in one
      * unmodifiable list of instantiated objects. The table to scan is
@@ -2065,12 +2237,50 @@ public class DynamoDBMapper {
         // segment number.
         List<ScanRequest> parallelScanRequests = createParallelScanRequestsFromExpression(clazz,
                 scanExpression, totalSegments, config);
-        ParallelScanTask parallelScanTask = new ParallelScanTask(this, db, parallelScanRequests);
-
-        return new PaginatedParallelScanList<T>(this, clazz, db, parallelScanTask,
+        int prefetchPages = (config.getParallelScanPrefetchPages() == null)
+                ? 1
+                : config.getParallelScanPrefetchPages();
+        int pageBudget = (config.getParallelScanPageBudget() == null)
+                ? parallelScanRequests.size() * prefetchPages
+                : config.getParallelScanPageBudget();
+        PipelinedParallelScan pipelinedScan = new PipelinedParallelScan(db,
+                parallelScanRequests, getExecutorService(config), prefetchPages, pageBudget);
+
+        return new PaginatedParallelScanList<T>(this, clazz, db, pipelinedScan,
                 config.getPaginationLoadingStrategy(), config);
     }
 
+    /**
+     * Returns the executor service of the configuration given, or else the one
+     * shared by the operations of this mapper. Its threads are daemon threads
+     * that end once idle, so the mapper needs no shutdown.
+     *
+     * @param config never null
+     */
+    ExecutorService getExecutorService(DynamoDBMapperConfig config) {
+        if (config.getExecutorService() != null) {
+            return config.getExecutorService();
+        }
+        ExecutorService result = executorService;
+        if (result == null) {
+            synchronized (this) {
+                result = executorService;
+                if (result == null) {
+                    result = Executors.newCachedThreadPool(new ThreadFactory() {
+                        @Override
+                        public Thread newThread(Runnable r) {
+                            Thread thread = new Thread(r, "DynamoDBMapper-background");
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+                    executorService = result;
+                }
+            }
+        }
+        return result;
+    }
+
     /**
      * Scans through an Amazon DynamoDB table and returns a single page of
      * matching results. The table to scan is determined by looking at the
@@ -2896,24 +3106,55 @@ public class DynamoDBMapper {
 
     ItemConverter getConverter(DynamoDBMapperConfig config) {
         ConversionSchema schema = config.getConversionSchema();
+        synchronized (converters) {
+            ItemConverter converter = converters.get(schema);
+            if (converter == null) {
+                ConversionSchema.Dependencies params = new ConversionSchema.Dependencies()
+                        .with(DynamoDBReflector.class, reflector)
+                        .with(S3ClientCache.class, s3cc);
+
+                converter = schema.getConverter(params);
+                converters.put(schema, converter);
+            }
+            return converter;
+        }
+    }
+
+    /**
+     * LinkedHashMap in access order that evicts the item converter of the
+     * least recently used conversion schema once the max size has been
+     * reached.
+     */
+    private static final class ConverterCache
+            extends LinkedHashMap<ConversionSchema, ItemConverter> {
+        private static final long serialVersionUID = 1L;
+        private static final float LOAD_FACTOR = 0.75f;
+        private final int maxSize;
 
-        ConversionSchema.Dependencies params = new ConversionSchema.Dependencies()
-                .with(DynamoDBReflector.class, reflector)
-                .with(S3ClientCache.class, s3cc);
+        ConverterCache(int maxSize) {
+            super(maxSize, LOAD_FACTOR, true);
+            this.maxSize = maxSize;
+        }
 
-        return schema.getConverter(params);
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ConversionSchema, ItemConverter> eldest) {
+            return size() > maxSize;
+        }
     }
 
+    /**
+     * Sleeps for a random delay between 0 and an exponentially growing
+     * ceiling, so that the batches backing off at the same time don't all
+     * retry at once.
+     */
     private void pauseExponentially(int retries) {
         if (retries == 0) {
             return;
         }
 
-        Random random = new Random();
-        long delay = 0;
-        long scaleFactor = 500 + random.nextInt(100);
-        delay = (long) (Math.pow(2, retries) * scaleFactor);
-        delay = Math.min(delay, MAX_BACKOFF_IN_MILLISECONDS);
+        long ceiling = BASE_BACKOFF_IN_MILLISECONDS << Math.min(retries, 20);
+        long delay = (long) (random.nextDouble()
+                * Math.min(ceiling, MAX_BACKOFF_IN_MILLISECONDS));
 
         try {
             Thread.sleep(delay);
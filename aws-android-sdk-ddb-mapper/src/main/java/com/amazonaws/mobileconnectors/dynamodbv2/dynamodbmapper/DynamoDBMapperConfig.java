@@ -16,6 +16,10 @@
 package com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper;
 
 import com.amazonaws.metrics.RequestMetricCollector;
+import com.amazonaws.services.dynamodbv2.model.ConsumedCapacity;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Immutable configuration object for service call behavior. An instance of this
@@ -52,6 +56,11 @@ public class DynamoDBMapperConfig {
         private PaginationLoadingStrategy paginationLoadingStrategy;
         private RequestMetricCollector requestMetricCollector;
         private ConversionSchema conversionSchema;
+        private ExecutorService executorService;
+        private Integer parallelScanPrefetchPages;
+        private Integer parallelScanPageBudget;
+        private Integer batchParallelism;
+        private ConsumedCapacityListener consumedCapacityListener;
 
         /**
          * Creates a new builder initialized with the {@link #DEFAULT} values.
@@ -65,6 +74,11 @@ public class DynamoDBMapperConfig {
             paginationLoadingStrategy = DEFAULT.getPaginationLoadingStrategy();
             requestMetricCollector = DEFAULT.getRequestMetricCollector();
             conversionSchema = DEFAULT.getConversionSchema();
+            executorService = DEFAULT.getExecutorService();
+            parallelScanPrefetchPages = DEFAULT.getParallelScanPrefetchPages();
+            parallelScanPageBudget = DEFAULT.getParallelScanPageBudget();
+            batchParallelism = DEFAULT.getBatchParallelism();
+            consumedCapacityListener = DEFAULT.getConsumedCapacityListener();
         }
 
         /**
@@ -255,6 +269,131 @@ public class DynamoDBMapperConfig {
             return this;
         }
 
+        /**
+         * @return the current executor service
+         */
+        public ExecutorService getExecutorService() {
+            return executorService;
+        }
+
+        /**
+         * @param value the new executor service, or null for the one shared
+         *            by the operations of the mapper
+         */
+        public void setExecutorService(ExecutorService value) {
+            executorService = value;
+        }
+
+        /**
+         * @param value the new executor service, or null for the one shared
+         *            by the operations of the mapper
+         * @return this builder
+         */
+        public Builder withExecutorService(ExecutorService value) {
+            setExecutorService(value);
+            return this;
+        }
+
+        /**
+         * @return the current number of pages each segment of a parallel scan
+         *         fetches ahead
+         */
+        public Integer getParallelScanPrefetchPages() {
+            return parallelScanPrefetchPages;
+        }
+
+        /**
+         * @param value the new number of pages each segment of a parallel scan
+         *            fetches ahead, or null for default
+         */
+        public void setParallelScanPrefetchPages(Integer value) {
+            parallelScanPrefetchPages = value;
+        }
+
+        /**
+         * @param value the new number of pages each segment of a parallel scan
+         *            fetches ahead, or null for default
+         * @return this builder
+         */
+        public Builder withParallelScanPrefetchPages(Integer value) {
+            setParallelScanPrefetchPages(value);
+            return this;
+        }
+
+        /**
+         * @return the current maximum number of pages a parallel scan holds
+         */
+        public Integer getParallelScanPageBudget() {
+            return parallelScanPageBudget;
+        }
+
+        /**
+         * @param value the new maximum number of pages a parallel scan holds,
+         *            or null for default
+         */
+        public void setParallelScanPageBudget(Integer value) {
+            parallelScanPageBudget = value;
+        }
+
+        /**
+         * @param value the new maximum number of pages a parallel scan holds,
+         *            or null for default
+         * @return this builder
+         */
+        public Builder withParallelScanPageBudget(Integer value) {
+            setParallelScanPageBudget(value);
+            return this;
+        }
+
+        /**
+         * @return the current maximum number of batch requests sent at the
+         *         same time by a batch operation
+         */
+        public Integer getBatchParallelism() {
+            return batchParallelism;
+        }
+
+        /**
+         * @param value the new maximum number of batch requests sent at the
+         *            same time by a batch operation, or null for default
+         */
+        public void setBatchParallelism(Integer value) {
+            batchParallelism = value;
+        }
+
+        /**
+         * @param value the new maximum number of batch requests sent at the
+         *            same time by a batch operation, or null for default
+         * @return this builder
+         */
+        public Builder withBatchParallelism(Integer value) {
+            setBatchParallelism(value);
+            return this;
+        }
+
+        /**
+         * @return the current consumed capacity listener
+         */
+        public ConsumedCapacityListener getConsumedCapacityListener() {
+            return consumedCapacityListener;
+        }
+
+        /**
+         * @param value the new consumed capacity listener, or null for none
+         */
+        public void setConsumedCapacityListener(ConsumedCapacityListener value) {
+            consumedCapacityListener = value;
+        }
+
+        /**
+         * @param value the new consumed capacity listener, or null for none
+         * @return this builder
+         */
+        public Builder withConsumedCapacityListener(ConsumedCapacityListener value) {
+            setConsumedCapacityListener(value);
+            return this;
+        }
+
         /**
          * Builds a new {@code DynamoDBMapperConfig} object.
          *
@@ -269,7 +408,12 @@ public class DynamoDBMapperConfig {
                     objectTableNameResolver,
                     paginationLoadingStrategy,
                     requestMetricCollector,
-                    conversionSchema);
+                    conversionSchema,
+                    executorService,
+                    parallelScanPrefetchPages,
+                    parallelScanPageBudget,
+                    batchParallelism,
+                    consumedCapacityListener);
         }
     }
 
@@ -360,7 +504,20 @@ public class DynamoDBMapperConfig {
          * Paginated list will eagerly load all the paginated results from
          * DynamoDB as soon as the list is initialized.
          */
-        EAGER_LOADING
+        EAGER_LOADING,
+
+        /**
+         * Same as ITERATION_ONLY, except that the next page of results is
+         * fetched in the background while the current page is iterated, using
+         * the executor service of the {@link DynamoDBMapperConfig}. The list
+         * keeps at most the current page and the next one in memory, and a
+         * page is fetched ahead only once the previous one is consumed, so an
+         * abandoned iteration stops after at most one page.
+         * <p>
+         * Use this configuration to overlap the requests to DynamoDB with the
+         * processing of the results when iterating over many pages.
+         */
+        ITERATION_ONLY_PREFETCH
     }
 
     /**
@@ -473,6 +630,27 @@ public class DynamoDBMapperConfig {
 
     }
 
+    /**
+     * Interface for receiving the capacity consumed by the requests of the
+     * batch operations of {@link DynamoDBMapper}, such as
+     * {@link DynamoDBMapper#batchWrite(java.util.List, java.util.List, DynamoDBMapperConfig)}
+     * and {@link DynamoDBMapper#batchLoad(java.util.List, DynamoDBMapperConfig)}.
+     * The batch requests ask DynamoDB to return their consumed capacity only
+     * when a listener is set.
+     */
+    public static interface ConsumedCapacityListener {
+
+        /**
+         * Called after each batch request, including the retries of its
+         * unprocessed items, with the capacity it consumed on each table. May
+         * be called from several threads at the same time when the batch
+         * parallelism is more than one.
+         *
+         * @param consumedCapacity The capacity consumed on each table
+         */
+        public void onConsumedCapacity(List<ConsumedCapacity> consumedCapacity);
+    }
+
     /**
      * Default implementation of {@link TableNameResolver} that mimics the
      * behavior of DynamoDBMapper before the addition of
@@ -511,6 +689,11 @@ public class DynamoDBMapperConfig {
     private final PaginationLoadingStrategy paginationLoadingStrategy;
     private final RequestMetricCollector requestMetricCollector;
     private final ConversionSchema conversionSchema;
+    private final ExecutorService executorService;
+    private final Integer parallelScanPrefetchPages;
+    private final Integer parallelScanPageBudget;
+    private final Integer batchParallelism;
+    private final ConsumedCapacityListener consumedCapacityListener;
 
     /**
      * Legacy constructor, using default PaginationLoadingStrategy
@@ -591,6 +774,37 @@ public class DynamoDBMapperConfig {
             RequestMetricCollector requestMetricCollector,
             ConversionSchema conversionSchema) {
 
+        this(saveBehavior, consistentReads, tableNameOverride, tableNameResolver,
+                objectTableNameResolver, paginationLoadingStrategy, requestMetricCollector,
+                conversionSchema, null, null, null, null, null);
+    }
+
+    private DynamoDBMapperConfig(
+            SaveBehavior saveBehavior,
+            ConsistentReads consistentReads,
+            TableNameOverride tableNameOverride,
+            TableNameResolver tableNameResolver,
+            ObjectTableNameResolver objectTableNameResolver,
+            PaginationLoadingStrategy paginationLoadingStrategy,
+            RequestMetricCollector requestMetricCollector,
+            ConversionSchema conversionSchema,
+            ExecutorService executorService,
+            Integer parallelScanPrefetchPages,
+            Integer parallelScanPageBudget,
+            Integer batchParallelism,
+            ConsumedCapacityListener consumedCapacityListener) {
+
+        if (parallelScanPrefetchPages != null && parallelScanPrefetchPages < 1) {
+            throw new IllegalArgumentException(
+                    "The number of pages fetched ahead must be at least 1");
+        }
+        if (parallelScanPageBudget != null && parallelScanPageBudget < 1) {
+            throw new IllegalArgumentException("The page budget must be at least 1");
+        }
+        if (batchParallelism != null && batchParallelism < 1) {
+            throw new IllegalArgumentException("The batch parallelism must be at least 1");
+        }
+
         this.saveBehavior = saveBehavior;
         this.consistentReads = consistentReads;
         this.tableNameOverride = tableNameOverride;
@@ -599,6 +813,11 @@ public class DynamoDBMapperConfig {
         this.paginationLoadingStrategy = paginationLoadingStrategy;
         this.requestMetricCollector = requestMetricCollector;
         this.conversionSchema = conversionSchema;
+        this.executorService = executorService;
+        this.parallelScanPrefetchPages = parallelScanPrefetchPages;
+        this.parallelScanPageBudget = parallelScanPageBudget;
+        this.batchParallelism = batchParallelism;
+        this.consumedCapacityListener = consumedCapacityListener;
     }
 
     /**
@@ -699,6 +918,11 @@ public class DynamoDBMapperConfig {
                     defaults.getPaginationLoadingStrategy();
             this.requestMetricCollector = defaults.getRequestMetricCollector();
             this.conversionSchema = defaults.getConversionSchema();
+            this.executorService = defaults.getExecutorService();
+            this.parallelScanPrefetchPages = defaults.getParallelScanPrefetchPages();
+            this.parallelScanPageBudget = defaults.getParallelScanPageBudget();
+            this.batchParallelism = defaults.getBatchParallelism();
+            this.consumedCapacityListener = defaults.getConsumedCapacityListener();
 
         } else {
 
@@ -736,6 +960,26 @@ public class DynamoDBMapperConfig {
                     ? defaults.getConversionSchema()
                     : overrides.getConversionSchema();
 
+            this.executorService = (overrides.getExecutorService() == null)
+                    ? defaults.getExecutorService()
+                    : overrides.getExecutorService();
+
+            this.parallelScanPrefetchPages = (overrides.getParallelScanPrefetchPages() == null)
+                    ? defaults.getParallelScanPrefetchPages()
+                    : overrides.getParallelScanPrefetchPages();
+
+            this.parallelScanPageBudget = (overrides.getParallelScanPageBudget() == null)
+                    ? defaults.getParallelScanPageBudget()
+                    : overrides.getParallelScanPageBudget();
+
+            this.batchParallelism = (overrides.getBatchParallelism() == null)
+                    ? defaults.getBatchParallelism()
+                    : overrides.getBatchParallelism();
+
+            this.consumedCapacityListener = (overrides.getConsumedCapacityListener() == null)
+                    ? defaults.getConsumedCapacityListener()
+                    : overrides.getConsumedCapacityListener();
+
         }
     }
 
@@ -812,6 +1056,53 @@ public class DynamoDBMapperConfig {
         return conversionSchema;
     }
 
+    /**
+     * Returns the executor service running the requests the mapper sends in
+     * the background, such as the scans of the segments of a parallel scan and
+     * the pages fetched ahead in ITERATION_ONLY_PREFETCH mode, or
+     * null if the operations of the mapper share an executor service of their
+     * own. The mapper doesn't shut down an executor service given here.
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Returns the number of pages each segment of a parallel scan fetches ahead
+     * of the pages the list of results has consumed, or null for the default
+     * of one page.
+     */
+    public Integer getParallelScanPrefetchPages() {
+        return parallelScanPrefetchPages;
+    }
+
+    /**
+     * Returns the maximum number of pages a parallel scan fetches ahead across
+     * all of its segments, which caps the memory it uses, or null for the
+     * default of the prefetched pages of all segments. Segments wait for pages
+     * to be consumed when the budget is used up.
+     */
+    public Integer getParallelScanPageBudget() {
+        return parallelScanPageBudget;
+    }
+
+    /**
+     * Returns the maximum number of batch requests a batch operation sends at
+     * the same time, or null for the default of one request at a time. The
+     * requests beyond the first one are sent from the executor service.
+     */
+    public Integer getBatchParallelism() {
+        return batchParallelism;
+    }
+
+    /**
+     * Returns the listener receiving the capacity consumed by each batch
+     * request, or null if no listener is set.
+     */
+    public ConsumedCapacityListener getConsumedCapacityListener() {
+        return consumedCapacityListener;
+    }
+
     /**
      * Default configuration uses UPDATE behavior for saves and EVENTUALly
      * consistent reads, with no table name override and lazy-loading strategy.
@@ -17,13 +17,11 @@ package com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper;
 
 import java.lang.reflect.Method;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Reflection assistant for {@link DynamoDBMapper}
@@ -32,39 +30,86 @@ class DynamoDBReflector {
 
     /*
      * Several caches for performance. Collectively, they can make this class
-     * over twice as fast.
+     * over twice as fast. They're read without locking; a missing entry is
+     * computed once while holding the lock of its cache, and the lookup is
+     * repeated under the lock in case another thread computed it first.
      */
-    private final Map<Class<?>, Collection<Method>> getterCache = new HashMap<Class<?>, Collection<Method>>();
-    private final Map<Class<?>, Method> primaryHashKeyGetterCache = new HashMap<Class<?>, Method>();
-    private final Map<Class<?>, Method> primaryRangeKeyGetterCache = new HashMap<Class<?>, Method>();
+    private final ConcurrentMap<Class<?>, ClassGetters> classGettersCache =
+            new ConcurrentHashMap<Class<?>, ClassGetters>();
 
     /*
      * All caches keyed by a Method use the getter for a particular mapped
      * property
      */
-    private final Map<Method, Method> setterCache = new HashMap<Method, Method>();
+    private final ConcurrentMap<Method, Method> setterCache =
+            new ConcurrentHashMap<Method, Method>();
 
-    private final Map<Method, String> attributeNameCache = new HashMap<Method, String>();
+    private final ConcurrentMap<Method, String> attributeNameCache =
+            new ConcurrentHashMap<Method, String>();
 
-    private final Map<Method, Boolean> versionAttributeGetterCache = new HashMap<Method, Boolean>();
-    private final Map<Method, Boolean> autoGeneratedKeyGetterCache = new HashMap<Method, Boolean>();
+    private final ConcurrentMap<Method, Boolean> versionAttributeGetterCache =
+            new ConcurrentHashMap<Method, Boolean>();
+    private final ConcurrentMap<Method, Boolean> autoGeneratedKeyGetterCache =
+            new ConcurrentHashMap<Method, Boolean>();
 
-    private final ReentrantReadWriteLock readWriteLockAttrName = new ReentrantReadWriteLock();
-    private final ReadLock readLockAttrName = readWriteLockAttrName.readLock();
-    private final WriteLock writeLockAttrName = readWriteLockAttrName.writeLock();
+    /**
+     * The relevant getters of a class, with its key getters among them.
+     */
+    private static final class ClassGetters {
+        final Collection<Method> relevantGetters;
+        final Collection<Method> primaryKeyGetters;
+        /** Null if the class doesn't have a hash key. */
+        final Method primaryHashKeyGetter;
+        /** Null if the class doesn't have a range key. */
+        final Method primaryRangeKeyGetter;
+
+        ClassGetters(Class<?> clazz) {
+            relevantGetters = Collections.unmodifiableList(findRelevantGetters(clazz));
+
+            List<Method> keyGetters = new LinkedList<Method>();
+            Method hashKeyGetter = null;
+            Method rangeKeyGetter = null;
+            for (Method getter : relevantGetters) {
+                boolean hashKey = ReflectionUtils.getterOrFieldHasAnnotation(getter,
+                        DynamoDBHashKey.class);
+                boolean rangeKey = ReflectionUtils.getterOrFieldHasAnnotation(getter,
+                        DynamoDBRangeKey.class);
+                if (hashKey || rangeKey) {
+                    keyGetters.add(getter);
+                }
+                if (hashKey && hashKeyGetter == null) {
+                    hashKeyGetter = getter;
+                }
+                if (rangeKey && rangeKeyGetter == null) {
+                    rangeKeyGetter = getter;
+                }
+            }
+            primaryKeyGetters = Collections.unmodifiableList(keyGetters);
+            primaryHashKeyGetter = hashKeyGetter;
+            primaryRangeKeyGetter = rangeKeyGetter;
+        }
+    }
+
+    private ClassGetters getClassGetters(Class<?> clazz) {
+        ClassGetters classGetters = classGettersCache.get(clazz);
+        if (classGetters == null) {
+            synchronized (classGettersCache) {
+                classGetters = classGettersCache.get(clazz);
+                if (classGetters == null) {
+                    classGetters = new ClassGetters(clazz);
+                    classGettersCache.put(clazz, classGetters);
+                }
+            }
+        }
+        return classGetters;
+    }
 
     /**
      * Returns the set of getter methods which are relevant when marshalling or
      * unmarshalling an object.
      */
     Collection<Method> getRelevantGetters(Class<?> clazz) {
-        synchronized (getterCache) {
-            if (!getterCache.containsKey(clazz)) {
-                List<Method> relevantGetters = findRelevantGetters(clazz);
-                getterCache.put(clazz, relevantGetters);
-            }
-            return getterCache.get(clazz);
-        }
+        return getClassGetters(clazz).relevantGetters;
     }
 
     static List<Method> findRelevantGetters(Class<?> clazz) {
@@ -100,38 +145,15 @@ class DynamoDBReflector {
      * given, or null if the class doesn't have one.
      */
     <T> Method getPrimaryRangeKeyGetter(Class<T> clazz) {
-        synchronized (primaryRangeKeyGetterCache) {
-            if (!primaryRangeKeyGetterCache.containsKey(clazz)) {
-                Method rangeKeyMethod = null;
-                for (Method method : getRelevantGetters(clazz)) {
-                    if (method.getParameterTypes().length == 0
-                            && ReflectionUtils.getterOrFieldHasAnnotation(method,
-                                    DynamoDBRangeKey.class)) {
-                        rangeKeyMethod = method;
-                        break;
-                    }
-                }
-                primaryRangeKeyGetterCache.put(clazz, rangeKeyMethod);
-            }
-            return primaryRangeKeyGetterCache.get(clazz);
-        }
+        return getClassGetters(clazz).primaryRangeKeyGetter;
     }
 
     /**
      * Returns all annotated {@link DynamoDBHashKey} and
-     * {@link DynamoDBRangeKey} getters for the class given, throwing an
-     * exception if there isn't one. TODO: caching
+     * {@link DynamoDBRangeKey} getters for the class given.
      */
     <T> Collection<Method> getPrimaryKeyGetters(Class<T> clazz) {
-        List<Method> keyGetters = new LinkedList<Method>();
-        for (Method getter : getRelevantGetters(clazz)) {
-            if (ReflectionUtils.getterOrFieldHasAnnotation(getter, DynamoDBHashKey.class)
-                    || ReflectionUtils.getterOrFieldHasAnnotation(getter, DynamoDBRangeKey.class)) {
-                keyGetters.add(getter);
-            }
-        }
-
-        return keyGetters;
+        return getClassGetters(clazz).primaryKeyGetters;
     }
 
     /**
@@ -139,21 +161,7 @@ class DynamoDBReflector {
      * throwing an exception if there isn't one.
      */
     <T> Method getPrimaryHashKeyGetter(Class<T> clazz) {
-        Method hashKeyMethod;
-        synchronized (primaryHashKeyGetterCache) {
-            if (!primaryHashKeyGetterCache.containsKey(clazz)) {
-                for (Method method : getRelevantGetters(clazz)) {
-                    if (method.getParameterTypes().length == 0
-                            && ReflectionUtils.getterOrFieldHasAnnotation(method,
-                                    DynamoDBHashKey.class)) {
-                        primaryHashKeyGetterCache.put(clazz, method);
-                        break;
-                    }
-                }
-            }
-            hashKeyMethod = primaryHashKeyGetterCache.get(clazz);
-        }
-
+        Method hashKeyMethod = getClassGetters(clazz).primaryHashKeyGetter;
         if (hashKeyMethod == null) {
             throw new DynamoDBMappingException(
                     "Public, zero-parameter hash key property must be annotated with "
@@ -178,70 +186,69 @@ class DynamoDBReflector {
      * Returns the attribute name corresponding to the given getter method.
      */
     String getAttributeName(Method getter) {
-        String attributeName;
-        readLockAttrName.lock();
-        try {
-            attributeName = attributeNameCache.get(getter);
-        } finally {
-            readLockAttrName.unlock();
+        String attributeName = attributeNameCache.get(getter);
+        if (attributeName == null) {
+            synchronized (attributeNameCache) {
+                attributeName = attributeNameCache.get(getter);
+                if (attributeName == null) {
+                    attributeName = findAttributeName(getter);
+                    attributeNameCache.put(getter, attributeName);
+                }
+            }
         }
-        if (attributeName != null)
-            return attributeName;
+        return attributeName;
+    }
+
+    /**
+     * Resolves the attribute name of the getter given from its annotations.
+     */
+    private static String findAttributeName(Method getter) {
+        String attributeName;
         DynamoDBHashKey hashKeyAnnotation = ReflectionUtils.getAnnotationFromGetterOrField(getter,
                 DynamoDBHashKey.class);
         if (hashKeyAnnotation != null) {
             attributeName = hashKeyAnnotation.attributeName();
             if (attributeName != null && attributeName.length() > 0)
-                return cacheAttributeName(getter, attributeName);
+                return attributeName;
         }
         DynamoDBIndexHashKey indexHashKey = ReflectionUtils.getAnnotationFromGetterOrField(getter,
                 DynamoDBIndexHashKey.class);
         if (indexHashKey != null) {
             attributeName = indexHashKey.attributeName();
             if (attributeName != null && attributeName.length() > 0)
-                return cacheAttributeName(getter, attributeName);
+                return attributeName;
         }
         DynamoDBRangeKey rangeKey = ReflectionUtils.getAnnotationFromGetterOrField(getter,
                 DynamoDBRangeKey.class);
         if (rangeKey != null) {
             attributeName = rangeKey.attributeName();
             if (attributeName != null && attributeName.length() > 0)
-                return cacheAttributeName(getter, attributeName);
+                return attributeName;
         }
         DynamoDBIndexRangeKey indexRangeKey = ReflectionUtils.getAnnotationFromGetterOrField(
                 getter, DynamoDBIndexRangeKey.class);
         if (indexRangeKey != null) {
             attributeName = indexRangeKey.attributeName();
             if (attributeName != null && attributeName.length() > 0)
-                return cacheAttributeName(getter, attributeName);
+                return attributeName;
         }
         DynamoDBAttribute attribute = ReflectionUtils.getAnnotationFromGetterOrField(getter,
                 DynamoDBAttribute.class);
         if (attribute != null) {
             attributeName = attribute.attributeName();
             if (attributeName != null && attributeName.length() > 0)
-                return cacheAttributeName(getter, attributeName);
+                return attributeName;
         }
         DynamoDBVersionAttribute version = ReflectionUtils.getAnnotationFromGetterOrField(getter,
                 DynamoDBVersionAttribute.class);
         if (version != null) {
             attributeName = version.attributeName();
             if (attributeName != null && attributeName.length() > 0)
-                return cacheAttributeName(getter, attributeName);
+                return attributeName;
         }
         // Default to the camel-cased field name of the getter method, inferred
         // according to the Java naming convention.
         attributeName = ReflectionUtils.getFieldNameByGetter(getter, true);
-        return cacheAttributeName(getter, attributeName);
-    }
-
-    private String cacheAttributeName(Method getter, String attributeName) {
-        writeLockAttrName.lock();
-        try {
-            attributeNameCache.put(getter, attributeName);
-        } finally {
-            writeLockAttrName.unlock();
-        }
         return attributeName;
     }
 
@@ -250,6 +257,10 @@ class DynamoDBReflector {
      * setter exists.
      */
     Method getSetter(Method getter) {
+        Method cachedSetter = setterCache.get(getter);
+        if (cachedSetter != null) {
+            return cachedSetter;
+        }
         synchronized (setterCache) {
             if (!setterCache.containsKey(getter)) {
                 String fieldName = ReflectionUtils.getFieldNameByGetter(getter, false);
@@ -278,6 +289,10 @@ class DynamoDBReflector {
      * version attribute.
      */
     boolean isVersionAttributeGetter(Method getter) {
+        Boolean cached = versionAttributeGetterCache.get(getter);
+        if (cached != null) {
+            return cached;
+        }
         synchronized (versionAttributeGetterCache) {
             if (!versionAttributeGetterCache.containsKey(getter)) {
                 versionAttributeGetterCache.put(
@@ -295,6 +310,10 @@ class DynamoDBReflector {
      * Returns whether the method given is an assignable key getter.
      */
     boolean isAssignableKey(Method getter) {
+        Boolean cached = autoGeneratedKeyGetterCache.get(getter);
+        if (cached != null) {
+            return cached;
+        }
         synchronized (autoGeneratedKeyGetterCache) {
             if (!autoGeneratedKeyGetterCache.containsKey(getter)) {
                 autoGeneratedKeyGetterCache.put(
@@ -33,6 +33,8 @@ import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A class responsible for parsing the primary key and index schema of a table
@@ -40,8 +42,12 @@ import java.util.Set;
  */
 class DynamoDBTableSchemaParser {
 
-    private final Map<Class<?>, TableIndexesInfo> tableIndexesInfoCache =
-            new HashMap<Class<?>, TableIndexesInfo>();
+    /**
+     * Read without locking, a missing entry is parsed once while holding the
+     * lock of the cache.
+     */
+    private final ConcurrentMap<Class<?>, TableIndexesInfo> tableIndexesInfoCache =
+            new ConcurrentHashMap<Class<?>, TableIndexesInfo>();
 
     /**
      * Parse the given POJO class and return the CreateTableRequest for the
@@ -108,6 +114,10 @@ class DynamoDBTableSchemaParser {
     }
 
     TableIndexesInfo parseTableIndexes(final Class<?> clazz, final DynamoDBReflector reflector) {
+        TableIndexesInfo cached = tableIndexesInfoCache.get(clazz);
+        if (cached != null) {
+            return cached;
+        }
         synchronized (tableIndexesInfoCache) {
             if (!tableIndexesInfoCache.containsKey(clazz)) {
                 TableIndexesInfo tableIndexInfo = new TableIndexesInfo();
@@ -15,6 +15,7 @@
 
 package com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapperConfig.PaginationLoadingStrategy;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
 
@@ -26,6 +27,11 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Unmodifiable list supporting paginated result sets from Amazon DynamoDB.
@@ -80,6 +86,12 @@ public abstract class PaginatedList<T> implements List<T> {
      */
     private boolean iterationStarted = false;
 
+    /**
+     * The next page of results being fetched in the background. Only used
+     * when the list is in ITERATION_ONLY_PREFETCH mode.
+     */
+    private Future<List<T>> prefetchedPage;
+
     /**
      * Constructs a PaginatedList instance using the default
      * PaginationLoadingStrategy
@@ -154,15 +166,94 @@ public abstract class PaginatedList<T> implements List<T> {
      * nextResults buffer. Returns whether there were any results to load. A
      * return value of true guarantees that nextResults had items added to it.
      */
-    private synchronized boolean loadNextResults() {
-        if (atEndOfResults())
-            return false;
+    private boolean loadNextResults() {
+        // Wait for a page fetched in the background without holding the lock
+        // of the list, which fetchNextPage may need.
+        List<T> prefetchedResults = takePrefetchedPage();
+
+        synchronized (this) {
+            if (prefetchedResults != null) {
+                nextResults.addAll(prefetchedResults);
+            } else if (atEndOfResults()) {
+                return false;
+            } else {
+                nextResults.addAll(fetchNextPage());
+            }
 
-        do {
-            nextResults.addAll(fetchNextPage());
-        } while (!atEndOfResults() && nextResults.isEmpty());
+            while (!atEndOfResults() && nextResults.isEmpty()) {
+                nextResults.addAll(fetchNextPage());
+            }
+
+            prefetchNextPage();
+            return !nextResults.isEmpty();
+        }
+    }
 
-        return !nextResults.isEmpty();
+    /**
+     * Starts fetching the next page of results in the background, if the list
+     * is in ITERATION_ONLY_PREFETCH mode and that page isn't already being
+     * fetched. At most one page is fetched ahead.
+     */
+    private synchronized void prefetchNextPage() {
+        if (paginationLoadingStrategy != PaginationLoadingStrategy.ITERATION_ONLY_PREFETCH
+                || prefetchedPage != null || atEndOfResults()) {
+            return;
+        }
+        ExecutorService executorService = getPrefetchExecutorService();
+        if (executorService == null) {
+            return;
+        }
+        try {
+            prefetchedPage = executorService.submit(new Callable<List<T>>() {
+                @Override
+                public List<T> call() {
+                    return fetchNextPage();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // the page is fetched when needed instead
+        }
+    }
+
+    /**
+     * Waits for the page fetched in the background, if any, and returns its
+     * results, or null if no page is being fetched.
+     */
+    private List<T> takePrefetchedPage() {
+        Future<List<T>> page;
+        synchronized (this) {
+            page = prefetchedPage;
+            prefetchedPage = null;
+        }
+        if (page == null) {
+            return null;
+        }
+        try {
+            return page.get();
+        } catch (InterruptedException ie) {
+            page.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException("Interrupted while fetching the next page of results",
+                    ie);
+        } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new AmazonClientException("Unable to fetch the next page of results", cause);
+        }
+    }
+
+    /**
+     * Returns the executor service fetching the next page of results in the
+     * background in ITERATION_ONLY_PREFETCH mode, or null if the list doesn't
+     * support fetching pages ahead, in which case pages are fetched when
+     * needed as in ITERATION_ONLY mode.
+     */
+    ExecutorService getPrefetchExecutorService() {
+        return null;
     }
 
     /**
@@ -202,8 +293,12 @@ public abstract class PaginatedList<T> implements List<T> {
      */
     @Override
     public Iterator<T> iterator() {
-        return new PaginatedListIterator(
-                paginationLoadingStrategy == PaginationLoadingStrategy.ITERATION_ONLY);
+        return new PaginatedListIterator(isIterationOnly());
+    }
+
+    private boolean isIterationOnly() {
+        return paginationLoadingStrategy == PaginationLoadingStrategy.ITERATION_ONLY
+                || paginationLoadingStrategy == PaginationLoadingStrategy.ITERATION_ONLY_PREFETCH;
     }
 
     private class PaginatedListIterator implements Iterator<T> {
@@ -238,6 +333,9 @@ public abstract class PaginatedList<T> implements List<T> {
 
                 allResultsCopy = null; // not needed for ITERATION_ONLY mode
                 innerIterator = allResults.iterator();
+
+                // fetch the next page while the first one is iterated
+                prefetchNextPage();
             }
             else {
                 /*
@@ -505,7 +603,7 @@ public abstract class PaginatedList<T> implements List<T> {
     }
 
     void checkUnsupportedOperationForIterationOnlyMode(String methodSignature) {
-        if (this.paginationLoadingStrategy == PaginationLoadingStrategy.ITERATION_ONLY) {
+        if (isIterationOnly()) {
             throw new UnsupportedOperationException(methodSignature
                     + ITERATION_ONLY_UNSUPPORTED_OPERATION_MESSAGE);
         }
@@ -19,6 +19,7 @@ import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapperCo
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
 import com.amazonaws.services.dynamodbv2.model.ScanResult;
 
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -40,10 +41,17 @@ public class PaginatedParallelScanList<T> extends PaginatedList<T> {
 
     /**
      * The current parallel scan task which contains all the information about
-     * the scan request
+     * the scan request, null when the segments are scanned by a pipelined
+     * scan.
      */
     private final ParallelScanTask parallelScanTask;
 
+    /**
+     * The scan handing out the pages of the segments as they arrive, null
+     * when the segments are scanned in lockstep by a parallel scan task.
+     */
+    private final PipelinedParallelScan pipelinedScan;
+
     private final DynamoDBMapperConfig config;
 
     public PaginatedParallelScanList(
@@ -56,6 +64,7 @@ public class PaginatedParallelScanList<T> extends PaginatedList<T> {
         super(mapper, clazz, dynamo, paginationLoadingStrategy);
 
         this.parallelScanTask = parallelScanTask;
+        this.pipelinedScan = null;
         this.config = config;
 
         // Marshal the first batch of results in allResults
@@ -68,13 +77,42 @@ public class PaginatedParallelScanList<T> extends PaginatedList<T> {
         }
     }
 
+    PaginatedParallelScanList(
+            DynamoDBMapper mapper,
+            Class<T> clazz,
+            AmazonDynamoDB dynamo,
+            PipelinedParallelScan pipelinedScan,
+            PaginationLoadingStrategy paginationLoadingStrategy,
+            DynamoDBMapperConfig config) {
+        super(mapper, clazz, dynamo, paginationLoadingStrategy);
+
+        this.parallelScanTask = null;
+        this.pipelinedScan = pipelinedScan;
+        this.config = config;
+
+        // Marshal the first page of results in allResults
+        allResults.addAll(fetchNextPage());
+
+        // If the results should be eagerly loaded at once
+        if (paginationLoadingStrategy == PaginationLoadingStrategy.EAGER_LOADING) {
+            loadAllResults();
+        }
+    }
+
     @Override
     protected boolean atEndOfResults() {
+        if (pipelinedScan != null) {
+            return pipelinedScan.isFinished();
+        }
         return parallelScanTask.isAllSegmentScanFinished();
     }
 
     @Override
     protected List<T> fetchNextPage() {
+        if (pipelinedScan != null) {
+            return marshalParallelScanResultsIntoObjects(
+                    Collections.singletonList(pipelinedScan.nextPage()));
+        }
         return marshalParallelScanResultsIntoObjects(parallelScanTask.getNextBatchOfScanResults());
     }
 
@@ -86,10 +124,17 @@ public class PaginatedParallelScanList<T> extends PaginatedList<T> {
                         mapper.toParameters(
                                 scanResult.getItems(),
                                 clazz,
-                                parallelScanTask.getTableName(),
+                                getTableName(),
                                 config)));
             }
         }
         return allItems;
     }
+
+    private String getTableName() {
+        if (pipelinedScan != null) {
+            return pipelinedScan.getTableName();
+        }
+        return parallelScanTask.getTableName();
+    }
 }
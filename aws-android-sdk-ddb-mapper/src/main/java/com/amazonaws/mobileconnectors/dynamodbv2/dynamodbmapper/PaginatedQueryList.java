@@ -21,6 +21,7 @@ import com.amazonaws.services.dynamodbv2.model.QueryRequest;
 import com.amazonaws.services.dynamodbv2.model.QueryResult;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Implementation of the List interface that represents the results from a query
@@ -78,6 +79,11 @@ public class PaginatedQueryList<T> extends PaginatedList<T> {
         return queryResult.getLastEvaluatedKey() == null;
     }
 
+    @Override
+    ExecutorService getPrefetchExecutorService() {
+        return mapper.getExecutorService(config);
+    }
+
     @Override
     protected synchronized List<T> fetchNextPage() {
         queryRequest.setExclusiveStartKey(queryResult.getLastEvaluatedKey());
@@ -21,6 +21,7 @@ import com.amazonaws.services.dynamodbv2.model.ScanRequest;
 import com.amazonaws.services.dynamodbv2.model.ScanResult;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Implementation of the List interface that represents the results from a scan
@@ -78,6 +79,11 @@ public class PaginatedScanList<T> extends PaginatedList<T> {
         return scanResult.getLastEvaluatedKey() == null;
     }
 
+    @Override
+    ExecutorService getPrefetchExecutorService() {
+        return mapper.getExecutorService(config);
+    }
+
     @Override
     protected synchronized List<T> fetchNextPage() {
         scanRequest.setExclusiveStartKey(scanResult.getLastEvaluatedKey());
@@ -0,0 +1,274 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Scans the segments of a parallel scan independently of each other. Each
+ * segment fetches its next pages in the background while the pages it already
+ * fetched wait to be consumed, and the pages are handed out in the order they
+ * arrive, so a slow segment doesn't hold back the others.
+ * <p>
+ * A segment fetches at most a given number of pages ahead, and all segments
+ * together hold at most a given page budget, counting both the pages waiting
+ * to be consumed and the ones being fetched. A segment that reached either
+ * limit resumes once a page is consumed. No task ever waits for room, so the
+ * executor service can be shared with other work.
+ * </p>
+ */
+final class PipelinedParallelScan {
+
+    /** A page of results and the segment it comes from. */
+    private static final class SegmentPage {
+        private final int segment;
+        private final ScanResult scanResult;
+
+        private SegmentPage(int segment, ScanResult scanResult) {
+            this.segment = segment;
+            this.scanResult = scanResult;
+        }
+    }
+
+    private final AmazonDynamoDB dynamo;
+    private final List<ScanRequest> parallelScanRequests;
+    private final ExecutorService executorService;
+    private final int totalSegments;
+    private final int prefetchPages;
+    private final int pageBudget;
+
+    /** Guards all the state below. */
+    private final Object lock = new Object();
+
+    /** The pages fetched and not consumed yet, in the order they arrived. */
+    private final LinkedList<SegmentPage> pages = new LinkedList<SegmentPage>();
+
+    /** Number of pages of each segment waiting to be consumed. */
+    private final int[] bufferedPages;
+
+    /** The key each segment resumes from, null for the first page. */
+    private final List<Map<String, AttributeValue>> startKeys;
+
+    private final boolean[] scanning;
+    private final boolean[] finished;
+
+    /** Number of pages waiting to be consumed or being fetched. */
+    private int reservedPages;
+
+    private int unfinishedSegments;
+
+    /** The segment the next round of scheduling starts from. */
+    private int nextSegment;
+
+    private boolean started;
+    private AmazonClientException error;
+
+    /**
+     * @param dynamo the client to scan with
+     * @param parallelScanRequests the scan request of each segment
+     * @param executorService the executor service to fetch the pages in
+     * @param prefetchPages the maximum number of pages each segment holds
+     * @param pageBudget the maximum number of pages all segments hold
+     */
+    PipelinedParallelScan(AmazonDynamoDB dynamo, List<ScanRequest> parallelScanRequests,
+            ExecutorService executorService, int prefetchPages, int pageBudget) {
+        if (prefetchPages < 1 || pageBudget < 1) {
+            throw new IllegalArgumentException("A parallel scan must be able to hold a page");
+        }
+        this.dynamo = dynamo;
+        this.parallelScanRequests = parallelScanRequests;
+        this.executorService = executorService;
+        this.totalSegments = parallelScanRequests.size();
+        this.prefetchPages = prefetchPages;
+        this.pageBudget = pageBudget;
+        this.bufferedPages = new int[totalSegments];
+        this.startKeys = new ArrayList<Map<String, AttributeValue>>(totalSegments);
+        for (int segment = 0; segment < totalSegments; segment++) {
+            startKeys.add(null);
+        }
+        this.scanning = new boolean[totalSegments];
+        this.finished = new boolean[totalSegments];
+        this.unfinishedSegments = totalSegments;
+    }
+
+    String getTableName() {
+        return parallelScanRequests.get(0).getTableName();
+    }
+
+    /**
+     * Returns whether all the segments are scanned and all their pages were
+     * consumed.
+     */
+    boolean isFinished() {
+        synchronized (lock) {
+            return unfinishedSegments == 0 && pages.isEmpty() && error == null;
+        }
+    }
+
+    /**
+     * Starts fetching the first pages of the segments, unless already started.
+     */
+    void start() {
+        List<Integer> segmentsToScan;
+        synchronized (lock) {
+            if (started) {
+                return;
+            }
+            started = true;
+            segmentsToScan = scheduleLocked();
+        }
+        scan(segmentsToScan);
+    }
+
+    /**
+     * Returns the next page fetched by any segment, waiting for one if none
+     * has arrived yet, or null once all the segments are scanned. Starts the
+     * scan if not started yet.
+     *
+     * @throws AmazonClientException if the scan of a segment failed
+     */
+    ScanResult nextPage() {
+        start();
+
+        List<Integer> segmentsToScan;
+        SegmentPage page;
+        synchronized (lock) {
+            while (pages.isEmpty() && error == null && unfinishedSegments > 0) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new AmazonClientException("Parallel scan interrupted by other thread.",
+                            ie);
+                }
+            }
+            if (error != null) {
+                throw error;
+            }
+            if (pages.isEmpty()) {
+                return null;
+            }
+            page = pages.removeFirst();
+            bufferedPages[page.segment]--;
+            reservedPages--;
+            segmentsToScan = scheduleLocked();
+        }
+        scan(segmentsToScan);
+        return page.scanResult;
+    }
+
+    /**
+     * Picks the segments that can fetch their next page, starting from a
+     * different segment each time so that all segments get their turn when
+     * the page budget is tight, and reserves a page for each of them.
+     */
+    private List<Integer> scheduleLocked() {
+        List<Integer> segmentsToScan = new ArrayList<Integer>();
+        if (error != null) {
+            return segmentsToScan;
+        }
+        for (int i = 0; i < totalSegments && reservedPages < pageBudget; i++) {
+            int segment = (nextSegment + i) % totalSegments;
+            if (!scanning[segment] && !finished[segment]
+                    && bufferedPages[segment] < prefetchPages) {
+                scanning[segment] = true;
+                reservedPages++;
+                segmentsToScan.add(segment);
+            }
+        }
+        nextSegment = (nextSegment + 1) % totalSegments;
+        return segmentsToScan;
+    }
+
+    /**
+     * Submits the scans of the given segments. Called without holding the
+     * lock, so that the scans run concurrently even with an executor service
+     * running tasks in the calling thread.
+     */
+    private void scan(List<Integer> segmentsToScan) {
+        for (final Integer segment : segmentsToScan) {
+            try {
+                executorService.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        scanNextPageOfSegment(segment);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                fail(new AmazonClientException("Unable to scan segment #" + segment + ".", e));
+                return;
+            }
+        }
+    }
+
+    void scanNextPageOfSegment(int segment) {
+        ScanRequest segmentScanRequest = parallelScanRequests.get(segment);
+        ScanResult scanResult;
+        try {
+            synchronized (lock) {
+                if (error != null) {
+                    // the scan failed while this task was waiting to run
+                    return;
+                }
+                segmentScanRequest.setExclusiveStartKey(startKeys.get(segment));
+            }
+            scanResult = dynamo.scan(DynamoDBMapper.applyUserAgent(segmentScanRequest));
+        } catch (AmazonClientException ace) {
+            fail(ace);
+            return;
+        } catch (RuntimeException e) {
+            fail(new AmazonClientException("Internal error during the scan on segment #"
+                    + segment + ".", e));
+            return;
+        }
+
+        List<Integer> segmentsToScan;
+        synchronized (lock) {
+            scanning[segment] = false;
+            Map<String, AttributeValue> lastEvaluatedKey = scanResult.getLastEvaluatedKey();
+            startKeys.set(segment, lastEvaluatedKey);
+            if (lastEvaluatedKey == null) {
+                finished[segment] = true;
+                unfinishedSegments--;
+            }
+            pages.addLast(new SegmentPage(segment, scanResult));
+            bufferedPages[segment]++;
+            lock.notifyAll();
+            segmentsToScan = scheduleLocked();
+        }
+        scan(segmentsToScan);
+    }
+
+    private void fail(AmazonClientException ace) {
+        synchronized (lock) {
+            if (error == null) {
+                error = ace;
+            }
+            lock.notifyAll();
+        }
+    }
+}
@@ -19,14 +19,18 @@ import static org.easymock.EasyMock.anyObject;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.HashKeyAutoGenerated;
 import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapper.FailedBatch;
 import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapper.SaveObjectHandler;
+import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapperConfig.ConsumedCapacityListener;
 import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapperConfig.PaginationLoadingStrategy;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDBClient;
@@ -37,9 +41,12 @@ import com.amazonaws.services.dynamodbv2.model.BatchGetItemResult;
 import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
 import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
 import com.amazonaws.services.dynamodbv2.model.Condition;
+import com.amazonaws.services.dynamodbv2.model.ConsumedCapacity;
 import com.amazonaws.services.dynamodbv2.model.ExpectedAttributeValue;
 import com.amazonaws.services.dynamodbv2.model.KeysAndAttributes;
+import com.amazonaws.services.dynamodbv2.model.ReturnConsumedCapacity;
 import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
 import com.amazonaws.services.dynamodbv2.model.WriteRequest;
 import com.amazonaws.util.StringUtils;
 
@@ -50,9 +57,19 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class DynamoDBMapperTest {
 
@@ -640,6 +657,231 @@ public class DynamoDBMapperTest {
         }
     }
 
+    @Test
+    public void testConverterCacheIsBounded() {
+        DynamoDBMapperConfig first = new DynamoDBMapperConfig(newConversionSchema());
+        ItemConverter converter = mapper.getConverter(first);
+        for (int i = 1; i < DynamoDBMapper.MAX_CACHED_CONVERTERS; i++) {
+            mapper.getConverter(new DynamoDBMapperConfig(newConversionSchema()));
+        }
+        assertSame("kept among the last schemas used", converter, mapper.getConverter(first));
+
+        for (int i = 0; i < DynamoDBMapper.MAX_CACHED_CONVERTERS; i++) {
+            mapper.getConverter(new DynamoDBMapperConfig(newConversionSchema()));
+        }
+        assertNotSame("evicted by newer schemas", converter, mapper.getConverter(first));
+    }
+
+    private static ConversionSchema newConversionSchema() {
+        return new ConversionSchemas.StandardConversionSchema("TestConversionSchema",
+                new ConversionSchemas.V2MarshallerSet(),
+                new ConversionSchemas.StandardUnmarshallerSet());
+    }
+
+    @Test
+    public void testConverterReusedAcrossOperations() {
+        ItemConverter converter = mapper.getConverter(config);
+        assertSame(converter, mapper.getConverter(config));
+        assertNotSame(converter, mapper.getConverter(new DynamoDBMapperConfig(
+                ConversionSchemas.V2)));
+
+        RangeKeyClass item = new RangeKeyClass();
+        item.setKey(1L);
+        item.setRangeKey(2.5);
+        item.setIntegerAttribute(new HashSet<Integer>(Arrays.asList(3, 4)));
+        item.setStringAttribute("value");
+        item.setVersion(5L);
+
+        Map<String, AttributeValue> values = converter.convert(item);
+        assertEquals("1", values.get("key").getN());
+        assertEquals(2, values.get("integerSetAttribute").getNS().size());
+        assertFalse(values.containsKey("stringSetAttribute"));
+
+        // a second conversion goes through the properties resolved by the
+        // first one
+        assertEquals(values, mapper.getConverter(config).convert(item));
+        assertEquals(item, converter.unconvert(RangeKeyClass.class, values));
+    }
+
+    @Test
+    public void testIterationOnlyPrefetchFetchesNextPageInBackground() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        DynamoDBMapperConfig prefetchConfig = new DynamoDBMapperConfig.Builder()
+                .withPaginationLoadingStrategy(PaginationLoadingStrategy.ITERATION_ONLY_PREFETCH)
+                .withExecutorService(executor)
+                .build();
+        ItemConverter converter = mapper.getConverter(prefetchConfig);
+
+        RangeKeyClass firstItem = new RangeKeyClass();
+        firstItem.setKey(1L);
+        firstItem.setRangeKey(1.5);
+        RangeKeyClass secondItem = new RangeKeyClass();
+        secondItem.setKey(2L);
+        secondItem.setRangeKey(2.5);
+
+        Map<String, AttributeValue> firstValues = converter.convert(firstItem);
+        ScanResult firstPage = new ScanResult()
+                .withItems(Arrays.asList(firstValues))
+                .withLastEvaluatedKey(firstValues);
+        ScanResult secondPage = new ScanResult()
+                .withItems(Arrays.asList(converter.convert(secondItem)));
+
+        EasyMock.expect(mockClient.scan(anyObject(ScanRequest.class))).andReturn(secondPage);
+        EasyMock.replay(mockClient);
+
+        PaginatedScanList<RangeKeyClass> list = new PaginatedScanList<RangeKeyClass>(mapper,
+                RangeKeyClass.class, mockClient, new ScanRequest("table"), firstPage,
+                PaginationLoadingStrategy.ITERATION_ONLY_PREFETCH, prefetchConfig);
+        Iterator<RangeKeyClass> iterator = list.iterator();
+        assertEquals(firstItem, iterator.next());
+
+        // the second page is fetched without the iterator asking for it
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        EasyMock.verify(mockClient);
+
+        assertTrue(iterator.hasNext());
+        assertEquals(secondItem, iterator.next());
+        assertFalse(iterator.hasNext());
+
+        try {
+            list.size();
+            fail("Expected the list to only support iteration");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testBatchWriteSendsBatchesConcurrently() {
+        final CyclicBarrier allBatchesInFlight = new CyclicBarrier(3);
+        final List<WriteRequest> writtenItems =
+                Collections.synchronizedList(new ArrayList<WriteRequest>());
+        // EasyMock serializes the calls to a mock, so the client is stubbed
+        mapper = new DynamoDBMapper(new AmazonDynamoDBClient(
+                new BasicAWSCredentials("accessKey", "secretKey")) {
+            @Override
+            public BatchWriteItemResult batchWriteItem(BatchWriteItemRequest request) {
+                for (List<WriteRequest> items : request.getRequestItems().values()) {
+                    writtenItems.addAll(items);
+                }
+                assertEquals(ReturnConsumedCapacity.TOTAL.toString(),
+                        request.getReturnConsumedCapacity());
+                // all three batches are sent at the same time
+                awaitQuietly(allBatchesInFlight);
+                return new BatchWriteItemResult()
+                        .withUnprocessedItems(new HashMap<String, List<WriteRequest>>())
+                        .withConsumedCapacity(new ConsumedCapacity()
+                                .withTableName("table").withCapacityUnits(1.0));
+            }
+        });
+
+        final AtomicInteger reports = new AtomicInteger();
+        DynamoDBMapperConfig batchConfig = new DynamoDBMapperConfig.Builder()
+                .withBatchParallelism(3)
+                .withConsumedCapacityListener(new ConsumedCapacityListener() {
+                    @Override
+                    public void onConsumedCapacity(List<ConsumedCapacity> consumedCapacity) {
+                        assertEquals(1.0, consumedCapacity.get(0).getCapacityUnits(), 0);
+                        reports.incrementAndGet();
+                    }
+                })
+                .build();
+
+        List<RangeKeyClass> objectsToWrite = new ArrayList<RangeKeyClass>();
+        for (int i = 0; i < 60; i++) {
+            RangeKeyClass item = new RangeKeyClass();
+            item.setKey(i);
+            item.setRangeKey(i + 0.5);
+            objectsToWrite.add(item);
+        }
+
+        List<FailedBatch> failedBatches = mapper.batchWrite(objectsToWrite,
+                Collections.emptyList(), batchConfig);
+
+        assertTrue(failedBatches.isEmpty());
+        assertEquals(60, writtenItems.size());
+        assertEquals(3, reports.get());
+    }
+
+    @Test
+    public void testBatchWriteFailsWhenHelperThreadThrows() {
+        final Thread callingThread = Thread.currentThread();
+        final CountDownLatch helperFailed = new CountDownLatch(1);
+        mapper = new DynamoDBMapper(new AmazonDynamoDBClient(
+                new BasicAWSCredentials("accessKey", "secretKey")) {
+            @Override
+            public BatchWriteItemResult batchWriteItem(BatchWriteItemRequest request) {
+                if (Thread.currentThread() != callingThread) {
+                    helperFailed.countDown();
+                    throw new AssertionError("Batch failed on a helper thread");
+                }
+                // the calling thread holds its batch until a helper failed
+                try {
+                    assertTrue(helperFailed.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                return new BatchWriteItemResult()
+                        .withUnprocessedItems(new HashMap<String, List<WriteRequest>>());
+            }
+        });
+
+        List<RangeKeyClass> objectsToWrite = new ArrayList<RangeKeyClass>();
+        for (int i = 0; i < 60; i++) {
+            RangeKeyClass item = new RangeKeyClass();
+            item.setKey(i);
+            item.setRangeKey(i + 0.5);
+            objectsToWrite.add(item);
+        }
+
+        try {
+            mapper.batchWrite(objectsToWrite, Collections.emptyList(),
+                    new DynamoDBMapperConfig.Builder().withBatchParallelism(3).build());
+            fail("Expected the batch write to fail");
+        } catch (AssertionError e) {
+            assertEquals("Batch failed on a helper thread", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testBatchLoadSendsBatchesConcurrently() {
+        final CyclicBarrier allBatchesInFlight = new CyclicBarrier(2);
+        final AtomicInteger requests = new AtomicInteger();
+        mapper = new DynamoDBMapper(new AmazonDynamoDBClient(
+                new BasicAWSCredentials("accessKey", "secretKey")) {
+            @Override
+            public BatchGetItemResult batchGetItem(BatchGetItemRequest request) {
+                requests.incrementAndGet();
+                awaitQuietly(allBatchesInFlight);
+                return new BatchGetItemResult().withResponses(
+                        new HashMap<String, List<Map<String, AttributeValue>>>());
+            }
+        });
+
+        List<Object> itemsToGet = new ArrayList<Object>();
+        for (int i = 0; i < 150; i++) {
+            RangeKeyClass key = new RangeKeyClass();
+            key.setKey(i);
+            key.setRangeKey(i + 0.5);
+            itemsToGet.add(key);
+        }
+
+        Map<String, List<Object>> loadResults = mapper.batchLoad(itemsToGet,
+                new DynamoDBMapperConfig.Builder().withBatchParallelism(2).build());
+
+        assertEquals(2, requests.get());
+        assertTrue(loadResults.isEmpty());
+    }
+
+    private static void awaitQuietly(CyclicBarrier barrier) {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new AssertionError("The batches weren't sent at the same time: " + e);
+        }
+    }
+
     private static final class FixedCapture<T> extends Capture<T> {
 
         public static interface CapCallback<T> {
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
+
+import org.easymock.EasyMock;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class PipelinedParallelScanTest {
+
+    private static final String TABLE = "testTable";
+    private static final AmazonDynamoDB mockClient = EasyMock.createMock(AmazonDynamoDB.class);
+
+    /** Holds the submitted tasks until the test runs them. */
+    private static final class QueuingExecutorService extends AbstractExecutorService {
+        private final LinkedList<Runnable> tasks = new LinkedList<Runnable>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        int getQueuedTasks() {
+            return tasks.size();
+        }
+
+        void runNext() {
+            tasks.removeFirst().run();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+
+    private QueuingExecutorService executor;
+    private ScanRequest scan1;
+    private ScanRequest scan2;
+    private List<ScanRequest> list;
+
+    @Before
+    public void setup() {
+        EasyMock.reset(mockClient);
+        executor = new QueuingExecutorService();
+        scan1 = new ScanRequest().withTableName(TABLE).withSegment(0).withTotalSegments(2);
+        scan2 = new ScanRequest().withTableName(TABLE).withSegment(1).withTotalSegments(2);
+        list = new ArrayList<ScanRequest>();
+        list.add(scan1);
+        list.add(scan2);
+    }
+
+    private static Map<String, AttributeValue> key(String value) {
+        Map<String, AttributeValue> key = new HashMap<String, AttributeValue>();
+        key.put("TestPrimaryKey", new AttributeValue().withS(value));
+        return key;
+    }
+
+    @Test
+    public void testPagesHandedOutAsTheyArrive() {
+        ScanResult firstPage = new ScanResult().withLastEvaluatedKey(key("Test1"));
+        ScanResult secondPage = new ScanResult().withLastEvaluatedKey(null);
+        ScanResult otherSegmentPage = new ScanResult().withLastEvaluatedKey(null);
+
+        EasyMock.expect(mockClient.scan(scan1)).andReturn(firstPage);
+        EasyMock.expect(mockClient.scan(scan2)).andReturn(otherSegmentPage);
+        EasyMock.expect(mockClient.scan(scan1)).andReturn(secondPage);
+        EasyMock.replay(mockClient);
+
+        PipelinedParallelScan scan = new PipelinedParallelScan(mockClient, list, executor, 1, 2);
+        assertEquals(TABLE, scan.getTableName());
+        scan.start();
+        assertEquals(2, executor.getQueuedTasks());
+
+        executor.runNext();
+        // the first segment fetches its next page only once its page is
+        // consumed, without waiting for the other segment
+        assertEquals(1, executor.getQueuedTasks());
+        assertSame(firstPage, scan.nextPage());
+        assertEquals(2, executor.getQueuedTasks());
+
+        executor.runNext();
+        assertSame(otherSegmentPage, scan.nextPage());
+
+        executor.runNext();
+        assertEquals(key("Test1"), scan1.getExclusiveStartKey());
+        assertFalse(scan.isFinished());
+        assertSame(secondPage, scan.nextPage());
+        assertTrue(scan.isFinished());
+        assertNull(scan.nextPage());
+        EasyMock.verify(mockClient);
+    }
+
+    @Test
+    public void testPageBudgetLimitsPagesHeld() {
+        ScanResult firstPage = new ScanResult().withLastEvaluatedKey(null);
+        ScanResult otherSegmentPage = new ScanResult().withLastEvaluatedKey(null);
+
+        EasyMock.expect(mockClient.scan(scan1)).andReturn(firstPage);
+        EasyMock.expect(mockClient.scan(scan2)).andReturn(otherSegmentPage);
+        EasyMock.replay(mockClient);
+
+        PipelinedParallelScan scan = new PipelinedParallelScan(mockClient, list, executor, 1, 1);
+        scan.start();
+        assertEquals(1, executor.getQueuedTasks());
+
+        executor.runNext();
+        // the page held uses up the budget
+        assertEquals(0, executor.getQueuedTasks());
+        assertSame(firstPage, scan.nextPage());
+        assertEquals(1, executor.getQueuedTasks());
+
+        executor.runNext();
+        assertSame(otherSegmentPage, scan.nextPage());
+        assertTrue(scan.isFinished());
+        EasyMock.verify(mockClient);
+    }
+
+    @Test
+    public void testFailedSegmentFailsTheScan() {
+        AmazonServiceException exception = new AmazonServiceException("Throttled");
+        EasyMock.expect(mockClient.scan(scan1)).andThrow(exception);
+        EasyMock.replay(mockClient);
+
+        PipelinedParallelScan scan = new PipelinedParallelScan(mockClient, list, executor, 1, 2);
+        scan.start();
+        executor.runNext();
+        try {
+            scan.nextPage();
+            fail("Expected the failure of the segment");
+        } catch (AmazonClientException ace) {
+            assertSame(exception, ace);
+        }
+        assertFalse(scan.isFinished());
+
+        // the other segment doesn't scan once the scan failed
+        executor.runNext();
+        EasyMock.verify(mockClient);
+    }
+}
@@ -16,13 +16,19 @@
 package com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 
 /**
  * Unit test on reflecting domain classes with getter or field annotations. It
@@ -415,6 +421,50 @@ public class PojoReflectionTest {
                 reflector.getPrimaryRangeKeyName(TablePojoSubclass.class));
     }
 
+    /**
+     * Tests that threads reflecting a class at the same time share the
+     * getters reflected once.
+     */
+    @Test
+    public void testConcurrentReflection() throws Exception {
+        final DynamoDBReflector sharedReflector = new DynamoDBReflector();
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Collection<Method>> results =
+                Collections.synchronizedList(new ArrayList<Collection<Method>>());
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    Collection<Method> getters =
+                            sharedReflector.getRelevantGetters(PojoWithGetterAnnotations.class);
+                    for (Method getter : getters) {
+                        sharedReflector.getAttributeName(getter);
+                    }
+                    results.add(getters);
+                }
+            };
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(8, results.size());
+        for (Collection<Method> getters : results) {
+            assertSame(results.get(0), getters);
+        }
+        assertEquals(2, sharedReflector.getPrimaryKeyGetters(
+                PojoWithGetterAnnotations.class).size());
+    }
+
     @DynamoDBTable(tableName = "table")
     private static class BaseTablePojo {
         @DynamoDBHashKey
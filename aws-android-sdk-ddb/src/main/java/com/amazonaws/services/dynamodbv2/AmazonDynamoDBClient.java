@@ -15,6 +15,8 @@
 package com.amazonaws.services.dynamodbv2;
 
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import com.amazonaws.*;
 import com.amazonaws.auth.*;
@@ -3517,5 +3519,19 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
                 errorResponseHandler, executionContext);
         return result;
     }
+
+    /**
+     * Executes the request asynchronously on the given executor service, as
+     * {@link #invoke} does synchronously.
+     */
+    <X, Y extends AmazonWebServiceRequest> Future<X> invokeAsync(Y originalRequest,
+            Marshaller<Request<Y>, Y> marshaller,
+            Unmarshaller<X, JsonUnmarshallerContext> unmarshaller,
+            ExecutorService executorService, AsyncHandler<Y, X> asyncHandler) {
+        JsonResponseHandler<X> responseHandler = new JsonResponseHandler<X>(unmarshaller);
+        JsonErrorResponseHandler errorResponseHandler = new JsonErrorResponseHandler(jsonErrorUnmarshallers);
+        return executeAsync(originalRequest, marshaller, responseHandler, errorResponseHandler,
+                awsCredentialsProvider, executorService, asyncHandler);
+    }
 }
         
\ No newline at end of file
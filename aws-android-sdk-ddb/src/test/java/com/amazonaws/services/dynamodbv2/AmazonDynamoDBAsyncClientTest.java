@@ -0,0 +1,222 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.dynamodbv2;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.AmazonHttpClient;
+import com.amazonaws.http.HttpClient;
+import com.amazonaws.http.HttpRequest;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.retry.PredefinedRetryPolicies;
+import com.amazonaws.retry.RetryPolicy;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import com.amazonaws.util.StringUtils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class AmazonDynamoDBAsyncClientTest {
+
+    /** Replies with the queued responses and records the threads it ran in. */
+    private static final class StubHttpClient implements HttpClient {
+        private final LinkedList<HttpResponse> responses = new LinkedList<HttpResponse>();
+        private final List<Thread> threads = new LinkedList<Thread>();
+
+        synchronized void reply(int statusCode, String json) {
+            responses.add(HttpResponse.builder()
+                    .statusCode(statusCode)
+                    .statusText(statusCode == 200 ? "OK" : "Error")
+                    .content(new ByteArrayInputStream(json.getBytes(StringUtils.UTF8)))
+                    .build());
+        }
+
+        synchronized List<Thread> getThreads() {
+            return new LinkedList<Thread>(threads);
+        }
+
+        @Override
+        public synchronized HttpResponse execute(HttpRequest request) throws IOException {
+            threads.add(Thread.currentThread());
+            if (responses.isEmpty()) {
+                throw new IOException("No more responses");
+            }
+            return responses.removeFirst();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+
+    private ExecutorService executor;
+    private StubHttpClient httpClient;
+    private AmazonDynamoDBAsyncClient asyncClient;
+    private GetItemRequest request;
+
+    @Before
+    public void setup() {
+        executor = Executors.newSingleThreadExecutor();
+        httpClient = new StubHttpClient();
+        asyncClient = createClient(new ClientConfiguration());
+        request = new GetItemRequest().withTableName("table").withKey(
+                Collections.singletonMap("id", new AttributeValue().withS("1")));
+    }
+
+    @After
+    public void teardown() {
+        executor.shutdownNow();
+    }
+
+    private AmazonDynamoDBAsyncClient createClient(final ClientConfiguration config) {
+        return new AmazonDynamoDBAsyncClient(
+                new BasicAWSCredentials("accessKey", "secretKey"), config, executor) {
+            {
+                client = new AmazonHttpClient(config, httpClient);
+            }
+        };
+    }
+
+    @Test
+    public void testAsyncRequestRetriesInExecutor() throws Exception {
+        httpClient.reply(500, "{\"__type\":\"InternalServerError\",\"message\":\"Retry\"}");
+        httpClient.reply(200, "{\"Item\":{\"id\":{\"S\":\"1\"},\"value\":{\"S\":\"one\"}}}");
+
+        final AtomicReference<GetItemResult> handled = new AtomicReference<GetItemResult>();
+        Future<GetItemResult> future = asyncClient.getItemAsync(request,
+                new AsyncHandler<GetItemRequest, GetItemResult>() {
+                    @Override
+                    public void onError(Exception exception) {
+                        fail("Unexpected error " + exception);
+                    }
+
+                    @Override
+                    public void onSuccess(GetItemRequest getItemRequest, GetItemResult result) {
+                        assertSame(request, getItemRequest);
+                        handled.set(result);
+                    }
+                });
+
+        GetItemResult result = future.get(10, TimeUnit.SECONDS);
+        assertEquals("one", result.getItem().get("value").getS());
+        assertSame(result, handled.get());
+        assertEquals(2, httpClient.getThreads().size());
+        for (Thread thread : httpClient.getThreads()) {
+            assertFalse(thread == Thread.currentThread());
+        }
+    }
+
+    @Test
+    public void testBackoffDoesNotHoldExecutorThread() throws Exception {
+        RetryPolicy slowRetryPolicy = new RetryPolicy(
+                PredefinedRetryPolicies.DEFAULT_RETRY_CONDITION,
+                new RetryPolicy.BackoffStrategy() {
+                    @Override
+                    public long delayBeforeNextRetry(AmazonWebServiceRequest originalRequest,
+                            AmazonClientException exception, int retriesAttempted) {
+                        return 2000;
+                    }
+                }, 1, false);
+        asyncClient = createClient(new ClientConfiguration().withRetryPolicy(slowRetryPolicy));
+        httpClient.reply(500, "{\"__type\":\"InternalServerError\",\"message\":\"Retry\"}");
+        httpClient.reply(200, "{\"Item\":{\"id\":{\"S\":\"1\"}}}");
+
+        Future<GetItemResult> future = asyncClient.getItemAsync(request);
+        long start = System.currentTimeMillis();
+        while (httpClient.getThreads().isEmpty()) {
+            assertTrue(System.currentTimeMillis() - start < 10000);
+            Thread.sleep(10);
+        }
+        // The only thread of the executor stays free while the retry backs off
+        Future<Boolean> other = executor.submit(new Callable<Boolean>() {
+            @Override
+            public Boolean call() {
+                return Boolean.TRUE;
+            }
+        });
+        assertTrue(other.get(1, TimeUnit.SECONDS));
+        assertFalse(future.isDone());
+
+        assertEquals("1", future.get(10, TimeUnit.SECONDS).getItem().get("id").getS());
+        assertEquals(2, httpClient.getThreads().size());
+    }
+
+    @Test
+    public void testAsyncRequestFailsWithServiceException() throws Exception {
+        httpClient.reply(400, "{\"__type\":\"com.amazon.coral.validate#ValidationException\","
+                + "\"message\":\"Invalid key\"}");
+
+        final AtomicReference<Exception> handled = new AtomicReference<Exception>();
+        Future<GetItemResult> future = asyncClient.getItemAsync(request,
+                new AsyncHandler<GetItemRequest, GetItemResult>() {
+                    @Override
+                    public void onError(Exception exception) {
+                        handled.set(exception);
+                    }
+
+                    @Override
+                    public void onSuccess(GetItemRequest getItemRequest, GetItemResult result) {
+                        fail("Unexpected result");
+                    }
+                });
+
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            fail("Expected the service exception");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof AmazonServiceException);
+            assertEquals("ValidationException",
+                    ((AmazonServiceException) e.getCause()).getErrorCode());
+            assertSame(e.getCause(), handled.get());
+        }
+        assertEquals(1, httpClient.getThreads().size());
+    }
+
+    @Test
+    public void testAsyncRequestWithoutHandler() throws Exception {
+        httpClient.reply(200, "{}");
+
+        GetItemResult result = asyncClient.getItemAsync(request).get(10, TimeUnit.SECONDS);
+        assertNull(result.getItem());
+    }
+}
@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.ec2;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -28,6 +27,7 @@ import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.ec2.model.*;
+import com.amazonaws.services.ec2.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonEC2.
@@ -309,12 +309,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> rebootInstancesAsync(final RebootInstancesRequest rebootInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                rebootInstances(rebootInstancesRequest);
-                return null;
-        }
-    });
+        return invokeAsync(rebootInstancesRequest, new RebootInstancesRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -357,18 +353,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RebootInstancesRequest rebootInstancesRequest,
             final AsyncHandler<RebootInstancesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                rebootInstances(rebootInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(rebootInstancesRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(rebootInstancesRequest, new RebootInstancesRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -399,11 +385,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeReservedInstancesResult> describeReservedInstancesAsync(final DescribeReservedInstancesRequest describeReservedInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesResult>() {
-            public DescribeReservedInstancesResult call() throws Exception {
-                return describeReservedInstances(describeReservedInstancesRequest);
-        }
-    });
+        return invokeAsync(describeReservedInstancesRequest,
+                new DescribeReservedInstancesRequestMarshaller(),
+                new DescribeReservedInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -440,19 +425,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeReservedInstancesRequest describeReservedInstancesRequest,
             final AsyncHandler<DescribeReservedInstancesRequest, DescribeReservedInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesResult>() {
-            public DescribeReservedInstancesResult call() throws Exception {
-              DescribeReservedInstancesResult result;
-                try {
-                result = describeReservedInstances(describeReservedInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReservedInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeReservedInstancesRequest,
+                new DescribeReservedInstancesRequestMarshaller(),
+                new DescribeReservedInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -495,11 +471,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DetachVolumeResult> detachVolumeAsync(final DetachVolumeRequest detachVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachVolumeResult>() {
-            public DetachVolumeResult call() throws Exception {
-                return detachVolume(detachVolumeRequest);
-        }
-    });
+        return invokeAsync(detachVolumeRequest,
+                new DetachVolumeRequestMarshaller(), new DetachVolumeResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -548,19 +522,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DetachVolumeRequest detachVolumeRequest,
             final AsyncHandler<DetachVolumeRequest, DetachVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachVolumeResult>() {
-            public DetachVolumeResult call() throws Exception {
-              DetachVolumeResult result;
-                try {
-                result = detachVolume(detachVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachVolumeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(detachVolumeRequest,
+                new DetachVolumeRequestMarshaller(), new DetachVolumeResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -586,12 +550,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteKeyPairAsync(final DeleteKeyPairRequest deleteKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteKeyPair(deleteKeyPairRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteKeyPairRequest, new DeleteKeyPairRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -623,18 +583,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteKeyPairRequest deleteKeyPairRequest,
             final AsyncHandler<DeleteKeyPairRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteKeyPair(deleteKeyPairRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteKeyPairRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteKeyPairRequest, new DeleteKeyPairRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -662,11 +612,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AttachVpnGatewayResult> attachVpnGatewayAsync(final AttachVpnGatewayRequest attachVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVpnGatewayResult>() {
-            public AttachVpnGatewayResult call() throws Exception {
-                return attachVpnGateway(attachVpnGatewayRequest);
-        }
-    });
+        return invokeAsync(attachVpnGatewayRequest,
+                new AttachVpnGatewayRequestMarshaller(),
+                new AttachVpnGatewayResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -700,19 +649,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AttachVpnGatewayRequest attachVpnGatewayRequest,
             final AsyncHandler<AttachVpnGatewayRequest, AttachVpnGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVpnGatewayResult>() {
-            public AttachVpnGatewayResult call() throws Exception {
-              AttachVpnGatewayResult result;
-                try {
-                result = attachVpnGateway(attachVpnGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachVpnGatewayRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(attachVpnGatewayRequest,
+                new AttachVpnGatewayRequestMarshaller(),
+                new AttachVpnGatewayResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -750,11 +690,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateImageResult> createImageAsync(final CreateImageRequest createImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateImageResult>() {
-            public CreateImageResult call() throws Exception {
-                return createImage(createImageRequest);
-        }
-    });
+        return invokeAsync(createImageRequest,
+                new CreateImageRequestMarshaller(), new CreateImageResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -798,19 +736,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateImageRequest createImageRequest,
             final AsyncHandler<CreateImageRequest, CreateImageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateImageResult>() {
-            public CreateImageResult call() throws Exception {
-              CreateImageResult result;
-                try {
-                result = createImage(createImageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createImageRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createImageRequest,
+                new CreateImageRequestMarshaller(), new CreateImageResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -859,11 +787,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ModifyInstancePlacementResult> modifyInstancePlacementAsync(final ModifyInstancePlacementRequest modifyInstancePlacementRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyInstancePlacementResult>() {
-            public ModifyInstancePlacementResult call() throws Exception {
-                return modifyInstancePlacement(modifyInstancePlacementRequest);
-        }
-    });
+        return invokeAsync(modifyInstancePlacementRequest,
+                new ModifyInstancePlacementRequestMarshaller(),
+                new ModifyInstancePlacementResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -918,19 +845,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyInstancePlacementRequest modifyInstancePlacementRequest,
             final AsyncHandler<ModifyInstancePlacementRequest, ModifyInstancePlacementResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyInstancePlacementResult>() {
-            public ModifyInstancePlacementResult call() throws Exception {
-              ModifyInstancePlacementResult result;
-                try {
-                result = modifyInstancePlacement(modifyInstancePlacementRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyInstancePlacementRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(modifyInstancePlacementRequest,
+                new ModifyInstancePlacementRequestMarshaller(),
+                new ModifyInstancePlacementResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -961,11 +879,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeHostsResult> describeHostsAsync(final DescribeHostsRequest describeHostsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeHostsResult>() {
-            public DescribeHostsResult call() throws Exception {
-                return describeHosts(describeHostsRequest);
-        }
-    });
+        return invokeAsync(describeHostsRequest,
+                new DescribeHostsRequestMarshaller(), new DescribeHostsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1002,19 +918,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeHostsRequest describeHostsRequest,
             final AsyncHandler<DescribeHostsRequest, DescribeHostsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeHostsResult>() {
-            public DescribeHostsResult call() throws Exception {
-              DescribeHostsResult result;
-                try {
-                result = describeHosts(describeHostsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeHostsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeHostsRequest,
+                new DescribeHostsRequestMarshaller(), new DescribeHostsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1062,12 +968,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> authorizeSecurityGroupEgressAsync(final AuthorizeSecurityGroupEgressRequest authorizeSecurityGroupEgressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                authorizeSecurityGroupEgress(authorizeSecurityGroupEgressRequest);
-                return null;
-        }
-    });
+        return invokeAsync(authorizeSecurityGroupEgressRequest,
+                new AuthorizeSecurityGroupEgressRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -1121,18 +1024,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AuthorizeSecurityGroupEgressRequest authorizeSecurityGroupEgressRequest,
             final AsyncHandler<AuthorizeSecurityGroupEgressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                authorizeSecurityGroupEgress(authorizeSecurityGroupEgressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(authorizeSecurityGroupEgressRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(authorizeSecurityGroupEgressRequest,
+                new AuthorizeSecurityGroupEgressRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -1196,11 +1090,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<StopInstancesResult> stopInstancesAsync(final StopInstancesRequest stopInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopInstancesResult>() {
-            public StopInstancesResult call() throws Exception {
-                return stopInstances(stopInstancesRequest);
-        }
-    });
+        return invokeAsync(stopInstancesRequest,
+                new StopInstancesRequestMarshaller(), new StopInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1270,19 +1162,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final StopInstancesRequest stopInstancesRequest,
             final AsyncHandler<StopInstancesRequest, StopInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopInstancesResult>() {
-            public StopInstancesResult call() throws Exception {
-              StopInstancesResult result;
-                try {
-                result = stopInstances(stopInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(stopInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(stopInstancesRequest,
+                new StopInstancesRequestMarshaller(), new StopInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1308,11 +1190,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSpotFleetInstancesResult> describeSpotFleetInstancesAsync(final DescribeSpotFleetInstancesRequest describeSpotFleetInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetInstancesResult>() {
-            public DescribeSpotFleetInstancesResult call() throws Exception {
-                return describeSpotFleetInstances(describeSpotFleetInstancesRequest);
-        }
-    });
+        return invokeAsync(describeSpotFleetInstancesRequest,
+                new DescribeSpotFleetInstancesRequestMarshaller(),
+                new DescribeSpotFleetInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1344,19 +1225,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSpotFleetInstancesRequest describeSpotFleetInstancesRequest,
             final AsyncHandler<DescribeSpotFleetInstancesRequest, DescribeSpotFleetInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetInstancesResult>() {
-            public DescribeSpotFleetInstancesResult call() throws Exception {
-              DescribeSpotFleetInstancesResult result;
-                try {
-                result = describeSpotFleetInstances(describeSpotFleetInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSpotFleetInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSpotFleetInstancesRequest,
+                new DescribeSpotFleetInstancesRequestMarshaller(),
+                new DescribeSpotFleetInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1393,11 +1265,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSpotPriceHistoryResult> describeSpotPriceHistoryAsync(final DescribeSpotPriceHistoryRequest describeSpotPriceHistoryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotPriceHistoryResult>() {
-            public DescribeSpotPriceHistoryResult call() throws Exception {
-                return describeSpotPriceHistory(describeSpotPriceHistoryRequest);
-        }
-    });
+        return invokeAsync(describeSpotPriceHistoryRequest,
+                new DescribeSpotPriceHistoryRequestMarshaller(),
+                new DescribeSpotPriceHistoryResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1440,19 +1311,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSpotPriceHistoryRequest describeSpotPriceHistoryRequest,
             final AsyncHandler<DescribeSpotPriceHistoryRequest, DescribeSpotPriceHistoryResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotPriceHistoryResult>() {
-            public DescribeSpotPriceHistoryResult call() throws Exception {
-              DescribeSpotPriceHistoryResult result;
-                try {
-                result = describeSpotPriceHistory(describeSpotPriceHistoryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSpotPriceHistoryRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSpotPriceHistoryRequest,
+                new DescribeSpotPriceHistoryRequestMarshaller(),
+                new DescribeSpotPriceHistoryResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1507,11 +1369,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateSecurityGroupResult> createSecurityGroupAsync(final CreateSecurityGroupRequest createSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSecurityGroupResult>() {
-            public CreateSecurityGroupResult call() throws Exception {
-                return createSecurityGroup(createSecurityGroupRequest);
-        }
-    });
+        return invokeAsync(createSecurityGroupRequest,
+                new CreateSecurityGroupRequestMarshaller(),
+                new CreateSecurityGroupResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1572,19 +1433,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateSecurityGroupRequest createSecurityGroupRequest,
             final AsyncHandler<CreateSecurityGroupRequest, CreateSecurityGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSecurityGroupResult>() {
-            public CreateSecurityGroupResult call() throws Exception {
-              CreateSecurityGroupResult result;
-                try {
-                result = createSecurityGroup(createSecurityGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createSecurityGroupRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createSecurityGroupRequest,
+                new CreateSecurityGroupRequestMarshaller(),
+                new CreateSecurityGroupResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1636,11 +1488,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateReservedInstancesListingResult> createReservedInstancesListingAsync(final CreateReservedInstancesListingRequest createReservedInstancesListingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReservedInstancesListingResult>() {
-            public CreateReservedInstancesListingResult call() throws Exception {
-                return createReservedInstancesListing(createReservedInstancesListingRequest);
-        }
-    });
+        return invokeAsync(createReservedInstancesListingRequest,
+                new CreateReservedInstancesListingRequestMarshaller(),
+                new CreateReservedInstancesListingResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1698,19 +1549,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateReservedInstancesListingRequest createReservedInstancesListingRequest,
             final AsyncHandler<CreateReservedInstancesListingRequest, CreateReservedInstancesListingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReservedInstancesListingResult>() {
-            public CreateReservedInstancesListingResult call() throws Exception {
-              CreateReservedInstancesListingResult result;
-                try {
-                result = createReservedInstancesListing(createReservedInstancesListingRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createReservedInstancesListingRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createReservedInstancesListingRequest,
+                new CreateReservedInstancesListingRequestMarshaller(),
+                new CreateReservedInstancesListingResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1746,11 +1588,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ImportVolumeResult> importVolumeAsync(final ImportVolumeRequest importVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportVolumeResult>() {
-            public ImportVolumeResult call() throws Exception {
-                return importVolume(importVolumeRequest);
-        }
-    });
+        return invokeAsync(importVolumeRequest,
+                new ImportVolumeRequestMarshaller(), new ImportVolumeResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1792,19 +1632,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ImportVolumeRequest importVolumeRequest,
             final AsyncHandler<ImportVolumeRequest, ImportVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportVolumeResult>() {
-            public ImportVolumeResult call() throws Exception {
-              ImportVolumeResult result;
-                try {
-                result = importVolume(importVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(importVolumeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(importVolumeRequest,
+                new ImportVolumeRequestMarshaller(), new ImportVolumeResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1836,11 +1666,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSecurityGroupsResult> describeSecurityGroupsAsync(final DescribeSecurityGroupsRequest describeSecurityGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSecurityGroupsResult>() {
-            public DescribeSecurityGroupsResult call() throws Exception {
-                return describeSecurityGroups(describeSecurityGroupsRequest);
-        }
-    });
+        return invokeAsync(describeSecurityGroupsRequest,
+                new DescribeSecurityGroupsRequestMarshaller(),
+                new DescribeSecurityGroupsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1878,19 +1707,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSecurityGroupsRequest describeSecurityGroupsRequest,
             final AsyncHandler<DescribeSecurityGroupsRequest, DescribeSecurityGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSecurityGroupsResult>() {
-            public DescribeSecurityGroupsResult call() throws Exception {
-              DescribeSecurityGroupsResult result;
-                try {
-                result = describeSecurityGroups(describeSecurityGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSecurityGroupsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSecurityGroupsRequest,
+                new DescribeSecurityGroupsRequestMarshaller(),
+                new DescribeSecurityGroupsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1951,11 +1771,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeAccountAttributesResult> describeAccountAttributesAsync(final DescribeAccountAttributesRequest describeAccountAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAccountAttributesResult>() {
-            public DescribeAccountAttributesResult call() throws Exception {
-                return describeAccountAttributes(describeAccountAttributesRequest);
-        }
-    });
+        return invokeAsync(describeAccountAttributesRequest,
+                new DescribeAccountAttributesRequestMarshaller(),
+                new DescribeAccountAttributesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2022,19 +1841,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeAccountAttributesRequest describeAccountAttributesRequest,
             final AsyncHandler<DescribeAccountAttributesRequest, DescribeAccountAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAccountAttributesResult>() {
-            public DescribeAccountAttributesResult call() throws Exception {
-              DescribeAccountAttributesResult result;
-                try {
-                result = describeAccountAttributes(describeAccountAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAccountAttributesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeAccountAttributesRequest,
+                new DescribeAccountAttributesRequestMarshaller(),
+                new DescribeAccountAttributesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2060,12 +1870,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteSubnetAsync(final DeleteSubnetRequest deleteSubnetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSubnet(deleteSubnetRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteSubnetRequest, new DeleteSubnetRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -2097,18 +1903,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteSubnetRequest deleteSubnetRequest,
             final AsyncHandler<DeleteSubnetRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteSubnet(deleteSubnetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteSubnetRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteSubnetRequest, new DeleteSubnetRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -2147,11 +1943,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AttachClassicLinkVpcResult> attachClassicLinkVpcAsync(final AttachClassicLinkVpcRequest attachClassicLinkVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachClassicLinkVpcResult>() {
-            public AttachClassicLinkVpcResult call() throws Exception {
-                return attachClassicLinkVpc(attachClassicLinkVpcRequest);
-        }
-    });
+        return invokeAsync(attachClassicLinkVpcRequest,
+                new AttachClassicLinkVpcRequestMarshaller(),
+                new AttachClassicLinkVpcResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2196,19 +1991,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AttachClassicLinkVpcRequest attachClassicLinkVpcRequest,
             final AsyncHandler<AttachClassicLinkVpcRequest, AttachClassicLinkVpcResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachClassicLinkVpcResult>() {
-            public AttachClassicLinkVpcResult call() throws Exception {
-              AttachClassicLinkVpcResult result;
-                try {
-                result = attachClassicLinkVpc(attachClassicLinkVpcRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachClassicLinkVpcRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(attachClassicLinkVpcRequest,
+                new AttachClassicLinkVpcRequestMarshaller(),
+                new AttachClassicLinkVpcResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2242,11 +2028,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<MoveAddressToVpcResult> moveAddressToVpcAsync(final MoveAddressToVpcRequest moveAddressToVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MoveAddressToVpcResult>() {
-            public MoveAddressToVpcResult call() throws Exception {
-                return moveAddressToVpc(moveAddressToVpcRequest);
-        }
-    });
+        return invokeAsync(moveAddressToVpcRequest,
+                new MoveAddressToVpcRequestMarshaller(),
+                new MoveAddressToVpcResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2286,19 +2071,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final MoveAddressToVpcRequest moveAddressToVpcRequest,
             final AsyncHandler<MoveAddressToVpcRequest, MoveAddressToVpcResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MoveAddressToVpcResult>() {
-            public MoveAddressToVpcResult call() throws Exception {
-              MoveAddressToVpcResult result;
-                try {
-                result = moveAddressToVpc(moveAddressToVpcRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(moveAddressToVpcRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(moveAddressToVpcRequest,
+                new MoveAddressToVpcRequestMarshaller(),
+                new MoveAddressToVpcResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2327,12 +2103,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVpnGatewayAsync(final DeleteVpnGatewayRequest deleteVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVpnGateway(deleteVpnGatewayRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteVpnGatewayRequest, new DeleteVpnGatewayRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -2367,18 +2139,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVpnGatewayRequest deleteVpnGatewayRequest,
             final AsyncHandler<DeleteVpnGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteVpnGateway(deleteVpnGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpnGatewayRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteVpnGatewayRequest, new DeleteVpnGatewayRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -2450,11 +2212,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVolumeStatusResult> describeVolumeStatusAsync(final DescribeVolumeStatusRequest describeVolumeStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeStatusResult>() {
-            public DescribeVolumeStatusResult call() throws Exception {
-                return describeVolumeStatus(describeVolumeStatusRequest);
-        }
-    });
+        return invokeAsync(describeVolumeStatusRequest,
+                new DescribeVolumeStatusRequestMarshaller(),
+                new DescribeVolumeStatusResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2532,19 +2293,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVolumeStatusRequest describeVolumeStatusRequest,
             final AsyncHandler<DescribeVolumeStatusRequest, DescribeVolumeStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeStatusResult>() {
-            public DescribeVolumeStatusResult call() throws Exception {
-              DescribeVolumeStatusResult result;
-                try {
-                result = describeVolumeStatus(describeVolumeStatusRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVolumeStatusRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVolumeStatusRequest,
+                new DescribeVolumeStatusRequestMarshaller(),
+                new DescribeVolumeStatusResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2575,11 +2327,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpnConnectionsResult> describeVpnConnectionsAsync(final DescribeVpnConnectionsRequest describeVpnConnectionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnConnectionsResult>() {
-            public DescribeVpnConnectionsResult call() throws Exception {
-                return describeVpnConnections(describeVpnConnectionsRequest);
-        }
-    });
+        return invokeAsync(describeVpnConnectionsRequest,
+                new DescribeVpnConnectionsRequestMarshaller(),
+                new DescribeVpnConnectionsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2616,19 +2367,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpnConnectionsRequest describeVpnConnectionsRequest,
             final AsyncHandler<DescribeVpnConnectionsRequest, DescribeVpnConnectionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnConnectionsResult>() {
-            public DescribeVpnConnectionsResult call() throws Exception {
-              DescribeVpnConnectionsResult result;
-                try {
-                result = describeVpnConnections(describeVpnConnectionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpnConnectionsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVpnConnectionsRequest,
+                new DescribeVpnConnectionsRequestMarshaller(),
+                new DescribeVpnConnectionsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2655,12 +2397,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> enableVgwRoutePropagationAsync(final EnableVgwRoutePropagationRequest enableVgwRoutePropagationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                enableVgwRoutePropagation(enableVgwRoutePropagationRequest);
-                return null;
-        }
-    });
+        return invokeAsync(enableVgwRoutePropagationRequest,
+                new EnableVgwRoutePropagationRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -2693,18 +2432,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final EnableVgwRoutePropagationRequest enableVgwRoutePropagationRequest,
             final AsyncHandler<EnableVgwRoutePropagationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                enableVgwRoutePropagation(enableVgwRoutePropagationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableVgwRoutePropagationRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(enableVgwRoutePropagationRequest,
+                new EnableVgwRoutePropagationRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -2763,11 +2493,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateSnapshotResult> createSnapshotAsync(final CreateSnapshotRequest createSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSnapshotResult>() {
-            public CreateSnapshotResult call() throws Exception {
-                return createSnapshot(createSnapshotRequest);
-        }
-    });
+        return invokeAsync(createSnapshotRequest,
+                new CreateSnapshotRequestMarshaller(), new CreateSnapshotResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2832,19 +2560,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateSnapshotRequest createSnapshotRequest,
             final AsyncHandler<CreateSnapshotRequest, CreateSnapshotResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSnapshotResult>() {
-            public CreateSnapshotResult call() throws Exception {
-              CreateSnapshotResult result;
-                try {
-                result = createSnapshot(createSnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createSnapshotRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createSnapshotRequest,
+                new CreateSnapshotRequestMarshaller(), new CreateSnapshotResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2878,11 +2596,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ModifyReservedInstancesResult> modifyReservedInstancesAsync(final ModifyReservedInstancesRequest modifyReservedInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyReservedInstancesResult>() {
-            public ModifyReservedInstancesResult call() throws Exception {
-                return modifyReservedInstances(modifyReservedInstancesRequest);
-        }
-    });
+        return invokeAsync(modifyReservedInstancesRequest,
+                new ModifyReservedInstancesRequestMarshaller(),
+                new ModifyReservedInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2922,19 +2639,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyReservedInstancesRequest modifyReservedInstancesRequest,
             final AsyncHandler<ModifyReservedInstancesRequest, ModifyReservedInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyReservedInstancesResult>() {
-            public ModifyReservedInstancesResult call() throws Exception {
-              ModifyReservedInstancesResult result;
-                try {
-                result = modifyReservedInstances(modifyReservedInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyReservedInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(modifyReservedInstancesRequest,
+                new ModifyReservedInstancesRequestMarshaller(),
+                new ModifyReservedInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2968,11 +2676,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpcClassicLinkDnsSupportResult> describeVpcClassicLinkDnsSupportAsync(final DescribeVpcClassicLinkDnsSupportRequest describeVpcClassicLinkDnsSupportRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcClassicLinkDnsSupportResult>() {
-            public DescribeVpcClassicLinkDnsSupportResult call() throws Exception {
-                return describeVpcClassicLinkDnsSupport(describeVpcClassicLinkDnsSupportRequest);
-        }
-    });
+        return invokeAsync(describeVpcClassicLinkDnsSupportRequest,
+                new DescribeVpcClassicLinkDnsSupportRequestMarshaller(),
+                new DescribeVpcClassicLinkDnsSupportResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3012,19 +2719,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpcClassicLinkDnsSupportRequest describeVpcClassicLinkDnsSupportRequest,
             final AsyncHandler<DescribeVpcClassicLinkDnsSupportRequest, DescribeVpcClassicLinkDnsSupportResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcClassicLinkDnsSupportResult>() {
-            public DescribeVpcClassicLinkDnsSupportResult call() throws Exception {
-              DescribeVpcClassicLinkDnsSupportResult result;
-                try {
-                result = describeVpcClassicLinkDnsSupport(describeVpcClassicLinkDnsSupportRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcClassicLinkDnsSupportRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVpcClassicLinkDnsSupportRequest,
+                new DescribeVpcClassicLinkDnsSupportRequestMarshaller(),
+                new DescribeVpcClassicLinkDnsSupportResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3059,11 +2757,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CancelSpotFleetRequestsResult> cancelSpotFleetRequestsAsync(final CancelSpotFleetRequestsRequest cancelSpotFleetRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelSpotFleetRequestsResult>() {
-            public CancelSpotFleetRequestsResult call() throws Exception {
-                return cancelSpotFleetRequests(cancelSpotFleetRequestsRequest);
-        }
-    });
+        return invokeAsync(cancelSpotFleetRequestsRequest,
+                new CancelSpotFleetRequestsRequestMarshaller(),
+                new CancelSpotFleetRequestsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3104,19 +2801,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelSpotFleetRequestsRequest cancelSpotFleetRequestsRequest,
             final AsyncHandler<CancelSpotFleetRequestsRequest, CancelSpotFleetRequestsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelSpotFleetRequestsResult>() {
-            public CancelSpotFleetRequestsResult call() throws Exception {
-              CancelSpotFleetRequestsResult result;
-                try {
-                result = cancelSpotFleetRequests(cancelSpotFleetRequestsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelSpotFleetRequestsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(cancelSpotFleetRequestsRequest,
+                new CancelSpotFleetRequestsRequestMarshaller(),
+                new CancelSpotFleetRequestsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3165,11 +2853,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AssociateAddressResult> associateAddressAsync(final AssociateAddressRequest associateAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateAddressResult>() {
-            public AssociateAddressResult call() throws Exception {
-                return associateAddress(associateAddressRequest);
-        }
-    });
+        return invokeAsync(associateAddressRequest,
+                new AssociateAddressRequestMarshaller(),
+                new AssociateAddressResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3224,19 +2911,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AssociateAddressRequest associateAddressRequest,
             final AsyncHandler<AssociateAddressRequest, AssociateAddressResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateAddressResult>() {
-            public AssociateAddressResult call() throws Exception {
-              AssociateAddressResult result;
-                try {
-                result = associateAddress(associateAddressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(associateAddressRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(associateAddressRequest,
+                new AssociateAddressRequestMarshaller(),
+                new AssociateAddressResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3263,12 +2941,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteCustomerGatewayAsync(final DeleteCustomerGatewayRequest deleteCustomerGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteCustomerGateway(deleteCustomerGatewayRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteCustomerGatewayRequest,
+                new DeleteCustomerGatewayRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -3301,18 +2976,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteCustomerGatewayRequest deleteCustomerGatewayRequest,
             final AsyncHandler<DeleteCustomerGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteCustomerGateway(deleteCustomerGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteCustomerGatewayRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteCustomerGatewayRequest,
+                new DeleteCustomerGatewayRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -3337,11 +3003,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeExportTasksResult> describeExportTasksAsync(final DescribeExportTasksRequest describeExportTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeExportTasksResult>() {
-            public DescribeExportTasksResult call() throws Exception {
-                return describeExportTasks(describeExportTasksRequest);
-        }
-    });
+        return invokeAsync(describeExportTasksRequest,
+                new DescribeExportTasksRequestMarshaller(),
+                new DescribeExportTasksResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3372,19 +3037,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeExportTasksRequest describeExportTasksRequest,
             final AsyncHandler<DescribeExportTasksRequest, DescribeExportTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeExportTasksResult>() {
-            public DescribeExportTasksResult call() throws Exception {
-              DescribeExportTasksResult result;
-                try {
-                result = describeExportTasks(describeExportTasksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeExportTasksRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeExportTasksRequest,
+                new DescribeExportTasksRequestMarshaller(),
+                new DescribeExportTasksResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3415,11 +3071,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateRouteTableResult> createRouteTableAsync(final CreateRouteTableRequest createRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRouteTableResult>() {
-            public CreateRouteTableResult call() throws Exception {
-                return createRouteTable(createRouteTableRequest);
-        }
-    });
+        return invokeAsync(createRouteTableRequest,
+                new CreateRouteTableRequestMarshaller(),
+                new CreateRouteTableResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3456,19 +3111,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateRouteTableRequest createRouteTableRequest,
             final AsyncHandler<CreateRouteTableRequest, CreateRouteTableResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRouteTableResult>() {
-            public CreateRouteTableResult call() throws Exception {
-              CreateRouteTableResult result;
-                try {
-                result = createRouteTable(createRouteTableRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createRouteTableRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createRouteTableRequest,
+                new CreateRouteTableRequestMarshaller(),
+                new CreateRouteTableResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3507,11 +3153,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVpcPeeringConnectionResult> createVpcPeeringConnectionAsync(final CreateVpcPeeringConnectionRequest createVpcPeeringConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcPeeringConnectionResult>() {
-            public CreateVpcPeeringConnectionResult call() throws Exception {
-                return createVpcPeeringConnection(createVpcPeeringConnectionRequest);
-        }
-    });
+        return invokeAsync(createVpcPeeringConnectionRequest,
+                new CreateVpcPeeringConnectionRequestMarshaller(),
+                new CreateVpcPeeringConnectionResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3556,19 +3201,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVpcPeeringConnectionRequest createVpcPeeringConnectionRequest,
             final AsyncHandler<CreateVpcPeeringConnectionRequest, CreateVpcPeeringConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcPeeringConnectionResult>() {
-            public CreateVpcPeeringConnectionResult call() throws Exception {
-              CreateVpcPeeringConnectionResult result;
-                try {
-                result = createVpcPeeringConnection(createVpcPeeringConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpcPeeringConnectionRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createVpcPeeringConnectionRequest,
+                new CreateVpcPeeringConnectionRequestMarshaller(),
+                new CreateVpcPeeringConnectionResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3608,11 +3244,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVolumesResult> describeVolumesAsync(final DescribeVolumesRequest describeVolumesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumesResult>() {
-            public DescribeVolumesResult call() throws Exception {
-                return describeVolumes(describeVolumesRequest);
-        }
-    });
+        return invokeAsync(describeVolumesRequest,
+                new DescribeVolumesRequestMarshaller(), new DescribeVolumesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3658,19 +3292,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVolumesRequest describeVolumesRequest,
             final AsyncHandler<DescribeVolumesRequest, DescribeVolumesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumesResult>() {
-            public DescribeVolumesResult call() throws Exception {
-              DescribeVolumesResult result;
-                try {
-                result = describeVolumes(describeVolumesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVolumesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVolumesRequest,
+                new DescribeVolumesRequestMarshaller(), new DescribeVolumesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3698,11 +3322,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<MonitorInstancesResult> monitorInstancesAsync(final MonitorInstancesRequest monitorInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MonitorInstancesResult>() {
-            public MonitorInstancesResult call() throws Exception {
-                return monitorInstances(monitorInstancesRequest);
-        }
-    });
+        return invokeAsync(monitorInstancesRequest,
+                new MonitorInstancesRequestMarshaller(),
+                new MonitorInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3736,19 +3359,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final MonitorInstancesRequest monitorInstancesRequest,
             final AsyncHandler<MonitorInstancesRequest, MonitorInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MonitorInstancesResult>() {
-            public MonitorInstancesResult call() throws Exception {
-              MonitorInstancesResult result;
-                try {
-                result = monitorInstances(monitorInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(monitorInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(monitorInstancesRequest,
+                new MonitorInstancesRequestMarshaller(),
+                new MonitorInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3778,11 +3392,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeDhcpOptionsResult> describeDhcpOptionsAsync(final DescribeDhcpOptionsRequest describeDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDhcpOptionsResult>() {
-            public DescribeDhcpOptionsResult call() throws Exception {
-                return describeDhcpOptions(describeDhcpOptionsRequest);
-        }
-    });
+        return invokeAsync(describeDhcpOptionsRequest,
+                new DescribeDhcpOptionsRequestMarshaller(),
+                new DescribeDhcpOptionsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3818,19 +3431,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeDhcpOptionsRequest describeDhcpOptionsRequest,
             final AsyncHandler<DescribeDhcpOptionsRequest, DescribeDhcpOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDhcpOptionsResult>() {
-            public DescribeDhcpOptionsResult call() throws Exception {
-              DescribeDhcpOptionsResult result;
-                try {
-                result = describeDhcpOptions(describeDhcpOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeDhcpOptionsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeDhcpOptionsRequest,
+                new DescribeDhcpOptionsRequestMarshaller(),
+                new DescribeDhcpOptionsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3859,11 +3463,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribePrefixListsResult> describePrefixListsAsync(final DescribePrefixListsRequest describePrefixListsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePrefixListsResult>() {
-            public DescribePrefixListsResult call() throws Exception {
-                return describePrefixLists(describePrefixListsRequest);
-        }
-    });
+        return invokeAsync(describePrefixListsRequest,
+                new DescribePrefixListsRequestMarshaller(),
+                new DescribePrefixListsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3898,19 +3501,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribePrefixListsRequest describePrefixListsRequest,
             final AsyncHandler<DescribePrefixListsRequest, DescribePrefixListsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePrefixListsResult>() {
-            public DescribePrefixListsResult call() throws Exception {
-              DescribePrefixListsResult result;
-                try {
-                result = describePrefixLists(describePrefixListsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describePrefixListsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describePrefixListsRequest,
+                new DescribePrefixListsRequestMarshaller(),
+                new DescribePrefixListsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3958,11 +3552,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RequestSpotFleetResult> requestSpotFleetAsync(final RequestSpotFleetRequest requestSpotFleetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RequestSpotFleetResult>() {
-            public RequestSpotFleetResult call() throws Exception {
-                return requestSpotFleet(requestSpotFleetRequest);
-        }
-    });
+        return invokeAsync(requestSpotFleetRequest,
+                new RequestSpotFleetRequestMarshaller(),
+                new RequestSpotFleetResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4016,19 +3609,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RequestSpotFleetRequest requestSpotFleetRequest,
             final AsyncHandler<RequestSpotFleetRequest, RequestSpotFleetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RequestSpotFleetResult>() {
-            public RequestSpotFleetResult call() throws Exception {
-              RequestSpotFleetResult result;
-                try {
-                result = requestSpotFleet(requestSpotFleetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(requestSpotFleetRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(requestSpotFleetRequest,
+                new RequestSpotFleetRequestMarshaller(),
+                new RequestSpotFleetResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -4058,11 +3642,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeNetworkAclsResult> describeNetworkAclsAsync(final DescribeNetworkAclsRequest describeNetworkAclsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkAclsResult>() {
-            public DescribeNetworkAclsResult call() throws Exception {
-                return describeNetworkAcls(describeNetworkAclsRequest);
-        }
-    });
+        return invokeAsync(describeNetworkAclsRequest,
+                new DescribeNetworkAclsRequestMarshaller(),
+                new DescribeNetworkAclsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4098,19 +3681,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeNetworkAclsRequest describeNetworkAclsRequest,
             final AsyncHandler<DescribeNetworkAclsRequest, DescribeNetworkAclsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkAclsResult>() {
-            public DescribeNetworkAclsResult call() throws Exception {
-              DescribeNetworkAclsResult result;
-                try {
-                result = describeNetworkAcls(describeNetworkAclsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeNetworkAclsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeNetworkAclsRequest,
+                new DescribeNetworkAclsRequestMarshaller(),
+                new DescribeNetworkAclsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -4147,11 +3721,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RunScheduledInstancesResult> runScheduledInstancesAsync(final RunScheduledInstancesRequest runScheduledInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunScheduledInstancesResult>() {
-            public RunScheduledInstancesResult call() throws Exception {
-                return runScheduledInstances(runScheduledInstancesRequest);
-        }
-    });
+        return invokeAsync(runScheduledInstancesRequest,
+                new RunScheduledInstancesRequestMarshaller(),
+                new RunScheduledInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4194,19 +3767,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RunScheduledInstancesRequest runScheduledInstancesRequest,
             final AsyncHandler<RunScheduledInstancesRequest, RunScheduledInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunScheduledInstancesResult>() {
-            public RunScheduledInstancesResult call() throws Exception {
-              RunScheduledInstancesResult result;
-                try {
-                result = runScheduledInstances(runScheduledInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(runScheduledInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(runScheduledInstancesRequest,
+                new RunScheduledInstancesRequestMarshaller(),
+                new RunScheduledInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -4240,11 +3804,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<PurchaseScheduledInstancesResult> purchaseScheduledInstancesAsync(final PurchaseScheduledInstancesRequest purchaseScheduledInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PurchaseScheduledInstancesResult>() {
-            public PurchaseScheduledInstancesResult call() throws Exception {
-                return purchaseScheduledInstances(purchaseScheduledInstancesRequest);
-        }
-    });
+        return invokeAsync(purchaseScheduledInstancesRequest,
+                new PurchaseScheduledInstancesRequestMarshaller(),
+                new PurchaseScheduledInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4284,19 +3847,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final PurchaseScheduledInstancesRequest purchaseScheduledInstancesRequest,
             final AsyncHandler<PurchaseScheduledInstancesRequest, PurchaseScheduledInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PurchaseScheduledInstancesResult>() {
-            public PurchaseScheduledInstancesResult call() throws Exception {
-              PurchaseScheduledInstancesResult result;
-                try {
-                result = purchaseScheduledInstances(purchaseScheduledInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(purchaseScheduledInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(purchaseScheduledInstancesRequest,
+                new PurchaseScheduledInstancesRequestMarshaller(),
+                new PurchaseScheduledInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -4333,11 +3887,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ImportInstanceResult> importInstanceAsync(final ImportInstanceRequest importInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportInstanceResult>() {
-            public ImportInstanceResult call() throws Exception {
-                return importInstance(importInstanceRequest);
-        }
-    });
+        return invokeAsync(importInstanceRequest,
+                new ImportInstanceRequestMarshaller(), new ImportInstanceResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4380,19 +3932,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ImportInstanceRequest importInstanceRequest,
             final AsyncHandler<ImportInstanceRequest, ImportInstanceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportInstanceResult>() {
-            public ImportInstanceResult call() throws Exception {
-              ImportInstanceResult result;
-                try {
-                result = importInstance(importInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(importInstanceRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(importInstanceRequest,
+                new ImportInstanceRequestMarshaller(), new ImportInstanceResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -4422,11 +3964,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DeleteVpcPeeringConnectionResult> deleteVpcPeeringConnectionAsync(final DeleteVpcPeeringConnectionRequest deleteVpcPeeringConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVpcPeeringConnectionResult>() {
-            public DeleteVpcPeeringConnectionResult call() throws Exception {
-                return deleteVpcPeeringConnection(deleteVpcPeeringConnectionRequest);
-        }
-    });
+        return invokeAsync(deleteVpcPeeringConnectionRequest,
+                new DeleteVpcPeeringConnectionRequestMarshaller(),
+                new DeleteVpcPeeringConnectionResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4462,19 +4003,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVpcPeeringConnectionRequest deleteVpcPeeringConnectionRequest,
             final AsyncHandler<DeleteVpcPeeringConnectionRequest, DeleteVpcPeeringConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVpcPeeringConnectionResult>() {
-            public DeleteVpcPeeringConnectionResult call() throws Exception {
-              DeleteVpcPeeringConnectionResult result;
-                try {
-                result = deleteVpcPeeringConnection(deleteVpcPeeringConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpcPeeringConnectionRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(deleteVpcPeeringConnectionRequest,
+                new DeleteVpcPeeringConnectionRequestMarshaller(),
+                new DeleteVpcPeeringConnectionResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -4522,11 +4054,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<GetConsoleOutputResult> getConsoleOutputAsync(final GetConsoleOutputRequest getConsoleOutputRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetConsoleOutputResult>() {
-            public GetConsoleOutputResult call() throws Exception {
-                return getConsoleOutput(getConsoleOutputRequest);
-        }
-    });
+        return invokeAsync(getConsoleOutputRequest,
+                new GetConsoleOutputRequestMarshaller(),
+                new GetConsoleOutputResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4580,19 +4111,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final GetConsoleOutputRequest getConsoleOutputRequest,
             final AsyncHandler<GetConsoleOutputRequest, GetConsoleOutputResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetConsoleOutputResult>() {
-            public GetConsoleOutputResult call() throws Exception {
-              GetConsoleOutputResult result;
-                try {
-                result = getConsoleOutput(getConsoleOutputRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getConsoleOutputRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(getConsoleOutputRequest,
+                new GetConsoleOutputRequestMarshaller(),
+                new GetConsoleOutputResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -4618,12 +4140,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> detachNetworkInterfaceAsync(final DetachNetworkInterfaceRequest detachNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                detachNetworkInterface(detachNetworkInterfaceRequest);
-                return null;
-        }
-    });
+        return invokeAsync(detachNetworkInterfaceRequest,
+                new DetachNetworkInterfaceRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -4655,18 +4174,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DetachNetworkInterfaceRequest detachNetworkInterfaceRequest,
             final AsyncHandler<DetachNetworkInterfaceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                detachNetworkInterface(detachNetworkInterfaceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachNetworkInterfaceRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(detachNetworkInterfaceRequest,
+                new DetachNetworkInterfaceRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -4695,12 +4205,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVpnConnectionRouteAsync(final DeleteVpnConnectionRouteRequest deleteVpnConnectionRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVpnConnectionRoute(deleteVpnConnectionRouteRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteVpnConnectionRouteRequest,
+                new DeleteVpnConnectionRouteRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -4735,18 +4242,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVpnConnectionRouteRequest deleteVpnConnectionRouteRequest,
             final AsyncHandler<DeleteVpnConnectionRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteVpnConnectionRoute(deleteVpnConnectionRouteRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpnConnectionRouteRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteVpnConnectionRouteRequest,
+                new DeleteVpnConnectionRouteRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -4773,11 +4271,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AllocateHostsResult> allocateHostsAsync(final AllocateHostsRequest allocateHostsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocateHostsResult>() {
-            public AllocateHostsResult call() throws Exception {
-                return allocateHosts(allocateHostsRequest);
-        }
-    });
+        return invokeAsync(allocateHostsRequest,
+                new AllocateHostsRequestMarshaller(), new AllocateHostsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4810,19 +4306,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AllocateHostsRequest allocateHostsRequest,
             final AsyncHandler<AllocateHostsRequest, AllocateHostsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocateHostsResult>() {
-            public AllocateHostsResult call() throws Exception {
-              AllocateHostsResult result;
-                try {
-                result = allocateHosts(allocateHostsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(allocateHostsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(allocateHostsRequest,
+                new AllocateHostsRequestMarshaller(), new AllocateHostsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -4853,11 +4339,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateSpotDatafeedSubscriptionResult> createSpotDatafeedSubscriptionAsync(final CreateSpotDatafeedSubscriptionRequest createSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSpotDatafeedSubscriptionResult>() {
-            public CreateSpotDatafeedSubscriptionResult call() throws Exception {
-                return createSpotDatafeedSubscription(createSpotDatafeedSubscriptionRequest);
-        }
-    });
+        return invokeAsync(createSpotDatafeedSubscriptionRequest,
+                new CreateSpotDatafeedSubscriptionRequestMarshaller(),
+                new CreateSpotDatafeedSubscriptionResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4894,19 +4379,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateSpotDatafeedSubscriptionRequest createSpotDatafeedSubscriptionRequest,
             final AsyncHandler<CreateSpotDatafeedSubscriptionRequest, CreateSpotDatafeedSubscriptionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSpotDatafeedSubscriptionResult>() {
-            public CreateSpotDatafeedSubscriptionResult call() throws Exception {
-              CreateSpotDatafeedSubscriptionResult result;
-                try {
-                result = createSpotDatafeedSubscription(createSpotDatafeedSubscriptionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createSpotDatafeedSubscriptionRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createSpotDatafeedSubscriptionRequest,
+                new CreateSpotDatafeedSubscriptionRequestMarshaller(),
+                new CreateSpotDatafeedSubscriptionResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -4935,11 +4411,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeMovingAddressesResult> describeMovingAddressesAsync(final DescribeMovingAddressesRequest describeMovingAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMovingAddressesResult>() {
-            public DescribeMovingAddressesResult call() throws Exception {
-                return describeMovingAddresses(describeMovingAddressesRequest);
-        }
-    });
+        return invokeAsync(describeMovingAddressesRequest,
+                new DescribeMovingAddressesRequestMarshaller(),
+                new DescribeMovingAddressesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4974,19 +4449,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeMovingAddressesRequest describeMovingAddressesRequest,
             final AsyncHandler<DescribeMovingAddressesRequest, DescribeMovingAddressesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMovingAddressesResult>() {
-            public DescribeMovingAddressesResult call() throws Exception {
-              DescribeMovingAddressesResult result;
-                try {
-                result = describeMovingAddresses(describeMovingAddressesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeMovingAddressesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeMovingAddressesRequest,
+                new DescribeMovingAddressesRequestMarshaller(),
+                new DescribeMovingAddressesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -5013,11 +4479,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeFlowLogsResult> describeFlowLogsAsync(final DescribeFlowLogsRequest describeFlowLogsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeFlowLogsResult>() {
-            public DescribeFlowLogsResult call() throws Exception {
-                return describeFlowLogs(describeFlowLogsRequest);
-        }
-    });
+        return invokeAsync(describeFlowLogsRequest,
+                new DescribeFlowLogsRequestMarshaller(),
+                new DescribeFlowLogsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -5050,19 +4515,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeFlowLogsRequest describeFlowLogsRequest,
             final AsyncHandler<DescribeFlowLogsRequest, DescribeFlowLogsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeFlowLogsResult>() {
-            public DescribeFlowLogsResult call() throws Exception {
-              DescribeFlowLogsResult result;
-                try {
-                result = describeFlowLogs(describeFlowLogsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeFlowLogsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeFlowLogsRequest,
+                new DescribeFlowLogsRequestMarshaller(),
+                new DescribeFlowLogsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -5096,11 +4552,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeInstanceAttributeResult> describeInstanceAttributeAsync(final DescribeInstanceAttributeRequest describeInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceAttributeResult>() {
-            public DescribeInstanceAttributeResult call() throws Exception {
-                return describeInstanceAttribute(describeInstanceAttributeRequest);
-        }
-    });
+        return invokeAsync(describeInstanceAttributeRequest,
+                new DescribeInstanceAttributeRequestMarshaller(),
+                new DescribeInstanceAttributeResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -5140,19 +4595,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeInstanceAttributeRequest describeInstanceAttributeRequest,
             final AsyncHandler<DescribeInstanceAttributeRequest, DescribeInstanceAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceAttributeResult>() {
-            public DescribeInstanceAttributeResult call() throws Exception {
-              DescribeInstanceAttributeResult result;
-                try {
-                result = describeInstanceAttribute(describeInstanceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeInstanceAttributeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeInstanceAttributeRequest,
+                new DescribeInstanceAttributeRequestMarshaller(),
+                new DescribeInstanceAttributeResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -5179,11 +4625,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpcPeeringConnectionsResult> describeVpcPeeringConnectionsAsync(final DescribeVpcPeeringConnectionsRequest describeVpcPeeringConnectionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcPeeringConnectionsResult>() {
-            public DescribeVpcPeeringConnectionsResult call() throws Exception {
-                return describeVpcPeeringConnections(describeVpcPeeringConnectionsRequest);
-        }
-    });
+        return invokeAsync(describeVpcPeeringConnectionsRequest,
+                new DescribeVpcPeeringConnectionsRequestMarshaller(),
+                new DescribeVpcPeeringConnectionsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -5216,19 +4661,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpcPeeringConnectionsRequest describeVpcPeeringConnectionsRequest,
             final AsyncHandler<DescribeVpcPeeringConnectionsRequest, DescribeVpcPeeringConnectionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcPeeringConnectionsResult>() {
-            public DescribeVpcPeeringConnectionsResult call() throws Exception {
-              DescribeVpcPeeringConnectionsResult result;
-                try {
-                result = describeVpcPeeringConnections(describeVpcPeeringConnectionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcPeeringConnectionsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVpcPeeringConnectionsRequest,
+                new DescribeVpcPeeringConnectionsRequestMarshaller(),
+                new DescribeVpcPeeringConnectionsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -5258,11 +4694,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSubnetsResult> describeSubnetsAsync(final DescribeSubnetsRequest describeSubnetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSubnetsResult>() {
-            public DescribeSubnetsResult call() throws Exception {
-                return describeSubnets(describeSubnetsRequest);
-        }
-    });
+        return invokeAsync(describeSubnetsRequest,
+                new DescribeSubnetsRequestMarshaller(), new DescribeSubnetsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -5298,19 +4732,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSubnetsRequest describeSubnetsRequest,
             final AsyncHandler<DescribeSubnetsRequest, DescribeSubnetsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSubnetsResult>() {
-            public DescribeSubnetsResult call() throws Exception {
-              DescribeSubnetsResult result;
-                try {
-                result = describeSubnets(describeSubnetsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSubnetsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSubnetsRequest,
+                new DescribeSubnetsRequestMarshaller(), new DescribeSubnetsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -5391,11 +4815,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RunInstancesResult> runInstancesAsync(final RunInstancesRequest runInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunInstancesResult>() {
-            public RunInstancesResult call() throws Exception {
-                return runInstances(runInstancesRequest);
-        }
-    });
+        return invokeAsync(runInstancesRequest,
+                new RunInstancesRequestMarshaller(), new RunInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -5482,19 +4904,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RunInstancesRequest runInstancesRequest,
             final AsyncHandler<RunInstancesRequest, RunInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunInstancesResult>() {
-            public RunInstancesResult call() throws Exception {
-              RunInstancesResult result;
-                try {
-                result = runInstances(runInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(runInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(runInstancesRequest,
+                new RunInstancesRequestMarshaller(), new RunInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -5529,11 +4941,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AssociateRouteTableResult> associateRouteTableAsync(final AssociateRouteTableRequest associateRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateRouteTableResult>() {
-            public AssociateRouteTableResult call() throws Exception {
-                return associateRouteTable(associateRouteTableRequest);
-        }
-    });
+        return invokeAsync(associateRouteTableRequest,
+                new AssociateRouteTableRequestMarshaller(),
+                new AssociateRouteTableResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -5574,19 +4985,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AssociateRouteTableRequest associateRouteTableRequest,
             final AsyncHandler<AssociateRouteTableRequest, AssociateRouteTableResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateRouteTableResult>() {
-            public AssociateRouteTableResult call() throws Exception {
-              AssociateRouteTableResult result;
-                try {
-                result = associateRouteTable(associateRouteTableRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(associateRouteTableRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(associateRouteTableRequest,
+                new AssociateRouteTableRequestMarshaller(),
+                new AssociateRouteTableResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -5624,12 +5026,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyVolumeAttributeAsync(final ModifyVolumeAttributeRequest modifyVolumeAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyVolumeAttribute(modifyVolumeAttributeRequest);
-                return null;
-        }
-    });
+        return invokeAsync(modifyVolumeAttributeRequest,
+                new ModifyVolumeAttributeRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -5673,18 +5072,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyVolumeAttributeRequest modifyVolumeAttributeRequest,
             final AsyncHandler<ModifyVolumeAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifyVolumeAttribute(modifyVolumeAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyVolumeAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(modifyVolumeAttributeRequest,
+                new ModifyVolumeAttributeRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -5717,12 +5107,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyInstanceAttributeAsync(final ModifyInstanceAttributeRequest modifyInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyInstanceAttribute(modifyInstanceAttributeRequest);
-                return null;
-        }
-    });
+        return invokeAsync(modifyInstanceAttributeRequest,
+                new ModifyInstanceAttributeRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -5761,18 +5148,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyInstanceAttributeRequest modifyInstanceAttributeRequest,
             final AsyncHandler<ModifyInstanceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifyInstanceAttribute(modifyInstanceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyInstanceAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(modifyInstanceAttributeRequest,
+                new ModifyInstanceAttributeRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -5800,12 +5178,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteDhcpOptionsAsync(final DeleteDhcpOptionsRequest deleteDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteDhcpOptions(deleteDhcpOptionsRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteDhcpOptionsRequest, new DeleteDhcpOptionsRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -5839,18 +5213,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteDhcpOptionsRequest deleteDhcpOptionsRequest,
             final AsyncHandler<DeleteDhcpOptionsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteDhcpOptions(deleteDhcpOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteDhcpOptionsRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteDhcpOptionsRequest, new DeleteDhcpOptionsRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -5878,12 +5242,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> cancelExportTaskAsync(final CancelExportTaskRequest cancelExportTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                cancelExportTask(cancelExportTaskRequest);
-                return null;
-        }
-    });
+        return invokeAsync(cancelExportTaskRequest, new CancelExportTaskRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -5917,18 +5277,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelExportTaskRequest cancelExportTaskRequest,
             final AsyncHandler<CancelExportTaskRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                cancelExportTask(cancelExportTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelExportTaskRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(cancelExportTaskRequest, new CancelExportTaskRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -5961,11 +5311,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVpcEndpointResult> createVpcEndpointAsync(final CreateVpcEndpointRequest createVpcEndpointRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcEndpointResult>() {
-            public CreateVpcEndpointResult call() throws Exception {
-                return createVpcEndpoint(createVpcEndpointRequest);
-        }
-    });
+        return invokeAsync(createVpcEndpointRequest,
+                new CreateVpcEndpointRequestMarshaller(),
+                new CreateVpcEndpointResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -6004,19 +5353,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVpcEndpointRequest createVpcEndpointRequest,
             final AsyncHandler<CreateVpcEndpointRequest, CreateVpcEndpointResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcEndpointResult>() {
-            public CreateVpcEndpointResult call() throws Exception {
-              CreateVpcEndpointResult result;
-                try {
-                result = createVpcEndpoint(createVpcEndpointRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpcEndpointRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createVpcEndpointRequest,
+                new CreateVpcEndpointRequestMarshaller(),
+                new CreateVpcEndpointResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -6075,11 +5415,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateRouteResult> createRouteAsync(final CreateRouteRequest createRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRouteResult>() {
-            public CreateRouteResult call() throws Exception {
-                return createRoute(createRouteRequest);
-        }
-    });
+        return invokeAsync(createRouteRequest,
+                new CreateRouteRequestMarshaller(), new CreateRouteResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -6144,19 +5482,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateRouteRequest createRouteRequest,
             final AsyncHandler<CreateRouteRequest, CreateRouteResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRouteResult>() {
-            public CreateRouteResult call() throws Exception {
-              CreateRouteResult result;
-                try {
-                result = createRoute(createRouteRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createRouteRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createRouteRequest,
+                new CreateRouteRequestMarshaller(), new CreateRouteResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -6188,11 +5516,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DisableVpcClassicLinkDnsSupportResult> disableVpcClassicLinkDnsSupportAsync(final DisableVpcClassicLinkDnsSupportRequest disableVpcClassicLinkDnsSupportRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableVpcClassicLinkDnsSupportResult>() {
-            public DisableVpcClassicLinkDnsSupportResult call() throws Exception {
-                return disableVpcClassicLinkDnsSupport(disableVpcClassicLinkDnsSupportRequest);
-        }
-    });
+        return invokeAsync(disableVpcClassicLinkDnsSupportRequest,
+                new DisableVpcClassicLinkDnsSupportRequestMarshaller(),
+                new DisableVpcClassicLinkDnsSupportResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -6230,19 +5557,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DisableVpcClassicLinkDnsSupportRequest disableVpcClassicLinkDnsSupportRequest,
             final AsyncHandler<DisableVpcClassicLinkDnsSupportRequest, DisableVpcClassicLinkDnsSupportResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableVpcClassicLinkDnsSupportResult>() {
-            public DisableVpcClassicLinkDnsSupportResult call() throws Exception {
-              DisableVpcClassicLinkDnsSupportResult result;
-                try {
-                result = disableVpcClassicLinkDnsSupport(disableVpcClassicLinkDnsSupportRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disableVpcClassicLinkDnsSupportRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(disableVpcClassicLinkDnsSupportRequest,
+                new DisableVpcClassicLinkDnsSupportRequestMarshaller(),
+                new DisableVpcClassicLinkDnsSupportResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -6274,11 +5592,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CopyImageResult> copyImageAsync(final CopyImageRequest copyImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CopyImageResult>() {
-            public CopyImageResult call() throws Exception {
-                return copyImage(copyImageRequest);
-        }
-    });
+        return invokeAsync(copyImageRequest,
+                new CopyImageRequestMarshaller(), new CopyImageResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -6316,19 +5632,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CopyImageRequest copyImageRequest,
             final AsyncHandler<CopyImageRequest, CopyImageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CopyImageResult>() {
-            public CopyImageResult call() throws Exception {
-              CopyImageResult result;
-                try {
-                result = copyImage(copyImageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(copyImageRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(copyImageRequest,
+                new CopyImageRequestMarshaller(), new CopyImageResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -6354,11 +5660,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpcClassicLinkResult> describeVpcClassicLinkAsync(final DescribeVpcClassicLinkRequest describeVpcClassicLinkRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcClassicLinkResult>() {
-            public DescribeVpcClassicLinkResult call() throws Exception {
-                return describeVpcClassicLink(describeVpcClassicLinkRequest);
-        }
-    });
+        return invokeAsync(describeVpcClassicLinkRequest,
+                new DescribeVpcClassicLinkRequestMarshaller(),
+                new DescribeVpcClassicLinkResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -6390,19 +5695,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpcClassicLinkRequest describeVpcClassicLinkRequest,
             final AsyncHandler<DescribeVpcClassicLinkRequest, DescribeVpcClassicLinkResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcClassicLinkResult>() {
-            public DescribeVpcClassicLinkResult call() throws Exception {
-              DescribeVpcClassicLinkResult result;
-                try {
-                result = describeVpcClassicLink(describeVpcClassicLinkRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcClassicLinkRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVpcClassicLinkRequest,
+                new DescribeVpcClassicLinkRequestMarshaller(),
+                new DescribeVpcClassicLinkResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -6430,12 +5726,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyNetworkInterfaceAttributeAsync(final ModifyNetworkInterfaceAttributeRequest modifyNetworkInterfaceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyNetworkInterfaceAttribute(modifyNetworkInterfaceAttributeRequest);
-                return null;
-        }
-    });
+        return invokeAsync(modifyNetworkInterfaceAttributeRequest,
+                new ModifyNetworkInterfaceAttributeRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -6469,18 +5762,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyNetworkInterfaceAttributeRequest modifyNetworkInterfaceAttributeRequest,
             final AsyncHandler<ModifyNetworkInterfaceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifyNetworkInterfaceAttribute(modifyNetworkInterfaceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyNetworkInterfaceAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(modifyNetworkInterfaceAttributeRequest,
+                new ModifyNetworkInterfaceAttributeRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -6507,12 +5791,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteRouteTableAsync(final DeleteRouteTableRequest deleteRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteRouteTable(deleteRouteTableRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteRouteTableRequest, new DeleteRouteTableRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -6545,18 +5825,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteRouteTableRequest deleteRouteTableRequest,
             final AsyncHandler<DeleteRouteTableRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteRouteTable(deleteRouteTableRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteRouteTableRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteRouteTableRequest, new DeleteRouteTableRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -6581,11 +5851,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeNatGatewaysResult> describeNatGatewaysAsync(final DescribeNatGatewaysRequest describeNatGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNatGatewaysResult>() {
-            public DescribeNatGatewaysResult call() throws Exception {
-                return describeNatGateways(describeNatGatewaysRequest);
-        }
-    });
+        return invokeAsync(describeNatGatewaysRequest,
+                new DescribeNatGatewaysRequestMarshaller(),
+                new DescribeNatGatewaysResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -6616,19 +5885,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeNatGatewaysRequest describeNatGatewaysRequest,
             final AsyncHandler<DescribeNatGatewaysRequest, DescribeNatGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNatGatewaysResult>() {
-            public DescribeNatGatewaysResult call() throws Exception {
-              DescribeNatGatewaysResult result;
-                try {
-                result = describeNatGateways(describeNatGatewaysRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeNatGatewaysRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeNatGatewaysRequest,
+                new DescribeNatGatewaysRequestMarshaller(),
+                new DescribeNatGatewaysResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -6656,11 +5916,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeNetworkInterfaceAttributeResult> describeNetworkInterfaceAttributeAsync(final DescribeNetworkInterfaceAttributeRequest describeNetworkInterfaceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfaceAttributeResult>() {
-            public DescribeNetworkInterfaceAttributeResult call() throws Exception {
-                return describeNetworkInterfaceAttribute(describeNetworkInterfaceAttributeRequest);
-        }
-    });
+        return invokeAsync(describeNetworkInterfaceAttributeRequest,
+                new DescribeNetworkInterfaceAttributeRequestMarshaller(),
+                new DescribeNetworkInterfaceAttributeResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -6694,19 +5953,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeNetworkInterfaceAttributeRequest describeNetworkInterfaceAttributeRequest,
             final AsyncHandler<DescribeNetworkInterfaceAttributeRequest, DescribeNetworkInterfaceAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfaceAttributeResult>() {
-            public DescribeNetworkInterfaceAttributeResult call() throws Exception {
-              DescribeNetworkInterfaceAttributeResult result;
-                try {
-                result = describeNetworkInterfaceAttribute(describeNetworkInterfaceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeNetworkInterfaceAttributeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeNetworkInterfaceAttributeRequest,
+                new DescribeNetworkInterfaceAttributeRequestMarshaller(),
+                new DescribeNetworkInterfaceAttributeResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -6735,11 +5985,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeClassicLinkInstancesResult> describeClassicLinkInstancesAsync(final DescribeClassicLinkInstancesRequest describeClassicLinkInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClassicLinkInstancesResult>() {
-            public DescribeClassicLinkInstancesResult call() throws Exception {
-                return describeClassicLinkInstances(describeClassicLinkInstancesRequest);
-        }
-    });
+        return invokeAsync(describeClassicLinkInstancesRequest,
+                new DescribeClassicLinkInstancesRequestMarshaller(),
+                new DescribeClassicLinkInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -6774,19 +6023,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeClassicLinkInstancesRequest describeClassicLinkInstancesRequest,
             final AsyncHandler<DescribeClassicLinkInstancesRequest, DescribeClassicLinkInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClassicLinkInstancesResult>() {
-            public DescribeClassicLinkInstancesResult call() throws Exception {
-              DescribeClassicLinkInstancesResult result;
-                try {
-                result = describeClassicLinkInstances(describeClassicLinkInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeClassicLinkInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeClassicLinkInstancesRequest,
+                new DescribeClassicLinkInstancesRequestMarshaller(),
+                new DescribeClassicLinkInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -6830,12 +6070,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyIdFormatAsync(final ModifyIdFormatRequest modifyIdFormatRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyIdFormat(modifyIdFormatRequest);
-                return null;
-        }
-    });
+        return invokeAsync(modifyIdFormatRequest, new ModifyIdFormatRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -6885,18 +6121,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyIdFormatRequest modifyIdFormatRequest,
             final AsyncHandler<ModifyIdFormatRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifyIdFormat(modifyIdFormatRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyIdFormatRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(modifyIdFormatRequest, new ModifyIdFormatRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -6924,11 +6150,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DeleteNatGatewayResult> deleteNatGatewayAsync(final DeleteNatGatewayRequest deleteNatGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteNatGatewayResult>() {
-            public DeleteNatGatewayResult call() throws Exception {
-                return deleteNatGateway(deleteNatGatewayRequest);
-        }
-    });
+        return invokeAsync(deleteNatGatewayRequest,
+                new DeleteNatGatewayRequestMarshaller(),
+                new DeleteNatGatewayResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -6962,19 +6187,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteNatGatewayRequest deleteNatGatewayRequest,
             final AsyncHandler<DeleteNatGatewayRequest, DeleteNatGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteNatGatewayResult>() {
-            public DeleteNatGatewayResult call() throws Exception {
-              DeleteNatGatewayResult result;
-                try {
-                result = deleteNatGateway(deleteNatGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteNatGatewayRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(deleteNatGatewayRequest,
+                new DeleteNatGatewayRequestMarshaller(),
+                new DeleteNatGatewayResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -7001,12 +6217,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> disableVgwRoutePropagationAsync(final DisableVgwRoutePropagationRequest disableVgwRoutePropagationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disableVgwRoutePropagation(disableVgwRoutePropagationRequest);
-                return null;
-        }
-    });
+        return invokeAsync(disableVgwRoutePropagationRequest,
+                new DisableVgwRoutePropagationRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -7039,18 +6252,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DisableVgwRoutePropagationRequest disableVgwRoutePropagationRequest,
             final AsyncHandler<DisableVgwRoutePropagationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                disableVgwRoutePropagation(disableVgwRoutePropagationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disableVgwRoutePropagationRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(disableVgwRoutePropagationRequest,
+                new DisableVgwRoutePropagationRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -7102,11 +6306,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ModifySpotFleetRequestResult> modifySpotFleetRequestAsync(final ModifySpotFleetRequestRequest modifySpotFleetRequestRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifySpotFleetRequestResult>() {
-            public ModifySpotFleetRequestResult call() throws Exception {
-                return modifySpotFleetRequest(modifySpotFleetRequestRequest);
-        }
-    });
+        return invokeAsync(modifySpotFleetRequestRequest,
+                new ModifySpotFleetRequestRequestMarshaller(),
+                new ModifySpotFleetRequestResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -7164,19 +6367,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifySpotFleetRequestRequest modifySpotFleetRequestRequest,
             final AsyncHandler<ModifySpotFleetRequestRequest, ModifySpotFleetRequestResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifySpotFleetRequestResult>() {
-            public ModifySpotFleetRequestResult call() throws Exception {
-              ModifySpotFleetRequestResult result;
-                try {
-                result = modifySpotFleetRequest(modifySpotFleetRequestRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifySpotFleetRequestRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(modifySpotFleetRequestRequest,
+                new ModifySpotFleetRequestRequestMarshaller(),
+                new ModifySpotFleetRequestResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -7212,11 +6406,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CancelSpotInstanceRequestsResult> cancelSpotInstanceRequestsAsync(final CancelSpotInstanceRequestsRequest cancelSpotInstanceRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelSpotInstanceRequestsResult>() {
-            public CancelSpotInstanceRequestsResult call() throws Exception {
-                return cancelSpotInstanceRequests(cancelSpotInstanceRequestsRequest);
-        }
-    });
+        return invokeAsync(cancelSpotInstanceRequestsRequest,
+                new CancelSpotInstanceRequestsRequestMarshaller(),
+                new CancelSpotInstanceRequestsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -7258,19 +6451,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelSpotInstanceRequestsRequest cancelSpotInstanceRequestsRequest,
             final AsyncHandler<CancelSpotInstanceRequestsRequest, CancelSpotInstanceRequestsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelSpotInstanceRequestsResult>() {
-            public CancelSpotInstanceRequestsResult call() throws Exception {
-              CancelSpotInstanceRequestsResult result;
-                try {
-                result = cancelSpotInstanceRequests(cancelSpotInstanceRequestsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelSpotInstanceRequestsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(cancelSpotInstanceRequestsRequest,
+                new CancelSpotInstanceRequestsRequestMarshaller(),
+                new CancelSpotInstanceRequestsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -7311,11 +6495,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<PurchaseReservedInstancesOfferingResult> purchaseReservedInstancesOfferingAsync(final PurchaseReservedInstancesOfferingRequest purchaseReservedInstancesOfferingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PurchaseReservedInstancesOfferingResult>() {
-            public PurchaseReservedInstancesOfferingResult call() throws Exception {
-                return purchaseReservedInstancesOffering(purchaseReservedInstancesOfferingRequest);
-        }
-    });
+        return invokeAsync(purchaseReservedInstancesOfferingRequest,
+                new PurchaseReservedInstancesOfferingRequestMarshaller(),
+                new PurchaseReservedInstancesOfferingResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -7362,19 +6545,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final PurchaseReservedInstancesOfferingRequest purchaseReservedInstancesOfferingRequest,
             final AsyncHandler<PurchaseReservedInstancesOfferingRequest, PurchaseReservedInstancesOfferingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PurchaseReservedInstancesOfferingResult>() {
-            public PurchaseReservedInstancesOfferingResult call() throws Exception {
-              PurchaseReservedInstancesOfferingResult result;
-                try {
-                result = purchaseReservedInstancesOffering(purchaseReservedInstancesOfferingRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(purchaseReservedInstancesOfferingRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(purchaseReservedInstancesOfferingRequest,
+                new PurchaseReservedInstancesOfferingRequestMarshaller(),
+                new PurchaseReservedInstancesOfferingResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -7405,11 +6579,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateNatGatewayResult> createNatGatewayAsync(final CreateNatGatewayRequest createNatGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNatGatewayResult>() {
-            public CreateNatGatewayResult call() throws Exception {
-                return createNatGateway(createNatGatewayRequest);
-        }
-    });
+        return invokeAsync(createNatGatewayRequest,
+                new CreateNatGatewayRequestMarshaller(),
+                new CreateNatGatewayResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -7446,19 +6619,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateNatGatewayRequest createNatGatewayRequest,
             final AsyncHandler<CreateNatGatewayRequest, CreateNatGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNatGatewayResult>() {
-            public CreateNatGatewayResult call() throws Exception {
-              CreateNatGatewayResult result;
-                try {
-                result = createNatGateway(createNatGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createNatGatewayRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createNatGatewayRequest,
+                new CreateNatGatewayRequestMarshaller(),
+                new CreateNatGatewayResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -7493,11 +6657,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeReservedInstancesModificationsResult> describeReservedInstancesModificationsAsync(final DescribeReservedInstancesModificationsRequest describeReservedInstancesModificationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesModificationsResult>() {
-            public DescribeReservedInstancesModificationsResult call() throws Exception {
-                return describeReservedInstancesModifications(describeReservedInstancesModificationsRequest);
-        }
-    });
+        return invokeAsync(describeReservedInstancesModificationsRequest,
+                new DescribeReservedInstancesModificationsRequestMarshaller(),
+                new DescribeReservedInstancesModificationsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -7538,19 +6701,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeReservedInstancesModificationsRequest describeReservedInstancesModificationsRequest,
             final AsyncHandler<DescribeReservedInstancesModificationsRequest, DescribeReservedInstancesModificationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesModificationsResult>() {
-            public DescribeReservedInstancesModificationsResult call() throws Exception {
-              DescribeReservedInstancesModificationsResult result;
-                try {
-                result = describeReservedInstancesModifications(describeReservedInstancesModificationsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReservedInstancesModificationsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeReservedInstancesModificationsRequest,
+                new DescribeReservedInstancesModificationsRequestMarshaller(),
+                new DescribeReservedInstancesModificationsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -7577,11 +6731,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ModifyVpcEndpointResult> modifyVpcEndpointAsync(final ModifyVpcEndpointRequest modifyVpcEndpointRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyVpcEndpointResult>() {
-            public ModifyVpcEndpointResult call() throws Exception {
-                return modifyVpcEndpoint(modifyVpcEndpointRequest);
-        }
-    });
+        return invokeAsync(modifyVpcEndpointRequest,
+                new ModifyVpcEndpointRequestMarshaller(),
+                new ModifyVpcEndpointResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -7614,19 +6767,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyVpcEndpointRequest modifyVpcEndpointRequest,
             final AsyncHandler<ModifyVpcEndpointRequest, ModifyVpcEndpointResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyVpcEndpointResult>() {
-            public ModifyVpcEndpointResult call() throws Exception {
-              ModifyVpcEndpointResult result;
-                try {
-                result = modifyVpcEndpoint(modifyVpcEndpointRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyVpcEndpointRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(modifyVpcEndpointRequest,
+                new ModifyVpcEndpointRequestMarshaller(),
+                new ModifyVpcEndpointResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -7679,11 +6823,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<TerminateInstancesResult> terminateInstancesAsync(final TerminateInstancesRequest terminateInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateInstancesResult>() {
-            public TerminateInstancesResult call() throws Exception {
-                return terminateInstances(terminateInstancesRequest);
-        }
-    });
+        return invokeAsync(terminateInstancesRequest,
+                new TerminateInstancesRequestMarshaller(),
+                new TerminateInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -7742,19 +6885,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final TerminateInstancesRequest terminateInstancesRequest,
             final AsyncHandler<TerminateInstancesRequest, TerminateInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateInstancesResult>() {
-            public TerminateInstancesResult call() throws Exception {
-              TerminateInstancesResult result;
-                try {
-                result = terminateInstances(terminateInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(terminateInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(terminateInstancesRequest,
+                new TerminateInstancesRequestMarshaller(),
+                new TerminateInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -7781,12 +6915,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteInternetGatewayAsync(final DeleteInternetGatewayRequest deleteInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteInternetGateway(deleteInternetGatewayRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteInternetGatewayRequest,
+                new DeleteInternetGatewayRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -7819,18 +6950,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteInternetGatewayRequest deleteInternetGatewayRequest,
             final AsyncHandler<DeleteInternetGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteInternetGateway(deleteInternetGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteInternetGatewayRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteInternetGatewayRequest,
+                new DeleteInternetGatewayRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -7861,11 +6983,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeAddressesResult> describeAddressesAsync(final DescribeAddressesRequest describeAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAddressesResult>() {
-            public DescribeAddressesResult call() throws Exception {
-                return describeAddresses(describeAddressesRequest);
-        }
-    });
+        return invokeAsync(describeAddressesRequest,
+                new DescribeAddressesRequestMarshaller(),
+                new DescribeAddressesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -7902,19 +7023,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeAddressesRequest describeAddressesRequest,
             final AsyncHandler<DescribeAddressesRequest, DescribeAddressesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAddressesResult>() {
-            public DescribeAddressesResult call() throws Exception {
-              DescribeAddressesResult result;
-                try {
-                result = describeAddresses(describeAddressesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAddressesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeAddressesRequest,
+                new DescribeAddressesRequestMarshaller(),
+                new DescribeAddressesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -7943,11 +7055,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ConfirmProductInstanceResult> confirmProductInstanceAsync(final ConfirmProductInstanceRequest confirmProductInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmProductInstanceResult>() {
-            public ConfirmProductInstanceResult call() throws Exception {
-                return confirmProductInstance(confirmProductInstanceRequest);
-        }
-    });
+        return invokeAsync(confirmProductInstanceRequest,
+                new ConfirmProductInstanceRequestMarshaller(),
+                new ConfirmProductInstanceResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -7982,19 +7093,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ConfirmProductInstanceRequest confirmProductInstanceRequest,
             final AsyncHandler<ConfirmProductInstanceRequest, ConfirmProductInstanceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmProductInstanceResult>() {
-            public ConfirmProductInstanceResult call() throws Exception {
-              ConfirmProductInstanceResult result;
-                try {
-                result = confirmProductInstance(confirmProductInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(confirmProductInstanceRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(confirmProductInstanceRequest,
+                new ConfirmProductInstanceRequestMarshaller(),
+                new ConfirmProductInstanceResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -8021,12 +7123,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteNetworkAclEntryAsync(final DeleteNetworkAclEntryRequest deleteNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteNetworkAclEntry(deleteNetworkAclEntryRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteNetworkAclEntryRequest,
+                new DeleteNetworkAclEntryRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -8059,18 +7158,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteNetworkAclEntryRequest deleteNetworkAclEntryRequest,
             final AsyncHandler<DeleteNetworkAclEntryRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteNetworkAclEntry(deleteNetworkAclEntryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteNetworkAclEntryRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteNetworkAclEntryRequest,
+                new DeleteNetworkAclEntryRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -8096,11 +7186,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpcAttributeResult> describeVpcAttributeAsync(final DescribeVpcAttributeRequest describeVpcAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcAttributeResult>() {
-            public DescribeVpcAttributeResult call() throws Exception {
-                return describeVpcAttribute(describeVpcAttributeRequest);
-        }
-    });
+        return invokeAsync(describeVpcAttributeRequest,
+                new DescribeVpcAttributeRequestMarshaller(),
+                new DescribeVpcAttributeResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -8132,19 +7221,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpcAttributeRequest describeVpcAttributeRequest,
             final AsyncHandler<DescribeVpcAttributeRequest, DescribeVpcAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcAttributeResult>() {
-            public DescribeVpcAttributeResult call() throws Exception {
-              DescribeVpcAttributeResult result;
-                try {
-                result = describeVpcAttribute(describeVpcAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcAttributeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVpcAttributeRequest,
+                new DescribeVpcAttributeRequestMarshaller(),
+                new DescribeVpcAttributeResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -8201,11 +7281,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeInstanceStatusResult> describeInstanceStatusAsync(final DescribeInstanceStatusRequest describeInstanceStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceStatusResult>() {
-            public DescribeInstanceStatusResult call() throws Exception {
-                return describeInstanceStatus(describeInstanceStatusRequest);
-        }
-    });
+        return invokeAsync(describeInstanceStatusRequest,
+                new DescribeInstanceStatusRequestMarshaller(),
+                new DescribeInstanceStatusResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -8268,19 +7347,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeInstanceStatusRequest describeInstanceStatusRequest,
             final AsyncHandler<DescribeInstanceStatusRequest, DescribeInstanceStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceStatusResult>() {
-            public DescribeInstanceStatusResult call() throws Exception {
-              DescribeInstanceStatusResult result;
-                try {
-                result = describeInstanceStatus(describeInstanceStatusRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeInstanceStatusRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeInstanceStatusRequest,
+                new DescribeInstanceStatusRequestMarshaller(),
+                new DescribeInstanceStatusResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -8313,11 +7383,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSpotFleetRequestHistoryResult> describeSpotFleetRequestHistoryAsync(final DescribeSpotFleetRequestHistoryRequest describeSpotFleetRequestHistoryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetRequestHistoryResult>() {
-            public DescribeSpotFleetRequestHistoryResult call() throws Exception {
-                return describeSpotFleetRequestHistory(describeSpotFleetRequestHistoryRequest);
-        }
-    });
+        return invokeAsync(describeSpotFleetRequestHistoryRequest,
+                new DescribeSpotFleetRequestHistoryRequestMarshaller(),
+                new DescribeSpotFleetRequestHistoryResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -8356,19 +7425,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSpotFleetRequestHistoryRequest describeSpotFleetRequestHistoryRequest,
             final AsyncHandler<DescribeSpotFleetRequestHistoryRequest, DescribeSpotFleetRequestHistoryResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetRequestHistoryResult>() {
-            public DescribeSpotFleetRequestHistoryResult call() throws Exception {
-              DescribeSpotFleetRequestHistoryResult result;
-                try {
-                result = describeSpotFleetRequestHistory(describeSpotFleetRequestHistoryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSpotFleetRequestHistoryRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSpotFleetRequestHistoryRequest,
+                new DescribeSpotFleetRequestHistoryRequestMarshaller(),
+                new DescribeSpotFleetRequestHistoryResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -8412,12 +7472,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteSnapshotAsync(final DeleteSnapshotRequest deleteSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSnapshot(deleteSnapshotRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteSnapshotRequest, new DeleteSnapshotRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -8467,18 +7523,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteSnapshotRequest deleteSnapshotRequest,
             final AsyncHandler<DeleteSnapshotRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteSnapshot(deleteSnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteSnapshotRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteSnapshotRequest, new DeleteSnapshotRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -8508,11 +7554,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ReplaceNetworkAclAssociationResult> replaceNetworkAclAssociationAsync(final ReplaceNetworkAclAssociationRequest replaceNetworkAclAssociationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceNetworkAclAssociationResult>() {
-            public ReplaceNetworkAclAssociationResult call() throws Exception {
-                return replaceNetworkAclAssociation(replaceNetworkAclAssociationRequest);
-        }
-    });
+        return invokeAsync(replaceNetworkAclAssociationRequest,
+                new ReplaceNetworkAclAssociationRequestMarshaller(),
+                new ReplaceNetworkAclAssociationResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -8548,19 +7593,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReplaceNetworkAclAssociationRequest replaceNetworkAclAssociationRequest,
             final AsyncHandler<ReplaceNetworkAclAssociationRequest, ReplaceNetworkAclAssociationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceNetworkAclAssociationResult>() {
-            public ReplaceNetworkAclAssociationResult call() throws Exception {
-              ReplaceNetworkAclAssociationResult result;
-                try {
-                result = replaceNetworkAclAssociation(replaceNetworkAclAssociationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(replaceNetworkAclAssociationRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(replaceNetworkAclAssociationRequest,
+                new ReplaceNetworkAclAssociationRequestMarshaller(),
+                new ReplaceNetworkAclAssociationResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -8596,12 +7632,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> disassociateAddressAsync(final DisassociateAddressRequest disassociateAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disassociateAddress(disassociateAddressRequest);
-                return null;
-        }
-    });
+        return invokeAsync(disassociateAddressRequest,
+                new DisassociateAddressRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -8643,18 +7676,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DisassociateAddressRequest disassociateAddressRequest,
             final AsyncHandler<DisassociateAddressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                disassociateAddress(disassociateAddressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disassociateAddressRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(disassociateAddressRequest,
+                new DisassociateAddressRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -8687,12 +7711,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> createPlacementGroupAsync(final CreatePlacementGroupRequest createPlacementGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createPlacementGroup(createPlacementGroupRequest);
-                return null;
-        }
-    });
+        return invokeAsync(createPlacementGroupRequest,
+                new CreatePlacementGroupRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -8731,18 +7752,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreatePlacementGroupRequest createPlacementGroupRequest,
             final AsyncHandler<CreatePlacementGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                createPlacementGroup(createPlacementGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createPlacementGroupRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(createPlacementGroupRequest,
+                new CreatePlacementGroupRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -8772,12 +7784,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deletePlacementGroupAsync(final DeletePlacementGroupRequest deletePlacementGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deletePlacementGroup(deletePlacementGroupRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deletePlacementGroupRequest,
+                new DeletePlacementGroupRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -8813,18 +7822,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeletePlacementGroupRequest deletePlacementGroupRequest,
             final AsyncHandler<DeletePlacementGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deletePlacementGroup(deletePlacementGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deletePlacementGroupRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deletePlacementGroupRequest,
+                new DeletePlacementGroupRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -8850,12 +7850,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifySubnetAttributeAsync(final ModifySubnetAttributeRequest modifySubnetAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifySubnetAttribute(modifySubnetAttributeRequest);
-                return null;
-        }
-    });
+        return invokeAsync(modifySubnetAttributeRequest,
+                new ModifySubnetAttributeRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -8887,18 +7884,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifySubnetAttributeRequest modifySubnetAttributeRequest,
             final AsyncHandler<ModifySubnetAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifySubnetAttribute(modifySubnetAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifySubnetAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(modifySubnetAttributeRequest,
+                new ModifySubnetAttributeRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -8928,12 +7916,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVpcAsync(final DeleteVpcRequest deleteVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVpc(deleteVpcRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteVpcRequest, new DeleteVpcRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -8969,18 +7953,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVpcRequest deleteVpcRequest,
             final AsyncHandler<DeleteVpcRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteVpc(deleteVpcRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpcRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteVpcRequest, new DeleteVpcRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -9007,11 +7981,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpcEndpointServicesResult> describeVpcEndpointServicesAsync(final DescribeVpcEndpointServicesRequest describeVpcEndpointServicesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcEndpointServicesResult>() {
-            public DescribeVpcEndpointServicesResult call() throws Exception {
-                return describeVpcEndpointServices(describeVpcEndpointServicesRequest);
-        }
-    });
+        return invokeAsync(describeVpcEndpointServicesRequest,
+                new DescribeVpcEndpointServicesRequestMarshaller(),
+                new DescribeVpcEndpointServicesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -9044,19 +8017,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpcEndpointServicesRequest describeVpcEndpointServicesRequest,
             final AsyncHandler<DescribeVpcEndpointServicesRequest, DescribeVpcEndpointServicesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcEndpointServicesResult>() {
-            public DescribeVpcEndpointServicesResult call() throws Exception {
-              DescribeVpcEndpointServicesResult result;
-                try {
-                result = describeVpcEndpointServices(describeVpcEndpointServicesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcEndpointServicesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVpcEndpointServicesRequest,
+                new DescribeVpcEndpointServicesRequestMarshaller(),
+                new DescribeVpcEndpointServicesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -9099,11 +8063,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CopySnapshotResult> copySnapshotAsync(final CopySnapshotRequest copySnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CopySnapshotResult>() {
-            public CopySnapshotResult call() throws Exception {
-                return copySnapshot(copySnapshotRequest);
-        }
-    });
+        return invokeAsync(copySnapshotRequest,
+                new CopySnapshotRequestMarshaller(), new CopySnapshotResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -9152,19 +8114,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CopySnapshotRequest copySnapshotRequest,
             final AsyncHandler<CopySnapshotRequest, CopySnapshotResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CopySnapshotResult>() {
-            public CopySnapshotResult call() throws Exception {
-              CopySnapshotResult result;
-                try {
-                result = copySnapshot(copySnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(copySnapshotRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(copySnapshotRequest,
+                new CopySnapshotRequestMarshaller(), new CopySnapshotResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -9202,12 +8154,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> resetInstanceAttributeAsync(final ResetInstanceAttributeRequest resetInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resetInstanceAttribute(resetInstanceAttributeRequest);
-                return null;
-        }
-    });
+        return invokeAsync(resetInstanceAttributeRequest,
+                new ResetInstanceAttributeRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -9251,18 +8200,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ResetInstanceAttributeRequest resetInstanceAttributeRequest,
             final AsyncHandler<ResetInstanceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                resetInstanceAttribute(resetInstanceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resetInstanceAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(resetInstanceAttributeRequest,
+                new ResetInstanceAttributeRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -9304,11 +8244,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateKeyPairResult> createKeyPairAsync(final CreateKeyPairRequest createKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateKeyPairResult>() {
-            public CreateKeyPairResult call() throws Exception {
-                return createKeyPair(createKeyPairRequest);
-        }
-    });
+        return invokeAsync(createKeyPairRequest,
+                new CreateKeyPairRequestMarshaller(), new CreateKeyPairResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -9356,19 +8294,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateKeyPairRequest createKeyPairRequest,
             final AsyncHandler<CreateKeyPairRequest, CreateKeyPairResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateKeyPairResult>() {
-            public CreateKeyPairResult call() throws Exception {
-              CreateKeyPairResult result;
-                try {
-                result = createKeyPair(createKeyPairRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createKeyPairRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createKeyPairRequest,
+                new CreateKeyPairRequestMarshaller(), new CreateKeyPairResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -9397,12 +8325,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> replaceNetworkAclEntryAsync(final ReplaceNetworkAclEntryRequest replaceNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                replaceNetworkAclEntry(replaceNetworkAclEntryRequest);
-                return null;
-        }
-    });
+        return invokeAsync(replaceNetworkAclEntryRequest,
+                new ReplaceNetworkAclEntryRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -9437,18 +8362,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReplaceNetworkAclEntryRequest replaceNetworkAclEntryRequest,
             final AsyncHandler<ReplaceNetworkAclEntryRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                replaceNetworkAclEntry(replaceNetworkAclEntryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(replaceNetworkAclEntryRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(replaceNetworkAclEntryRequest,
+                new ReplaceNetworkAclEntryRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -9532,11 +8448,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSnapshotsResult> describeSnapshotsAsync(final DescribeSnapshotsRequest describeSnapshotsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotsResult>() {
-            public DescribeSnapshotsResult call() throws Exception {
-                return describeSnapshots(describeSnapshotsRequest);
-        }
-    });
+        return invokeAsync(describeSnapshotsRequest,
+                new DescribeSnapshotsRequestMarshaller(),
+                new DescribeSnapshotsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -9626,19 +8541,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSnapshotsRequest describeSnapshotsRequest,
             final AsyncHandler<DescribeSnapshotsRequest, DescribeSnapshotsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotsResult>() {
-            public DescribeSnapshotsResult call() throws Exception {
-              DescribeSnapshotsResult result;
-                try {
-                result = describeSnapshots(describeSnapshotsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSnapshotsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSnapshotsRequest,
+                new DescribeSnapshotsRequestMarshaller(),
+                new DescribeSnapshotsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -9670,11 +8576,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateNetworkAclResult> createNetworkAclAsync(final CreateNetworkAclRequest createNetworkAclRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkAclResult>() {
-            public CreateNetworkAclResult call() throws Exception {
-                return createNetworkAcl(createNetworkAclRequest);
-        }
-    });
+        return invokeAsync(createNetworkAclRequest,
+                new CreateNetworkAclRequestMarshaller(),
+                new CreateNetworkAclResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -9712,19 +8617,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateNetworkAclRequest createNetworkAclRequest,
             final AsyncHandler<CreateNetworkAclRequest, CreateNetworkAclResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkAclResult>() {
-            public CreateNetworkAclResult call() throws Exception {
-              CreateNetworkAclResult result;
-                try {
-                result = createNetworkAcl(createNetworkAclRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createNetworkAclRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createNetworkAclRequest,
+                new CreateNetworkAclRequestMarshaller(),
+                new CreateNetworkAclResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -9752,12 +8648,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> resetNetworkInterfaceAttributeAsync(final ResetNetworkInterfaceAttributeRequest resetNetworkInterfaceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resetNetworkInterfaceAttribute(resetNetworkInterfaceAttributeRequest);
-                return null;
-        }
-    });
+        return invokeAsync(resetNetworkInterfaceAttributeRequest,
+                new ResetNetworkInterfaceAttributeRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -9791,18 +8684,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ResetNetworkInterfaceAttributeRequest resetNetworkInterfaceAttributeRequest,
             final AsyncHandler<ResetNetworkInterfaceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                resetNetworkInterfaceAttribute(resetNetworkInterfaceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resetNetworkInterfaceAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(resetNetworkInterfaceAttributeRequest,
+                new ResetNetworkInterfaceAttributeRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -9835,11 +8719,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<EnableVpcClassicLinkResult> enableVpcClassicLinkAsync(final EnableVpcClassicLinkRequest enableVpcClassicLinkRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableVpcClassicLinkResult>() {
-            public EnableVpcClassicLinkResult call() throws Exception {
-                return enableVpcClassicLink(enableVpcClassicLinkRequest);
-        }
-    });
+        return invokeAsync(enableVpcClassicLinkRequest,
+                new EnableVpcClassicLinkRequestMarshaller(),
+                new EnableVpcClassicLinkResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -9878,19 +8761,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final EnableVpcClassicLinkRequest enableVpcClassicLinkRequest,
             final AsyncHandler<EnableVpcClassicLinkRequest, EnableVpcClassicLinkResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableVpcClassicLinkResult>() {
-            public EnableVpcClassicLinkResult call() throws Exception {
-              EnableVpcClassicLinkResult result;
-                try {
-                result = enableVpcClassicLink(enableVpcClassicLinkRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableVpcClassicLinkRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(enableVpcClassicLinkRequest,
+                new EnableVpcClassicLinkRequestMarshaller(),
+                new EnableVpcClassicLinkResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -9924,12 +8798,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> createVpnConnectionRouteAsync(final CreateVpnConnectionRouteRequest createVpnConnectionRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createVpnConnectionRoute(createVpnConnectionRouteRequest);
-                return null;
-        }
-    });
+        return invokeAsync(createVpnConnectionRouteRequest,
+                new CreateVpnConnectionRouteRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -9969,18 +8840,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVpnConnectionRouteRequest createVpnConnectionRouteRequest,
             final AsyncHandler<CreateVpnConnectionRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                createVpnConnectionRoute(createVpnConnectionRouteRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpnConnectionRouteRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(createVpnConnectionRouteRequest,
+                new CreateVpnConnectionRouteRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -10008,11 +8870,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DetachClassicLinkVpcResult> detachClassicLinkVpcAsync(final DetachClassicLinkVpcRequest detachClassicLinkVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachClassicLinkVpcResult>() {
-            public DetachClassicLinkVpcResult call() throws Exception {
-                return detachClassicLinkVpc(detachClassicLinkVpcRequest);
-        }
-    });
+        return invokeAsync(detachClassicLinkVpcRequest,
+                new DetachClassicLinkVpcRequestMarshaller(),
+                new DetachClassicLinkVpcResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -10046,19 +8907,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DetachClassicLinkVpcRequest detachClassicLinkVpcRequest,
             final AsyncHandler<DetachClassicLinkVpcRequest, DetachClassicLinkVpcResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachClassicLinkVpcResult>() {
-            public DetachClassicLinkVpcResult call() throws Exception {
-              DetachClassicLinkVpcResult result;
-                try {
-                result = detachClassicLinkVpc(detachClassicLinkVpcRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachClassicLinkVpcRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(detachClassicLinkVpcRequest,
+                new DetachClassicLinkVpcRequestMarshaller(),
+                new DetachClassicLinkVpcResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -10094,11 +8946,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateFlowLogsResult> createFlowLogsAsync(final CreateFlowLogsRequest createFlowLogsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateFlowLogsResult>() {
-            public CreateFlowLogsResult call() throws Exception {
-                return createFlowLogs(createFlowLogsRequest);
-        }
-    });
+        return invokeAsync(createFlowLogsRequest,
+                new CreateFlowLogsRequestMarshaller(), new CreateFlowLogsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -10140,19 +8990,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateFlowLogsRequest createFlowLogsRequest,
             final AsyncHandler<CreateFlowLogsRequest, CreateFlowLogsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateFlowLogsResult>() {
-            public CreateFlowLogsResult call() throws Exception {
-              CreateFlowLogsResult result;
-                try {
-                result = createFlowLogs(createFlowLogsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createFlowLogsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createFlowLogsRequest,
+                new CreateFlowLogsRequestMarshaller(), new CreateFlowLogsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -10187,11 +9027,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeAvailabilityZonesResult> describeAvailabilityZonesAsync(final DescribeAvailabilityZonesRequest describeAvailabilityZonesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAvailabilityZonesResult>() {
-            public DescribeAvailabilityZonesResult call() throws Exception {
-                return describeAvailabilityZones(describeAvailabilityZonesRequest);
-        }
-    });
+        return invokeAsync(describeAvailabilityZonesRequest,
+                new DescribeAvailabilityZonesRequestMarshaller(),
+                new DescribeAvailabilityZonesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -10232,19 +9071,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeAvailabilityZonesRequest describeAvailabilityZonesRequest,
             final AsyncHandler<DescribeAvailabilityZonesRequest, DescribeAvailabilityZonesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAvailabilityZonesResult>() {
-            public DescribeAvailabilityZonesResult call() throws Exception {
-              DescribeAvailabilityZonesResult result;
-                try {
-                result = describeAvailabilityZones(describeAvailabilityZonesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAvailabilityZonesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeAvailabilityZonesRequest,
+                new DescribeAvailabilityZonesRequestMarshaller(),
+                new DescribeAvailabilityZonesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -10276,11 +9106,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RestoreAddressToClassicResult> restoreAddressToClassicAsync(final RestoreAddressToClassicRequest restoreAddressToClassicRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RestoreAddressToClassicResult>() {
-            public RestoreAddressToClassicResult call() throws Exception {
-                return restoreAddressToClassic(restoreAddressToClassicRequest);
-        }
-    });
+        return invokeAsync(restoreAddressToClassicRequest,
+                new RestoreAddressToClassicRequestMarshaller(),
+                new RestoreAddressToClassicResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -10318,19 +9147,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RestoreAddressToClassicRequest restoreAddressToClassicRequest,
             final AsyncHandler<RestoreAddressToClassicRequest, RestoreAddressToClassicResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RestoreAddressToClassicResult>() {
-            public RestoreAddressToClassicResult call() throws Exception {
-              RestoreAddressToClassicResult result;
-                try {
-                result = restoreAddressToClassic(restoreAddressToClassicRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(restoreAddressToClassicRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(restoreAddressToClassicRequest,
+                new RestoreAddressToClassicRequestMarshaller(),
+                new RestoreAddressToClassicResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -10358,11 +9178,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<UnmonitorInstancesResult> unmonitorInstancesAsync(final UnmonitorInstancesRequest unmonitorInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UnmonitorInstancesResult>() {
-            public UnmonitorInstancesResult call() throws Exception {
-                return unmonitorInstances(unmonitorInstancesRequest);
-        }
-    });
+        return invokeAsync(unmonitorInstancesRequest,
+                new UnmonitorInstancesRequestMarshaller(),
+                new UnmonitorInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -10396,19 +9215,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final UnmonitorInstancesRequest unmonitorInstancesRequest,
             final AsyncHandler<UnmonitorInstancesRequest, UnmonitorInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UnmonitorInstancesResult>() {
-            public UnmonitorInstancesResult call() throws Exception {
-              UnmonitorInstancesResult result;
-                try {
-                result = unmonitorInstances(unmonitorInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(unmonitorInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(unmonitorInstancesRequest,
+                new UnmonitorInstancesRequestMarshaller(),
+                new UnmonitorInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -10439,12 +9249,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteSecurityGroupAsync(final DeleteSecurityGroupRequest deleteSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSecurityGroup(deleteSecurityGroupRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteSecurityGroupRequest,
+                new DeleteSecurityGroupRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -10481,18 +9288,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteSecurityGroupRequest deleteSecurityGroupRequest,
             final AsyncHandler<DeleteSecurityGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteSecurityGroup(deleteSecurityGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteSecurityGroupRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteSecurityGroupRequest,
+                new DeleteSecurityGroupRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -10524,11 +9322,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateInstanceExportTaskResult> createInstanceExportTaskAsync(final CreateInstanceExportTaskRequest createInstanceExportTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInstanceExportTaskResult>() {
-            public CreateInstanceExportTaskResult call() throws Exception {
-                return createInstanceExportTask(createInstanceExportTaskRequest);
-        }
-    });
+        return invokeAsync(createInstanceExportTaskRequest,
+                new CreateInstanceExportTaskRequestMarshaller(),
+                new CreateInstanceExportTaskResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -10566,19 +9363,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateInstanceExportTaskRequest createInstanceExportTaskRequest,
             final AsyncHandler<CreateInstanceExportTaskRequest, CreateInstanceExportTaskResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInstanceExportTaskResult>() {
-            public CreateInstanceExportTaskResult call() throws Exception {
-              CreateInstanceExportTaskResult result;
-                try {
-                result = createInstanceExportTask(createInstanceExportTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createInstanceExportTaskRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createInstanceExportTaskRequest,
+                new CreateInstanceExportTaskRequestMarshaller(),
+                new CreateInstanceExportTaskResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -10622,11 +9410,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<GetPasswordDataResult> getPasswordDataAsync(final GetPasswordDataRequest getPasswordDataRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPasswordDataResult>() {
-            public GetPasswordDataResult call() throws Exception {
-                return getPasswordData(getPasswordDataRequest);
-        }
-    });
+        return invokeAsync(getPasswordDataRequest,
+                new GetPasswordDataRequestMarshaller(), new GetPasswordDataResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -10676,19 +9462,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final GetPasswordDataRequest getPasswordDataRequest,
             final AsyncHandler<GetPasswordDataRequest, GetPasswordDataResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPasswordDataResult>() {
-            public GetPasswordDataResult call() throws Exception {
-              GetPasswordDataResult result;
-                try {
-                result = getPasswordData(getPasswordDataRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getPasswordDataRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(getPasswordDataRequest,
+                new GetPasswordDataRequestMarshaller(), new GetPasswordDataResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -10727,12 +9503,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> associateDhcpOptionsAsync(final AssociateDhcpOptionsRequest associateDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                associateDhcpOptions(associateDhcpOptionsRequest);
-                return null;
-        }
-    });
+        return invokeAsync(associateDhcpOptionsRequest,
+                new AssociateDhcpOptionsRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -10777,18 +9550,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AssociateDhcpOptionsRequest associateDhcpOptionsRequest,
             final AsyncHandler<AssociateDhcpOptionsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                associateDhcpOptions(associateDhcpOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(associateDhcpOptionsRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(associateDhcpOptionsRequest,
+                new AssociateDhcpOptionsRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -10823,11 +9587,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ImportKeyPairResult> importKeyPairAsync(final ImportKeyPairRequest importKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportKeyPairResult>() {
-            public ImportKeyPairResult call() throws Exception {
-                return importKeyPair(importKeyPairRequest);
-        }
-    });
+        return invokeAsync(importKeyPairRequest,
+                new ImportKeyPairRequestMarshaller(), new ImportKeyPairResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -10868,19 +9630,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ImportKeyPairRequest importKeyPairRequest,
             final AsyncHandler<ImportKeyPairRequest, ImportKeyPairResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportKeyPairResult>() {
-            public ImportKeyPairResult call() throws Exception {
-              ImportKeyPairResult result;
-                try {
-                result = importKeyPair(importKeyPairRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(importKeyPairRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(importKeyPairRequest,
+                new ImportKeyPairRequestMarshaller(), new ImportKeyPairResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -10905,12 +9657,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyVpcAttributeAsync(final ModifyVpcAttributeRequest modifyVpcAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyVpcAttribute(modifyVpcAttributeRequest);
-                return null;
-        }
-    });
+        return invokeAsync(modifyVpcAttributeRequest,
+                new ModifyVpcAttributeRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -10941,18 +9690,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyVpcAttributeRequest modifyVpcAttributeRequest,
             final AsyncHandler<ModifyVpcAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifyVpcAttribute(modifyVpcAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyVpcAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(modifyVpcAttributeRequest,
+                new ModifyVpcAttributeRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -10979,12 +9719,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteNetworkInterfaceAsync(final DeleteNetworkInterfaceRequest deleteNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteNetworkInterface(deleteNetworkInterfaceRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteNetworkInterfaceRequest,
+                new DeleteNetworkInterfaceRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -11017,18 +9754,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteNetworkInterfaceRequest deleteNetworkInterfaceRequest,
             final AsyncHandler<DeleteNetworkInterfaceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteNetworkInterface(deleteNetworkInterfaceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteNetworkInterfaceRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteNetworkInterfaceRequest,
+                new DeleteNetworkInterfaceRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -11058,11 +9786,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeRegionsResult> describeRegionsAsync(final DescribeRegionsRequest describeRegionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRegionsResult>() {
-            public DescribeRegionsResult call() throws Exception {
-                return describeRegions(describeRegionsRequest);
-        }
-    });
+        return invokeAsync(describeRegionsRequest,
+                new DescribeRegionsRequestMarshaller(), new DescribeRegionsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -11098,19 +9824,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeRegionsRequest describeRegionsRequest,
             final AsyncHandler<DescribeRegionsRequest, DescribeRegionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRegionsResult>() {
-            public DescribeRegionsResult call() throws Exception {
-              DescribeRegionsResult result;
-                try {
-                result = describeRegions(describeRegionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeRegionsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeRegionsRequest,
+                new DescribeRegionsRequestMarshaller(), new DescribeRegionsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -11136,11 +9852,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeNetworkInterfacesResult> describeNetworkInterfacesAsync(final DescribeNetworkInterfacesRequest describeNetworkInterfacesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfacesResult>() {
-            public DescribeNetworkInterfacesResult call() throws Exception {
-                return describeNetworkInterfaces(describeNetworkInterfacesRequest);
-        }
-    });
+        return invokeAsync(describeNetworkInterfacesRequest,
+                new DescribeNetworkInterfacesRequestMarshaller(),
+                new DescribeNetworkInterfacesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -11172,19 +9887,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeNetworkInterfacesRequest describeNetworkInterfacesRequest,
             final AsyncHandler<DescribeNetworkInterfacesRequest, DescribeNetworkInterfacesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfacesResult>() {
-            public DescribeNetworkInterfacesResult call() throws Exception {
-              DescribeNetworkInterfacesResult result;
-                try {
-                result = describeNetworkInterfaces(describeNetworkInterfacesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeNetworkInterfacesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeNetworkInterfacesRequest,
+                new DescribeNetworkInterfacesRequestMarshaller(),
+                new DescribeNetworkInterfacesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -11256,11 +9962,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateDhcpOptionsResult> createDhcpOptionsAsync(final CreateDhcpOptionsRequest createDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDhcpOptionsResult>() {
-            public CreateDhcpOptionsResult call() throws Exception {
-                return createDhcpOptions(createDhcpOptionsRequest);
-        }
-    });
+        return invokeAsync(createDhcpOptionsRequest,
+                new CreateDhcpOptionsRequestMarshaller(),
+                new CreateDhcpOptionsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -11338,19 +10043,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateDhcpOptionsRequest createDhcpOptionsRequest,
             final AsyncHandler<CreateDhcpOptionsRequest, CreateDhcpOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDhcpOptionsResult>() {
-            public CreateDhcpOptionsResult call() throws Exception {
-              CreateDhcpOptionsResult result;
-                try {
-                result = createDhcpOptions(createDhcpOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createDhcpOptionsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createDhcpOptionsRequest,
+                new CreateDhcpOptionsRequestMarshaller(),
+                new CreateDhcpOptionsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -11377,11 +10073,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DeleteVpcEndpointsResult> deleteVpcEndpointsAsync(final DeleteVpcEndpointsRequest deleteVpcEndpointsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVpcEndpointsResult>() {
-            public DeleteVpcEndpointsResult call() throws Exception {
-                return deleteVpcEndpoints(deleteVpcEndpointsRequest);
-        }
-    });
+        return invokeAsync(deleteVpcEndpointsRequest,
+                new DeleteVpcEndpointsRequestMarshaller(),
+                new DeleteVpcEndpointsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -11414,19 +10109,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVpcEndpointsRequest deleteVpcEndpointsRequest,
             final AsyncHandler<DeleteVpcEndpointsRequest, DeleteVpcEndpointsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVpcEndpointsResult>() {
-            public DeleteVpcEndpointsResult call() throws Exception {
-              DeleteVpcEndpointsResult result;
-                try {
-                result = deleteVpcEndpoints(deleteVpcEndpointsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpcEndpointsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(deleteVpcEndpointsRequest,
+                new DeleteVpcEndpointsRequestMarshaller(),
+                new DeleteVpcEndpointsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -11457,12 +10143,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> resetSnapshotAttributeAsync(final ResetSnapshotAttributeRequest resetSnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resetSnapshotAttribute(resetSnapshotAttributeRequest);
-                return null;
-        }
-    });
+        return invokeAsync(resetSnapshotAttributeRequest,
+                new ResetSnapshotAttributeRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -11499,18 +10182,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ResetSnapshotAttributeRequest resetSnapshotAttributeRequest,
             final AsyncHandler<ResetSnapshotAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                resetSnapshotAttribute(resetSnapshotAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resetSnapshotAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(resetSnapshotAttributeRequest,
+                new ResetSnapshotAttributeRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -11535,12 +10209,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteRouteAsync(final DeleteRouteRequest deleteRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteRoute(deleteRouteRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteRouteRequest, new DeleteRouteRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -11571,18 +10241,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteRouteRequest deleteRouteRequest,
             final AsyncHandler<DeleteRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteRoute(deleteRouteRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteRouteRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteRouteRequest, new DeleteRouteRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -11608,11 +10268,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeInternetGatewaysResult> describeInternetGatewaysAsync(final DescribeInternetGatewaysRequest describeInternetGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInternetGatewaysResult>() {
-            public DescribeInternetGatewaysResult call() throws Exception {
-                return describeInternetGateways(describeInternetGatewaysRequest);
-        }
-    });
+        return invokeAsync(describeInternetGatewaysRequest,
+                new DescribeInternetGatewaysRequestMarshaller(),
+                new DescribeInternetGatewaysResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -11644,19 +10303,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeInternetGatewaysRequest describeInternetGatewaysRequest,
             final AsyncHandler<DescribeInternetGatewaysRequest, DescribeInternetGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInternetGatewaysResult>() {
-            public DescribeInternetGatewaysResult call() throws Exception {
-              DescribeInternetGatewaysResult result;
-                try {
-                result = describeInternetGateways(describeInternetGatewaysRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeInternetGatewaysRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeInternetGatewaysRequest,
+                new DescribeInternetGatewaysRequestMarshaller(),
+                new DescribeInternetGatewaysResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -11687,11 +10337,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RejectVpcPeeringConnectionResult> rejectVpcPeeringConnectionAsync(final RejectVpcPeeringConnectionRequest rejectVpcPeeringConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RejectVpcPeeringConnectionResult>() {
-            public RejectVpcPeeringConnectionResult call() throws Exception {
-                return rejectVpcPeeringConnection(rejectVpcPeeringConnectionRequest);
-        }
-    });
+        return invokeAsync(rejectVpcPeeringConnectionRequest,
+                new RejectVpcPeeringConnectionRequestMarshaller(),
+                new RejectVpcPeeringConnectionResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -11728,19 +10377,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RejectVpcPeeringConnectionRequest rejectVpcPeeringConnectionRequest,
             final AsyncHandler<RejectVpcPeeringConnectionRequest, RejectVpcPeeringConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RejectVpcPeeringConnectionResult>() {
-            public RejectVpcPeeringConnectionResult call() throws Exception {
-              RejectVpcPeeringConnectionResult result;
-                try {
-                result = rejectVpcPeeringConnection(rejectVpcPeeringConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(rejectVpcPeeringConnectionRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(rejectVpcPeeringConnectionRequest,
+                new RejectVpcPeeringConnectionRequestMarshaller(),
+                new RejectVpcPeeringConnectionResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -11765,11 +10405,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DeleteFlowLogsResult> deleteFlowLogsAsync(final DeleteFlowLogsRequest deleteFlowLogsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteFlowLogsResult>() {
-            public DeleteFlowLogsResult call() throws Exception {
-                return deleteFlowLogs(deleteFlowLogsRequest);
-        }
-    });
+        return invokeAsync(deleteFlowLogsRequest,
+                new DeleteFlowLogsRequestMarshaller(), new DeleteFlowLogsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -11800,19 +10438,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteFlowLogsRequest deleteFlowLogsRequest,
             final AsyncHandler<DeleteFlowLogsRequest, DeleteFlowLogsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteFlowLogsResult>() {
-            public DeleteFlowLogsResult call() throws Exception {
-              DeleteFlowLogsResult result;
-                try {
-                result = deleteFlowLogs(deleteFlowLogsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteFlowLogsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(deleteFlowLogsRequest,
+                new DeleteFlowLogsRequestMarshaller(), new DeleteFlowLogsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -11846,12 +10474,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> detachVpnGatewayAsync(final DetachVpnGatewayRequest detachVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                detachVpnGateway(detachVpnGatewayRequest);
-                return null;
-        }
-    });
+        return invokeAsync(detachVpnGatewayRequest, new DetachVpnGatewayRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -11891,18 +10515,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DetachVpnGatewayRequest detachVpnGatewayRequest,
             final AsyncHandler<DetachVpnGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                detachVpnGateway(detachVpnGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachVpnGatewayRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(detachVpnGatewayRequest, new DetachVpnGatewayRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -11931,12 +10545,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deregisterImageAsync(final DeregisterImageRequest deregisterImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deregisterImage(deregisterImageRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deregisterImageRequest, new DeregisterImageRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -11971,18 +10581,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeregisterImageRequest deregisterImageRequest,
             final AsyncHandler<DeregisterImageRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deregisterImage(deregisterImageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deregisterImageRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deregisterImageRequest, new DeregisterImageRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -12011,11 +10611,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSpotDatafeedSubscriptionResult> describeSpotDatafeedSubscriptionAsync(final DescribeSpotDatafeedSubscriptionRequest describeSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotDatafeedSubscriptionResult>() {
-            public DescribeSpotDatafeedSubscriptionResult call() throws Exception {
-                return describeSpotDatafeedSubscription(describeSpotDatafeedSubscriptionRequest);
-        }
-    });
+        return invokeAsync(describeSpotDatafeedSubscriptionRequest,
+                new DescribeSpotDatafeedSubscriptionRequestMarshaller(),
+                new DescribeSpotDatafeedSubscriptionResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -12050,19 +10649,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSpotDatafeedSubscriptionRequest describeSpotDatafeedSubscriptionRequest,
             final AsyncHandler<DescribeSpotDatafeedSubscriptionRequest, DescribeSpotDatafeedSubscriptionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotDatafeedSubscriptionResult>() {
-            public DescribeSpotDatafeedSubscriptionResult call() throws Exception {
-              DescribeSpotDatafeedSubscriptionResult result;
-                try {
-                result = describeSpotDatafeedSubscription(describeSpotDatafeedSubscriptionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSpotDatafeedSubscriptionRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSpotDatafeedSubscriptionRequest,
+                new DescribeSpotDatafeedSubscriptionRequestMarshaller(),
+                new DescribeSpotDatafeedSubscriptionResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -12101,11 +10691,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ReleaseHostsResult> releaseHostsAsync(final ReleaseHostsRequest releaseHostsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReleaseHostsResult>() {
-            public ReleaseHostsResult call() throws Exception {
-                return releaseHosts(releaseHostsRequest);
-        }
-    });
+        return invokeAsync(releaseHostsRequest,
+                new ReleaseHostsRequestMarshaller(), new ReleaseHostsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -12150,19 +10738,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReleaseHostsRequest releaseHostsRequest,
             final AsyncHandler<ReleaseHostsRequest, ReleaseHostsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReleaseHostsResult>() {
-            public ReleaseHostsResult call() throws Exception {
-              ReleaseHostsResult result;
-                try {
-                result = releaseHosts(releaseHostsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(releaseHostsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(releaseHostsRequest,
+                new ReleaseHostsRequestMarshaller(), new ReleaseHostsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -12194,12 +10772,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteTagsAsync(final DeleteTagsRequest deleteTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteTags(deleteTagsRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteTagsRequest, new DeleteTagsRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -12237,18 +10811,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteTagsRequest deleteTagsRequest,
             final AsyncHandler<DeleteTagsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteTags(deleteTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteTagsRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteTagsRequest, new DeleteTagsRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -12280,11 +10844,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVpnGatewayResult> createVpnGatewayAsync(final CreateVpnGatewayRequest createVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnGatewayResult>() {
-            public CreateVpnGatewayResult call() throws Exception {
-                return createVpnGateway(createVpnGatewayRequest);
-        }
-    });
+        return invokeAsync(createVpnGatewayRequest,
+                new CreateVpnGatewayRequestMarshaller(),
+                new CreateVpnGatewayResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -12322,19 +10885,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVpnGatewayRequest createVpnGatewayRequest,
             final AsyncHandler<CreateVpnGatewayRequest, CreateVpnGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnGatewayResult>() {
-            public CreateVpnGatewayResult call() throws Exception {
-              CreateVpnGatewayResult result;
-                try {
-                result = createVpnGateway(createVpnGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpnGatewayRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createVpnGatewayRequest,
+                new CreateVpnGatewayRequestMarshaller(),
+                new CreateVpnGatewayResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -12360,12 +10914,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> enableVolumeIOAsync(final EnableVolumeIORequest enableVolumeIORequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                enableVolumeIO(enableVolumeIORequest);
-                return null;
-        }
-    });
+        return invokeAsync(enableVolumeIORequest, new EnableVolumeIORequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -12397,18 +10947,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final EnableVolumeIORequest enableVolumeIORequest,
             final AsyncHandler<EnableVolumeIORequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                enableVolumeIO(enableVolumeIORequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableVolumeIORequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(enableVolumeIORequest, new EnableVolumeIORequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -12469,11 +11009,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AttachVolumeResult> attachVolumeAsync(final AttachVolumeRequest attachVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVolumeResult>() {
-            public AttachVolumeResult call() throws Exception {
-                return attachVolume(attachVolumeRequest);
-        }
-    });
+        return invokeAsync(attachVolumeRequest,
+                new AttachVolumeRequestMarshaller(), new AttachVolumeResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -12540,19 +11078,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AttachVolumeRequest attachVolumeRequest,
             final AsyncHandler<AttachVolumeRequest, AttachVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVolumeResult>() {
-            public AttachVolumeResult call() throws Exception {
-              AttachVolumeResult result;
-                try {
-                result = attachVolume(attachVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachVolumeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(attachVolumeRequest,
+                new AttachVolumeRequestMarshaller(), new AttachVolumeResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -12578,11 +11106,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeImportSnapshotTasksResult> describeImportSnapshotTasksAsync(final DescribeImportSnapshotTasksRequest describeImportSnapshotTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImportSnapshotTasksResult>() {
-            public DescribeImportSnapshotTasksResult call() throws Exception {
-                return describeImportSnapshotTasks(describeImportSnapshotTasksRequest);
-        }
-    });
+        return invokeAsync(describeImportSnapshotTasksRequest,
+                new DescribeImportSnapshotTasksRequestMarshaller(),
+                new DescribeImportSnapshotTasksResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -12614,19 +11141,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeImportSnapshotTasksRequest describeImportSnapshotTasksRequest,
             final AsyncHandler<DescribeImportSnapshotTasksRequest, DescribeImportSnapshotTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImportSnapshotTasksResult>() {
-            public DescribeImportSnapshotTasksResult call() throws Exception {
-              DescribeImportSnapshotTasksResult result;
-                try {
-                result = describeImportSnapshotTasks(describeImportSnapshotTasksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeImportSnapshotTasksRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeImportSnapshotTasksRequest,
+                new DescribeImportSnapshotTasksRequestMarshaller(),
+                new DescribeImportSnapshotTasksResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -12654,12 +11172,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> resetImageAttributeAsync(final ResetImageAttributeRequest resetImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resetImageAttribute(resetImageAttributeRequest);
-                return null;
-        }
-    });
+        return invokeAsync(resetImageAttributeRequest,
+                new ResetImageAttributeRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -12693,18 +11208,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ResetImageAttributeRequest resetImageAttributeRequest,
             final AsyncHandler<ResetImageAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                resetImageAttribute(resetImageAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resetImageAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(resetImageAttributeRequest,
+                new ResetImageAttributeRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -12739,12 +11245,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVolumeAsync(final DeleteVolumeRequest deleteVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVolume(deleteVolumeRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteVolumeRequest, new DeleteVolumeRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -12785,18 +11287,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVolumeRequest deleteVolumeRequest,
             final AsyncHandler<DeleteVolumeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteVolume(deleteVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVolumeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteVolumeRequest, new DeleteVolumeRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -12827,11 +11319,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateNetworkInterfaceResult> createNetworkInterfaceAsync(final CreateNetworkInterfaceRequest createNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkInterfaceResult>() {
-            public CreateNetworkInterfaceResult call() throws Exception {
-                return createNetworkInterface(createNetworkInterfaceRequest);
-        }
-    });
+        return invokeAsync(createNetworkInterfaceRequest,
+                new CreateNetworkInterfaceRequestMarshaller(),
+                new CreateNetworkInterfaceResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -12868,19 +11359,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateNetworkInterfaceRequest createNetworkInterfaceRequest,
             final AsyncHandler<CreateNetworkInterfaceRequest, CreateNetworkInterfaceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkInterfaceResult>() {
-            public CreateNetworkInterfaceResult call() throws Exception {
-              CreateNetworkInterfaceResult result;
-                try {
-                result = createNetworkInterface(createNetworkInterfaceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createNetworkInterfaceRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createNetworkInterfaceRequest,
+                new CreateNetworkInterfaceRequestMarshaller(),
+                new CreateNetworkInterfaceResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -12905,11 +11387,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpcsResult> describeVpcsAsync(final DescribeVpcsRequest describeVpcsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcsResult>() {
-            public DescribeVpcsResult call() throws Exception {
-                return describeVpcs(describeVpcsRequest);
-        }
-    });
+        return invokeAsync(describeVpcsRequest,
+                new DescribeVpcsRequestMarshaller(), new DescribeVpcsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -12940,19 +11420,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpcsRequest describeVpcsRequest,
             final AsyncHandler<DescribeVpcsRequest, DescribeVpcsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcsResult>() {
-            public DescribeVpcsResult call() throws Exception {
-              DescribeVpcsResult result;
-                try {
-                result = describeVpcs(describeVpcsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVpcsRequest,
+                new DescribeVpcsRequestMarshaller(), new DescribeVpcsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -12979,12 +11449,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> unassignPrivateIpAddressesAsync(final UnassignPrivateIpAddressesRequest unassignPrivateIpAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                unassignPrivateIpAddresses(unassignPrivateIpAddressesRequest);
-                return null;
-        }
-    });
+        return invokeAsync(unassignPrivateIpAddressesRequest,
+                new UnassignPrivateIpAddressesRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -13017,18 +11484,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final UnassignPrivateIpAddressesRequest unassignPrivateIpAddressesRequest,
             final AsyncHandler<UnassignPrivateIpAddressesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                unassignPrivateIpAddresses(unassignPrivateIpAddressesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(unassignPrivateIpAddressesRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(unassignPrivateIpAddressesRequest,
+                new UnassignPrivateIpAddressesRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -13062,12 +11520,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> cancelConversionTaskAsync(final CancelConversionTaskRequest cancelConversionTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                cancelConversionTask(cancelConversionTaskRequest);
-                return null;
-        }
-    });
+        return invokeAsync(cancelConversionTaskRequest,
+                new CancelConversionTaskRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -13107,18 +11562,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelConversionTaskRequest cancelConversionTaskRequest,
             final AsyncHandler<CancelConversionTaskRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                cancelConversionTask(cancelConversionTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelConversionTaskRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(cancelConversionTaskRequest,
+                new CancelConversionTaskRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -13165,12 +11611,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> createNetworkAclEntryAsync(final CreateNetworkAclEntryRequest createNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createNetworkAclEntry(createNetworkAclEntryRequest);
-                return null;
-        }
-    });
+        return invokeAsync(createNetworkAclEntryRequest,
+                new CreateNetworkAclEntryRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -13223,18 +11666,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateNetworkAclEntryRequest createNetworkAclEntryRequest,
             final AsyncHandler<CreateNetworkAclEntryRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                createNetworkAclEntry(createNetworkAclEntryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createNetworkAclEntryRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(createNetworkAclEntryRequest,
+                new CreateNetworkAclEntryRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -13273,11 +11707,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeScheduledInstanceAvailabilityResult> describeScheduledInstanceAvailabilityAsync(final DescribeScheduledInstanceAvailabilityRequest describeScheduledInstanceAvailabilityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledInstanceAvailabilityResult>() {
-            public DescribeScheduledInstanceAvailabilityResult call() throws Exception {
-                return describeScheduledInstanceAvailability(describeScheduledInstanceAvailabilityRequest);
-        }
-    });
+        return invokeAsync(describeScheduledInstanceAvailabilityRequest,
+                new DescribeScheduledInstanceAvailabilityRequestMarshaller(),
+                new DescribeScheduledInstanceAvailabilityResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -13322,19 +11755,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeScheduledInstanceAvailabilityRequest describeScheduledInstanceAvailabilityRequest,
             final AsyncHandler<DescribeScheduledInstanceAvailabilityRequest, DescribeScheduledInstanceAvailabilityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledInstanceAvailabilityResult>() {
-            public DescribeScheduledInstanceAvailabilityResult call() throws Exception {
-              DescribeScheduledInstanceAvailabilityResult result;
-                try {
-                result = describeScheduledInstanceAvailability(describeScheduledInstanceAvailabilityRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeScheduledInstanceAvailabilityRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeScheduledInstanceAvailabilityRequest,
+                new DescribeScheduledInstanceAvailabilityRequestMarshaller(),
+                new DescribeScheduledInstanceAvailabilityResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -13362,12 +11786,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> detachInternetGatewayAsync(final DetachInternetGatewayRequest detachInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                detachInternetGateway(detachInternetGatewayRequest);
-                return null;
-        }
-    });
+        return invokeAsync(detachInternetGatewayRequest,
+                new DetachInternetGatewayRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -13401,18 +11822,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DetachInternetGatewayRequest detachInternetGatewayRequest,
             final AsyncHandler<DetachInternetGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                detachInternetGateway(detachInternetGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachInternetGatewayRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(detachInternetGatewayRequest,
+                new DetachInternetGatewayRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -13442,11 +11854,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AcceptVpcPeeringConnectionResult> acceptVpcPeeringConnectionAsync(final AcceptVpcPeeringConnectionRequest acceptVpcPeeringConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AcceptVpcPeeringConnectionResult>() {
-            public AcceptVpcPeeringConnectionResult call() throws Exception {
-                return acceptVpcPeeringConnection(acceptVpcPeeringConnectionRequest);
-        }
-    });
+        return invokeAsync(acceptVpcPeeringConnectionRequest,
+                new AcceptVpcPeeringConnectionRequestMarshaller(),
+                new AcceptVpcPeeringConnectionResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -13482,19 +11893,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AcceptVpcPeeringConnectionRequest acceptVpcPeeringConnectionRequest,
             final AsyncHandler<AcceptVpcPeeringConnectionRequest, AcceptVpcPeeringConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AcceptVpcPeeringConnectionResult>() {
-            public AcceptVpcPeeringConnectionResult call() throws Exception {
-              AcceptVpcPeeringConnectionResult result;
-                try {
-                result = acceptVpcPeeringConnection(acceptVpcPeeringConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(acceptVpcPeeringConnectionRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(acceptVpcPeeringConnectionRequest,
+                new AcceptVpcPeeringConnectionRequestMarshaller(),
+                new AcceptVpcPeeringConnectionResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -13519,11 +11921,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CancelImportTaskResult> cancelImportTaskAsync(final CancelImportTaskRequest cancelImportTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelImportTaskResult>() {
-            public CancelImportTaskResult call() throws Exception {
-                return cancelImportTask(cancelImportTaskRequest);
-        }
-    });
+        return invokeAsync(cancelImportTaskRequest,
+                new CancelImportTaskRequestMarshaller(),
+                new CancelImportTaskResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -13554,19 +11955,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelImportTaskRequest cancelImportTaskRequest,
             final AsyncHandler<CancelImportTaskRequest, CancelImportTaskResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelImportTaskResult>() {
-            public CancelImportTaskResult call() throws Exception {
-              CancelImportTaskResult result;
-                try {
-                result = cancelImportTask(cancelImportTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelImportTaskRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(cancelImportTaskRequest,
+                new CancelImportTaskRequestMarshaller(),
+                new CancelImportTaskResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -13602,11 +11994,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeRouteTablesResult> describeRouteTablesAsync(final DescribeRouteTablesRequest describeRouteTablesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRouteTablesResult>() {
-            public DescribeRouteTablesResult call() throws Exception {
-                return describeRouteTables(describeRouteTablesRequest);
-        }
-    });
+        return invokeAsync(describeRouteTablesRequest,
+                new DescribeRouteTablesRequestMarshaller(),
+                new DescribeRouteTablesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -13648,19 +12039,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeRouteTablesRequest describeRouteTablesRequest,
             final AsyncHandler<DescribeRouteTablesRequest, DescribeRouteTablesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRouteTablesResult>() {
-            public DescribeRouteTablesResult call() throws Exception {
-              DescribeRouteTablesResult result;
-                try {
-                result = describeRouteTables(describeRouteTablesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeRouteTablesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeRouteTablesRequest,
+                new DescribeRouteTablesRequestMarshaller(),
+                new DescribeRouteTablesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -13694,12 +12076,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> reportInstanceStatusAsync(final ReportInstanceStatusRequest reportInstanceStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                reportInstanceStatus(reportInstanceStatusRequest);
-                return null;
-        }
-    });
+        return invokeAsync(reportInstanceStatusRequest,
+                new ReportInstanceStatusRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -13739,18 +12118,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReportInstanceStatusRequest reportInstanceStatusRequest,
             final AsyncHandler<ReportInstanceStatusRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                reportInstanceStatus(reportInstanceStatusRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(reportInstanceStatusRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(reportInstanceStatusRequest,
+                new ReportInstanceStatusRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -13804,11 +12174,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeReservedInstancesListingsResult> describeReservedInstancesListingsAsync(final DescribeReservedInstancesListingsRequest describeReservedInstancesListingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesListingsResult>() {
-            public DescribeReservedInstancesListingsResult call() throws Exception {
-                return describeReservedInstancesListings(describeReservedInstancesListingsRequest);
-        }
-    });
+        return invokeAsync(describeReservedInstancesListingsRequest,
+                new DescribeReservedInstancesListingsRequestMarshaller(),
+                new DescribeReservedInstancesListingsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -13868,19 +12237,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeReservedInstancesListingsRequest describeReservedInstancesListingsRequest,
             final AsyncHandler<DescribeReservedInstancesListingsRequest, DescribeReservedInstancesListingsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesListingsResult>() {
-            public DescribeReservedInstancesListingsResult call() throws Exception {
-              DescribeReservedInstancesListingsResult result;
-                try {
-                result = describeReservedInstancesListings(describeReservedInstancesListingsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReservedInstancesListingsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeReservedInstancesListingsRequest,
+                new DescribeReservedInstancesListingsRequestMarshaller(),
+                new DescribeReservedInstancesListingsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -13907,11 +12267,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeImportImageTasksResult> describeImportImageTasksAsync(final DescribeImportImageTasksRequest describeImportImageTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImportImageTasksResult>() {
-            public DescribeImportImageTasksResult call() throws Exception {
-                return describeImportImageTasks(describeImportImageTasksRequest);
-        }
-    });
+        return invokeAsync(describeImportImageTasksRequest,
+                new DescribeImportImageTasksRequestMarshaller(),
+                new DescribeImportImageTasksResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -13944,19 +12303,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeImportImageTasksRequest describeImportImageTasksRequest,
             final AsyncHandler<DescribeImportImageTasksRequest, DescribeImportImageTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImportImageTasksResult>() {
-            public DescribeImportImageTasksResult call() throws Exception {
-              DescribeImportImageTasksResult result;
-                try {
-                result = describeImportImageTasks(describeImportImageTasksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeImportImageTasksRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeImportImageTasksRequest,
+                new DescribeImportImageTasksRequestMarshaller(),
+                new DescribeImportImageTasksResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -13987,11 +12337,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeBundleTasksResult> describeBundleTasksAsync(final DescribeBundleTasksRequest describeBundleTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeBundleTasksResult>() {
-            public DescribeBundleTasksResult call() throws Exception {
-                return describeBundleTasks(describeBundleTasksRequest);
-        }
-    });
+        return invokeAsync(describeBundleTasksRequest,
+                new DescribeBundleTasksRequestMarshaller(),
+                new DescribeBundleTasksResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -14028,19 +12377,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeBundleTasksRequest describeBundleTasksRequest,
             final AsyncHandler<DescribeBundleTasksRequest, DescribeBundleTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeBundleTasksResult>() {
-            public DescribeBundleTasksResult call() throws Exception {
-              DescribeBundleTasksResult result;
-                try {
-                result = describeBundleTasks(describeBundleTasksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeBundleTasksRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeBundleTasksRequest,
+                new DescribeBundleTasksRequestMarshaller(),
+                new DescribeBundleTasksResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -14078,12 +12418,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> revokeSecurityGroupIngressAsync(final RevokeSecurityGroupIngressRequest revokeSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                revokeSecurityGroupIngress(revokeSecurityGroupIngressRequest);
-                return null;
-        }
-    });
+        return invokeAsync(revokeSecurityGroupIngressRequest,
+                new RevokeSecurityGroupIngressRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -14127,18 +12464,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RevokeSecurityGroupIngressRequest revokeSecurityGroupIngressRequest,
             final AsyncHandler<RevokeSecurityGroupIngressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                revokeSecurityGroupIngress(revokeSecurityGroupIngressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(revokeSecurityGroupIngressRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(revokeSecurityGroupIngressRequest,
+                new RevokeSecurityGroupIngressRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -14170,11 +12498,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateInternetGatewayResult> createInternetGatewayAsync(final CreateInternetGatewayRequest createInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInternetGatewayResult>() {
-            public CreateInternetGatewayResult call() throws Exception {
-                return createInternetGateway(createInternetGatewayRequest);
-        }
-    });
+        return invokeAsync(createInternetGatewayRequest,
+                new CreateInternetGatewayRequestMarshaller(),
+                new CreateInternetGatewayResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -14212,19 +12539,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateInternetGatewayRequest createInternetGatewayRequest,
             final AsyncHandler<CreateInternetGatewayRequest, CreateInternetGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInternetGatewayResult>() {
-            public CreateInternetGatewayResult call() throws Exception {
-              CreateInternetGatewayResult result;
-                try {
-                result = createInternetGateway(createInternetGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createInternetGatewayRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createInternetGatewayRequest,
+                new CreateInternetGatewayRequestMarshaller(),
+                new CreateInternetGatewayResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -14254,12 +12572,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyImageAttributeAsync(final ModifyImageAttributeRequest modifyImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyImageAttribute(modifyImageAttributeRequest);
-                return null;
-        }
-    });
+        return invokeAsync(modifyImageAttributeRequest,
+                new ModifyImageAttributeRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -14295,18 +12610,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyImageAttributeRequest modifyImageAttributeRequest,
             final AsyncHandler<ModifyImageAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifyImageAttribute(modifyImageAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyImageAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(modifyImageAttributeRequest,
+                new ModifyImageAttributeRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -14362,11 +12668,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateCustomerGatewayResult> createCustomerGatewayAsync(final CreateCustomerGatewayRequest createCustomerGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCustomerGatewayResult>() {
-            public CreateCustomerGatewayResult call() throws Exception {
-                return createCustomerGateway(createCustomerGatewayRequest);
-        }
-    });
+        return invokeAsync(createCustomerGatewayRequest,
+                new CreateCustomerGatewayRequestMarshaller(),
+                new CreateCustomerGatewayResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -14428,19 +12733,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateCustomerGatewayRequest createCustomerGatewayRequest,
             final AsyncHandler<CreateCustomerGatewayRequest, CreateCustomerGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCustomerGatewayResult>() {
-            public CreateCustomerGatewayResult call() throws Exception {
-              CreateCustomerGatewayResult result;
-                try {
-                result = createCustomerGateway(createCustomerGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createCustomerGatewayRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createCustomerGatewayRequest,
+                new CreateCustomerGatewayRequestMarshaller(),
+                new CreateCustomerGatewayResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -14470,12 +12766,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> attachInternetGatewayAsync(final AttachInternetGatewayRequest attachInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                attachInternetGateway(attachInternetGatewayRequest);
-                return null;
-        }
-    });
+        return invokeAsync(attachInternetGatewayRequest,
+                new AttachInternetGatewayRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -14511,18 +12804,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AttachInternetGatewayRequest attachInternetGatewayRequest,
             final AsyncHandler<AttachInternetGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                attachInternetGateway(attachInternetGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachInternetGatewayRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(attachInternetGatewayRequest,
+                new AttachInternetGatewayRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -14558,12 +12842,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVpnConnectionAsync(final DeleteVpnConnectionRequest deleteVpnConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVpnConnection(deleteVpnConnectionRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteVpnConnectionRequest,
+                new DeleteVpnConnectionRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -14605,18 +12886,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVpnConnectionRequest deleteVpnConnectionRequest,
             final AsyncHandler<DeleteVpnConnectionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteVpnConnection(deleteVpnConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpnConnectionRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteVpnConnectionRequest,
+                new DeleteVpnConnectionRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -14662,11 +12934,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVpnConnectionResult> createVpnConnectionAsync(final CreateVpnConnectionRequest createVpnConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnConnectionResult>() {
-            public CreateVpnConnectionResult call() throws Exception {
-                return createVpnConnection(createVpnConnectionRequest);
-        }
-    });
+        return invokeAsync(createVpnConnectionRequest,
+                new CreateVpnConnectionRequestMarshaller(),
+                new CreateVpnConnectionResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -14718,19 +12989,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVpnConnectionRequest createVpnConnectionRequest,
             final AsyncHandler<CreateVpnConnectionRequest, CreateVpnConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnConnectionResult>() {
-            public CreateVpnConnectionResult call() throws Exception {
-              CreateVpnConnectionResult result;
-                try {
-                result = createVpnConnection(createVpnConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpnConnectionRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createVpnConnectionRequest,
+                new CreateVpnConnectionRequestMarshaller(),
+                new CreateVpnConnectionResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -14765,11 +13027,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeConversionTasksResult> describeConversionTasksAsync(final DescribeConversionTasksRequest describeConversionTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConversionTasksResult>() {
-            public DescribeConversionTasksResult call() throws Exception {
-                return describeConversionTasks(describeConversionTasksRequest);
-        }
-    });
+        return invokeAsync(describeConversionTasksRequest,
+                new DescribeConversionTasksRequestMarshaller(),
+                new DescribeConversionTasksResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -14810,19 +13071,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeConversionTasksRequest describeConversionTasksRequest,
             final AsyncHandler<DescribeConversionTasksRequest, DescribeConversionTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConversionTasksResult>() {
-            public DescribeConversionTasksResult call() throws Exception {
-              DescribeConversionTasksResult result;
-                try {
-                result = describeConversionTasks(describeConversionTasksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeConversionTasksRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeConversionTasksRequest,
+                new DescribeConversionTasksRequestMarshaller(),
+                new DescribeConversionTasksResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -14848,11 +13100,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ImportImageResult> importImageAsync(final ImportImageRequest importImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportImageResult>() {
-            public ImportImageResult call() throws Exception {
-                return importImage(importImageRequest);
-        }
-    });
+        return invokeAsync(importImageRequest,
+                new ImportImageRequestMarshaller(), new ImportImageResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -14884,19 +13134,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ImportImageRequest importImageRequest,
             final AsyncHandler<ImportImageRequest, ImportImageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportImageResult>() {
-            public ImportImageResult call() throws Exception {
-              ImportImageResult result;
-                try {
-                result = importImage(importImageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(importImageRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(importImageRequest,
+                new ImportImageRequestMarshaller(), new ImportImageResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -14923,11 +13163,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DisableVpcClassicLinkResult> disableVpcClassicLinkAsync(final DisableVpcClassicLinkRequest disableVpcClassicLinkRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableVpcClassicLinkResult>() {
-            public DisableVpcClassicLinkResult call() throws Exception {
-                return disableVpcClassicLink(disableVpcClassicLinkRequest);
-        }
-    });
+        return invokeAsync(disableVpcClassicLinkRequest,
+                new DisableVpcClassicLinkRequestMarshaller(),
+                new DisableVpcClassicLinkResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -14960,19 +13199,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DisableVpcClassicLinkRequest disableVpcClassicLinkRequest,
             final AsyncHandler<DisableVpcClassicLinkRequest, DisableVpcClassicLinkResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableVpcClassicLinkResult>() {
-            public DisableVpcClassicLinkResult call() throws Exception {
-              DisableVpcClassicLinkResult result;
-                try {
-                result = disableVpcClassicLink(disableVpcClassicLinkRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disableVpcClassicLinkRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(disableVpcClassicLinkRequest,
+                new DisableVpcClassicLinkRequestMarshaller(),
+                new DisableVpcClassicLinkResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -15001,11 +13231,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribePlacementGroupsResult> describePlacementGroupsAsync(final DescribePlacementGroupsRequest describePlacementGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePlacementGroupsResult>() {
-            public DescribePlacementGroupsResult call() throws Exception {
-                return describePlacementGroups(describePlacementGroupsRequest);
-        }
-    });
+        return invokeAsync(describePlacementGroupsRequest,
+                new DescribePlacementGroupsRequestMarshaller(),
+                new DescribePlacementGroupsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -15040,19 +13269,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribePlacementGroupsRequest describePlacementGroupsRequest,
             final AsyncHandler<DescribePlacementGroupsRequest, DescribePlacementGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePlacementGroupsResult>() {
-            public DescribePlacementGroupsResult call() throws Exception {
-              DescribePlacementGroupsResult result;
-                try {
-                result = describePlacementGroups(describePlacementGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describePlacementGroupsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describePlacementGroupsRequest,
+                new DescribePlacementGroupsRequestMarshaller(),
+                new DescribePlacementGroupsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -15089,11 +13309,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeInstancesResult> describeInstancesAsync(final DescribeInstancesRequest describeInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstancesResult>() {
-            public DescribeInstancesResult call() throws Exception {
-                return describeInstances(describeInstancesRequest);
-        }
-    });
+        return invokeAsync(describeInstancesRequest,
+                new DescribeInstancesRequestMarshaller(),
+                new DescribeInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -15136,19 +13355,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeInstancesRequest describeInstancesRequest,
             final AsyncHandler<DescribeInstancesRequest, DescribeInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstancesResult>() {
-            public DescribeInstancesResult call() throws Exception {
-              DescribeInstancesResult result;
-                try {
-                result = describeInstances(describeInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeInstancesRequest,
+                new DescribeInstancesRequestMarshaller(),
+                new DescribeInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -15174,12 +13384,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteNetworkAclAsync(final DeleteNetworkAclRequest deleteNetworkAclRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteNetworkAcl(deleteNetworkAclRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteNetworkAclRequest, new DeleteNetworkAclRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -15211,18 +13417,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteNetworkAclRequest deleteNetworkAclRequest,
             final AsyncHandler<DeleteNetworkAclRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteNetworkAcl(deleteNetworkAclRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteNetworkAclRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteNetworkAclRequest, new DeleteNetworkAclRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -15254,11 +13450,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeImagesResult> describeImagesAsync(final DescribeImagesRequest describeImagesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImagesResult>() {
-            public DescribeImagesResult call() throws Exception {
-                return describeImages(describeImagesRequest);
-        }
-    });
+        return invokeAsync(describeImagesRequest,
+                new DescribeImagesRequestMarshaller(), new DescribeImagesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -15296,19 +13490,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeImagesRequest describeImagesRequest,
             final AsyncHandler<DescribeImagesRequest, DescribeImagesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImagesResult>() {
-            public DescribeImagesResult call() throws Exception {
-              DescribeImagesResult result;
-                try {
-                result = describeImages(describeImagesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeImagesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeImagesRequest,
+                new DescribeImagesRequestMarshaller(), new DescribeImagesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -15358,11 +13542,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<StartInstancesResult> startInstancesAsync(final StartInstancesRequest startInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartInstancesResult>() {
-            public StartInstancesResult call() throws Exception {
-                return startInstances(startInstancesRequest);
-        }
-    });
+        return invokeAsync(startInstancesRequest,
+                new StartInstancesRequestMarshaller(), new StartInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -15418,19 +13600,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final StartInstancesRequest startInstancesRequest,
             final AsyncHandler<StartInstancesRequest, StartInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartInstancesResult>() {
-            public StartInstancesResult call() throws Exception {
-              StartInstancesResult result;
-                try {
-                result = startInstances(startInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(startInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(startInstancesRequest,
+                new StartInstancesRequestMarshaller(), new StartInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -15463,11 +13635,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CancelReservedInstancesListingResult> cancelReservedInstancesListingAsync(final CancelReservedInstancesListingRequest cancelReservedInstancesListingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelReservedInstancesListingResult>() {
-            public CancelReservedInstancesListingResult call() throws Exception {
-                return cancelReservedInstancesListing(cancelReservedInstancesListingRequest);
-        }
-    });
+        return invokeAsync(cancelReservedInstancesListingRequest,
+                new CancelReservedInstancesListingRequestMarshaller(),
+                new CancelReservedInstancesListingResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -15506,19 +13677,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelReservedInstancesListingRequest cancelReservedInstancesListingRequest,
             final AsyncHandler<CancelReservedInstancesListingRequest, CancelReservedInstancesListingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelReservedInstancesListingResult>() {
-            public CancelReservedInstancesListingResult call() throws Exception {
-              CancelReservedInstancesListingResult result;
-                try {
-                result = cancelReservedInstancesListing(cancelReservedInstancesListingRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelReservedInstancesListingRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(cancelReservedInstancesListingRequest,
+                new CancelReservedInstancesListingRequestMarshaller(),
+                new CancelReservedInstancesListingResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -15568,12 +13730,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> authorizeSecurityGroupIngressAsync(final AuthorizeSecurityGroupIngressRequest authorizeSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                authorizeSecurityGroupIngress(authorizeSecurityGroupIngressRequest);
-                return null;
-        }
-    });
+        return invokeAsync(authorizeSecurityGroupIngressRequest,
+                new AuthorizeSecurityGroupIngressRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -15629,18 +13788,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AuthorizeSecurityGroupIngressRequest authorizeSecurityGroupIngressRequest,
             final AsyncHandler<AuthorizeSecurityGroupIngressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                authorizeSecurityGroupIngress(authorizeSecurityGroupIngressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(authorizeSecurityGroupIngressRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(authorizeSecurityGroupIngressRequest,
+                new AuthorizeSecurityGroupIngressRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -15680,11 +13830,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSpotInstanceRequestsResult> describeSpotInstanceRequestsAsync(final DescribeSpotInstanceRequestsRequest describeSpotInstanceRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotInstanceRequestsResult>() {
-            public DescribeSpotInstanceRequestsResult call() throws Exception {
-                return describeSpotInstanceRequests(describeSpotInstanceRequestsRequest);
-        }
-    });
+        return invokeAsync(describeSpotInstanceRequestsRequest,
+                new DescribeSpotInstanceRequestsRequestMarshaller(),
+                new DescribeSpotInstanceRequestsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -15730,19 +13879,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSpotInstanceRequestsRequest describeSpotInstanceRequestsRequest,
             final AsyncHandler<DescribeSpotInstanceRequestsRequest, DescribeSpotInstanceRequestsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotInstanceRequestsResult>() {
-            public DescribeSpotInstanceRequestsResult call() throws Exception {
-              DescribeSpotInstanceRequestsResult result;
-                try {
-                result = describeSpotInstanceRequests(describeSpotInstanceRequestsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSpotInstanceRequestsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSpotInstanceRequestsRequest,
+                new DescribeSpotInstanceRequestsRequestMarshaller(),
+                new DescribeSpotInstanceRequestsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -15781,11 +13921,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVpcResult> createVpcAsync(final CreateVpcRequest createVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcResult>() {
-            public CreateVpcResult call() throws Exception {
-                return createVpc(createVpcRequest);
-        }
-    });
+        return invokeAsync(createVpcRequest,
+                new CreateVpcRequestMarshaller(), new CreateVpcResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -15830,19 +13968,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVpcRequest createVpcRequest,
             final AsyncHandler<CreateVpcRequest, CreateVpcResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcResult>() {
-            public CreateVpcResult call() throws Exception {
-              CreateVpcResult result;
-                try {
-                result = createVpc(createVpcRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpcRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createVpcRequest,
+                new CreateVpcRequestMarshaller(), new CreateVpcResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -15876,11 +14004,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<EnableVpcClassicLinkDnsSupportResult> enableVpcClassicLinkDnsSupportAsync(final EnableVpcClassicLinkDnsSupportRequest enableVpcClassicLinkDnsSupportRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableVpcClassicLinkDnsSupportResult>() {
-            public EnableVpcClassicLinkDnsSupportResult call() throws Exception {
-                return enableVpcClassicLinkDnsSupport(enableVpcClassicLinkDnsSupportRequest);
-        }
-    });
+        return invokeAsync(enableVpcClassicLinkDnsSupportRequest,
+                new EnableVpcClassicLinkDnsSupportRequestMarshaller(),
+                new EnableVpcClassicLinkDnsSupportResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -15920,19 +14047,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final EnableVpcClassicLinkDnsSupportRequest enableVpcClassicLinkDnsSupportRequest,
             final AsyncHandler<EnableVpcClassicLinkDnsSupportRequest, EnableVpcClassicLinkDnsSupportResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableVpcClassicLinkDnsSupportResult>() {
-            public EnableVpcClassicLinkDnsSupportResult call() throws Exception {
-              EnableVpcClassicLinkDnsSupportResult result;
-                try {
-                result = enableVpcClassicLinkDnsSupport(enableVpcClassicLinkDnsSupportRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableVpcClassicLinkDnsSupportRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(enableVpcClassicLinkDnsSupportRequest,
+                new EnableVpcClassicLinkDnsSupportRequestMarshaller(),
+                new EnableVpcClassicLinkDnsSupportResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -15963,11 +14081,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeCustomerGatewaysResult> describeCustomerGatewaysAsync(final DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCustomerGatewaysResult>() {
-            public DescribeCustomerGatewaysResult call() throws Exception {
-                return describeCustomerGateways(describeCustomerGatewaysRequest);
-        }
-    });
+        return invokeAsync(describeCustomerGatewaysRequest,
+                new DescribeCustomerGatewaysRequestMarshaller(),
+                new DescribeCustomerGatewaysResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -16004,19 +14121,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest,
             final AsyncHandler<DescribeCustomerGatewaysRequest, DescribeCustomerGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCustomerGatewaysResult>() {
-            public DescribeCustomerGatewaysResult call() throws Exception {
-              DescribeCustomerGatewaysResult result;
-                try {
-                result = describeCustomerGateways(describeCustomerGatewaysRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeCustomerGatewaysRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeCustomerGatewaysRequest,
+                new DescribeCustomerGatewaysRequestMarshaller(),
+                new DescribeCustomerGatewaysResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -16047,11 +14155,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RequestSpotInstancesResult> requestSpotInstancesAsync(final RequestSpotInstancesRequest requestSpotInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RequestSpotInstancesResult>() {
-            public RequestSpotInstancesResult call() throws Exception {
-                return requestSpotInstances(requestSpotInstancesRequest);
-        }
-    });
+        return invokeAsync(requestSpotInstancesRequest,
+                new RequestSpotInstancesRequestMarshaller(),
+                new RequestSpotInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -16088,19 +14195,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RequestSpotInstancesRequest requestSpotInstancesRequest,
             final AsyncHandler<RequestSpotInstancesRequest, RequestSpotInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RequestSpotInstancesResult>() {
-            public RequestSpotInstancesResult call() throws Exception {
-              RequestSpotInstancesResult result;
-                try {
-                result = requestSpotInstances(requestSpotInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(requestSpotInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(requestSpotInstancesRequest,
+                new RequestSpotInstancesRequestMarshaller(),
+                new RequestSpotInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -16133,12 +14231,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> createTagsAsync(final CreateTagsRequest createTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createTags(createTagsRequest);
-                return null;
-        }
-    });
+        return invokeAsync(createTagsRequest, new CreateTagsRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -16177,18 +14271,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateTagsRequest createTagsRequest,
             final AsyncHandler<CreateTagsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                createTags(createTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createTagsRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(createTagsRequest, new CreateTagsRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -16220,11 +14304,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVolumeAttributeResult> describeVolumeAttributeAsync(final DescribeVolumeAttributeRequest describeVolumeAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeAttributeResult>() {
-            public DescribeVolumeAttributeResult call() throws Exception {
-                return describeVolumeAttribute(describeVolumeAttributeRequest);
-        }
-    });
+        return invokeAsync(describeVolumeAttributeRequest,
+                new DescribeVolumeAttributeRequestMarshaller(),
+                new DescribeVolumeAttributeResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -16262,19 +14345,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVolumeAttributeRequest describeVolumeAttributeRequest,
             final AsyncHandler<DescribeVolumeAttributeRequest, DescribeVolumeAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeAttributeResult>() {
-            public DescribeVolumeAttributeResult call() throws Exception {
-              DescribeVolumeAttributeResult result;
-                try {
-                result = describeVolumeAttribute(describeVolumeAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVolumeAttributeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVolumeAttributeRequest,
+                new DescribeVolumeAttributeRequestMarshaller(),
+                new DescribeVolumeAttributeResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -16300,11 +14374,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AttachNetworkInterfaceResult> attachNetworkInterfaceAsync(final AttachNetworkInterfaceRequest attachNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachNetworkInterfaceResult>() {
-            public AttachNetworkInterfaceResult call() throws Exception {
-                return attachNetworkInterface(attachNetworkInterfaceRequest);
-        }
-    });
+        return invokeAsync(attachNetworkInterfaceRequest,
+                new AttachNetworkInterfaceRequestMarshaller(),
+                new AttachNetworkInterfaceResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -16336,19 +14409,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AttachNetworkInterfaceRequest attachNetworkInterfaceRequest,
             final AsyncHandler<AttachNetworkInterfaceRequest, AttachNetworkInterfaceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachNetworkInterfaceResult>() {
-            public AttachNetworkInterfaceResult call() throws Exception {
-              AttachNetworkInterfaceResult result;
-                try {
-                result = attachNetworkInterface(attachNetworkInterfaceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachNetworkInterfaceRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(attachNetworkInterfaceRequest,
+                new AttachNetworkInterfaceRequestMarshaller(),
+                new AttachNetworkInterfaceResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -16381,12 +14445,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> replaceRouteAsync(final ReplaceRouteRequest replaceRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                replaceRoute(replaceRouteRequest);
-                return null;
-        }
-    });
+        return invokeAsync(replaceRouteRequest, new ReplaceRouteRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -16425,18 +14485,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReplaceRouteRequest replaceRouteRequest,
             final AsyncHandler<ReplaceRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                replaceRoute(replaceRouteRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(replaceRouteRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(replaceRouteRequest, new ReplaceRouteRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -16466,11 +14516,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeTagsResult> describeTagsAsync(final DescribeTagsRequest describeTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
-            public DescribeTagsResult call() throws Exception {
-                return describeTags(describeTagsRequest);
-        }
-    });
+        return invokeAsync(describeTagsRequest,
+                new DescribeTagsRequestMarshaller(), new DescribeTagsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -16506,19 +14554,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeTagsRequest describeTagsRequest,
             final AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
-            public DescribeTagsResult call() throws Exception {
-              DescribeTagsResult result;
-                try {
-                result = describeTags(describeTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeTagsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeTagsRequest,
+                new DescribeTagsRequestMarshaller(), new DescribeTagsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -16544,11 +14582,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CancelBundleTaskResult> cancelBundleTaskAsync(final CancelBundleTaskRequest cancelBundleTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelBundleTaskResult>() {
-            public CancelBundleTaskResult call() throws Exception {
-                return cancelBundleTask(cancelBundleTaskRequest);
-        }
-    });
+        return invokeAsync(cancelBundleTaskRequest,
+                new CancelBundleTaskRequestMarshaller(),
+                new CancelBundleTaskResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -16580,19 +14617,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelBundleTaskRequest cancelBundleTaskRequest,
             final AsyncHandler<CancelBundleTaskRequest, CancelBundleTaskResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelBundleTaskResult>() {
-            public CancelBundleTaskResult call() throws Exception {
-              CancelBundleTaskResult result;
-                try {
-                result = cancelBundleTask(cancelBundleTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelBundleTaskRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(cancelBundleTaskRequest,
+                new CancelBundleTaskRequestMarshaller(),
+                new CancelBundleTaskResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -16617,11 +14645,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ImportSnapshotResult> importSnapshotAsync(final ImportSnapshotRequest importSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportSnapshotResult>() {
-            public ImportSnapshotResult call() throws Exception {
-                return importSnapshot(importSnapshotRequest);
-        }
-    });
+        return invokeAsync(importSnapshotRequest,
+                new ImportSnapshotRequestMarshaller(), new ImportSnapshotResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -16652,19 +14678,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ImportSnapshotRequest importSnapshotRequest,
             final AsyncHandler<ImportSnapshotRequest, ImportSnapshotResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportSnapshotResult>() {
-            public ImportSnapshotResult call() throws Exception {
-              ImportSnapshotResult result;
-                try {
-                result = importSnapshot(importSnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(importSnapshotRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(importSnapshotRequest,
+                new ImportSnapshotRequestMarshaller(), new ImportSnapshotResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -16690,11 +14706,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSpotFleetRequestsResult> describeSpotFleetRequestsAsync(final DescribeSpotFleetRequestsRequest describeSpotFleetRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetRequestsResult>() {
-            public DescribeSpotFleetRequestsResult call() throws Exception {
-                return describeSpotFleetRequests(describeSpotFleetRequestsRequest);
-        }
-    });
+        return invokeAsync(describeSpotFleetRequestsRequest,
+                new DescribeSpotFleetRequestsRequestMarshaller(),
+                new DescribeSpotFleetRequestsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -16726,19 +14741,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSpotFleetRequestsRequest describeSpotFleetRequestsRequest,
             final AsyncHandler<DescribeSpotFleetRequestsRequest, DescribeSpotFleetRequestsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetRequestsResult>() {
-            public DescribeSpotFleetRequestsResult call() throws Exception {
-              DescribeSpotFleetRequestsResult result;
-                try {
-                result = describeSpotFleetRequests(describeSpotFleetRequestsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSpotFleetRequestsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSpotFleetRequestsRequest,
+                new DescribeSpotFleetRequestsRequestMarshaller(),
+                new DescribeSpotFleetRequestsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -16770,11 +14776,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ModifyHostsResult> modifyHostsAsync(final ModifyHostsRequest modifyHostsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyHostsResult>() {
-            public ModifyHostsResult call() throws Exception {
-                return modifyHosts(modifyHostsRequest);
-        }
-    });
+        return invokeAsync(modifyHostsRequest,
+                new ModifyHostsRequestMarshaller(), new ModifyHostsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -16812,19 +14816,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyHostsRequest modifyHostsRequest,
             final AsyncHandler<ModifyHostsRequest, ModifyHostsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyHostsResult>() {
-            public ModifyHostsResult call() throws Exception {
-              ModifyHostsResult result;
-                try {
-                result = modifyHosts(modifyHostsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyHostsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(modifyHostsRequest,
+                new ModifyHostsRequestMarshaller(), new ModifyHostsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -16863,12 +14857,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifySnapshotAttributeAsync(final ModifySnapshotAttributeRequest modifySnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifySnapshotAttribute(modifySnapshotAttributeRequest);
-                return null;
-        }
-    });
+        return invokeAsync(modifySnapshotAttributeRequest,
+                new ModifySnapshotAttributeRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -16913,18 +14904,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifySnapshotAttributeRequest modifySnapshotAttributeRequest,
             final AsyncHandler<ModifySnapshotAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifySnapshotAttribute(modifySnapshotAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifySnapshotAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(modifySnapshotAttributeRequest,
+                new ModifySnapshotAttributeRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -16951,12 +14933,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteSpotDatafeedSubscriptionAsync(final DeleteSpotDatafeedSubscriptionRequest deleteSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSpotDatafeedSubscription(deleteSpotDatafeedSubscriptionRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteSpotDatafeedSubscriptionRequest,
+                new DeleteSpotDatafeedSubscriptionRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -16989,18 +14968,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteSpotDatafeedSubscriptionRequest deleteSpotDatafeedSubscriptionRequest,
             final AsyncHandler<DeleteSpotDatafeedSubscriptionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteSpotDatafeedSubscription(deleteSpotDatafeedSubscriptionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteSpotDatafeedSubscriptionRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteSpotDatafeedSubscriptionRequest,
+                new DeleteSpotDatafeedSubscriptionRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -17032,11 +15002,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSnapshotAttributeResult> describeSnapshotAttributeAsync(final DescribeSnapshotAttributeRequest describeSnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotAttributeResult>() {
-            public DescribeSnapshotAttributeResult call() throws Exception {
-                return describeSnapshotAttribute(describeSnapshotAttributeRequest);
-        }
-    });
+        return invokeAsync(describeSnapshotAttributeRequest,
+                new DescribeSnapshotAttributeRequestMarshaller(),
+                new DescribeSnapshotAttributeResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -17074,19 +15043,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSnapshotAttributeRequest describeSnapshotAttributeRequest,
             final AsyncHandler<DescribeSnapshotAttributeRequest, DescribeSnapshotAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotAttributeResult>() {
-            public DescribeSnapshotAttributeResult call() throws Exception {
-              DescribeSnapshotAttributeResult result;
-                try {
-                result = describeSnapshotAttribute(describeSnapshotAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSnapshotAttributeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSnapshotAttributeRequest,
+                new DescribeSnapshotAttributeRequestMarshaller(),
+                new DescribeSnapshotAttributeResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -17123,11 +15083,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ReplaceRouteTableAssociationResult> replaceRouteTableAssociationAsync(final ReplaceRouteTableAssociationRequest replaceRouteTableAssociationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceRouteTableAssociationResult>() {
-            public ReplaceRouteTableAssociationResult call() throws Exception {
-                return replaceRouteTableAssociation(replaceRouteTableAssociationRequest);
-        }
-    });
+        return invokeAsync(replaceRouteTableAssociationRequest,
+                new ReplaceRouteTableAssociationRequestMarshaller(),
+                new ReplaceRouteTableAssociationResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -17170,19 +15129,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReplaceRouteTableAssociationRequest replaceRouteTableAssociationRequest,
             final AsyncHandler<ReplaceRouteTableAssociationRequest, ReplaceRouteTableAssociationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceRouteTableAssociationResult>() {
-            public ReplaceRouteTableAssociationResult call() throws Exception {
-              ReplaceRouteTableAssociationResult result;
-                try {
-                result = replaceRouteTableAssociation(replaceRouteTableAssociationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(replaceRouteTableAssociationRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(replaceRouteTableAssociationRequest,
+                new ReplaceRouteTableAssociationRequestMarshaller(),
+                new ReplaceRouteTableAssociationResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -17209,11 +15159,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeImageAttributeResult> describeImageAttributeAsync(final DescribeImageAttributeRequest describeImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImageAttributeResult>() {
-            public DescribeImageAttributeResult call() throws Exception {
-                return describeImageAttribute(describeImageAttributeRequest);
-        }
-    });
+        return invokeAsync(describeImageAttributeRequest,
+                new DescribeImageAttributeRequestMarshaller(),
+                new DescribeImageAttributeResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -17246,19 +15195,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeImageAttributeRequest describeImageAttributeRequest,
             final AsyncHandler<DescribeImageAttributeRequest, DescribeImageAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImageAttributeResult>() {
-            public DescribeImageAttributeResult call() throws Exception {
-              DescribeImageAttributeResult result;
-                try {
-                result = describeImageAttribute(describeImageAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeImageAttributeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeImageAttributeRequest,
+                new DescribeImageAttributeRequestMarshaller(),
+                new DescribeImageAttributeResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -17288,11 +15228,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeKeyPairsResult> describeKeyPairsAsync(final DescribeKeyPairsRequest describeKeyPairsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeKeyPairsResult>() {
-            public DescribeKeyPairsResult call() throws Exception {
-                return describeKeyPairs(describeKeyPairsRequest);
-        }
-    });
+        return invokeAsync(describeKeyPairsRequest,
+                new DescribeKeyPairsRequestMarshaller(),
+                new DescribeKeyPairsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -17328,19 +15267,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeKeyPairsRequest describeKeyPairsRequest,
             final AsyncHandler<DescribeKeyPairsRequest, DescribeKeyPairsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeKeyPairsResult>() {
-            public DescribeKeyPairsResult call() throws Exception {
-              DescribeKeyPairsResult result;
-                try {
-                result = describeKeyPairs(describeKeyPairsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeKeyPairsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeKeyPairsRequest,
+                new DescribeKeyPairsRequestMarshaller(),
+                new DescribeKeyPairsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -17373,12 +15303,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> disassociateRouteTableAsync(final DisassociateRouteTableRequest disassociateRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disassociateRouteTable(disassociateRouteTableRequest);
-                return null;
-        }
-    });
+        return invokeAsync(disassociateRouteTableRequest,
+                new DisassociateRouteTableRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -17417,18 +15344,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DisassociateRouteTableRequest disassociateRouteTableRequest,
             final AsyncHandler<DisassociateRouteTableRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                disassociateRouteTable(disassociateRouteTableRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disassociateRouteTableRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(disassociateRouteTableRequest,
+                new DisassociateRouteTableRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -17468,12 +15386,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> revokeSecurityGroupEgressAsync(final RevokeSecurityGroupEgressRequest revokeSecurityGroupEgressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                revokeSecurityGroupEgress(revokeSecurityGroupEgressRequest);
-                return null;
-        }
-    });
+        return invokeAsync(revokeSecurityGroupEgressRequest,
+                new RevokeSecurityGroupEgressRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -17519,18 +15434,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RevokeSecurityGroupEgressRequest revokeSecurityGroupEgressRequest,
             final AsyncHandler<RevokeSecurityGroupEgressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                revokeSecurityGroupEgress(revokeSecurityGroupEgressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(revokeSecurityGroupEgressRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(revokeSecurityGroupEgressRequest,
+                new RevokeSecurityGroupEgressRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -17577,11 +15483,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVolumeResult> createVolumeAsync(final CreateVolumeRequest createVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVolumeResult>() {
-            public CreateVolumeResult call() throws Exception {
-                return createVolume(createVolumeRequest);
-        }
-    });
+        return invokeAsync(createVolumeRequest,
+                new CreateVolumeRequestMarshaller(), new CreateVolumeResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -17634,19 +15538,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVolumeRequest createVolumeRequest,
             final AsyncHandler<CreateVolumeRequest, CreateVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVolumeResult>() {
-            public CreateVolumeResult call() throws Exception {
-              CreateVolumeResult result;
-                try {
-                result = createVolume(createVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVolumeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createVolumeRequest,
+                new CreateVolumeRequestMarshaller(), new CreateVolumeResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -17676,11 +15570,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpnGatewaysResult> describeVpnGatewaysAsync(final DescribeVpnGatewaysRequest describeVpnGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnGatewaysResult>() {
-            public DescribeVpnGatewaysResult call() throws Exception {
-                return describeVpnGateways(describeVpnGatewaysRequest);
-        }
-    });
+        return invokeAsync(describeVpnGatewaysRequest,
+                new DescribeVpnGatewaysRequestMarshaller(),
+                new DescribeVpnGatewaysResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -17716,19 +15609,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpnGatewaysRequest describeVpnGatewaysRequest,
             final AsyncHandler<DescribeVpnGatewaysRequest, DescribeVpnGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnGatewaysResult>() {
-            public DescribeVpnGatewaysResult call() throws Exception {
-              DescribeVpnGatewaysResult result;
-                try {
-                result = describeVpnGateways(describeVpnGatewaysRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpnGatewaysRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVpnGatewaysRequest,
+                new DescribeVpnGatewaysRequestMarshaller(),
+                new DescribeVpnGatewaysResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -17784,11 +15668,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateSubnetResult> createSubnetAsync(final CreateSubnetRequest createSubnetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSubnetResult>() {
-            public CreateSubnetResult call() throws Exception {
-                return createSubnet(createSubnetRequest);
-        }
-    });
+        return invokeAsync(createSubnetRequest,
+                new CreateSubnetRequestMarshaller(), new CreateSubnetResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -17850,19 +15732,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateSubnetRequest createSubnetRequest,
             final AsyncHandler<CreateSubnetRequest, CreateSubnetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSubnetResult>() {
-            public CreateSubnetResult call() throws Exception {
-              CreateSubnetResult result;
-                try {
-                result = createSubnet(createSubnetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createSubnetRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createSubnetRequest,
+                new CreateSubnetRequestMarshaller(), new CreateSubnetResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -17905,11 +15777,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeReservedInstancesOfferingsResult> describeReservedInstancesOfferingsAsync(final DescribeReservedInstancesOfferingsRequest describeReservedInstancesOfferingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesOfferingsResult>() {
-            public DescribeReservedInstancesOfferingsResult call() throws Exception {
-                return describeReservedInstancesOfferings(describeReservedInstancesOfferingsRequest);
-        }
-    });
+        return invokeAsync(describeReservedInstancesOfferingsRequest,
+                new DescribeReservedInstancesOfferingsRequestMarshaller(),
+                new DescribeReservedInstancesOfferingsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -17958,19 +15829,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeReservedInstancesOfferingsRequest describeReservedInstancesOfferingsRequest,
             final AsyncHandler<DescribeReservedInstancesOfferingsRequest, DescribeReservedInstancesOfferingsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesOfferingsResult>() {
-            public DescribeReservedInstancesOfferingsResult call() throws Exception {
-              DescribeReservedInstancesOfferingsResult result;
-                try {
-                result = describeReservedInstancesOfferings(describeReservedInstancesOfferingsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReservedInstancesOfferingsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeReservedInstancesOfferingsRequest,
+                new DescribeReservedInstancesOfferingsRequestMarshaller(),
+                new DescribeReservedInstancesOfferingsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -18006,12 +15868,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> assignPrivateIpAddressesAsync(final AssignPrivateIpAddressesRequest assignPrivateIpAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                assignPrivateIpAddresses(assignPrivateIpAddressesRequest);
-                return null;
-        }
-    });
+        return invokeAsync(assignPrivateIpAddressesRequest,
+                new AssignPrivateIpAddressesRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -18053,18 +15912,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AssignPrivateIpAddressesRequest assignPrivateIpAddressesRequest,
             final AsyncHandler<AssignPrivateIpAddressesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                assignPrivateIpAddresses(assignPrivateIpAddressesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(assignPrivateIpAddressesRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(assignPrivateIpAddressesRequest,
+                new AssignPrivateIpAddressesRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -18102,11 +15952,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<BundleInstanceResult> bundleInstanceAsync(final BundleInstanceRequest bundleInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BundleInstanceResult>() {
-            public BundleInstanceResult call() throws Exception {
-                return bundleInstance(bundleInstanceRequest);
-        }
-    });
+        return invokeAsync(bundleInstanceRequest,
+                new BundleInstanceRequestMarshaller(), new BundleInstanceResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -18150,19 +15998,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final BundleInstanceRequest bundleInstanceRequest,
             final AsyncHandler<BundleInstanceRequest, BundleInstanceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BundleInstanceResult>() {
-            public BundleInstanceResult call() throws Exception {
-              BundleInstanceResult result;
-                try {
-                result = bundleInstance(bundleInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(bundleInstanceRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(bundleInstanceRequest,
+                new BundleInstanceRequestMarshaller(), new BundleInstanceResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -18193,11 +16031,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AllocateAddressResult> allocateAddressAsync(final AllocateAddressRequest allocateAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocateAddressResult>() {
-            public AllocateAddressResult call() throws Exception {
-                return allocateAddress(allocateAddressRequest);
-        }
-    });
+        return invokeAsync(allocateAddressRequest,
+                new AllocateAddressRequestMarshaller(), new AllocateAddressResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -18234,19 +16070,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AllocateAddressRequest allocateAddressRequest,
             final AsyncHandler<AllocateAddressRequest, AllocateAddressResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocateAddressResult>() {
-            public AllocateAddressResult call() throws Exception {
-              AllocateAddressResult result;
-                try {
-                result = allocateAddress(allocateAddressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(allocateAddressRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(allocateAddressRequest,
+                new AllocateAddressRequestMarshaller(), new AllocateAddressResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -18290,12 +16116,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> releaseAddressAsync(final ReleaseAddressRequest releaseAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                releaseAddress(releaseAddressRequest);
-                return null;
-        }
-    });
+        return invokeAsync(releaseAddressRequest, new ReleaseAddressRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -18345,18 +16167,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReleaseAddressRequest releaseAddressRequest,
             final AsyncHandler<ReleaseAddressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                releaseAddress(releaseAddressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(releaseAddressRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(releaseAddressRequest, new ReleaseAddressRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -18398,11 +16210,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeIdFormatResult> describeIdFormatAsync(final DescribeIdFormatRequest describeIdFormatRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeIdFormatResult>() {
-            public DescribeIdFormatResult call() throws Exception {
-                return describeIdFormat(describeIdFormatRequest);
-        }
-    });
+        return invokeAsync(describeIdFormatRequest,
+                new DescribeIdFormatRequestMarshaller(),
+                new DescribeIdFormatResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -18450,19 +16261,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeIdFormatRequest describeIdFormatRequest,
             final AsyncHandler<DescribeIdFormatRequest, DescribeIdFormatResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeIdFormatResult>() {
-            public DescribeIdFormatResult call() throws Exception {
-              DescribeIdFormatResult result;
-                try {
-                result = describeIdFormat(describeIdFormatRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeIdFormatRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeIdFormatRequest,
+                new DescribeIdFormatRequestMarshaller(),
+                new DescribeIdFormatResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -18526,11 +16328,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RegisterImageResult> registerImageAsync(final RegisterImageRequest registerImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterImageResult>() {
-            public RegisterImageResult call() throws Exception {
-                return registerImage(registerImageRequest);
-        }
-    });
+        return invokeAsync(registerImageRequest,
+                new RegisterImageRequestMarshaller(), new RegisterImageResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -18600,19 +16400,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RegisterImageRequest registerImageRequest,
             final AsyncHandler<RegisterImageRequest, RegisterImageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterImageResult>() {
-            public RegisterImageResult call() throws Exception {
-              RegisterImageResult result;
-                try {
-                result = registerImage(registerImageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(registerImageRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(registerImageRequest,
+                new RegisterImageRequestMarshaller(), new RegisterImageResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -18637,11 +16427,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpcEndpointsResult> describeVpcEndpointsAsync(final DescribeVpcEndpointsRequest describeVpcEndpointsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcEndpointsResult>() {
-            public DescribeVpcEndpointsResult call() throws Exception {
-                return describeVpcEndpoints(describeVpcEndpointsRequest);
-        }
-    });
+        return invokeAsync(describeVpcEndpointsRequest,
+                new DescribeVpcEndpointsRequestMarshaller(),
+                new DescribeVpcEndpointsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -18672,19 +16461,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpcEndpointsRequest describeVpcEndpointsRequest,
             final AsyncHandler<DescribeVpcEndpointsRequest, DescribeVpcEndpointsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcEndpointsResult>() {
-            public DescribeVpcEndpointsResult call() throws Exception {
-              DescribeVpcEndpointsResult result;
-                try {
-                result = describeVpcEndpoints(describeVpcEndpointsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcEndpointsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVpcEndpointsRequest,
+                new DescribeVpcEndpointsRequestMarshaller(),
+                new DescribeVpcEndpointsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -18710,11 +16490,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeScheduledInstancesResult> describeScheduledInstancesAsync(final DescribeScheduledInstancesRequest describeScheduledInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledInstancesResult>() {
-            public DescribeScheduledInstancesResult call() throws Exception {
-                return describeScheduledInstances(describeScheduledInstancesRequest);
-        }
-    });
+        return invokeAsync(describeScheduledInstancesRequest,
+                new DescribeScheduledInstancesRequestMarshaller(),
+                new DescribeScheduledInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -18746,19 +16525,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeScheduledInstancesRequest describeScheduledInstancesRequest,
             final AsyncHandler<DescribeScheduledInstancesRequest, DescribeScheduledInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledInstancesResult>() {
-            public DescribeScheduledInstancesResult call() throws Exception {
-              DescribeScheduledInstancesResult result;
-                try {
-                result = describeScheduledInstances(describeScheduledInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeScheduledInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeScheduledInstancesRequest,
+                new DescribeScheduledInstancesRequestMarshaller(),
+                new DescribeScheduledInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
 }
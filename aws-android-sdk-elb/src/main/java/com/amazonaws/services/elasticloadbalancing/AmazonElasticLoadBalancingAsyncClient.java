@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.elasticloadbalancing;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -28,6 +27,7 @@ import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.elasticloadbalancing.model.*;
+import com.amazonaws.services.elasticloadbalancing.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonElasticLoadBalancing.
@@ -317,11 +317,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DescribeLoadBalancerPolicyTypesResult> describeLoadBalancerPolicyTypesAsync(final DescribeLoadBalancerPolicyTypesRequest describeLoadBalancerPolicyTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerPolicyTypesResult>() {
-            public DescribeLoadBalancerPolicyTypesResult call() throws Exception {
-                return describeLoadBalancerPolicyTypes(describeLoadBalancerPolicyTypesRequest);
-        }
-    });
+        return invokeAsync(describeLoadBalancerPolicyTypesRequest,
+                new DescribeLoadBalancerPolicyTypesRequestMarshaller(),
+                new DescribeLoadBalancerPolicyTypesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -358,19 +357,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DescribeLoadBalancerPolicyTypesRequest describeLoadBalancerPolicyTypesRequest,
             final AsyncHandler<DescribeLoadBalancerPolicyTypesRequest, DescribeLoadBalancerPolicyTypesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerPolicyTypesResult>() {
-            public DescribeLoadBalancerPolicyTypesResult call() throws Exception {
-              DescribeLoadBalancerPolicyTypesResult result;
-                try {
-                result = describeLoadBalancerPolicyTypes(describeLoadBalancerPolicyTypesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeLoadBalancerPolicyTypesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeLoadBalancerPolicyTypesRequest,
+                new DescribeLoadBalancerPolicyTypesRequestMarshaller(),
+                new DescribeLoadBalancerPolicyTypesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -403,11 +393,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<ConfigureHealthCheckResult> configureHealthCheckAsync(final ConfigureHealthCheckRequest configureHealthCheckRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfigureHealthCheckResult>() {
-            public ConfigureHealthCheckResult call() throws Exception {
-                return configureHealthCheck(configureHealthCheckRequest);
-        }
-    });
+        return invokeAsync(configureHealthCheckRequest,
+                new ConfigureHealthCheckRequestMarshaller(),
+                new ConfigureHealthCheckResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -446,19 +435,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final ConfigureHealthCheckRequest configureHealthCheckRequest,
             final AsyncHandler<ConfigureHealthCheckRequest, ConfigureHealthCheckResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfigureHealthCheckResult>() {
-            public ConfigureHealthCheckResult call() throws Exception {
-              ConfigureHealthCheckResult result;
-                try {
-                result = configureHealthCheck(configureHealthCheckRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(configureHealthCheckRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(configureHealthCheckRequest,
+                new ConfigureHealthCheckRequestMarshaller(),
+                new ConfigureHealthCheckResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -492,11 +472,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DetachLoadBalancerFromSubnetsResult> detachLoadBalancerFromSubnetsAsync(final DetachLoadBalancerFromSubnetsRequest detachLoadBalancerFromSubnetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachLoadBalancerFromSubnetsResult>() {
-            public DetachLoadBalancerFromSubnetsResult call() throws Exception {
-                return detachLoadBalancerFromSubnets(detachLoadBalancerFromSubnetsRequest);
-        }
-    });
+        return invokeAsync(detachLoadBalancerFromSubnetsRequest,
+                new DetachLoadBalancerFromSubnetsRequestMarshaller(),
+                new DetachLoadBalancerFromSubnetsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -536,19 +515,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DetachLoadBalancerFromSubnetsRequest detachLoadBalancerFromSubnetsRequest,
             final AsyncHandler<DetachLoadBalancerFromSubnetsRequest, DetachLoadBalancerFromSubnetsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachLoadBalancerFromSubnetsResult>() {
-            public DetachLoadBalancerFromSubnetsResult call() throws Exception {
-              DetachLoadBalancerFromSubnetsResult result;
-                try {
-                result = detachLoadBalancerFromSubnets(detachLoadBalancerFromSubnetsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachLoadBalancerFromSubnetsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(detachLoadBalancerFromSubnetsRequest,
+                new DetachLoadBalancerFromSubnetsRequestMarshaller(),
+                new DetachLoadBalancerFromSubnetsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -584,11 +554,9 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<AddTagsResult> addTagsAsync(final AddTagsRequest addTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddTagsResult>() {
-            public AddTagsResult call() throws Exception {
-                return addTags(addTagsRequest);
-        }
-    });
+        return invokeAsync(addTagsRequest,
+                new AddTagsRequestMarshaller(), new AddTagsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -630,19 +598,9 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final AddTagsRequest addTagsRequest,
             final AsyncHandler<AddTagsRequest, AddTagsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddTagsResult>() {
-            public AddTagsResult call() throws Exception {
-              AddTagsResult result;
-                try {
-                result = addTags(addTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(addTagsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(addTagsRequest,
+                new AddTagsRequestMarshaller(), new AddTagsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -697,11 +655,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<ModifyLoadBalancerAttributesResult> modifyLoadBalancerAttributesAsync(final ModifyLoadBalancerAttributesRequest modifyLoadBalancerAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyLoadBalancerAttributesResult>() {
-            public ModifyLoadBalancerAttributesResult call() throws Exception {
-                return modifyLoadBalancerAttributes(modifyLoadBalancerAttributesRequest);
-        }
-    });
+        return invokeAsync(modifyLoadBalancerAttributesRequest,
+                new ModifyLoadBalancerAttributesRequestMarshaller(),
+                new ModifyLoadBalancerAttributesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -762,19 +719,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final ModifyLoadBalancerAttributesRequest modifyLoadBalancerAttributesRequest,
             final AsyncHandler<ModifyLoadBalancerAttributesRequest, ModifyLoadBalancerAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyLoadBalancerAttributesResult>() {
-            public ModifyLoadBalancerAttributesResult call() throws Exception {
-              ModifyLoadBalancerAttributesResult result;
-                try {
-                result = modifyLoadBalancerAttributes(modifyLoadBalancerAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyLoadBalancerAttributesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(modifyLoadBalancerAttributesRequest,
+                new ModifyLoadBalancerAttributesRequestMarshaller(),
+                new ModifyLoadBalancerAttributesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -809,12 +757,9 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<Void> createLoadBalancerListenersAsync(final CreateLoadBalancerListenersRequest createLoadBalancerListenersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createLoadBalancerListeners(createLoadBalancerListenersRequest);
-                return null;
-        }
-    });
+        return invokeAsync(createLoadBalancerListenersRequest,
+                new CreateLoadBalancerListenersRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -855,18 +800,9 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final CreateLoadBalancerListenersRequest createLoadBalancerListenersRequest,
             final AsyncHandler<CreateLoadBalancerListenersRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                createLoadBalancerListeners(createLoadBalancerListenersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createLoadBalancerListenersRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(createLoadBalancerListenersRequest,
+                new CreateLoadBalancerListenersRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -893,12 +829,9 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<Void> deleteLoadBalancerListenersAsync(final DeleteLoadBalancerListenersRequest deleteLoadBalancerListenersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteLoadBalancerListeners(deleteLoadBalancerListenersRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteLoadBalancerListenersRequest,
+                new DeleteLoadBalancerListenersRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -931,18 +864,9 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DeleteLoadBalancerListenersRequest deleteLoadBalancerListenersRequest,
             final AsyncHandler<DeleteLoadBalancerListenersRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteLoadBalancerListeners(deleteLoadBalancerListenersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteLoadBalancerListenersRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteLoadBalancerListenersRequest,
+                new DeleteLoadBalancerListenersRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -989,11 +913,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<CreateAppCookieStickinessPolicyResult> createAppCookieStickinessPolicyAsync(final CreateAppCookieStickinessPolicyRequest createAppCookieStickinessPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateAppCookieStickinessPolicyResult>() {
-            public CreateAppCookieStickinessPolicyResult call() throws Exception {
-                return createAppCookieStickinessPolicy(createAppCookieStickinessPolicyRequest);
-        }
-    });
+        return invokeAsync(createAppCookieStickinessPolicyRequest,
+                new CreateAppCookieStickinessPolicyRequestMarshaller(),
+                new CreateAppCookieStickinessPolicyResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1046,19 +969,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final CreateAppCookieStickinessPolicyRequest createAppCookieStickinessPolicyRequest,
             final AsyncHandler<CreateAppCookieStickinessPolicyRequest, CreateAppCookieStickinessPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateAppCookieStickinessPolicyResult>() {
-            public CreateAppCookieStickinessPolicyResult call() throws Exception {
-              CreateAppCookieStickinessPolicyResult result;
-                try {
-                result = createAppCookieStickinessPolicy(createAppCookieStickinessPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createAppCookieStickinessPolicyRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createAppCookieStickinessPolicyRequest,
+                new CreateAppCookieStickinessPolicyRequestMarshaller(),
+                new CreateAppCookieStickinessPolicyResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1092,11 +1006,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<ApplySecurityGroupsToLoadBalancerResult> applySecurityGroupsToLoadBalancerAsync(final ApplySecurityGroupsToLoadBalancerRequest applySecurityGroupsToLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ApplySecurityGroupsToLoadBalancerResult>() {
-            public ApplySecurityGroupsToLoadBalancerResult call() throws Exception {
-                return applySecurityGroupsToLoadBalancer(applySecurityGroupsToLoadBalancerRequest);
-        }
-    });
+        return invokeAsync(applySecurityGroupsToLoadBalancerRequest,
+                new ApplySecurityGroupsToLoadBalancerRequestMarshaller(),
+                new ApplySecurityGroupsToLoadBalancerResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1136,19 +1049,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final ApplySecurityGroupsToLoadBalancerRequest applySecurityGroupsToLoadBalancerRequest,
             final AsyncHandler<ApplySecurityGroupsToLoadBalancerRequest, ApplySecurityGroupsToLoadBalancerResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ApplySecurityGroupsToLoadBalancerResult>() {
-            public ApplySecurityGroupsToLoadBalancerResult call() throws Exception {
-              ApplySecurityGroupsToLoadBalancerResult result;
-                try {
-                result = applySecurityGroupsToLoadBalancer(applySecurityGroupsToLoadBalancerRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(applySecurityGroupsToLoadBalancerRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(applySecurityGroupsToLoadBalancerRequest,
+                new ApplySecurityGroupsToLoadBalancerRequestMarshaller(),
+                new ApplySecurityGroupsToLoadBalancerResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1184,11 +1088,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DescribeLoadBalancerPoliciesResult> describeLoadBalancerPoliciesAsync(final DescribeLoadBalancerPoliciesRequest describeLoadBalancerPoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerPoliciesResult>() {
-            public DescribeLoadBalancerPoliciesResult call() throws Exception {
-                return describeLoadBalancerPolicies(describeLoadBalancerPoliciesRequest);
-        }
-    });
+        return invokeAsync(describeLoadBalancerPoliciesRequest,
+                new DescribeLoadBalancerPoliciesRequestMarshaller(),
+                new DescribeLoadBalancerPoliciesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1230,19 +1133,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DescribeLoadBalancerPoliciesRequest describeLoadBalancerPoliciesRequest,
             final AsyncHandler<DescribeLoadBalancerPoliciesRequest, DescribeLoadBalancerPoliciesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerPoliciesResult>() {
-            public DescribeLoadBalancerPoliciesResult call() throws Exception {
-              DescribeLoadBalancerPoliciesResult result;
-                try {
-                result = describeLoadBalancerPolicies(describeLoadBalancerPoliciesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeLoadBalancerPoliciesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeLoadBalancerPoliciesRequest,
+                new DescribeLoadBalancerPoliciesRequestMarshaller(),
+                new DescribeLoadBalancerPoliciesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1271,11 +1165,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<SetLoadBalancerPoliciesOfListenerResult> setLoadBalancerPoliciesOfListenerAsync(final SetLoadBalancerPoliciesOfListenerRequest setLoadBalancerPoliciesOfListenerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetLoadBalancerPoliciesOfListenerResult>() {
-            public SetLoadBalancerPoliciesOfListenerResult call() throws Exception {
-                return setLoadBalancerPoliciesOfListener(setLoadBalancerPoliciesOfListenerRequest);
-        }
-    });
+        return invokeAsync(setLoadBalancerPoliciesOfListenerRequest,
+                new SetLoadBalancerPoliciesOfListenerRequestMarshaller(),
+                new SetLoadBalancerPoliciesOfListenerResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1310,19 +1203,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final SetLoadBalancerPoliciesOfListenerRequest setLoadBalancerPoliciesOfListenerRequest,
             final AsyncHandler<SetLoadBalancerPoliciesOfListenerRequest, SetLoadBalancerPoliciesOfListenerResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetLoadBalancerPoliciesOfListenerResult>() {
-            public SetLoadBalancerPoliciesOfListenerResult call() throws Exception {
-              SetLoadBalancerPoliciesOfListenerResult result;
-                try {
-                result = setLoadBalancerPoliciesOfListener(setLoadBalancerPoliciesOfListenerRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setLoadBalancerPoliciesOfListenerRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(setLoadBalancerPoliciesOfListenerRequest,
+                new SetLoadBalancerPoliciesOfListenerRequestMarshaller(),
+                new SetLoadBalancerPoliciesOfListenerResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1364,11 +1248,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DisableAvailabilityZonesForLoadBalancerResult> disableAvailabilityZonesForLoadBalancerAsync(final DisableAvailabilityZonesForLoadBalancerRequest disableAvailabilityZonesForLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableAvailabilityZonesForLoadBalancerResult>() {
-            public DisableAvailabilityZonesForLoadBalancerResult call() throws Exception {
-                return disableAvailabilityZonesForLoadBalancer(disableAvailabilityZonesForLoadBalancerRequest);
-        }
-    });
+        return invokeAsync(disableAvailabilityZonesForLoadBalancerRequest,
+                new DisableAvailabilityZonesForLoadBalancerRequestMarshaller(),
+                new DisableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1416,19 +1299,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DisableAvailabilityZonesForLoadBalancerRequest disableAvailabilityZonesForLoadBalancerRequest,
             final AsyncHandler<DisableAvailabilityZonesForLoadBalancerRequest, DisableAvailabilityZonesForLoadBalancerResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableAvailabilityZonesForLoadBalancerResult>() {
-            public DisableAvailabilityZonesForLoadBalancerResult call() throws Exception {
-              DisableAvailabilityZonesForLoadBalancerResult result;
-                try {
-                result = disableAvailabilityZonesForLoadBalancer(disableAvailabilityZonesForLoadBalancerRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disableAvailabilityZonesForLoadBalancerRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(disableAvailabilityZonesForLoadBalancerRequest,
+                new DisableAvailabilityZonesForLoadBalancerRequestMarshaller(),
+                new DisableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1460,11 +1334,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DescribeInstanceHealthResult> describeInstanceHealthAsync(final DescribeInstanceHealthRequest describeInstanceHealthRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceHealthResult>() {
-            public DescribeInstanceHealthResult call() throws Exception {
-                return describeInstanceHealth(describeInstanceHealthRequest);
-        }
-    });
+        return invokeAsync(describeInstanceHealthRequest,
+                new DescribeInstanceHealthRequestMarshaller(),
+                new DescribeInstanceHealthResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1502,19 +1375,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DescribeInstanceHealthRequest describeInstanceHealthRequest,
             final AsyncHandler<DescribeInstanceHealthRequest, DescribeInstanceHealthResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceHealthResult>() {
-            public DescribeInstanceHealthResult call() throws Exception {
-              DescribeInstanceHealthResult result;
-                try {
-                result = describeInstanceHealth(describeInstanceHealthRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeInstanceHealthRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeInstanceHealthRequest,
+                new DescribeInstanceHealthRequestMarshaller(),
+                new DescribeInstanceHealthResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1542,11 +1406,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DeleteLoadBalancerPolicyResult> deleteLoadBalancerPolicyAsync(final DeleteLoadBalancerPolicyRequest deleteLoadBalancerPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLoadBalancerPolicyResult>() {
-            public DeleteLoadBalancerPolicyResult call() throws Exception {
-                return deleteLoadBalancerPolicy(deleteLoadBalancerPolicyRequest);
-        }
-    });
+        return invokeAsync(deleteLoadBalancerPolicyRequest,
+                new DeleteLoadBalancerPolicyRequestMarshaller(),
+                new DeleteLoadBalancerPolicyResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1580,19 +1443,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DeleteLoadBalancerPolicyRequest deleteLoadBalancerPolicyRequest,
             final AsyncHandler<DeleteLoadBalancerPolicyRequest, DeleteLoadBalancerPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLoadBalancerPolicyResult>() {
-            public DeleteLoadBalancerPolicyResult call() throws Exception {
-              DeleteLoadBalancerPolicyResult result;
-                try {
-                result = deleteLoadBalancerPolicy(deleteLoadBalancerPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteLoadBalancerPolicyRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(deleteLoadBalancerPolicyRequest,
+                new DeleteLoadBalancerPolicyRequestMarshaller(),
+                new DeleteLoadBalancerPolicyResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1618,11 +1472,9 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DescribeTagsResult> describeTagsAsync(final DescribeTagsRequest describeTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
-            public DescribeTagsResult call() throws Exception {
-                return describeTags(describeTagsRequest);
-        }
-    });
+        return invokeAsync(describeTagsRequest,
+                new DescribeTagsRequestMarshaller(), new DescribeTagsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1654,19 +1506,9 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DescribeTagsRequest describeTagsRequest,
             final AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
-            public DescribeTagsResult call() throws Exception {
-              DescribeTagsResult result;
-                try {
-                result = describeTags(describeTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeTagsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeTagsRequest,
+                new DescribeTagsRequestMarshaller(), new DescribeTagsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1699,11 +1541,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<CreateLoadBalancerPolicyResult> createLoadBalancerPolicyAsync(final CreateLoadBalancerPolicyRequest createLoadBalancerPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoadBalancerPolicyResult>() {
-            public CreateLoadBalancerPolicyResult call() throws Exception {
-                return createLoadBalancerPolicy(createLoadBalancerPolicyRequest);
-        }
-    });
+        return invokeAsync(createLoadBalancerPolicyRequest,
+                new CreateLoadBalancerPolicyRequestMarshaller(),
+                new CreateLoadBalancerPolicyResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1742,19 +1583,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final CreateLoadBalancerPolicyRequest createLoadBalancerPolicyRequest,
             final AsyncHandler<CreateLoadBalancerPolicyRequest, CreateLoadBalancerPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoadBalancerPolicyResult>() {
-            public CreateLoadBalancerPolicyResult call() throws Exception {
-              CreateLoadBalancerPolicyResult result;
-                try {
-                result = createLoadBalancerPolicy(createLoadBalancerPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createLoadBalancerPolicyRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createLoadBalancerPolicyRequest,
+                new CreateLoadBalancerPolicyRequestMarshaller(),
+                new CreateLoadBalancerPolicyResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1779,11 +1611,9 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<RemoveTagsResult> removeTagsAsync(final RemoveTagsRequest removeTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RemoveTagsResult>() {
-            public RemoveTagsResult call() throws Exception {
-                return removeTags(removeTagsRequest);
-        }
-    });
+        return invokeAsync(removeTagsRequest,
+                new RemoveTagsRequestMarshaller(), new RemoveTagsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1814,19 +1644,9 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final RemoveTagsRequest removeTagsRequest,
             final AsyncHandler<RemoveTagsRequest, RemoveTagsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RemoveTagsResult>() {
-            public RemoveTagsResult call() throws Exception {
-              RemoveTagsResult result;
-                try {
-                result = removeTags(removeTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(removeTagsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(removeTagsRequest,
+                new RemoveTagsRequestMarshaller(), new RemoveTagsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1864,11 +1684,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<EnableAvailabilityZonesForLoadBalancerResult> enableAvailabilityZonesForLoadBalancerAsync(final EnableAvailabilityZonesForLoadBalancerRequest enableAvailabilityZonesForLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableAvailabilityZonesForLoadBalancerResult>() {
-            public EnableAvailabilityZonesForLoadBalancerResult call() throws Exception {
-                return enableAvailabilityZonesForLoadBalancer(enableAvailabilityZonesForLoadBalancerRequest);
-        }
-    });
+        return invokeAsync(enableAvailabilityZonesForLoadBalancerRequest,
+                new EnableAvailabilityZonesForLoadBalancerRequestMarshaller(),
+                new EnableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1912,19 +1731,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final EnableAvailabilityZonesForLoadBalancerRequest enableAvailabilityZonesForLoadBalancerRequest,
             final AsyncHandler<EnableAvailabilityZonesForLoadBalancerRequest, EnableAvailabilityZonesForLoadBalancerResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableAvailabilityZonesForLoadBalancerResult>() {
-            public EnableAvailabilityZonesForLoadBalancerResult call() throws Exception {
-              EnableAvailabilityZonesForLoadBalancerResult result;
-                try {
-                result = enableAvailabilityZonesForLoadBalancer(enableAvailabilityZonesForLoadBalancerRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableAvailabilityZonesForLoadBalancerRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(enableAvailabilityZonesForLoadBalancerRequest,
+                new EnableAvailabilityZonesForLoadBalancerRequestMarshaller(),
+                new EnableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1962,12 +1772,9 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<Void> deleteLoadBalancerAsync(final DeleteLoadBalancerRequest deleteLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteLoadBalancer(deleteLoadBalancerRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteLoadBalancerRequest,
+                new DeleteLoadBalancerRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -2011,18 +1818,9 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DeleteLoadBalancerRequest deleteLoadBalancerRequest,
             final AsyncHandler<DeleteLoadBalancerRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteLoadBalancer(deleteLoadBalancerRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteLoadBalancerRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteLoadBalancerRequest,
+                new DeleteLoadBalancerRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -2064,11 +1862,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<CreateLoadBalancerResult> createLoadBalancerAsync(final CreateLoadBalancerRequest createLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoadBalancerResult>() {
-            public CreateLoadBalancerResult call() throws Exception {
-                return createLoadBalancer(createLoadBalancerRequest);
-        }
-    });
+        return invokeAsync(createLoadBalancerRequest,
+                new CreateLoadBalancerRequestMarshaller(),
+                new CreateLoadBalancerResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2116,19 +1913,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final CreateLoadBalancerRequest createLoadBalancerRequest,
             final AsyncHandler<CreateLoadBalancerRequest, CreateLoadBalancerResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoadBalancerResult>() {
-            public CreateLoadBalancerResult call() throws Exception {
-              CreateLoadBalancerResult result;
-                try {
-                result = createLoadBalancer(createLoadBalancerRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createLoadBalancerRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createLoadBalancerRequest,
+                new CreateLoadBalancerRequestMarshaller(),
+                new CreateLoadBalancerResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2170,11 +1958,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<SetLoadBalancerPoliciesForBackendServerResult> setLoadBalancerPoliciesForBackendServerAsync(final SetLoadBalancerPoliciesForBackendServerRequest setLoadBalancerPoliciesForBackendServerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetLoadBalancerPoliciesForBackendServerResult>() {
-            public SetLoadBalancerPoliciesForBackendServerResult call() throws Exception {
-                return setLoadBalancerPoliciesForBackendServer(setLoadBalancerPoliciesForBackendServerRequest);
-        }
-    });
+        return invokeAsync(setLoadBalancerPoliciesForBackendServerRequest,
+                new SetLoadBalancerPoliciesForBackendServerRequestMarshaller(),
+                new SetLoadBalancerPoliciesForBackendServerResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2222,19 +2009,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final SetLoadBalancerPoliciesForBackendServerRequest setLoadBalancerPoliciesForBackendServerRequest,
             final AsyncHandler<SetLoadBalancerPoliciesForBackendServerRequest, SetLoadBalancerPoliciesForBackendServerResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetLoadBalancerPoliciesForBackendServerResult>() {
-            public SetLoadBalancerPoliciesForBackendServerResult call() throws Exception {
-              SetLoadBalancerPoliciesForBackendServerResult result;
-                try {
-                result = setLoadBalancerPoliciesForBackendServer(setLoadBalancerPoliciesForBackendServerRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setLoadBalancerPoliciesForBackendServerRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(setLoadBalancerPoliciesForBackendServerRequest,
+                new SetLoadBalancerPoliciesForBackendServerRequestMarshaller(),
+                new SetLoadBalancerPoliciesForBackendServerResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2273,11 +2051,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DeregisterInstancesFromLoadBalancerResult> deregisterInstancesFromLoadBalancerAsync(final DeregisterInstancesFromLoadBalancerRequest deregisterInstancesFromLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeregisterInstancesFromLoadBalancerResult>() {
-            public DeregisterInstancesFromLoadBalancerResult call() throws Exception {
-                return deregisterInstancesFromLoadBalancer(deregisterInstancesFromLoadBalancerRequest);
-        }
-    });
+        return invokeAsync(deregisterInstancesFromLoadBalancerRequest,
+                new DeregisterInstancesFromLoadBalancerRequestMarshaller(),
+                new DeregisterInstancesFromLoadBalancerResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2322,19 +2099,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DeregisterInstancesFromLoadBalancerRequest deregisterInstancesFromLoadBalancerRequest,
             final AsyncHandler<DeregisterInstancesFromLoadBalancerRequest, DeregisterInstancesFromLoadBalancerResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeregisterInstancesFromLoadBalancerResult>() {
-            public DeregisterInstancesFromLoadBalancerResult call() throws Exception {
-              DeregisterInstancesFromLoadBalancerResult result;
-                try {
-                result = deregisterInstancesFromLoadBalancer(deregisterInstancesFromLoadBalancerRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deregisterInstancesFromLoadBalancerRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(deregisterInstancesFromLoadBalancerRequest,
+                new DeregisterInstancesFromLoadBalancerRequestMarshaller(),
+                new DeregisterInstancesFromLoadBalancerResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2369,12 +2137,9 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<Void> setLoadBalancerListenerSSLCertificateAsync(final SetLoadBalancerListenerSSLCertificateRequest setLoadBalancerListenerSSLCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setLoadBalancerListenerSSLCertificate(setLoadBalancerListenerSSLCertificateRequest);
-                return null;
-        }
-    });
+        return invokeAsync(setLoadBalancerListenerSSLCertificateRequest,
+                new SetLoadBalancerListenerSSLCertificateRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -2415,18 +2180,9 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final SetLoadBalancerListenerSSLCertificateRequest setLoadBalancerListenerSSLCertificateRequest,
             final AsyncHandler<SetLoadBalancerListenerSSLCertificateRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                setLoadBalancerListenerSSLCertificate(setLoadBalancerListenerSSLCertificateRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setLoadBalancerListenerSSLCertificateRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(setLoadBalancerListenerSSLCertificateRequest,
+                new SetLoadBalancerListenerSSLCertificateRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -2453,11 +2209,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DescribeLoadBalancerAttributesResult> describeLoadBalancerAttributesAsync(final DescribeLoadBalancerAttributesRequest describeLoadBalancerAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerAttributesResult>() {
-            public DescribeLoadBalancerAttributesResult call() throws Exception {
-                return describeLoadBalancerAttributes(describeLoadBalancerAttributesRequest);
-        }
-    });
+        return invokeAsync(describeLoadBalancerAttributesRequest,
+                new DescribeLoadBalancerAttributesRequestMarshaller(),
+                new DescribeLoadBalancerAttributesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2490,19 +2245,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DescribeLoadBalancerAttributesRequest describeLoadBalancerAttributesRequest,
             final AsyncHandler<DescribeLoadBalancerAttributesRequest, DescribeLoadBalancerAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerAttributesResult>() {
-            public DescribeLoadBalancerAttributesResult call() throws Exception {
-              DescribeLoadBalancerAttributesResult result;
-                try {
-                result = describeLoadBalancerAttributes(describeLoadBalancerAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeLoadBalancerAttributesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeLoadBalancerAttributesRequest,
+                new DescribeLoadBalancerAttributesRequestMarshaller(),
+                new DescribeLoadBalancerAttributesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2552,11 +2298,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<CreateLBCookieStickinessPolicyResult> createLBCookieStickinessPolicyAsync(final CreateLBCookieStickinessPolicyRequest createLBCookieStickinessPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLBCookieStickinessPolicyResult>() {
-            public CreateLBCookieStickinessPolicyResult call() throws Exception {
-                return createLBCookieStickinessPolicy(createLBCookieStickinessPolicyRequest);
-        }
-    });
+        return invokeAsync(createLBCookieStickinessPolicyRequest,
+                new CreateLBCookieStickinessPolicyRequestMarshaller(),
+                new CreateLBCookieStickinessPolicyResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2612,19 +2357,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final CreateLBCookieStickinessPolicyRequest createLBCookieStickinessPolicyRequest,
             final AsyncHandler<CreateLBCookieStickinessPolicyRequest, CreateLBCookieStickinessPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLBCookieStickinessPolicyResult>() {
-            public CreateLBCookieStickinessPolicyResult call() throws Exception {
-              CreateLBCookieStickinessPolicyResult result;
-                try {
-                result = createLBCookieStickinessPolicy(createLBCookieStickinessPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createLBCookieStickinessPolicyRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createLBCookieStickinessPolicyRequest,
+                new CreateLBCookieStickinessPolicyRequestMarshaller(),
+                new CreateLBCookieStickinessPolicyResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2658,11 +2394,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<AttachLoadBalancerToSubnetsResult> attachLoadBalancerToSubnetsAsync(final AttachLoadBalancerToSubnetsRequest attachLoadBalancerToSubnetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachLoadBalancerToSubnetsResult>() {
-            public AttachLoadBalancerToSubnetsResult call() throws Exception {
-                return attachLoadBalancerToSubnets(attachLoadBalancerToSubnetsRequest);
-        }
-    });
+        return invokeAsync(attachLoadBalancerToSubnetsRequest,
+                new AttachLoadBalancerToSubnetsRequestMarshaller(),
+                new AttachLoadBalancerToSubnetsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2702,19 +2437,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final AttachLoadBalancerToSubnetsRequest attachLoadBalancerToSubnetsRequest,
             final AsyncHandler<AttachLoadBalancerToSubnetsRequest, AttachLoadBalancerToSubnetsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachLoadBalancerToSubnetsResult>() {
-            public AttachLoadBalancerToSubnetsResult call() throws Exception {
-              AttachLoadBalancerToSubnetsResult result;
-                try {
-                result = attachLoadBalancerToSubnets(attachLoadBalancerToSubnetsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachLoadBalancerToSubnetsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(attachLoadBalancerToSubnetsRequest,
+                new AttachLoadBalancerToSubnetsRequestMarshaller(),
+                new AttachLoadBalancerToSubnetsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2777,11 +2503,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<RegisterInstancesWithLoadBalancerResult> registerInstancesWithLoadBalancerAsync(final RegisterInstancesWithLoadBalancerRequest registerInstancesWithLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterInstancesWithLoadBalancerResult>() {
-            public RegisterInstancesWithLoadBalancerResult call() throws Exception {
-                return registerInstancesWithLoadBalancer(registerInstancesWithLoadBalancerRequest);
-        }
-    });
+        return invokeAsync(registerInstancesWithLoadBalancerRequest,
+                new RegisterInstancesWithLoadBalancerRequestMarshaller(),
+                new RegisterInstancesWithLoadBalancerResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2850,19 +2575,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final RegisterInstancesWithLoadBalancerRequest registerInstancesWithLoadBalancerRequest,
             final AsyncHandler<RegisterInstancesWithLoadBalancerRequest, RegisterInstancesWithLoadBalancerResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterInstancesWithLoadBalancerResult>() {
-            public RegisterInstancesWithLoadBalancerResult call() throws Exception {
-              RegisterInstancesWithLoadBalancerResult result;
-                try {
-                result = registerInstancesWithLoadBalancer(registerInstancesWithLoadBalancerRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(registerInstancesWithLoadBalancerRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(registerInstancesWithLoadBalancerRequest,
+                new RegisterInstancesWithLoadBalancerRequestMarshaller(),
+                new RegisterInstancesWithLoadBalancerResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2890,11 +2606,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DescribeLoadBalancersResult> describeLoadBalancersAsync(final DescribeLoadBalancersRequest describeLoadBalancersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancersResult>() {
-            public DescribeLoadBalancersResult call() throws Exception {
-                return describeLoadBalancers(describeLoadBalancersRequest);
-        }
-    });
+        return invokeAsync(describeLoadBalancersRequest,
+                new DescribeLoadBalancersRequestMarshaller(),
+                new DescribeLoadBalancersResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2928,19 +2643,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DescribeLoadBalancersRequest describeLoadBalancersRequest,
             final AsyncHandler<DescribeLoadBalancersRequest, DescribeLoadBalancersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancersResult>() {
-            public DescribeLoadBalancersResult call() throws Exception {
-              DescribeLoadBalancersResult result;
-                try {
-                result = describeLoadBalancers(describeLoadBalancersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeLoadBalancersRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeLoadBalancersRequest,
+                new DescribeLoadBalancersRequestMarshaller(),
+                new DescribeLoadBalancersResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
 }
@@ -23,7 +23,19 @@ import com.amazonaws.util.StringUtils;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * An abstract class for Amazon Kinesis recorders. It manages local file store
@@ -43,6 +55,11 @@ public abstract class AbstractKinesisRecorder {
      */
     private static final int MAX_BATCH_RECORDS_SIZE_BYTES = 512 * 1024;
 
+    /**
+     * Time in milliseconds an idle thread sending batches is kept alive.
+     */
+    private static final long SEND_THREAD_KEEP_ALIVE = 60 * 1000L;
+
     /**
      * The configurable options for Kinesis Recorder, includes the
      * ClientConfiguration of the low level client.
@@ -50,6 +67,16 @@ public abstract class AbstractKinesisRecorder {
     protected KinesisRecorderConfig config;
     protected FileRecordStore recordStore;
 
+    /**
+     * Submits records in the background, or null if auto flush isn't enabled.
+     */
+    private final AutoFlusher autoFlusher;
+
+    /**
+     * Sends batches of different streams concurrently, created on demand.
+     */
+    private ThreadPoolExecutor sendExecutor;
+
     /**
      * Gets the sender to send saved records.
      * 
@@ -69,6 +96,8 @@ public abstract class AbstractKinesisRecorder {
         }
         this.recordStore = recordStore;
         this.config = config;
+        this.autoFlusher = config != null && config.isAutoFlushEnabled()
+                ? new AutoFlusher(this, config) : null;
     }
 
     /**
@@ -93,8 +122,30 @@ public abstract class AbstractKinesisRecorder {
      * @param streamName The stream to submit the data to.
      */
     public void saveRecord(byte[] data, String streamName) {
+        saveRecord(data, streamName, null);
+    }
+
+    /**
+     * Saves a record to local storage to be sent later with the given
+     * partition key.
+     *
+     * @param data The data to submit to the stream
+     * @param streamName The stream to submit the data to.
+     * @param partitionKey The partition key of the record, or null to let the
+     *            record sender choose one
+     */
+    protected void saveRecord(byte[] data, String streamName, String partitionKey) {
         try {
-            recordStore.put(FileRecordParser.asString(streamName, data));
+            boolean saved = recordStore.put(FileRecordParser.asBytes(streamName, partitionKey,
+                    data));
+            if (autoFlusher != null) {
+                if (saved) {
+                    autoFlusher.onRecordSaved();
+                } else {
+                    // the storage is full, make room for the next records
+                    autoFlusher.requestFlush();
+                }
+            }
         } catch (IOException e) {
             throw new AmazonClientException("Error saving record", e);
         }
@@ -117,14 +168,16 @@ public abstract class AbstractKinesisRecorder {
     public synchronized void submitAllRecords() {
         RecordSender sender = getRecordSender();
         RecordIterator iterator = recordStore.iterator();
-        List<byte[]> data = new ArrayList<byte[]>(MAX_RECORDS_PER_BATCH);
+        Map<String, List<byte[]>> batches = new LinkedHashMap<String, List<byte[]>>();
+        Map<String, List<String>> partitionKeys = new HashMap<String, List<String>>();
+        int parallelism = config == null ? 1 : config.getSubmissionParallelism();
         int retry = 0;
         int count = 0;
         try {
             while (iterator.hasNext() && retry < 3) {
-                String streamName = nextBatch(iterator, data, MAX_RECORDS_PER_BATCH,
-                        MAX_BATCH_RECORDS_SIZE_BYTES);
-                if (streamName == null || data.isEmpty()) {
+                nextBatchWindow(iterator, batches, partitionKeys, parallelism,
+                        MAX_RECORDS_PER_BATCH, MAX_BATCH_RECORDS_SIZE_BYTES);
+                if (batches.isEmpty()) {
                     break;
                 }
 
@@ -134,35 +187,61 @@ public abstract class AbstractKinesisRecorder {
                     throw new AmazonClientException("Failed to removed records.", e);
                 }
 
-                try {
-                    List<byte[]> failures = sender.sendBatch(streamName, data);
-                    int successCount = data.size() - failures.size();
-                    count += successCount;
-                    if (successCount == 0) {
-                        // no record went through, increase retry count.
-                        retry++;
-                    }
-                    if (!failures.isEmpty()) {
-                        for (byte[] bytes : failures) {
-                            saveRecord(bytes, streamName);
+                Map<String, Object> results = sendBatches(sender, batches, partitionKeys,
+                        parallelism);
+                int successCount = 0;
+                AmazonClientException error = null;
+                for (Map.Entry<String, List<byte[]>> batch : batches.entrySet()) {
+                    String streamName = batch.getKey();
+                    List<byte[]> data = batch.getValue();
+                    List<String> keys = partitionKeys.get(streamName);
+                    Object result = results.get(streamName);
+                    if (result instanceof AmazonClientException) {
+                        AmazonClientException ace = (AmazonClientException) result;
+                        if (sender.isRecoverable(ace)) {
+                            for (int i = 0; i < data.size(); i++) {
+                                saveRecord(data.get(i), streamName, keys.get(i));
+                            }
+                            Log.e(TAG,
+                                    "ServiceException in submit all, the values of the data inside the requests appears valid.  The request will be kept",
+                                    ace);
+                        } else {
+                            // We have reason to believe the values in the
+                            // request is invalid and cannot be sent or
+                            // recovered.
+                            Log.e(TAG,
+                                    "ServiceException in submit all, the last request is presumed to be the cause and will be dropped",
+                                    ace);
                         }
-                    }
-                } catch (AmazonClientException ace) {
-                    if (sender.isRecoverable(ace)) {
-                        for (byte[] bytes : data) {
-                            saveRecord(bytes, streamName);
+                        if (error == null) {
+                            error = ace;
                         }
-                        Log.e(TAG,
-                                "ServiceException in submit all, the values of the data inside the requests appears valid.  The request will be kept",
-                                ace);
-                    } else {
-                        // We have reason to believe the values in the request
-                        // is invalid and cannot be sent or recovered.
-                        Log.e(TAG,
-                                "ServiceException in submit all, the last request is presumed to be the cause and will be dropped",
-                                ace);
+                        continue;
+                    }
+
+                    @SuppressWarnings("unchecked")
+                    List<byte[]> failures = (List<byte[]>) result;
+                    successCount += data.size() - failures.size();
+                    if (failures.isEmpty()) {
+                        continue;
+                    }
+                    // senders return the failed data themselves, which finds
+                    // the partition keys to save them again with
+                    Map<byte[], String> dataKeys = new IdentityHashMap<byte[], String>();
+                    for (int i = 0; i < data.size(); i++) {
+                        dataKeys.put(data.get(i), keys.get(i));
+                    }
+                    for (byte[] bytes : failures) {
+                        saveRecord(bytes, streamName, dataKeys.get(bytes));
                     }
-                    throw ace;
+                }
+                count += successCount;
+                if (error != null) {
+                    throw error;
+                }
+                if (successCount == 0) {
+                    // no record went through, increase retry count.
+                    retry++;
                 }
             }
         } finally {
@@ -175,6 +254,94 @@ public abstract class AbstractKinesisRecorder {
         }
     }
 
+    /**
+     * Sends batches of records, concurrently if there are several and the
+     * parallelism allows it.
+     *
+     * @param sender the record sender
+     * @param batches batches of records by stream name
+     * @param partitionKeys partition keys of each batch
+     * @param parallelism maximum number of batches sent concurrently
+     * @return for each stream name, either the list of data that failed to be
+     *         sent or the {@link AmazonClientException} thrown by the sender
+     */
+    private Map<String, Object> sendBatches(final RecordSender sender,
+            Map<String, List<byte[]>> batches, final Map<String, List<String>> partitionKeys,
+            int parallelism) {
+        Map<String, Object> results = new HashMap<String, Object>();
+        if (batches.size() == 1 || parallelism == 1) {
+            for (Map.Entry<String, List<byte[]>> batch : batches.entrySet()) {
+                results.put(batch.getKey(), sendBatch(sender, batch.getKey(), batch.getValue(),
+                        partitionKeys.get(batch.getKey())));
+            }
+            return results;
+        }
+
+        Map<String, Future<Object>> futures = new HashMap<String, Future<Object>>();
+        ExecutorService executor = getSendExecutor();
+        for (final Map.Entry<String, List<byte[]>> batch : batches.entrySet()) {
+            futures.put(batch.getKey(), executor.submit(new Callable<Object>() {
+                @Override
+                public Object call() {
+                    return sendBatch(sender, batch.getKey(), batch.getValue(),
+                            partitionKeys.get(batch.getKey()));
+                }
+            }));
+        }
+        boolean interrupted = false;
+        try {
+            for (Map.Entry<String, Future<Object>> future : futures.entrySet()) {
+                while (true) {
+                    try {
+                        results.put(future.getKey(), future.getValue().get());
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    } catch (ExecutionException e) {
+                        Throwable cause = e.getCause();
+                        if (cause instanceof Error) {
+                            throw (Error) cause;
+                        }
+                        throw (RuntimeException) cause;
+                    }
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return results;
+    }
+
+    private static Object sendBatch(RecordSender sender, String streamName, List<byte[]> data,
+            List<String> partitionKeys) {
+        try {
+            return sender.sendBatch(streamName, data, partitionKeys);
+        } catch (AmazonClientException ace) {
+            return ace;
+        }
+    }
+
+    private synchronized ExecutorService getSendExecutor() {
+        if (sendExecutor == null) {
+            int parallelism = config.getSubmissionParallelism();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism,
+                    SEND_THREAD_KEEP_ALIVE, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                        @Override
+                        public Thread newThread(Runnable r) {
+                            Thread thread = new Thread(r, "KinesisRecorder-Send");
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+            executor.allowCoreThreadTimeOut(true);
+            sendExecutor = executor;
+        }
+        return sendExecutor;
+    }
+
     /**
      * Reads a batch of records belong to the same stream into a list. If data
      * is read successfully, the stream name is returned.
@@ -188,39 +355,148 @@ public abstract class AbstractKinesisRecorder {
      */
     protected String nextBatch(RecordIterator iterator, List<byte[]> data, int maxCount,
             int maxSize) {
+        Map<String, List<byte[]>> batches = new LinkedHashMap<String, List<byte[]>>();
+        nextBatches(iterator, batches, 1, maxCount, maxSize);
         data.clear();
+        if (batches.isEmpty()) {
+            return null;
+        }
+        Map.Entry<String, List<byte[]>> batch = batches.entrySet().iterator().next();
+        data.addAll(batch.getValue());
+        return batch.getKey();
+    }
 
-        String lastStreamName = null;
-        int size = 0;
-        int count = 0;
+    /**
+     * Reads the next records into one batch per stream, up to the given
+     * number of streams. Reading stops before a record of a stream whose
+     * batch is full, or of a new stream when there are already enough
+     * streams, so that the records read are always the oldest ones and the
+     * records of each stream stay in order.
+     *
+     * @param iterator record iterator
+     * @param batches a map to hold the batches by stream name
+     * @param maxStreams maximum number of streams
+     * @param maxCount maximum number of records in a batch
+     * @param maxSize a threshold that concludes a batch. It allows one extra
+     *            record that brings the total size over this threshold.
+     */
+    protected void nextBatches(RecordIterator iterator, Map<String, List<byte[]>> batches,
+            int maxStreams, int maxCount, int maxSize) {
+        nextBatches(iterator, batches, null, maxStreams, maxCount, maxSize);
+    }
+
+    /**
+     * Reads the next records into one batch per stream along with their
+     * partition keys.
+     *
+     * @param iterator record iterator
+     * @param batches a map to hold the batches by stream name
+     * @param partitionKeys a map to hold the partition keys of each batch,
+     *            null where records have no partition key, or null if not
+     *            needed
+     * @param maxStreams maximum number of streams
+     * @param maxCount maximum number of records in a batch
+     * @param maxSize a threshold that concludes a batch. It allows one extra
+     *            record that brings the total size over this threshold.
+     * @see #nextBatches(RecordIterator, Map, int, int, int)
+     */
+    protected void nextBatches(RecordIterator iterator, Map<String, List<byte[]>> batches,
+            Map<String, List<String>> partitionKeys, int maxStreams, int maxCount, int maxSize) {
+        readBatches(iterator, batches, partitionKeys, maxStreams, maxCount, maxSize,
+                Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Reads a window of the next records, of any number of streams, into one
+     * batch per stream along with their partition keys. The window holds the
+     * records of at most the given number of full batches, so interleaved
+     * records of several streams still make batches of many records. Reading
+     * stops before a record of a stream whose batch is full, so that the
+     * records read are always the oldest ones and the records of each stream
+     * stay in order.
+     *
+     * @param iterator record iterator
+     * @param batches a map to hold the batches by stream name
+     * @param partitionKeys a map to hold the partition keys of each batch,
+     *            null where records have no partition key, or null if not
+     *            needed
+     * @param maxBatches maximum number of full batches the window holds
+     * @param maxCount maximum number of records in a batch
+     * @param maxSize a threshold that concludes a batch. It allows one extra
+     *            record that brings the total size over this threshold.
+     */
+    protected void nextBatchWindow(RecordIterator iterator, Map<String, List<byte[]>> batches,
+            Map<String, List<String>> partitionKeys, int maxBatches, int maxCount, int maxSize) {
+        readBatches(iterator, batches, partitionKeys, Integer.MAX_VALUE, maxCount, maxSize,
+                (long) maxBatches * maxCount, (long) maxBatches * maxSize);
+    }
+
+    private void readBatches(RecordIterator iterator, Map<String, List<byte[]>> batches,
+            Map<String, List<String>> partitionKeys, int maxStreams, int maxCount, int maxSize,
+            long maxWindowCount, long maxWindowSize) {
+        batches.clear();
+        if (partitionKeys != null) {
+            partitionKeys.clear();
+        }
+
+        Map<String, Integer> sizes = new HashMap<String, Integer>();
         FileRecordParser frp = new FileRecordParser();
-        while (iterator.hasNext() && count < maxCount && size < maxSize) {
-            String line = iterator.peek();
-            if (line == null || line.isEmpty()) {
+        long windowCount = 0;
+        long windowSize = 0;
+        while (iterator.hasNext() && windowCount < maxWindowCount
+                && windowSize < maxWindowSize) {
+            byte[] record = iterator.peek();
+            if (record == null || record.length == 0) {
+                iterator.next();
                 continue;
             }
-            // parse a line. Skip in case of corrupted data
+            // parse a record. Skip in case of corrupted data
             try {
-                frp.parse(line);
+                frp.parse(record);
             } catch (Exception e) {
-                Log.w(TAG, "Failed to read line. Skip.", e);
+                Log.w(TAG, "Failed to read record. Skip.", e);
+                iterator.next();
                 continue;
             }
 
-            // check whether it belongs to previous batch
-            if (lastStreamName == null || lastStreamName.equals(frp.streamName)) {
-                data.add(frp.bytes);
-                // update counter
-                count++;
-                size += frp.bytes.length;
-                lastStreamName = frp.streamName;
-                iterator.next();
-            } else {
+            List<byte[]> data = batches.get(frp.streamName);
+            if (data == null) {
+                if (batches.size() >= maxStreams) {
+                    break;
+                }
+                data = new ArrayList<byte[]>();
+                batches.put(frp.streamName, data);
+                sizes.put(frp.streamName, 0);
+                if (partitionKeys != null) {
+                    partitionKeys.put(frp.streamName, new ArrayList<String>());
+                }
+            }
+            int size = sizes.get(frp.streamName);
+            if (data.size() >= maxCount || size >= maxSize) {
+                // the batch of this stream is full
                 break;
             }
+            data.add(frp.bytes);
+            if (partitionKeys != null) {
+                partitionKeys.get(frp.streamName).add(frp.partitionKey);
+            }
+            sizes.put(frp.streamName, size + frp.bytes.length);
+            windowCount++;
+            windowSize += frp.bytes.length;
+            iterator.next();
         }
+    }
 
-        return lastStreamName;
+    /**
+     * Stops submitting records in the background when auto flush is enabled,
+     * letting the thread that does it terminate. Call it once the recorder is
+     * no longer used. Records can still be saved and submitted with
+     * {@link #submitAllRecords()} afterwards.
+     */
+    public void shutdown() {
+        if (autoFlusher != null) {
+            autoFlusher.shutdown();
+        }
     }
 
     /**
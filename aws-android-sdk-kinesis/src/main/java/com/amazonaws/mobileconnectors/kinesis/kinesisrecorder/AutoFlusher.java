@@ -0,0 +1,189 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
+
+import android.util.Log;
+
+import com.amazonaws.AmazonClientException;
+
+import java.util.Random;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Submits the records of a recorder in the background, when enough records
+ * were saved, when the saved records take enough space, and periodically, as
+ * configured by {@link KinesisRecorderConfig}. Submissions that fail with a
+ * recoverable error are retried after a jittered exponential backoff. At most
+ * one submission is in flight at any time, and requests for a submission
+ * while backing off are ignored since one is scheduled at the end of the
+ * backoff anyway. The thread of the flusher runs until {@link #shutdown()}.
+ */
+class AutoFlusher {
+    private static final String TAG = "AutoFlusher";
+
+    /** Base delay in milliseconds of the backoff after a failure. */
+    static final long BASE_BACKOFF = 1000L;
+
+    /** Maximum delay in milliseconds of the backoff after a failure. */
+    static final long MAX_BACKOFF = 2 * 60 * 1000L;
+
+    private final AbstractKinesisRecorder recorder;
+    private final int recordCount;
+    private final long size;
+    private final ScheduledThreadPoolExecutor executor;
+    private final Random random = new Random();
+
+    private final AtomicInteger savedRecords = new AtomicInteger();
+    private final AtomicBoolean flushPending = new AtomicBoolean();
+    private volatile long backoffUntil;
+
+    /**
+     * Whether a submission is in progress, during which the records that
+     * failed to send are saved again without requesting another submission.
+     */
+    private volatile boolean flushing;
+
+    /** Number of consecutive failed submissions, only used by the executor. */
+    private int failures;
+
+    private final Runnable flushTask = new Runnable() {
+        @Override
+        public void run() {
+            flush();
+        }
+    };
+
+    private final Runnable requestFlushTask = new Runnable() {
+        @Override
+        public void run() {
+            requestFlush();
+        }
+    };
+
+    /**
+     * @param recorder the recorder to submit the records of
+     * @param config the configuration of the recorder, with auto flush
+     *            enabled
+     */
+    AutoFlusher(AbstractKinesisRecorder recorder, KinesisRecorderConfig config) {
+        this.recorder = recorder;
+        this.recordCount = config.getAutoFlushRecordCount();
+        this.size = config.getAutoFlushSize();
+        this.executor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "KinesisRecorder-AutoFlush");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        // the periodic and backoff submissions are dropped on shutdown
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        long interval = config.getAutoFlushInterval();
+        if (interval > 0) {
+            executor.scheduleWithFixedDelay(requestFlushTask, interval, interval,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Called after a record is saved. Requests a submission if enough records
+     * were saved since the last one or if the saved records take enough
+     * space.
+     */
+    void onRecordSaved() {
+        int saved = savedRecords.incrementAndGet();
+        if ((recordCount > 0 && saved >= recordCount)
+                || (size > 0 && recorder.getDiskBytesUsed() >= size)) {
+            requestFlush();
+        }
+    }
+
+    /**
+     * Schedules a submission of all records unless one is already pending or
+     * the flusher is backing off from a failure.
+     */
+    void requestFlush() {
+        if (flushing || System.currentTimeMillis() < backoffUntil) {
+            return;
+        }
+        if (flushPending.compareAndSet(false, true)) {
+            try {
+                executor.execute(flushTask);
+            } catch (RejectedExecutionException e) {
+                // shut down
+                flushPending.set(false);
+            }
+        }
+    }
+
+    /**
+     * Stops submitting records in the background. The submission in
+     * progress, if any, completes, after which the thread of the flusher
+     * terminates.
+     */
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private void flush() {
+        savedRecords.set(0);
+        flushPending.set(false);
+        flushing = true;
+        try {
+            recorder.submitAllRecords();
+            failures = 0;
+        } catch (AmazonClientException ace) {
+            if (recorder.getRecordSender().isRecoverable(ace)) {
+                long delay = getBackoffDelay(failures++);
+                Log.w(TAG, "Failed to submit records, retry in " + delay + "ms", ace);
+                backoffUntil = System.currentTimeMillis() + delay;
+                try {
+                    executor.schedule(new Runnable() {
+                        @Override
+                        public void run() {
+                            backoffUntil = 0;
+                            requestFlush();
+                        }
+                    }, delay, TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    // shut down
+                }
+            } else {
+                // the records that caused the error were dropped
+                Log.e(TAG, "Failed to submit records", ace);
+            }
+        } catch (RuntimeException e) {
+            Log.e(TAG, "Failed to submit records", e);
+        } finally {
+            flushing = false;
+        }
+    }
+
+    /**
+     * Returns a random delay between 0 and an exponentially growing ceiling,
+     * so that devices going back online don't all submit at once.
+     */
+    long getBackoffDelay(int retries) {
+        long ceiling = BASE_BACKOFF << Math.min(retries, 20);
+        return (long) (random.nextDouble() * Math.min(ceiling, MAX_BACKOFF));
+    }
+}
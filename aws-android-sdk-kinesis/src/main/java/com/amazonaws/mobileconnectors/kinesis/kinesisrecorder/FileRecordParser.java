@@ -16,11 +16,22 @@
 package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
 
 import com.amazonaws.util.Base64;
+import com.amazonaws.util.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
 
 /**
  * A parser for Kinesis records. It has a helper method to serialize a Kinesis
- * record. The serialized data can be read via {@link #parse(String)}. It's not
- * thread safe.
+ * record into bytes: a format version byte, the stream name and the partition
+ * key in modified UTF-8 as written by {@link DataOutputStream#writeUTF(String)}
+ * followed by the raw data. The serialized data can be read via
+ * {@link #parse(byte[])}, which also reads records saved as a line of text by
+ * previous versions, see {@link #parse(String)}. It's not thread safe.
  */
 class FileRecordParser {
     /**
@@ -28,9 +39,38 @@ class FileRecordParser {
      */
     private static final String DELIMITER = ",";
 
+    /**
+     * Version of the binary format, which is never the first character of a
+     * line of text.
+     */
+    private static final int FORMAT_VERSION = 1;
+
     String streamName;
+    String partitionKey;
     byte[] bytes;
 
+    /**
+     * Parses a Kinesis record from its serialized bytes.
+     *
+     * @param record bytes to parse
+     */
+    void parse(byte[] record) {
+        if (record.length == 0 || record[0] != FORMAT_VERSION) {
+            parse(new String(record, StringUtils.UTF8));
+            return;
+        }
+        ByteArrayInputStream bais = new ByteArrayInputStream(record, 1, record.length - 1);
+        DataInputStream in = new DataInputStream(bais);
+        try {
+            streamName = in.readUTF();
+            String key = in.readUTF();
+            partitionKey = key.isEmpty() ? null : key;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid record", e);
+        }
+        bytes = Arrays.copyOfRange(record, record.length - bais.available(), record.length);
+    }
+
     /**
      * Parses a Kinesis record from a line.
      * 
@@ -42,6 +82,7 @@ class FileRecordParser {
             throw new IllegalArgumentException("Invalid line: " + line);
         }
         streamName = parts[0];
+        partitionKey = null;
         bytes = Base64.decode(parts[1]);
     }
 
@@ -51,7 +92,33 @@ class FileRecordParser {
     }
 
     /**
-     * A convenient method that serialize a Kinesis record into a String.
+     * A convenient method that serialize a Kinesis record into bytes.
+     *
+     * @param streamName the stream name of the Kinesis record
+     * @param partitionKey the partition key of the Kinesis record, or null to
+     *            let the sender pick one
+     * @param bytes data to be serialized
+     * @return the serialized record
+     */
+    public static byte[] asBytes(String streamName, String partitionKey, byte[] bytes) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(bytes.length
+                + streamName.length() + 16);
+        DataOutputStream out = new DataOutputStream(baos);
+        try {
+            out.writeByte(FORMAT_VERSION);
+            out.writeUTF(streamName);
+            out.writeUTF(partitionKey == null ? "" : partitionKey);
+            out.write(bytes);
+        } catch (IOException e) {
+            // not thrown by a ByteArrayOutputStream
+            throw new IllegalArgumentException("Invalid record", e);
+        }
+        return baos.toByteArray();
+    }
+
+    /**
+     * A convenient method that serialize a Kinesis record into a String, the
+     * format previous versions stored records in.
      * 
      * @param streamName the stream name of the Kinesis record
      * @param bytes data to be serialized
@@ -20,30 +20,56 @@ import android.util.Log;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.util.StringUtils;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
-import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.TreeSet;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
 
 /**
  * The FileRecordStore is responsible for recording Kinesis PutRecordRequests to
- * the Android disk. Currently it stores each request as a JSON object
- * representing it's properties. One request per line.
+ * the Android disk. Records are stored in an append-only log split into
+ * segment files. Records are appended to the last segment, and a checkpoint
+ * file keeps the position of the first unread record, so that removing read
+ * records only deletes the segments that were fully read instead of rewriting
+ * the unread records to a new file.
+ * <p>
+ * Each record is framed as a marker byte, the length of the record as a 4
+ * bytes integer, the record bytes and the CRC32 checksum of the record bytes
+ * as a 4 bytes integer. Records that don't start with the marker byte are
+ * read as lines of text, the format previous versions stored records in, so
+ * that records saved by those versions are still read back.
  */
 class FileRecordStore {
     private static final String TAG = "FileRecordStore";
-    private final ReentrantLock accessLock = new ReentrantLock(true);
 
-    /** The file the requests are stored in **/
-    private File recordFile;
+    /** Size beyond which records are appended to a new segment **/
+    static final long SEGMENT_SIZE = 512 * 1024;
+
+    private static final String CHECKPOINT_SUFFIX = ".checkpoint";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int READ_BUFFER_SIZE = 8 * 1024;
+    private static final byte NEW_LINE = '\n';
+
+    /** First byte of a binary record, which never starts a line of text **/
+    private static final int FRAME_MARKER = 0;
+
+    /** Number of bytes a record takes on disk besides its own bytes **/
+    static final int FRAME_OVERHEAD = 9;
+
+    private final ReentrantLock accessLock = new ReentrantLock(true);
 
     /** The FileManager used for interacting with the FS **/
     private final FileManager fileManager;
@@ -51,146 +77,354 @@ class FileRecordStore {
     private final String recordFileName;
     private final long maxStorageSize;
 
+    /* All the following fields are guarded by accessLock. */
+
+    /** The directory the segments are stored in **/
+    private File recordsDir;
+
+    /** Indexes of the segments on disk, oldest first **/
+    private final TreeSet<Long> segments = new TreeSet<Long>();
+
+    /** Index of the next segment to create **/
+    private long nextSegmentIndex;
+
+    /** Segment and offset of the first unread record **/
+    private long checkpointSegment;
+    private long checkpointOffset;
+
+    /** Number of bytes in all the segments **/
+    private long segmentsSize;
+
+    /** Size of the last segment, and the stream appending to it **/
+    private long tailSize;
+    private DataOutputStream appender;
+
+    /**
+     * Whether the next record must go to a new segment because the last one
+     * may end with an incomplete record.
+     */
+    private boolean rollSegment;
+
+    private final CRC32 crc32 = new CRC32();
+
     /**
      * Creates the FileRecordStore
      *
      * @param recorderDirectory The directory (which the FileRecordStore is only
      *            used for the KinesisRecorder) to use to store requests in
-     * @param recordFileName Name of the record file
+     * @param recordFileName Name of the record file, used as prefix of the
+     *            segment files
      * @param maxStorageSize Maximum storage size in bytes
      */
     public FileRecordStore(File workDirectory, String recordFileName, long maxStorageSize) {
         this.fileManager = new FileManager(workDirectory);
         this.recordFileName = recordFileName;
         this.maxStorageSize = maxStorageSize;
+        accessLock.lock();
         try {
-            tryCreateRecordsFile();
+            loadSegments();
+            if (segments.isEmpty()) {
+                createSegment();
+            }
         } catch (IOException ioe) {
             throw new AmazonClientException("Failed to create fire store", ioe);
+        } finally {
+            accessLock.unlock();
         }
     }
 
-    public boolean put(final String record) throws IOException {
-        boolean success = false;
-        BufferedWriter writer = null;
+    /**
+     * Checks whether there are records files of the given name in the work
+     * directory, whether in the legacy single file or in segments.
+     *
+     * @param workDirectory The work directory of the store
+     * @param recordFileName Name of the record file
+     * @return true if records files exist, false otherwise
+     */
+    static boolean exists(File workDirectory, String recordFileName) {
+        File recordsDir = new File(workDirectory, Constants.RECORDS_DIRECTORY);
+        if (new File(recordsDir, recordFileName).isFile()) {
+            return true;
+        }
+        String[] names = recordsDir.list();
+        if (names != null) {
+            for (String name : names) {
+                if (parseSegmentIndex(recordFileName, name) >= 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Appends a record to the store.
+     *
+     * @param record The bytes of the record
+     * @return true if the record was stored, false if it would have exceeded
+     *         the maximum storage size
+     */
+    public boolean put(final byte[] record) throws IOException {
+        int frameSize = record.length + FRAME_OVERHEAD;
         accessLock.lock();
         try {
-            writer = tryInitializeWriter();
-            if (recordFile.length() + record.getBytes(StringUtils.UTF8).length <= maxStorageSize) {
-                writer.write(record);
-                writer.newLine();
-                writer.flush();
-                success = true;
+            if (getFileSize() + frameSize > maxStorageSize) {
+                return false;
             }
-        } finally {
-            if (writer != null) {
-                writer.close();
+            if (appender == null || tailSize >= SEGMENT_SIZE) {
+                openAppender();
+            }
+            crc32.reset();
+            crc32.update(record, 0, record.length);
+            try {
+                appender.writeByte(FRAME_MARKER);
+                appender.writeInt(record.length);
+                appender.write(record);
+                appender.writeInt((int) crc32.getValue());
+                appender.flush();
+            } catch (IOException e) {
+                // the record may be partially written, don't append after it
+                rollSegment = true;
+                try {
+                    closeAppender();
+                } catch (IOException ioe) {
+                    // ignore
+                }
+                long length = getSegmentFile(segments.last()).length();
+                segmentsSize += length - tailSize;
+                tailSize = length;
+                throw e;
             }
+            tailSize += frameSize;
+            segmentsSize += frameSize;
+            return true;
+        } finally {
             accessLock.unlock();
         }
-
-        return success;
     }
 
+    /**
+     * @return the number of bytes of the records that haven't been removed
+     *         yet.
+     */
     public long getFileSize() {
-        return recordFile == null ? 0 : recordFile.length();
+        accessLock.lock();
+        try {
+            return segmentsSize - checkpointOffset;
+        } finally {
+            accessLock.unlock();
+        }
     }
 
-    private void tryCreateRecordsFile() throws IOException {
-        if (recordFile != null && recordFile.exists()) {
-            return;
+    /**
+     * Lists the segments on disk, migrating the legacy single records file to
+     * the first segment, and restores the checkpoint.
+     */
+    private void loadSegments() throws IOException {
+        recordsDir = fileManager.createDirectory(Constants.RECORDS_DIRECTORY);
+        if (recordsDir == null) {
+            throw new IOException("Failed to create records directory");
+        }
+        String[] names = recordsDir.list();
+        if (names != null) {
+            for (String name : names) {
+                long index = parseSegmentIndex(recordFileName, name);
+                if (index >= 0) {
+                    segments.add(index);
+                }
+            }
         }
+        nextSegmentIndex = segments.isEmpty() ? 0 : segments.last() + 1;
 
-        synchronized (this) {
-            if (recordFile != null && recordFile.exists()) {
-                return;
+        File legacyFile = new File(recordsDir, recordFileName);
+        if (legacyFile.isFile()) {
+            if (!legacyFile.renameTo(getSegmentFile(nextSegmentIndex))) {
+                throw new IOException("Failed to migrate records file");
             }
+            segments.add(nextSegmentIndex++);
+        }
 
-            File recordDir = fileManager.createDirectory(
-                    Constants.RECORDS_DIRECTORY);
-            recordFile = fileManager.createFile(new File(
-                    recordDir, recordFileName));
+        readCheckpoint();
+        while (!segments.isEmpty() && segments.first() < checkpointSegment) {
+            deleteSegment(segments.first());
+        }
+        if (segments.isEmpty() || segments.first() > checkpointSegment) {
+            checkpointSegment = segments.isEmpty() ? nextSegmentIndex : segments.first();
+            checkpointOffset = 0;
+        }
+        for (long index : segments) {
+            segmentsSize += getSegmentFile(index).length();
+        }
+        if (!segments.isEmpty()) {
+            tailSize = getSegmentFile(segments.last()).length();
+            // an earlier process may have been interrupted while appending
+            rollSegment = tailSize > 0;
+            checkpointOffset = Math.min(checkpointOffset,
+                    getSegmentFile(checkpointSegment).length());
         }
     }
 
-    private BufferedWriter tryInitializeWriter() throws IOException {
-        BufferedWriter writer = null;
-        tryCreateRecordsFile();
-        OutputStream stream = fileManager.newOutputStream(recordFile, true);
-        writer = new BufferedWriter(new OutputStreamWriter(stream, StringUtils.UTF8));
-
-        return writer;
+    private static long parseSegmentIndex(String recordFileName, String name) {
+        if (!name.startsWith(recordFileName + ".")) {
+            return -1;
+        }
+        String suffix = name.substring(recordFileName.length() + 1);
+        if (suffix.length() == 0 || suffix.length() > 18) {
+            return -1;
+        }
+        for (int i = 0; i < suffix.length(); i++) {
+            if (!Character.isDigit(suffix.charAt(i))) {
+                return -1;
+            }
+        }
+        return Long.parseLong(suffix);
     }
 
-    private File deleteAllRecords() throws IOException {
-        File recordsDir = fileManager.createDirectory(
-                Constants.RECORDS_DIRECTORY);
-
-        recordFile.delete();
-
-        recordFile = fileManager.createFile(new File(
-                recordsDir, recordFileName));
-        return recordFile;
+    private File getSegmentFile(long index) {
+        return new File(recordsDir, recordFileName + "." + index);
     }
 
-    private File deleteReadRecords(final int lineNumber) throws IOException {
-        // Write all records after line number to a temporary file
-        File recordsDir = fileManager.createDirectory(
-                Constants.RECORDS_DIRECTORY);
+    private File createSegment() throws IOException {
+        File segmentFile = fileManager.createFile(getSegmentFile(nextSegmentIndex));
+        if (segmentFile == null) {
+            throw new IOException("Failed to create records file");
+        }
+        segments.add(nextSegmentIndex++);
+        tailSize = 0;
+        return segmentFile;
+    }
 
-        File tempRecordsFile = null;
-        File tempFile = new File(
-                recordsDir, recordFileName + ".tmp");
-        if (tempFile.exists()) {
-            if (!tempFile.delete()) {
-                throw new IOException("Failed to delete previous temp file");
-            }
+    /**
+     * Opens the stream appending records to the last segment, starting a new
+     * segment if the last one is full or may not end with a complete record.
+     */
+    private void openAppender() throws IOException {
+        closeAppender();
+        if (segments.isEmpty() || tailSize >= SEGMENT_SIZE || rollSegment) {
+            createSegment();
+            rollSegment = false;
         }
-        tempRecordsFile = fileManager.createFile(tempFile);
+        appender = new DataOutputStream(new BufferedOutputStream(fileManager.newOutputStream(
+                getSegmentFile(segments.last()), true)));
+    }
 
-        if (tempRecordsFile != null && recordFile.exists() && tempRecordsFile.exists()) {
-            BufferedReader reader = null;
-            PrintWriter writer = null;
-            try {
-                reader = new BufferedReader(new InputStreamReader(new FileInputStream(recordFile),
-                        StringUtils.UTF8));
-                writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(
-                        tempRecordsFile, true), StringUtils.UTF8));
-
-                String line = null;
-                int currentLineNumber = 0;
-                while ((line = reader.readLine()) != null) {
-                    currentLineNumber++;
-                    if (currentLineNumber > lineNumber) {
-                        writer.println(line);
-                        writer.flush();
-                    }
-                }
-            } finally {
-                if (writer != null) {
-                    writer.close();
-                }
-                if (reader != null) {
-                    try {
-                        reader.close();
-                    } catch (IOException e) {
+    private void closeAppender() throws IOException {
+        if (appender != null) {
+            OutputStream stream = appender;
+            appender = null;
+            stream.close();
+        }
+    }
 
-                    }
-                }
+    private void deleteSegment(long index) throws IOException {
+        if (appender != null && index == segments.last()) {
+            closeAppender();
+        }
+        File segmentFile = getSegmentFile(index);
+        long length = segmentFile.length();
+        if (segmentFile.exists() && !segmentFile.delete()) {
+            throw new IOException("Failed to delete read records");
+        }
+        segments.remove(index);
+        segmentsSize -= length;
+    }
 
-                if (!recordFile.delete() || !tempRecordsFile.renameTo(recordFile)) {
-                    throw new IOException(
-                            "Failed to delete read records and persist unread records");
+    private void readCheckpoint() {
+        File checkpointFile = new File(recordsDir, recordFileName + CHECKPOINT_SUFFIX);
+        if (!checkpointFile.isFile()) {
+            return;
+        }
+        BufferedReader reader = null;
+        try {
+            reader = new BufferedReader(new InputStreamReader(
+                    fileManager.newInputStream(checkpointFile), StringUtils.UTF8));
+            String line = reader.readLine();
+            if (line != null) {
+                String[] fields = line.trim().split(" ");
+                checkpointSegment = Long.parseLong(fields[0]);
+                checkpointOffset = Long.parseLong(fields[1]);
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "Failed to read records checkpoint", e);
+        } catch (RuntimeException e) {
+            Log.e(TAG, "Invalid records checkpoint", e);
+            checkpointSegment = 0;
+            checkpointOffset = 0;
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    // ignore
                 }
             }
+        }
+    }
 
-            if (tempFile.exists()) {
-                if (!tempFile.delete()) {
-                    Log.e(TAG, "Failed to delete temp file");
-                }
+    /**
+     * Writes the checkpoint to a temp file first and renames it, so that a
+     * crash never leaves a partially written checkpoint behind.
+     */
+    private void writeCheckpoint() throws IOException {
+        File checkpointFile = new File(recordsDir, recordFileName + CHECKPOINT_SUFFIX);
+        File tempFile = new File(recordsDir, recordFileName + CHECKPOINT_SUFFIX + TEMP_SUFFIX);
+        Writer writer = new OutputStreamWriter(fileManager.newOutputStream(tempFile, false),
+                StringUtils.UTF8);
+        try {
+            writer.write(checkpointSegment + " " + checkpointOffset + "\n");
+        } finally {
+            writer.close();
+        }
+        if (!tempFile.renameTo(checkpointFile)) {
+            checkpointFile.delete();
+            if (!tempFile.renameTo(checkpointFile)) {
+                throw new IOException("Failed to persist records checkpoint");
             }
         }
-        return recordFile;
+    }
+
+    private void deleteAllRecords() throws IOException {
+        while (!segments.isEmpty()) {
+            deleteSegment(segments.first());
+        }
+        checkpointSegment = nextSegmentIndex;
+        checkpointOffset = 0;
+        segmentsSize = 0;
+        tailSize = 0;
+        File checkpointFile = new File(recordsDir, recordFileName + CHECKPOINT_SUFFIX);
+        if (checkpointFile.exists() && !checkpointFile.delete()) {
+            Log.e(TAG, "Failed to delete records checkpoint");
+        }
+    }
+
+    /**
+     * Moves the checkpoint past the read records and deletes the segments
+     * that only hold read records.
+     *
+     * @param segment The segment of the last read record
+     * @param offset The offset right after the last read record
+     */
+    private void deleteReadRecords(long segment, long offset) throws IOException {
+        if (segment < checkpointSegment
+                || (segment == checkpointSegment && offset <= checkpointOffset)) {
+            return;
+        }
+        while (!segments.isEmpty() && segments.first() < segment) {
+            deleteSegment(segments.first());
+        }
+        if (segments.isEmpty()) {
+            deleteAllRecords();
+            return;
+        }
+        if (offset >= getSegmentFile(segment).length()) {
+            // the segment was fully read
+            deleteSegment(segment);
+            segment = segments.isEmpty() ? nextSegmentIndex : segments.first();
+            offset = 0;
+        }
+        checkpointSegment = segment;
+        checkpointOffset = offset;
+        writeCheckpoint();
     }
 
     public RecordIterator iterator() {
@@ -198,28 +432,84 @@ class FileRecordStore {
 
     }
 
-    public class RecordIterator implements java.util.Iterator<String> {
-        int linesRead = 0;
-        String nextBuffer = null;
-        BufferedReader reader = null;
+    public class RecordIterator implements java.util.Iterator<byte[]> {
+        /** Position right after the last record returned by next() **/
+        long readSegment = -1;
+        long readOffset;
+        byte[] nextBuffer = null;
+        long nextBufferSegment;
+        long nextBufferOffset;
         boolean isEndOfFile = false;
 
+        /** The segment being read and the position in it **/
+        InputStream reader = null;
+        long readerSegment = -1;
+        long readerSegmentSize;
+        long readerOffset;
+        final byte[] readBuffer = new byte[READ_BUFFER_SIZE];
+        int bufferPosition;
+        int bufferLimit;
+        final ByteArrayOutputStream lineBuffer = new ByteArrayOutputStream();
+        final CRC32 readCrc32 = new CRC32();
+
         private boolean tryOpenReader() throws FileNotFoundException {
             if (reader != null) {
                 return true;
             }
+            if (isEndOfFile) {
+                return false;
+            }
 
-            if (!isEndOfFile) {
-                InputStreamReader streamReader = null;
-                streamReader = new InputStreamReader(fileManager.newInputStream(recordFile),
-                        StringUtils.UTF8);
+            Long segment = readerSegment < 0 ? segments.ceiling(checkpointSegment)
+                    : segments.higher(readerSegment);
+            if (segment == null) {
+                return false;
+            }
+            long offset = readerSegment < 0 && segment == checkpointSegment ? checkpointOffset
+                    : 0;
+            openReader(segment, offset);
+            return true;
+        }
 
-                if (streamReader != null) {
-                    reader = new BufferedReader(streamReader);
-                    return true;
+        /**
+         * Opens the reader on the given segment, positioned at the given
+         * offset.
+         */
+        private void openReader(long segment, long offset) throws FileNotFoundException {
+            File segmentFile = getSegmentFile(segment);
+            reader = fileManager.newInputStream(segmentFile);
+            readerSegmentSize = segmentFile.length();
+            readerOffset = 0;
+            if (offset > 0) {
+                try {
+                    readerOffset = reader.skip(offset);
+                } catch (IOException e) {
+                    throw new AmazonClientException("IO Error", e);
                 }
             }
-            return false;
+            readerSegment = segment;
+            bufferPosition = 0;
+            bufferLimit = 0;
+        }
+
+        /**
+         * Called when the record starting at the given offset is cut short by
+         * the end of the segment. Records may have been appended to the
+         * segment since the reader opened it, in which case the reader goes
+         * back to the start of the record to read it again. Otherwise the
+         * record is the tail of an interrupted write, as records are written
+         * whole while holding the lock.
+         *
+         * @return true if the record is to be read again, false if it is
+         *         incomplete
+         */
+        private boolean reopenIfGrown(long frameStart) throws IOException {
+            if (getSegmentFile(readerSegment).length() <= readerSegmentSize) {
+                return false;
+            }
+            tryCloseReader();
+            openReader(readerSegment, frameStart);
+            return true;
         }
 
         private void tryCloseReader() throws IOException {
@@ -229,43 +519,171 @@ class FileRecordStore {
             }
         }
 
+        private boolean fillBuffer() throws IOException {
+            if (bufferPosition < bufferLimit) {
+                return true;
+            }
+            bufferLimit = reader.read(readBuffer);
+            bufferPosition = 0;
+            if (bufferLimit <= 0) {
+                bufferLimit = 0;
+                return false;
+            }
+            return true;
+        }
+
+        private int readByte() throws IOException {
+            if (!fillBuffer()) {
+                return -1;
+            }
+            readerOffset++;
+            return readBuffer[bufferPosition++] & 0xff;
+        }
+
+        private boolean readFully(byte[] bytes) throws IOException {
+            int read = 0;
+            while (read < bytes.length) {
+                if (!fillBuffer()) {
+                    return false;
+                }
+                int count = Math.min(bytes.length - read, bufferLimit - bufferPosition);
+                System.arraycopy(readBuffer, bufferPosition, bytes, read, count);
+                bufferPosition += count;
+                readerOffset += count;
+                read += count;
+            }
+            return true;
+        }
+
+        private int readInt() throws IOException {
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                int b = readByte();
+                if (b < 0) {
+                    throw new EOFException();
+                }
+                value = (value << 8) | b;
+            }
+            return value;
+        }
+
+        /**
+         * Reads the next record into nextBuffer, moving on to the next
+         * segments when reaching the end of a segment. A record that is still
+         * cut short by the end of a segment once the length of the segment is
+         * checked again is the tail of an interrupted write and is dropped, as
+         * are records that fail their checksum.
+         *
+         * @return false if there are no more records
+         */
+        private boolean readRecord() throws IOException {
+            while (tryOpenReader()) {
+                long frameStart = readerOffset;
+                int first;
+                while ((first = readByte()) >= 0) {
+                    if (first != FRAME_MARKER) {
+                        if (readLine(first)) {
+                            return true;
+                        }
+                        break;
+                    }
+                    try {
+                        int length = readInt();
+                        if (length < 0) {
+                            Log.w(TAG, "Invalid record length. Skip the rest of the segment.");
+                            break;
+                        }
+                        byte[] record = length > readerSegmentSize - readerOffset ? null
+                                : new byte[length];
+                        if (record == null || !readFully(record)) {
+                            if (reopenIfGrown(frameStart)) {
+                                continue;
+                            }
+                            Log.w(TAG, "Incomplete record. Skip the rest of the segment.");
+                            break;
+                        }
+                        int checksum = readInt();
+                        readCrc32.reset();
+                        readCrc32.update(record, 0, length);
+                        if (checksum != (int) readCrc32.getValue()) {
+                            Log.w(TAG, "Record checksum mismatch. Skip.");
+                            frameStart = readerOffset;
+                            continue;
+                        }
+                        bufferRecord(record);
+                        return true;
+                    } catch (EOFException e) {
+                        if (reopenIfGrown(frameStart)) {
+                            continue;
+                        }
+                        Log.w(TAG, "Incomplete record. Skip the rest of the segment.");
+                        break;
+                    }
+                }
+                tryCloseReader();
+            }
+            isEndOfFile = true;
+            return false;
+        }
+
+        /**
+         * Reads a record stored as a line of text.
+         *
+         * @param first The first byte of the line
+         * @return false if the end of the segment was reached without reading
+         *         a line
+         */
+        private boolean readLine(int first) throws IOException {
+            lineBuffer.reset();
+            if (first == NEW_LINE) {
+                // an empty line
+                bufferRecord(new byte[0]);
+                return true;
+            }
+            lineBuffer.write(first);
+            while (fillBuffer()) {
+                int start = bufferPosition;
+                while (bufferPosition < bufferLimit
+                        && readBuffer[bufferPosition] != NEW_LINE) {
+                    bufferPosition++;
+                }
+                lineBuffer.write(readBuffer, start, bufferPosition - start);
+                readerOffset += bufferPosition - start;
+                if (bufferPosition < bufferLimit) {
+                    // skip the line separator
+                    bufferPosition++;
+                    readerOffset++;
+                    bufferLine();
+                    return true;
+                }
+            }
+            // a line without separator at the end of the segment
+            bufferLine();
+            return true;
+        }
+
+        private void bufferLine() {
+            byte[] bytes = lineBuffer.toByteArray();
+            int length = bytes.length;
+            if (length > 0 && bytes[length - 1] == '\r') {
+                bytes = Arrays.copyOf(bytes, length - 1);
+            }
+            bufferRecord(bytes);
+        }
+
+        private void bufferRecord(byte[] record) {
+            nextBuffer = record;
+            nextBufferSegment = readerSegment;
+            nextBufferOffset = readerOffset;
+        }
+
         @Override
         public boolean hasNext() {
-            boolean hasNext = false;
             accessLock.lock();
             try {
                 // If there is something already buffered then there is a
                 // next
-                if (nextBuffer != null) {
-                    hasNext = true;
-                } else {
-                    if (!tryOpenReader()) {
-                        return hasNext;
-                    }
-                    // Nothing was previously buffered so try to read one
-                    // more line
-                    boolean found = false;
-                    while (!found) {
-                        try {
-                            nextBuffer = reader.readLine();
-                            found = true;
-                        } catch (IOException e) {
-                            nextBuffer = null;
-                            found = true;
-                        }
-                    }
-                    if (nextBuffer != null) {
-                        // There was at least one more line so there is a
-                        // next
-                        hasNext = true;
-                    } else {
-                        // The next line was null so it should be the end of
-                        // the file. Try to close the reader
-                        isEndOfFile = true;
-                        tryCloseReader();
-                    }
-                }
-                return hasNext;
+                return nextBuffer != null || readRecord();
             } catch (FileNotFoundException fnfe) {
                 throw new AmazonClientException("Cannot find records file", fnfe);
             } catch (IOException ioe) {
@@ -276,46 +694,23 @@ class FileRecordStore {
         }
 
         @Override
-        public String next() {
-            String next = null;
+        public byte[] next() {
             accessLock.lock();
             try {
-                if (nextBuffer != null) {
-                    next = nextBuffer;
-                    linesRead++;
-                    nextBuffer = null;
-                } else {
-                    if (!tryOpenReader()) {
-                        return next;
-                    }
-                    boolean found = false;
-                    while (!found) {
-                        try {
-                            next = reader.readLine();
-                            found = true;
-                        } catch (IOException e) {
-                            next = null;
-                            found = true;
-                        }
-                    }
-                    if (next != null) {
-                        linesRead++;
-                    } else {
-                        isEndOfFile = true;
-                        tryCloseReader();
-                    }
+                if (!hasNext()) {
+                    return null;
                 }
+                byte[] next = nextBuffer;
+                readSegment = nextBufferSegment;
+                readOffset = nextBufferOffset;
+                nextBuffer = null;
                 return next;
-            } catch (FileNotFoundException e) {
-                throw new AmazonClientException("Cannot find records file", e);
-            } catch (IOException ioe) {
-                throw new AmazonClientException("IO Error", ioe);
             } finally {
                 accessLock.unlock();
             }
         }
 
-        public String peek() {
+        public byte[] peek() {
             accessLock.lock();
             try {
                 hasNext();
@@ -334,7 +729,9 @@ class FileRecordStore {
         public void removeReadRecords() throws IOException {
             accessLock.lock();
             try {
-                deleteReadRecords(linesRead);
+                if (readSegment >= 0) {
+                    deleteReadRecords(readSegment, readOffset);
+                }
                 resetReader();
             } finally {
                 accessLock.unlock();
@@ -353,13 +750,20 @@ class FileRecordStore {
 
         private void resetReader() throws IOException {
             tryCloseReader();
-            linesRead = 0;
+            readSegment = -1;
+            readerSegment = -1;
             nextBuffer = null;
             isEndOfFile = false;
+            lineBuffer.reset();
         }
 
         public void close() throws IOException {
-            tryCloseReader();
+            accessLock.lock();
+            try {
+                tryCloseReader();
+            } finally {
+                accessLock.unlock();
+            }
         }
     }
 }
@@ -49,8 +49,8 @@ class FirehoseRecordSender implements RecordSender {
     }
 
     @Override
-    public List<byte[]> sendBatch(String streamName, List<byte[]> data)
-            throws AmazonClientException {
+    public List<byte[]> sendBatch(String streamName, List<byte[]> data,
+            List<String> partitionKeys) throws AmazonClientException {
         if (data == null || data.isEmpty()) {
             return Collections.emptyList();
         }
@@ -21,6 +21,7 @@ import com.amazonaws.regions.Region;
 import com.amazonaws.regions.Regions;
 import com.amazonaws.services.kinesis.AmazonKinesis;
 import com.amazonaws.services.kinesis.AmazonKinesisClient;
+import com.amazonaws.util.StringUtils;
 import com.amazonaws.util.VersionInfoUtils;
 
 import org.json.JSONException;
@@ -89,6 +90,12 @@ public class KinesisRecorder extends AbstractKinesisRecorder {
      * is up to 1 MB.
      */
     private static final int MAX_RECORD_SIZE_BYTES = 1024 * 1024;
+
+    /**
+     * The maximum length of a partition key.
+     */
+    private static final int MAX_PARTITION_KEY_LENGTH = 256;
+
     /**
      * Valid stream name pattern.
      */
@@ -150,7 +157,8 @@ public class KinesisRecorder extends AbstractKinesisRecorder {
         AmazonKinesis client = new AmazonKinesisClient(credentialsProvider,
                 config.getClientConfiguration());
         client.setRegion(Region.getRegion(region));
-        sender = new KinesisStreamRecordSender(client, USER_AGENT);
+        sender = new KinesisStreamRecordSender(client, USER_AGENT,
+                config.isRecordAggregationEnabled());
 
         checkUpgrade(directory);
     }
@@ -170,10 +178,8 @@ public class KinesisRecorder extends AbstractKinesisRecorder {
     }
 
     private void checkUpgrade(final File directory) {
-        File recordsDir = new File(directory, Constants.RECORDS_DIRECTORY);
-        File oldRecordsFile = new File(recordsDir, Constants.RECORDS_FILE_NAME);
         // if the records file exists, run upgrade in a background thread
-        if (oldRecordsFile.isFile()) {
+        if (FileRecordStore.exists(directory, Constants.RECORDS_FILE_NAME)) {
             new Thread(new Runnable() {
                 @Override
                 public void run() {
@@ -191,9 +197,7 @@ public class KinesisRecorder extends AbstractKinesisRecorder {
      */
     void upgrade(File directory) {
         synchronized (KinesisRecorder.this) {
-            File recordsDir = new File(directory, Constants.RECORDS_DIRECTORY);
-            File oldRecordsFile = new File(recordsDir, Constants.RECORDS_FILE_NAME);
-            if (!oldRecordsFile.isFile()) {
+            if (!FileRecordStore.exists(directory, Constants.RECORDS_FILE_NAME)) {
                 return;
             }
 
@@ -203,7 +207,8 @@ public class KinesisRecorder extends AbstractKinesisRecorder {
             RecordIterator iterator = frs.iterator();
             while (iterator.hasNext()) {
                 try {
-                    JSONObject json = new JSONObject(iterator.next());
+                    JSONObject json = new JSONObject(new String(iterator.next(),
+                            StringUtils.UTF8));
                     saveRecord(JSONRecordAdapter.getData(json).array(),
                             JSONRecordAdapter.getStreamName(json));
                 } catch (JSONException e) {
@@ -212,11 +217,11 @@ public class KinesisRecorder extends AbstractKinesisRecorder {
                 }
             }
             try {
+                iterator.removeAllRecords();
                 iterator.close();
             } catch (IOException e) {
                 // ignore
             }
-            oldRecordsFile.delete();
         }
     }
 
@@ -225,14 +230,49 @@ public class KinesisRecorder extends AbstractKinesisRecorder {
         return sender;
     }
 
+    /**
+     * Saves a record to local storage to be sent later. The record will be
+     * submitted to the streamName provided with the partition key chosen by
+     * the {@link PartitionKeyStrategy} of the configuration, or a randomly
+     * generated one if there is none.
+     *
+     * @param data The data to submit to the stream
+     * @param streamName The stream to submit the data to.
+     */
     @Override
     public void saveRecord(byte[] data, String streamName) {
+        validateRecord(data, streamName);
+        PartitionKeyStrategy strategy = config == null ? null : config.getPartitionKeyStrategy();
+        saveRecord(data, streamName,
+                strategy == null ? null : strategy.getPartitionKey(streamName, data));
+    }
+
+    /**
+     * Saves a record to local storage to be sent later with the given
+     * partition key. Records with the same partition key go to the same shard
+     * and are read in the order they were sent.
+     *
+     * @param data The data to submit to the stream
+     * @param streamName The stream to submit the data to.
+     * @param partitionKey The partition key, between 1 and 256 characters, or
+     *            null to use a randomly generated one
+     */
+    @Override
+    public void saveRecord(byte[] data, String streamName, String partitionKey) {
+        validateRecord(data, streamName);
+        if (partitionKey != null
+                && (partitionKey.isEmpty() || partitionKey.length() > MAX_PARTITION_KEY_LENGTH)) {
+            throw new IllegalArgumentException("Invalid partition key: " + partitionKey);
+        }
+        super.saveRecord(data, streamName, partitionKey);
+    }
+
+    private static void validateRecord(byte[] data, String streamName) {
         if (streamName == null || !STREAM_NAME_PATTERN.matcher(streamName).matches()) {
             throw new IllegalArgumentException("Invalid stream name: " + streamName);
         }
         if (data == null || data.length == 0 || data.length > MAX_RECORD_SIZE_BYTES) {
             throw new IllegalArgumentException("Invalid data size.");
         }
-        super.saveRecord(data, streamName);
     }
 }
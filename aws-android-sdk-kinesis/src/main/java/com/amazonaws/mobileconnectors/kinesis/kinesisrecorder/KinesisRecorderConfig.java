@@ -25,6 +25,12 @@ public class KinesisRecorderConfig {
 
     private long maxStorageSize = 1024 * 1024 * 5L;
     private ClientConfiguration clientConfiguration;
+    private int autoFlushRecordCount;
+    private long autoFlushSize;
+    private long autoFlushInterval;
+    private int submissionParallelism = 1;
+    private PartitionKeyStrategy partitionKeyStrategy;
+    private boolean recordAggregation;
 
     /**
      * Construct an instance of KinesisRecorderConfig which has default values
@@ -57,6 +63,12 @@ public class KinesisRecorderConfig {
     public KinesisRecorderConfig(KinesisRecorderConfig other) {
         this.maxStorageSize = other.getMaxStorageSize();
         this.clientConfiguration = new ClientConfiguration(other.getClientConfiguration());
+        this.autoFlushRecordCount = other.getAutoFlushRecordCount();
+        this.autoFlushSize = other.getAutoFlushSize();
+        this.autoFlushInterval = other.getAutoFlushInterval();
+        this.submissionParallelism = other.getSubmissionParallelism();
+        this.partitionKeyStrategy = other.getPartitionKeyStrategy();
+        this.recordAggregation = other.isRecordAggregationEnabled();
     }
 
     /**
@@ -79,6 +91,169 @@ public class KinesisRecorderConfig {
         return this.maxStorageSize;
     }
 
+    /**
+     * Sets the number of records saved since the last submission that makes
+     * the recorder submit all records in the background. Auto flush is
+     * disabled by default. Submission failures that are recoverable, such as
+     * the device being offline, are retried later with a jittered exponential
+     * backoff. A recorder with auto flush enabled submits on a thread of its
+     * own, which is released by {@link AbstractKinesisRecorder#shutdown()}.
+     *
+     * @param autoFlushRecordCount The number of records, or 0 to not submit
+     *            records based on their count
+     * @return This class for chaining
+     */
+    public KinesisRecorderConfig withAutoFlushRecordCount(int autoFlushRecordCount) {
+        if (autoFlushRecordCount < 0) {
+            throw new IllegalArgumentException("autoFlushRecordCount can't be negative");
+        }
+        this.autoFlushRecordCount = autoFlushRecordCount;
+        return this;
+    }
+
+    /**
+     * @return The number of records saved since the last submission that
+     *         makes the recorder submit all records in the background, or 0
+     *         if disabled.
+     */
+    public int getAutoFlushRecordCount() {
+        return autoFlushRecordCount;
+    }
+
+    /**
+     * Sets the size in bytes of saved records that makes the recorder submit
+     * all records in the background. Auto flush is disabled by default.
+     *
+     * @param autoFlushSize The size in bytes, or 0 to not submit records based
+     *            on their size
+     * @return This class for chaining
+     * @see #withAutoFlushRecordCount(int)
+     */
+    public KinesisRecorderConfig withAutoFlushSize(long autoFlushSize) {
+        if (autoFlushSize < 0) {
+            throw new IllegalArgumentException("autoFlushSize can't be negative");
+        }
+        this.autoFlushSize = autoFlushSize;
+        return this;
+    }
+
+    /**
+     * @return The size in bytes of saved records that makes the recorder
+     *         submit all records in the background, or 0 if disabled.
+     */
+    public long getAutoFlushSize() {
+        return autoFlushSize;
+    }
+
+    /**
+     * Sets the interval in milliseconds at which the recorder submits all
+     * records in the background. Auto flush is disabled by default.
+     *
+     * @param autoFlushInterval The interval in milliseconds, or 0 to not
+     *            submit records periodically
+     * @return This class for chaining
+     * @see #withAutoFlushRecordCount(int)
+     */
+    public KinesisRecorderConfig withAutoFlushInterval(long autoFlushInterval) {
+        if (autoFlushInterval < 0) {
+            throw new IllegalArgumentException("autoFlushInterval can't be negative");
+        }
+        this.autoFlushInterval = autoFlushInterval;
+        return this;
+    }
+
+    /**
+     * @return The interval in milliseconds at which the recorder submits all
+     *         records in the background, or 0 if disabled.
+     */
+    public long getAutoFlushInterval() {
+        return autoFlushInterval;
+    }
+
+    /**
+     * @return Whether the recorder submits records in the background.
+     */
+    public boolean isAutoFlushEnabled() {
+        return autoFlushRecordCount > 0 || autoFlushSize > 0 || autoFlushInterval > 0;
+    }
+
+    /**
+     * Sets the maximum number of batches of records sent concurrently when
+     * submitting records. Records are read a window at a time and grouped into
+     * one batch per stream, and batches of different streams are sent in
+     * parallel. A window holds the records of as many full batches as the
+     * parallelism, so records of several streams saved interleaved are still
+     * sent in large batches with the default parallelism, one batch after
+     * another. Records of a given stream are still sent in the order they
+     * were saved. Defaults to 1.
+     *
+     * @param submissionParallelism The maximum number of batches sent
+     *            concurrently, must be positive
+     * @return This class for chaining
+     */
+    public KinesisRecorderConfig withSubmissionParallelism(int submissionParallelism) {
+        if (submissionParallelism <= 0) {
+            throw new IllegalArgumentException("submissionParallelism must be positive");
+        }
+        this.submissionParallelism = submissionParallelism;
+        return this;
+    }
+
+    /**
+     * @return The maximum number of batches of records sent concurrently when
+     *         submitting records.
+     */
+    public int getSubmissionParallelism() {
+        return submissionParallelism;
+    }
+
+    /**
+     * Sets the strategy choosing the partition key of records saved without
+     * one. Partition keys are chosen when records are saved and kept until
+     * they are sent. Defaults to null, where a random partition key is used
+     * each time a record is sent.
+     *
+     * @param partitionKeyStrategy The partition key strategy, or null
+     * @return This class for chaining
+     * @see PredefinedPartitionKeyStrategies
+     */
+    public KinesisRecorderConfig withPartitionKeyStrategy(
+            PartitionKeyStrategy partitionKeyStrategy) {
+        this.partitionKeyStrategy = partitionKeyStrategy;
+        return this;
+    }
+
+    /**
+     * @return The strategy choosing the partition key of records saved
+     *         without one, or null.
+     */
+    public PartitionKeyStrategy getPartitionKeyStrategy() {
+        return partitionKeyStrategy;
+    }
+
+    /**
+     * Sets whether small records are packed into aggregated records, in the
+     * format of the Kinesis Producer Library, when sent to Amazon Kinesis.
+     * This reduces the number of records billed and sent, but consumers must
+     * de-aggregate them, as the Kinesis Client Library does. An aggregated
+     * record is sent with the partition key of its first record. Defaults to
+     * false.
+     *
+     * @param recordAggregation Whether to aggregate records
+     * @return This class for chaining
+     */
+    public KinesisRecorderConfig withRecordAggregation(boolean recordAggregation) {
+        this.recordAggregation = recordAggregation;
+        return this;
+    }
+
+    /**
+     * @return Whether small records are packed into aggregated records.
+     */
+    public boolean isRecordAggregationEnabled() {
+        return recordAggregation;
+    }
+
     /**
      * Returns the client configuration the Kinesis Recorder will use when
      * making requests to Amazon Kinesis
@@ -34,8 +34,15 @@ import java.util.UUID;
  */
 class KinesisStreamRecordSender implements RecordSender {
 
+    /**
+     * Maximum size in bytes of an aggregated record, the default of the
+     * Kinesis Producer Library. Larger records are sent as is.
+     */
+    static final int MAX_AGGREGATED_RECORD_SIZE = 50 * 1024;
+
     private AmazonKinesis client;
     private String userAgent;
+    private boolean aggregation;
 
     /**
      * Constructs a {@link KinesisStreamRecordSender}.
@@ -44,13 +51,26 @@ class KinesisStreamRecordSender implements RecordSender {
      * @param userAgent user agent string to be set in each request
      */
     public KinesisStreamRecordSender(AmazonKinesis client, String userAgent) {
+        this(client, userAgent, false);
+    }
+
+    /**
+     * Constructs a {@link KinesisStreamRecordSender}.
+     * 
+     * @param client an {@link AmazonKinesis} client
+     * @param userAgent user agent string to be set in each request
+     * @param aggregation whether to pack records into aggregated records
+     */
+    public KinesisStreamRecordSender(AmazonKinesis client, String userAgent,
+            boolean aggregation) {
         this.client = client;
         this.userAgent = userAgent;
+        this.aggregation = aggregation;
     }
 
     @Override
-    public List<byte[]> sendBatch(String streamName, List<byte[]> data)
-            throws AmazonClientException {
+    public List<byte[]> sendBatch(String streamName, List<byte[]> data,
+            List<String> partitionKeys) throws AmazonClientException {
         if (data == null || data.isEmpty()) {
             return Collections.emptyList();
         }
@@ -58,12 +78,18 @@ class KinesisStreamRecordSender implements RecordSender {
         PutRecordsRequest request = new PutRecordsRequest();
         request.setStreamName(streamName);
         List<PutRecordsRequestEntry> records = new ArrayList<PutRecordsRequestEntry>(data.size());
-        String partitionKey = UUID.randomUUID().toString();
-        for (byte[] d : data) {
-            PutRecordsRequestEntry r = new PutRecordsRequestEntry();
-            r.setData(ByteBuffer.wrap(d));
-            r.setPartitionKey(partitionKey);
-            records.add(r);
+        // the data sent in each record, unless each record holds one data
+        List<List<byte[]>> recordData = null;
+        if (aggregation) {
+            recordData = new ArrayList<List<byte[]>>();
+            aggregate(data, partitionKeys, records, recordData);
+        } else {
+            for (int i = 0; i < data.size(); i++) {
+                PutRecordsRequestEntry r = new PutRecordsRequestEntry();
+                r.setData(ByteBuffer.wrap(data.get(i)));
+                r.setPartitionKey(getPartitionKey(partitionKeys, i));
+                records.add(r);
+            }
         }
         request.setRecords(records);
         request.getRequestClientOptions().appendUserAgent(userAgent);
@@ -75,12 +101,75 @@ class KinesisStreamRecordSender implements RecordSender {
         for (int i = 0; i < size; i++) {
             if (result.getRecords().get(i).getErrorCode() != null) {
                 // always retry failed record
-                failures.add(data.get(i));
+                if (recordData == null) {
+                    failures.add(data.get(i));
+                } else {
+                    failures.addAll(recordData.get(i));
+                }
             }
         }
         return failures;
     }
 
+    /**
+     * Packs consecutive data into aggregated records.
+     *
+     * @param data data to send
+     * @param partitionKeys partition keys of the data
+     * @param records the records to send
+     * @param recordData the data held by each record
+     */
+    private void aggregate(List<byte[]> data, List<String> partitionKeys,
+            List<PutRecordsRequestEntry> records, List<List<byte[]>> recordData) {
+        RecordAggregator aggregator = new RecordAggregator(MAX_AGGREGATED_RECORD_SIZE);
+        List<byte[]> aggregated = new ArrayList<byte[]>();
+        for (int i = 0; i < data.size(); i++) {
+            byte[] d = data.get(i);
+            String partitionKey = getPartitionKey(partitionKeys, i);
+            if (d.length >= MAX_AGGREGATED_RECORD_SIZE) {
+                addAggregatedRecord(aggregator, aggregated, records, recordData);
+                aggregated = new ArrayList<byte[]>();
+                PutRecordsRequestEntry r = new PutRecordsRequestEntry();
+                r.setData(ByteBuffer.wrap(d));
+                r.setPartitionKey(partitionKey);
+                records.add(r);
+                recordData.add(Collections.singletonList(d));
+                continue;
+            }
+            if (!aggregator.add(partitionKey, d)) {
+                addAggregatedRecord(aggregator, aggregated, records, recordData);
+                aggregated = new ArrayList<byte[]>();
+                aggregator.add(partitionKey, d);
+            }
+            aggregated.add(d);
+        }
+        addAggregatedRecord(aggregator, aggregated, records, recordData);
+    }
+
+    private static void addAggregatedRecord(RecordAggregator aggregator, List<byte[]> aggregated,
+            List<PutRecordsRequestEntry> records, List<List<byte[]>> recordData) {
+        if (aggregator.getCount() == 0) {
+            return;
+        }
+        PutRecordsRequestEntry r = new PutRecordsRequestEntry();
+        // a single record doesn't need the aggregation overhead
+        r.setData(ByteBuffer.wrap(aggregator.getCount() == 1 ? aggregated.get(0)
+                : aggregator.toBytes()));
+        r.setPartitionKey(aggregator.getPartitionKey());
+        records.add(r);
+        recordData.add(aggregated);
+        aggregator.clear();
+    }
+
+    /**
+     * Returns the partition key of the data at the given index, or a random
+     * one if it has none, so that records spread evenly across shards.
+     */
+    private static String getPartitionKey(List<String> partitionKeys, int index) {
+        String partitionKey = partitionKeys == null ? null : partitionKeys.get(index);
+        return partitionKey != null ? partitionKey : UUID.randomUUID().toString();
+    }
+
     @Override
     public boolean isRecoverable(AmazonClientException ace) {
         if (ace instanceof AmazonServiceException) {
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
+
+/**
+ * Chooses the partition key of a record when it's saved by a
+ * {@link KinesisRecorder}. The partition key determines the shard a record is
+ * sent to, so records that need to be read in order must share one.
+ *
+ * @see PredefinedPartitionKeyStrategies
+ */
+public interface PartitionKeyStrategy {
+
+    /**
+     * Returns the partition key of a record.
+     *
+     * @param streamName The name of the stream the record is saved for
+     * @param data The data of the record
+     * @return The partition key, between 1 and 256 characters, or null to use
+     *         a random partition key when the record is sent
+     */
+    String getPartitionKey(String streamName, byte[] data);
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
+
+import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.Md5Utils;
+
+import java.util.UUID;
+
+/**
+ * Common implementations of {@link PartitionKeyStrategy}.
+ */
+public final class PredefinedPartitionKeyStrategies {
+
+    /**
+     * A random partition key per record, chosen when the record is saved so
+     * that it's kept when the record is sent again.
+     */
+    public static final PartitionKeyStrategy RANDOM = new PartitionKeyStrategy() {
+        @Override
+        public String getPartitionKey(String streamName, byte[] data) {
+            return UUID.randomUUID().toString();
+        }
+    };
+
+    /**
+     * The hex encoded MD5 digest of the data of a record, so that records with
+     * the same data always go to the same shard.
+     */
+    public static final PartitionKeyStrategy PAYLOAD_HASH = new PartitionKeyStrategy() {
+        @Override
+        public String getPartitionKey(String streamName, byte[] data) {
+            return BinaryUtils.toHex(Md5Utils.computeMD5Hash(data));
+        }
+    };
+
+    private PredefinedPartitionKeyStrategies() {
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
+
+import com.amazonaws.util.Md5Utils;
+import com.amazonaws.util.StringUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Packs records into a single Amazon Kinesis record in the aggregated record
+ * format of the Kinesis Producer Library, which the Kinesis Client Library
+ * de-aggregates on the consumer side. An aggregated record is made of magic
+ * bytes, an AggregatedRecord protocol buffers message holding a table of the
+ * partition keys and the records, and the MD5 digest of that message. It's
+ * not thread safe.
+ */
+class RecordAggregator {
+
+    /** Magic bytes that start an aggregated record. */
+    static final byte[] AGGREGATED_RECORD_MAGIC = new byte[] {
+            (byte) 0xF3, (byte) 0x89, (byte) 0x9A, (byte) 0xC2
+    };
+
+    private static final int MD5_DIGEST_LENGTH = 16;
+
+    /* Tags of the fields of the protocol buffers messages. */
+    private static final int PARTITION_KEY_TABLE_TAG = (1 << 3) | 2;
+    private static final int RECORDS_TAG = (3 << 3) | 2;
+    private static final int PARTITION_KEY_INDEX_TAG = 1 << 3;
+    private static final int DATA_TAG = (3 << 3) | 2;
+
+    private final int maxSize;
+    private final Map<String, Integer> partitionKeyIndexes = new HashMap<String, Integer>();
+    private final ByteArrayOutputStream partitionKeyTable = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream records = new ByteArrayOutputStream();
+    private String partitionKey;
+    private int count;
+
+    /**
+     * @param maxSize maximum size in bytes of an aggregated record, which is
+     *            exceeded only by an aggregated record of a single record
+     */
+    RecordAggregator(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Adds a record unless it would make the aggregated record exceed the
+     * maximum size.
+     *
+     * @param key partition key of the record
+     * @param data data of the record
+     * @return true if the record was added, false if the aggregated record is
+     *         full
+     */
+    boolean add(String key, byte[] data) {
+        Integer index = partitionKeyIndexes.get(key);
+        byte[] keyBytes = null;
+        int keySize = 0;
+        if (index == null) {
+            keyBytes = key.getBytes(StringUtils.UTF8);
+            keySize = 1 + varintSize(keyBytes.length) + keyBytes.length;
+            index = partitionKeyIndexes.size();
+        }
+        int recordSize = 1 + varintSize(index) + 1 + varintSize(data.length) + data.length;
+        if (count > 0 && getSize() + keySize + 1 + varintSize(recordSize) + recordSize > maxSize) {
+            return false;
+        }
+
+        if (keyBytes != null) {
+            partitionKeyIndexes.put(key, index);
+            partitionKeyTable.write(PARTITION_KEY_TABLE_TAG);
+            writeVarint(partitionKeyTable, keyBytes.length);
+            partitionKeyTable.write(keyBytes, 0, keyBytes.length);
+        }
+        records.write(RECORDS_TAG);
+        writeVarint(records, recordSize);
+        records.write(PARTITION_KEY_INDEX_TAG);
+        writeVarint(records, index);
+        records.write(DATA_TAG);
+        writeVarint(records, data.length);
+        records.write(data, 0, data.length);
+
+        if (count == 0) {
+            partitionKey = key;
+        }
+        count++;
+        return true;
+    }
+
+    /**
+     * @return the number of records added
+     */
+    int getCount() {
+        return count;
+    }
+
+    /**
+     * @return the partition key of the aggregated record, which is the one of
+     *         its first record
+     */
+    String getPartitionKey() {
+        return partitionKey;
+    }
+
+    /**
+     * @return the size in bytes of the aggregated record
+     */
+    int getSize() {
+        return AGGREGATED_RECORD_MAGIC.length + partitionKeyTable.size() + records.size()
+                + MD5_DIGEST_LENGTH;
+    }
+
+    /**
+     * @return the aggregated record
+     */
+    byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(getSize());
+        out.write(AGGREGATED_RECORD_MAGIC, 0, AGGREGATED_RECORD_MAGIC.length);
+        ByteArrayOutputStream message = new ByteArrayOutputStream(partitionKeyTable.size()
+                + records.size());
+        message.write(partitionKeyTable.toByteArray(), 0, partitionKeyTable.size());
+        message.write(records.toByteArray(), 0, records.size());
+        byte[] messageBytes = message.toByteArray();
+        out.write(messageBytes, 0, messageBytes.length);
+        byte[] digest = Md5Utils.computeMD5Hash(messageBytes);
+        out.write(digest, 0, digest.length);
+        return out.toByteArray();
+    }
+
+    /**
+     * Removes all the records added.
+     */
+    void clear() {
+        partitionKeyIndexes.clear();
+        partitionKeyTable.reset();
+        records.reset();
+        partitionKey = null;
+        count = 0;
+    }
+
+    private static int varintSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+}
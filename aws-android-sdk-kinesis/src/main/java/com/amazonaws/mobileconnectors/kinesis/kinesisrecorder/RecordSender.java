@@ -29,10 +29,15 @@ interface RecordSender {
      * 
      * @param streamName stream name
      * @param data a list of data to be sent
-     * @return a list to data that is failed to send
+     * @param partitionKeys the partition keys of the data, in the same order.
+     *            A null key lets the sender pick one. Senders of streams
+     *            without partitions ignore them.
+     * @return a list to data that is failed to send, holding the same array
+     *         instances as the data list
      * @throws AmazonClientException
      */
-    List<byte[]> sendBatch(String streamName, List<byte[]> data) throws AmazonClientException;
+    List<byte[]> sendBatch(String streamName, List<byte[]> data, List<String> partitionKeys)
+            throws AmazonClientException;
 
     /**
      * Tests whether an exception is recoverable. If true, the list of data
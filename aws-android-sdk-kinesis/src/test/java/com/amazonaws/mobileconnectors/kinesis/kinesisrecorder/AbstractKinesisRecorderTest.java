@@ -16,6 +16,7 @@
 package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
@@ -25,21 +26,32 @@ import static org.junit.Assert.fail;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.mobileconnectors.kinesis.kinesisrecorder.FileRecordStore.RecordIterator;
+import com.amazonaws.util.StringUtils;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatcher;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.robolectric.RobolectricTestRunner;
 import org.robolectric.annotation.Config;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 @RunWith(RobolectricTestRunner.class)
 @Config(manifest = Config.NONE)
@@ -199,6 +211,290 @@ public class AbstractKinesisRecorderTest {
         assertEquals("empty record store", 0, recorder.getDiskBytesUsed());
     }
 
+    @Test
+    public void testNextBatchSkipsCorruptedRecords() throws IOException {
+        File directory = temp.newFolder();
+        KinesisRecorderConfig config = new KinesisRecorderConfig();
+        FileRecordStore recordStore = new FileRecordStore(directory, RECORD_FILE_NAME,
+                config.getMaxStorageSize());
+        byte[] record = null;
+        for (int i = 0; i < 3; i++) {
+            record = FileRecordParser.asBytes(STREAM_NAME, null, randomBytes(16));
+            recordStore.put(record);
+        }
+
+        // flip the last data byte of the second record and cut the third
+        // record short
+        int frameSize = record.length + FileRecordStore.FRAME_OVERHEAD;
+        RandomAccessFile file = new RandomAccessFile(new File(new File(directory,
+                Constants.RECORDS_DIRECTORY), RECORD_FILE_NAME + ".0"), "rw");
+        file.seek(2 * frameSize - 5);
+        int b = file.read();
+        file.seek(2 * frameSize - 5);
+        file.write(~b);
+        file.setLength(3 * frameSize - 2);
+        file.close();
+
+        recordStore = new FileRecordStore(directory, RECORD_FILE_NAME,
+                config.getMaxStorageSize());
+        recorder = new MockAbstractKinesisRecorder(recordStore, config);
+        recorder.saveRecord(randomBytes(16), STREAM_NAME);
+        List<byte[]> data = new ArrayList<byte[]>();
+        RecordIterator iterator = recorder.recordStore.iterator();
+        assertEquals("stream name", STREAM_NAME, recorder.nextBatch(iterator, data, 10, 1024));
+        assertEquals("read the intact records", 2, data.size());
+        iterator.close();
+    }
+
+    @Test
+    public void testAutoFlushOnRecordCount() throws Exception {
+        KinesisRecorderConfig config = new KinesisRecorderConfig().withAutoFlushRecordCount(5);
+        MockAbstractKinesisRecorder autoFlushRecorder = new MockAbstractKinesisRecorder(
+                new FileRecordStore(temp.newFolder(), RECORD_FILE_NAME,
+                        config.getMaxStorageSize()), config);
+        autoFlushRecorder.setRecordSender(sender);
+        final CountDownLatch latch = new CountDownLatch(1);
+        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class),
+                Mockito.anyListOf(String.class)))
+                .thenAnswer(new Answer<List<byte[]>>() {
+                    @Override
+                    public List<byte[]> answer(InvocationOnMock invocation) {
+                        latch.countDown();
+                        return new ArrayList<byte[]>();
+                    }
+                });
+
+        for (int i = 0; i < 4; i++) {
+            autoFlushRecorder.saveRecord(randomBytes(1024), STREAM_NAME);
+        }
+        assertFalse("not flushed yet", latch.await(200, TimeUnit.MILLISECONDS));
+        autoFlushRecorder.saveRecord(randomBytes(1024), STREAM_NAME);
+        assertTrue("flushed", latch.await(5, TimeUnit.SECONDS));
+        Mockito.verify(sender, Mockito.timeout(5000)).sendBatch(Mockito.eq(STREAM_NAME),
+                Mockito.argThat(new ArgumentMatcher<List<byte[]>>() {
+                    @Override
+                    public boolean matches(Object argument) {
+                        return ((List<?>) argument).size() == 5;
+                    }
+                }), Mockito.anyListOf(String.class));
+    }
+
+    @Test
+    public void testAutoFlushKeepsRecordsOnRecoverableFailure() throws Exception {
+        KinesisRecorderConfig config = new KinesisRecorderConfig().withAutoFlushRecordCount(1);
+        MockAbstractKinesisRecorder autoFlushRecorder = new MockAbstractKinesisRecorder(
+                new FileRecordStore(temp.newFolder(), RECORD_FILE_NAME,
+                        config.getMaxStorageSize()), config);
+        autoFlushRecorder.setRecordSender(sender);
+        final CountDownLatch latch = new CountDownLatch(1);
+        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class),
+                Mockito.anyListOf(String.class)))
+                .thenAnswer(new Answer<List<byte[]>>() {
+                    @Override
+                    public List<byte[]> answer(InvocationOnMock invocation) {
+                        latch.countDown();
+                        throw new AmazonServiceException("offline");
+                    }
+                });
+        Mockito.when(sender.isRecoverable(Mockito.any(AmazonClientException.class)))
+                .thenReturn(true);
+
+        autoFlushRecorder.saveRecord(randomBytes(1024), STREAM_NAME);
+        long size = autoFlushRecorder.getDiskBytesUsed();
+        assertTrue("flushed", latch.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertEquals("record kept", size, autoFlushRecorder.getDiskBytesUsed());
+    }
+
+    @Test
+    public void testShutdownStopsAutoFlush() throws Exception {
+        int threads = countAutoFlushThreads();
+        KinesisRecorderConfig config = new KinesisRecorderConfig().withAutoFlushRecordCount(1)
+                .withAutoFlushInterval(50);
+        MockAbstractKinesisRecorder autoFlushRecorder = new MockAbstractKinesisRecorder(
+                new FileRecordStore(temp.newFolder(), RECORD_FILE_NAME,
+                        config.getMaxStorageSize()), config);
+        autoFlushRecorder.setRecordSender(sender);
+        assertEquals("flusher thread started", threads + 1, countAutoFlushThreads());
+
+        autoFlushRecorder.shutdown();
+        autoFlushRecorder.saveRecord(randomBytes(1024), STREAM_NAME);
+        long start = System.currentTimeMillis();
+        while (countAutoFlushThreads() > threads) {
+            assertTrue("flusher thread terminated", System.currentTimeMillis() - start < 5000);
+            Thread.sleep(10);
+        }
+        Thread.sleep(200);
+        Mockito.verify(sender, Mockito.never()).sendBatch(Mockito.anyString(),
+                Mockito.anyListOf(byte[].class), Mockito.anyListOf(String.class));
+        assertTrue("record kept", autoFlushRecorder.getDiskBytesUsed() > 0);
+    }
+
+    private static int countAutoFlushThreads() {
+        int count = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if ("KinesisRecorder-AutoFlush".equals(thread.getName()) && thread.isAlive()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Test
+    public void testAutoFlushBackoffDelay() {
+        AutoFlusher flusher = new AutoFlusher(recorder,
+                new KinesisRecorderConfig().withAutoFlushRecordCount(1));
+        for (int retries = 0; retries < 30; retries++) {
+            long delay = flusher.getBackoffDelay(retries);
+            assertTrue("positive delay", delay >= 0);
+            assertTrue("capped delay", delay < Math.min(AutoFlusher.BASE_BACKOFF << Math.min(
+                    retries, 20), AutoFlusher.MAX_BACKOFF));
+        }
+    }
+
+    @Test
+    public void testNextBatchesGroupsRecordsByStream() throws IOException {
+        String anotherStream = "another_stream";
+        String thirdStream = "third_stream";
+        for (int i = 0; i < 10; i++) {
+            recorder.saveRecord(String.valueOf(i), STREAM_NAME);
+            recorder.saveRecord(String.valueOf(i), anotherStream);
+        }
+        recorder.saveRecord("0", thirdStream);
+
+        Map<String, List<byte[]>> batches = new LinkedHashMap<String, List<byte[]>>();
+        RecordIterator iterator = recorder.recordStore.iterator();
+        recorder.nextBatches(iterator, batches, 2, 100, 100 * 1024);
+        assertEquals("two streams", Arrays.asList(STREAM_NAME, anotherStream),
+                new ArrayList<String>(batches.keySet()));
+        for (List<byte[]> data : batches.values()) {
+            assertEquals("read 10 records", 10, data.size());
+            for (int i = 0; i < 10; i++) {
+                assertEquals("in order", String.valueOf(i),
+                        new String(data.get(i), StringUtils.UTF8));
+            }
+        }
+
+        // a full batch stops reading
+        iterator = recorder.recordStore.iterator();
+        recorder.nextBatches(iterator, batches, 2, 5, 100 * 1024);
+        assertEquals("read 5 records", 5, batches.get(STREAM_NAME).size());
+        assertEquals("read 5 records", 5, batches.get(anotherStream).size());
+
+        iterator = recorder.recordStore.iterator();
+        recorder.nextBatches(iterator, batches, 3, 100, 100 * 1024);
+        assertEquals("three streams", 3, batches.size());
+        iterator.close();
+    }
+
+    @Test
+    public void testSubmitAllRecordsInParallel() throws IOException {
+        KinesisRecorderConfig config = new KinesisRecorderConfig().withSubmissionParallelism(2);
+        MockAbstractKinesisRecorder parallelRecorder = new MockAbstractKinesisRecorder(
+                new FileRecordStore(temp.newFolder(), RECORD_FILE_NAME,
+                        config.getMaxStorageSize()), config);
+        parallelRecorder.setRecordSender(sender);
+        String anotherStream = "another_stream";
+        for (int i = 0; i < 10; i++) {
+            parallelRecorder.saveRecord(randomBytes(1024), STREAM_NAME);
+            parallelRecorder.saveRecord(randomBytes(1024), anotherStream);
+        }
+        AmazonServiceException ase = new AmazonServiceException("some failures");
+        Mockito.when(sender.sendBatch(Mockito.eq(STREAM_NAME), Mockito.anyListOf(byte[].class),
+                Mockito.anyListOf(String.class)))
+                .thenReturn(new ArrayList<byte[]>());
+        Mockito.when(sender.sendBatch(Mockito.eq(anotherStream),
+                Mockito.anyListOf(byte[].class),
+                Mockito.anyListOf(String.class))).thenThrow(ase);
+        Mockito.when(sender.isRecoverable(ase)).thenReturn(true);
+        try {
+            parallelRecorder.submitAllRecords();
+            fail("Should throw exception");
+        } catch (AmazonClientException ace) {
+            assertSame("same exception", ase, ace);
+        }
+
+        // one batch per stream, and the failed one is kept
+        Mockito.verify(sender).sendBatch(Mockito.eq(STREAM_NAME),
+                Mockito.anyListOf(byte[].class),
+                Mockito.anyListOf(String.class));
+        Mockito.verify(sender).sendBatch(Mockito.eq(anotherStream),
+                Mockito.anyListOf(byte[].class),
+                Mockito.anyListOf(String.class));
+        Map<String, List<byte[]>> batches = new LinkedHashMap<String, List<byte[]>>();
+        RecordIterator iterator = parallelRecorder.recordStore.iterator();
+        parallelRecorder.nextBatches(iterator, batches, 2, 100, 100 * 1024);
+        assertEquals("failed stream kept", 1, batches.size());
+        assertEquals("failed records kept", 10, batches.get(anotherStream).size());
+        iterator.close();
+    }
+
+    @Test
+    public void testSubmitInterleavedStreamsInLargeBatches() throws IOException {
+        final List<String> streams = Arrays.asList(STREAM_NAME, "another_stream",
+                "third_stream");
+        for (int i = 0; i < 30; i++) {
+            for (String stream : streams) {
+                recorder.saveRecord(String.valueOf(i), stream);
+            }
+        }
+        final Map<String, List<Integer>> batchSizes = new HashMap<String, List<Integer>>();
+        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class),
+                Mockito.anyListOf(String.class)))
+                .thenAnswer(new Answer<List<byte[]>>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public List<byte[]> answer(InvocationOnMock invocation) {
+                        String stream = (String) invocation.getArguments()[0];
+                        List<byte[]> data = (List<byte[]>) invocation.getArguments()[1];
+                        for (int i = 0; i < data.size(); i++) {
+                            assertEquals("in order", String.valueOf(i),
+                                    new String(data.get(i), StringUtils.UTF8));
+                        }
+                        List<Integer> sizes = batchSizes.get(stream);
+                        if (sizes == null) {
+                            sizes = new ArrayList<Integer>();
+                            batchSizes.put(stream, sizes);
+                        }
+                        sizes.add(data.size());
+                        return new ArrayList<byte[]>();
+                    }
+                });
+
+        assertEquals("default parallelism", 1,
+                recorder.getKinesisRecorderConfig().getSubmissionParallelism());
+        recorder.submitAllRecords();
+        assertEquals("all records sent", 0, recorder.getDiskBytesUsed());
+        assertEquals("all streams sent", streams.size(), batchSizes.size());
+        for (String stream : streams) {
+            assertEquals("one batch of all records per stream", Arrays.asList(30),
+                    batchSizes.get(stream));
+        }
+    }
+
+    @Test
+    public void testNextBatchWindowIsBounded() throws IOException {
+        String anotherStream = "another_stream";
+        for (int i = 0; i < 10; i++) {
+            recorder.saveRecord(String.valueOf(i), STREAM_NAME);
+            recorder.saveRecord(String.valueOf(i), anotherStream);
+        }
+
+        Map<String, List<byte[]>> batches = new LinkedHashMap<String, List<byte[]>>();
+        RecordIterator iterator = recorder.recordStore.iterator();
+        // a window of one batch of 8 records holds 4 records of each stream
+        recorder.nextBatchWindow(iterator, batches, null, 1, 8, 100 * 1024);
+        assertEquals("read 4 records", 4, batches.get(STREAM_NAME).size());
+        assertEquals("read 4 records", 4, batches.get(anotherStream).size());
+
+        // a window of several batches stops at the first full batch
+        iterator = recorder.recordStore.iterator();
+        recorder.nextBatchWindow(iterator, batches, null, 3, 5, 100 * 1024);
+        assertEquals("read 5 records", 5, batches.get(STREAM_NAME).size());
+        assertEquals("read 5 records", 5, batches.get(anotherStream).size());
+        iterator.close();
+    }
+
     @Test
     public void testSubmitAllRecords() {
         for (int i = 0; i < 10; i++) {
@@ -208,7 +504,8 @@ public class AbstractKinesisRecorderTest {
         for (int i = 0; i < 10; i++) {
             recorder.saveRecord(randomBytes(1024), anotherStream);
         }
-        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class)))
+        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class),
+                Mockito.anyListOf(String.class)))
                 .thenReturn(new ArrayList<byte[]>());
         recorder.submitAllRecords();
         assertEquals("no records after submitAllRecords", 0, recorder.getDiskBytesUsed());
@@ -221,7 +518,8 @@ public class AbstractKinesisRecorderTest {
         }
         long size = recorder.getDiskBytesUsed();
         AmazonServiceException ase = new AmazonServiceException("some failures");
-        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class)))
+        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class),
+                Mockito.anyListOf(String.class)))
                 .thenThrow(ase);
         Mockito.when(sender.isRecoverable(ase)).thenReturn(true);
         try {
@@ -239,7 +537,8 @@ public class AbstractKinesisRecorderTest {
             recorder.saveRecord(randomBytes(1024), STREAM_NAME);
         }
         AmazonServiceException ase = new AmazonServiceException("some failures");
-        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class)))
+        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class),
+                Mockito.anyListOf(String.class)))
                 .thenThrow(ase);
         Mockito.when(sender.isRecoverable(ase)).thenReturn(false);
         try {
@@ -256,7 +555,8 @@ public class AbstractKinesisRecorderTest {
         for (int i = 0; i < 10; i++) {
             recorder.saveRecord(randomBytes(1024), STREAM_NAME);
         }
-        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class)))
+        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class),
+                Mockito.anyListOf(String.class)))
                 // one of the records fails, but succeeds the next time
                 .thenReturn(Arrays.asList(randomBytes(1024)))
                 .thenReturn(new ArrayList<byte[]>());
@@ -264,12 +564,49 @@ public class AbstractKinesisRecorderTest {
         assertEquals("records removed", 0, recorder.getDiskBytesUsed());
     }
 
+    @Test
+    public void testPartitionKeysAreKeptOnPartialFailures() throws IOException {
+        for (int i = 0; i < 10; i++) {
+            recorder.saveRecord(randomBytes(1024), STREAM_NAME, i % 2 == 0 ? "key" + i : null);
+        }
+        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class),
+                Mockito.anyListOf(String.class)))
+                .thenAnswer(new Answer<List<byte[]>>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public List<byte[]> answer(InvocationOnMock invocation) {
+                        List<byte[]> data = (List<byte[]>) invocation.getArguments()[1];
+                        List<String> keys = (List<String>) invocation.getArguments()[2];
+                        assertEquals("keys of data", data.size(), keys.size());
+                        // the records with a key always fail
+                        List<byte[]> failures = new ArrayList<byte[]>();
+                        for (int i = 0; i < data.size(); i++) {
+                            if (keys.get(i) != null) {
+                                failures.add(data.get(i));
+                            }
+                        }
+                        return failures;
+                    }
+                });
+        recorder.submitAllRecords();
+
+        Map<String, List<byte[]>> batches = new LinkedHashMap<String, List<byte[]>>();
+        Map<String, List<String>> partitionKeys = new HashMap<String, List<String>>();
+        RecordIterator iterator = recorder.recordStore.iterator();
+        recorder.nextBatches(iterator, batches, partitionKeys, 1, 100, 100 * 1024);
+        assertEquals("failed records kept", 5, batches.get(STREAM_NAME).size());
+        assertEquals("partition keys kept", Arrays.asList("key0", "key2", "key4", "key6",
+                "key8"), partitionKeys.get(STREAM_NAME));
+        iterator.close();
+    }
+
     @Test
     public void testSubmitAllRecordsWithPartialFailuresExceedsMaxRetry() {
         for (int i = 0; i < 10; i++) {
             recorder.saveRecord(randomBytes(1024), STREAM_NAME);
         }
-        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class)))
+        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class),
+                Mockito.anyListOf(String.class)))
                 // one of the records always failes
                 .thenReturn(Arrays.asList(randomBytes(1024)));
         recorder.submitAllRecords();
@@ -28,13 +28,14 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.math.BigInteger;
 import java.security.SecureRandom;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
@@ -69,21 +70,20 @@ public class FileRecordStoreTest {
     @Test
     public void testFileRecordStore_putIterateAndRemove() throws IOException {
 
-        FileManager fileManager = new FileManager(TEST_DIRECTORY);
         FileRecordStore recordStore = new FileRecordStore(TEST_DIRECTORY,
                 RECORDER_FILE_NAME, MAX_STORAGE_SIZE);
 
         // Put some events into the store
-        recordStore.put("1");
-        recordStore.put("2");
-        recordStore.put("3");
-        recordStore.put("4");
-        recordStore.put("5");
-        recordStore.put("6");
-        recordStore.put("7");
-        recordStore.put("8");
-        recordStore.put("9");
-        recordStore.put("10");
+        recordStore.put(bytes("1"));
+        recordStore.put(bytes("2"));
+        recordStore.put(bytes("3"));
+        recordStore.put(bytes("4"));
+        recordStore.put(bytes("5"));
+        recordStore.put(bytes("6"));
+        recordStore.put(bytes("7"));
+        recordStore.put(bytes("8"));
+        recordStore.put(bytes("9"));
+        recordStore.put(bytes("10"));
 
         // Use the iterator to read through the events in the store
         int counter = 0;
@@ -91,35 +91,35 @@ public class FileRecordStoreTest {
 
         while (iter.hasNext()) {
             counter++;
-            String record = iter.next();
+            String record = string(iter.next());
             assertSame(Integer.valueOf(record), counter);
             // If we read 5 events remove the 5 last read events
             if (counter % 5 == 0) {
                 iter.removeReadRecords();
-                assertSame(getNumberOfLinesInFile(fileManager), (10 - counter));
+                assertEquals(10 - counter, getNumberOfRecords(recordStore));
             }
         }
 
         // Put some events into the store
-        recordStore.put("1");
-        recordStore.put("2");
-        recordStore.put("3");
-        recordStore.put("4");
-        recordStore.put("5");
-        recordStore.put("6");
-        recordStore.put("7");
-        recordStore.put("8");
-        recordStore.put("9");
-        recordStore.put("10");
+        recordStore.put(bytes("1"));
+        recordStore.put(bytes("2"));
+        recordStore.put(bytes("3"));
+        recordStore.put(bytes("4"));
+        recordStore.put(bytes("5"));
+        recordStore.put(bytes("6"));
+        recordStore.put(bytes("7"));
+        recordStore.put(bytes("8"));
+        recordStore.put(bytes("9"));
+        recordStore.put(bytes("10"));
         String nextRecord = null;
         counter = 0;
         iter = recordStore.iterator();
-        while ((nextRecord = iter.next()) != null) {
+        while ((nextRecord = string(iter.next())) != null) {
             counter++;
             assertSame(Integer.valueOf(nextRecord), counter);
         }
         iter.removeReadRecords();
-        assertSame(getNumberOfLinesInFile(fileManager), 0);
+        assertEquals(0, getNumberOfRecords(recordStore));
 
         // Try getting a new iterator while the store is empty and verify
         // that hasNext is false
@@ -129,13 +129,13 @@ public class FileRecordStoreTest {
 
         // Put another record in the store and try to read it back out with a
         // new iterator.
-        recordStore.put("11");
+        recordStore.put(bytes("11"));
         iter = recordStore.iterator();
 
         // Try peeking and the next record more than once and verify it will
         // only show the next record each time
-        assertTrue(iter.peek().equalsIgnoreCase("11"));
-        assertTrue(iter.peek().equalsIgnoreCase("11"));
+        assertTrue(string(iter.peek()).equalsIgnoreCase("11"));
+        assertTrue(string(iter.peek()).equalsIgnoreCase("11"));
 
         // Try calling remove and get an UnsupportedOperationException
         boolean unsupportedCaught = false;
@@ -147,7 +147,7 @@ public class FileRecordStoreTest {
         assertTrue(unsupportedCaught);
 
         while (iter.hasNext()) {
-            String record = iter.next();
+            String record = string(iter.next());
             assertSame(Integer.valueOf(record), 11);
         }
 
@@ -170,7 +170,7 @@ public class FileRecordStoreTest {
 
             fileManager.deleteFile(recordsFile);
             kinesisDirectory.setReadOnly();
-            recordStore.put("2");
+            recordStore.put(bytes("2"));
         } finally {
             if (kinesisDirectory != null && kinesisDirectory.exists()) {
 
@@ -183,38 +183,25 @@ public class FileRecordStoreTest {
 
     @Test
     public void testWhenWritingExceedsMaxStorageSize_noMoreRecordsWritten() throws IOException {
-        File recordsDirectory = null;
-        File recordsFile = null;
-
-        FileManager fileManager = new FileManager(TEST_DIRECTORY);
         FileRecordStore recordStore = new FileRecordStore(TEST_DIRECTORY,
                 RECORDER_FILE_NAME, 100L);
 
-        recordsDirectory = fileManager.getDirectory(Constants.RECORDS_DIRECTORY);
-        recordsFile = new File(recordsDirectory, Constants.RECORDS_FILE_NAME);
-
         for (int i = 0; i < 10; i++) {
-            recordStore.put("ten bytes");
+            assertTrue(recordStore.put(bytes("1")));
         }
-        assertSame(recordsFile.length(), 100L);
+        assertEquals(100L, recordStore.getFileSize());
 
-        recordStore.put("0123456789");
-        assertSame(recordsFile.length(), 100L);
+        assertFalse(recordStore.put(bytes("2")));
+        assertEquals(100L, recordStore.getFileSize());
 
     }
 
     @Test
     public void testWhenWritingTooManyConcurrentRecords() throws
             InterruptedException, IOException {
-        File recordsDirectory = null;
-        File recordsFile = null;
-        FileManager fileManager = new FileManager(TEST_DIRECTORY);
         final FileRecordStore recordStore = new FileRecordStore(TEST_DIRECTORY,
                 RECORDER_FILE_NAME, MAX_STORAGE_SIZE);
 
-        recordsDirectory = fileManager.getDirectory(Constants.RECORDS_DIRECTORY);
-        recordsFile = new File(recordsDirectory, Constants.RECORDS_FILE_NAME);
-
         SecureRandom random = new SecureRandom();
 
         // first fill the disk
@@ -226,11 +213,11 @@ public class FileRecordStoreTest {
         final String recordStr = tempRecordStr;
 
         for (int i = 0; i < 30; i++) {
-            recordStore.put(recordStr);
+            recordStore.put(bytes(recordStr));
         }
 
-        long initialSize = recordsFile.length();
-        assertTrue(recordsFile.length() <= MAX_STORAGE_SIZE);
+        long initialSize = recordStore.getFileSize();
+        assertTrue(recordStore.getFileSize() <= MAX_STORAGE_SIZE);
 
         final CountDownLatch latch = new CountDownLatch(1);
         ExecutorService threadPool = Executors.newFixedThreadPool(1);
@@ -241,7 +228,7 @@ public class FileRecordStoreTest {
                     for (int i = 0; i < 100; i++) {
                         RecordIterator itr = recordStore.iterator();
                         if (itr.hasNext()) {
-                            String next = itr.next();
+                            String next = string(itr.next());
                             assertEquals(next.length(), recordStr.length());
                             itr.removeReadRecords();
                         }
@@ -258,18 +245,18 @@ public class FileRecordStoreTest {
         });
 
         for (int i = 0; i < 10000; i++) {
-            recordStore.put(recordStr);
-            assertTrue(recordsFile.length() <= initialSize);
-            recordStore.put(recordStr);
-            assertTrue(recordsFile.length() <= initialSize);
-            recordStore.put(recordStr);
-            assertTrue(recordsFile.length() <= initialSize);
+            recordStore.put(bytes(recordStr));
+            assertTrue(recordStore.getFileSize() <= initialSize);
+            recordStore.put(bytes(recordStr));
+            assertTrue(recordStore.getFileSize() <= initialSize);
+            recordStore.put(bytes(recordStr));
+            assertTrue(recordStore.getFileSize() <= initialSize);
             Thread.sleep(1);
         }
 
         latch.await();
-        assertEquals(recordsFile.length(), initialSize);
-        assertTrue(recordsFile.length() < MAX_STORAGE_SIZE);
+        assertEquals(recordStore.getFileSize(), initialSize);
+        assertTrue(recordStore.getFileSize() < MAX_STORAGE_SIZE);
 
     }
 
@@ -293,7 +280,7 @@ public class FileRecordStoreTest {
                         Long eventsWritten = threadWrites.get(Thread.currentThread().getId());
                         eventsWritten = (eventsWritten == null) ? 0L : eventsWritten;
                         threadWrites.put(Thread.currentThread().getId(), ++eventsWritten);
-                        recordStore.put(String.valueOf(Thread.currentThread().getId()));
+                        recordStore.put(bytes(String.valueOf(Thread.currentThread().getId())));
                     } catch (IOException e) {
                         throw new RuntimeException(e);
                     } finally {
@@ -314,7 +301,7 @@ public class FileRecordStoreTest {
         final Map<Long, Long> actualThreadWrites = new HashMap<Long, Long>();
         RecordIterator iter = recordStore.iterator();
         while (iter.hasNext()) {
-            String next = iter.next();
+            String next = string(iter.next());
             Long id = Long.valueOf(next);
             Long eventsWritten = actualThreadWrites.get(id);
             eventsWritten = (eventsWritten == null) ? 0L : eventsWritten;
@@ -328,28 +315,137 @@ public class FileRecordStoreTest {
 
     }
 
-    private int getNumberOfLinesInFile(final FileManager fileManager) throws NumberFormatException,
-            IOException {
-        BufferedReader reader = getRecordsFileReader(fileManager);
+    @Test
+    public void testReadRecordsAreRemovedBySegment() throws IOException {
+        FileRecordStore recordStore = new FileRecordStore(TEST_DIRECTORY,
+                RECORDER_FILE_NAME, MAX_STORAGE_SIZE);
+        File recordsDirectory = new File(TEST_DIRECTORY, Constants.RECORDS_DIRECTORY);
+
+        // Fill a bit more than three segments
+        char[] chars = new char[1024 - FileRecordStore.FRAME_OVERHEAD];
+        Arrays.fill(chars, 'a');
+        String record = new String(chars);
+        int recordCount = (int) (3 * FileRecordStore.SEGMENT_SIZE / 1024) + 1;
+        for (int i = 0; i < recordCount; i++) {
+            assertTrue(recordStore.put(bytes(record)));
+        }
+        assertEquals(recordCount * 1024L, recordStore.getFileSize());
+        assertEquals(4, getNumberOfSegments(recordsDirectory));
+
+        // Remove a segment and a half worth of records
+        RecordIterator iter = recordStore.iterator();
+        int toRemove = (int) (FileRecordStore.SEGMENT_SIZE * 3 / 2 / 1024);
+        for (int i = 0; i < toRemove; i++) {
+            assertEquals(record, string(iter.next()));
+        }
+        iter.removeReadRecords();
+        assertEquals((recordCount - toRemove) * 1024L, recordStore.getFileSize());
+        assertEquals(3, getNumberOfSegments(recordsDirectory));
+
+        // The checkpoint survives a new store over the same directory
+        recordStore = new FileRecordStore(TEST_DIRECTORY, RECORDER_FILE_NAME,
+                MAX_STORAGE_SIZE);
+        assertEquals((recordCount - toRemove) * 1024L, recordStore.getFileSize());
+        assertTrue(recordStore.put(bytes("last")));
+        assertEquals(recordCount - toRemove + 1, getNumberOfRecords(recordStore));
+
+        iter = recordStore.iterator();
+        while (iter.hasNext()) {
+            iter.next();
+        }
+        iter.removeReadRecords();
+        assertEquals(0, recordStore.getFileSize());
+        assertEquals(0, getNumberOfSegments(recordsDirectory));
+    }
+
+    @Test
+    public void testRecordsPutWhileIteratingAcrossSegmentRollAreNotLost() throws IOException {
+        FileRecordStore recordStore = new FileRecordStore(TEST_DIRECTORY,
+                RECORDER_FILE_NAME, MAX_STORAGE_SIZE);
+        File recordsDirectory = new File(TEST_DIRECTORY, Constants.RECORDS_DIRECTORY);
+
+        // Records of 1KB, numbered in their first bytes
+        char[] padding = new char[1024 - FileRecordStore.FRAME_OVERHEAD - 8];
+        Arrays.fill(padding, 'a');
+        String suffix = new String(padding);
+        int perSegment = (int) (FileRecordStore.SEGMENT_SIZE / 1024);
+        int put = 0;
+        for (; put < perSegment - 2; put++) {
+            assertTrue(recordStore.put(bytes(String.format("%08d", put) + suffix)));
+        }
+
+        // Put records while reading, the segment rolls over in between
+        RecordIterator iter = recordStore.iterator();
+        int read = 0;
+        while (put < 2 * perSegment + 2) {
+            assertTrue(iter.hasNext());
+            assertTrue(recordStore.put(bytes(String.format("%08d", put++) + suffix)));
+            assertEquals(String.format("%08d", read++) + suffix, string(iter.next()));
+        }
+        assertEquals(3, getNumberOfSegments(recordsDirectory));
+        iter.removeReadRecords();
+        assertEquals((put - read) * 1024L, recordStore.getFileSize());
+
+        // The records not read yet are all still there, in order
+        iter = recordStore.iterator();
+        while (iter.hasNext()) {
+            assertEquals(String.format("%08d", read++) + suffix, string(iter.next()));
+        }
+        assertEquals(put, read);
+        iter.close();
+    }
+
+    @Test
+    public void testLegacyRecordsFileIsMigrated() throws IOException {
+        File recordsDirectory = new File(TEST_DIRECTORY, Constants.RECORDS_DIRECTORY);
+        assertTrue(recordsDirectory.mkdirs());
+        Writer writer = new OutputStreamWriter(new FileOutputStream(new File(recordsDirectory,
+                RECORDER_FILE_NAME)), StringUtils.UTF8);
+        writer.write("1\n2\r\n3\n");
+        writer.close();
+        assertTrue(FileRecordStore.exists(TEST_DIRECTORY, RECORDER_FILE_NAME));
+
+        FileRecordStore recordStore = new FileRecordStore(TEST_DIRECTORY,
+                RECORDER_FILE_NAME, MAX_STORAGE_SIZE);
+        assertFalse(new File(recordsDirectory, RECORDER_FILE_NAME).exists());
+        recordStore.put(bytes("4"));
+
+        RecordIterator iter = recordStore.iterator();
+        for (int i = 1; i <= 4; i++) {
+            assertEquals(String.valueOf(i), string(iter.next()));
+        }
+        assertNull(iter.next());
+        iter.removeAllRecords();
+        assertFalse(FileRecordStore.exists(TEST_DIRECTORY, RECORDER_FILE_NAME));
+    }
+
+    private static byte[] bytes(String record) {
+        return record.getBytes(StringUtils.UTF8);
+    }
+
+    private static String string(byte[] record) {
+        return record == null ? null : new String(record, StringUtils.UTF8);
+    }
+
+    private int getNumberOfRecords(final FileRecordStore recordStore) throws IOException {
+        RecordIterator iter = recordStore.iterator();
         int counter = 0;
-        while (reader.readLine() != null) {
+        while (iter.hasNext()) {
+            iter.next();
             counter++;
         }
+        iter.close();
         return counter;
     }
 
-    private BufferedReader getRecordsFileReader(final FileManager fileManager) {
-        InputStreamReader streamReader = null;
-        try {
-            streamReader = new InputStreamReader(
-                    fileManager.newInputStream(Constants.RECORDS_DIRECTORY + File.separator
-                            + Constants.RECORDS_FILE_NAME), StringUtils.UTF8);
-        } catch (FileNotFoundException e) {
-        }
-
-        if (streamReader != null) {
-            return new BufferedReader(streamReader);
+    private int getNumberOfSegments(final File recordsDirectory) {
+        int counter = 0;
+        for (String name : recordsDirectory.list()) {
+            if (name.startsWith(RECORDER_FILE_NAME + ".")
+                    && Character.isDigit(name.charAt(name.length() - 1))) {
+                counter++;
+            }
         }
-        return null;
+        return counter;
     }
 }
@@ -16,6 +16,7 @@
 package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import com.amazonaws.util.StringUtils;
@@ -23,6 +24,7 @@ import com.amazonaws.util.StringUtils;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Random;
 
 public class FileRecordTest {
 
@@ -39,6 +41,58 @@ public class FileRecordTest {
         assertTrue("data bytes", Arrays.equals(bytes, frp.bytes));
     }
 
+    @Test
+    public void testBinaryRecord() {
+        String streamName = "stream";
+        byte[] bytes = new byte[] {
+                0, 1, 2, '\n', (byte) 0xff
+        };
+        byte[] record = FileRecordParser.asBytes(streamName, "key", bytes);
+
+        FileRecordParser frp = new FileRecordParser();
+        frp.parse(record);
+        assertEquals("stream name", streamName, frp.streamName);
+        assertEquals("partition key", "key", frp.partitionKey);
+        assertTrue("data bytes", Arrays.equals(bytes, frp.bytes));
+
+        frp.parse(FileRecordParser.asBytes(streamName, null, new byte[0]));
+        assertNull("no partition key", frp.partitionKey);
+        assertEquals("no data", 0, frp.bytes.length);
+    }
+
+    @Test
+    public void testLegacyLineRecord() {
+        byte[] bytes = "some data".getBytes(StringUtils.UTF8);
+        String line = FileRecordParser.asString("stream", bytes);
+
+        FileRecordParser frp = new FileRecordParser();
+        frp.parse(line.getBytes(StringUtils.UTF8));
+        assertEquals("stream name", "stream", frp.streamName);
+        assertNull("no partition key", frp.partitionKey);
+        assertTrue("data bytes", Arrays.equals(bytes, frp.bytes));
+    }
+
+    @Test
+    public void testBinaryRecordIsSmallerOnDisk() {
+        byte[] bytes = new byte[1024];
+        new Random(0).nextBytes(bytes);
+        FileRecordParser frp = new FileRecordParser();
+
+        byte[] line = FileRecordParser.asString("stream", bytes).getBytes(StringUtils.UTF8);
+        byte[] record = FileRecordParser.asBytes("stream", null, bytes);
+        // a line record ends with a new line, a binary record is framed
+        int lineSize = line.length + 1;
+        int recordSize = record.length + FileRecordStore.FRAME_OVERHEAD;
+        assertTrue("binary record smaller than " + lineSize + " bytes: " + recordSize,
+                recordSize < lineSize);
+        assertTrue("data stored as is", recordSize < bytes.length + 64);
+
+        frp.parse(record);
+        assertTrue("data bytes", Arrays.equals(bytes, frp.bytes));
+        frp.parse(new String(line, StringUtils.UTF8));
+        assertTrue("data bytes", Arrays.equals(bytes, frp.bytes));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testInvalidLineNoData() {
         String line = "line_without_data";
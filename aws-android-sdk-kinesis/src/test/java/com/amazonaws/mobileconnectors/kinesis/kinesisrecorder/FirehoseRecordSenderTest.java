@@ -74,7 +74,7 @@ public class FirehoseRecordSenderTest {
             data.add(("record" + i).getBytes(StringUtils.UTF8));
         }
         Mockito.when(client.putRecordBatch(any(PutRecordBatchRequest.class))).thenReturn(result);
-        List<byte[]> failures = sender.sendBatch(streamName, data);
+        List<byte[]> failures = sender.sendBatch(streamName, data, null);
 
         ArgumentCaptor<PutRecordBatchRequest> argument = ArgumentCaptor
                 .forClass(PutRecordBatchRequest.class);
@@ -114,7 +114,7 @@ public class FirehoseRecordSenderTest {
             data.add(("record" + i).getBytes(StringUtils.UTF8));
         }
         Mockito.when(client.putRecordBatch(any(PutRecordBatchRequest.class))).thenReturn(result);
-        List<byte[]> failures = sender.sendBatch(streamName, data);
+        List<byte[]> failures = sender.sendBatch(streamName, data, null);
 
         assertTrue("has 5 failures", failures.size() == 5);
         for (int i = 0; i < 5; i++) {
@@ -146,7 +146,7 @@ public class FirehoseRecordSenderTest {
         }
         Mockito.when(client.putRecordBatch(any(PutRecordBatchRequest.class))).thenThrow(
                 new InvalidArgumentException("invalid argument"));
-        sender.sendBatch(streamName, data);
+        sender.sendBatch(streamName, data, null);
     }
 
     @Test
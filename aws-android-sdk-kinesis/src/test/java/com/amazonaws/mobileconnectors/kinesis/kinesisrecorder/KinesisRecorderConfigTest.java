@@ -16,6 +16,9 @@
 package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import com.amazonaws.ClientConfiguration;
 
@@ -58,11 +61,22 @@ public class KinesisRecorderConfigTest {
     public void copyConstructor() {
         KinesisRecorderConfig kConfig = new KinesisRecorderConfig();
         kConfig.withMaxStorageSize(5);
+        kConfig.withAutoFlushRecordCount(10).withAutoFlushSize(20).withAutoFlushInterval(30);
+        kConfig.withSubmissionParallelism(4);
+        kConfig.withPartitionKeyStrategy(PredefinedPartitionKeyStrategies.PAYLOAD_HASH)
+                .withRecordAggregation(true);
 
         KinesisRecorderConfig copiedConfig = new KinesisRecorderConfig(kConfig);
 
         assertEquals(kConfig.getMaxStorageSize(),
                 copiedConfig.getMaxStorageSize());
+        assertEquals(10, copiedConfig.getAutoFlushRecordCount());
+        assertEquals(20, copiedConfig.getAutoFlushSize());
+        assertEquals(30, copiedConfig.getAutoFlushInterval());
+        assertEquals(4, copiedConfig.getSubmissionParallelism());
+        assertSame(PredefinedPartitionKeyStrategies.PAYLOAD_HASH,
+                copiedConfig.getPartitionKeyStrategy());
+        assertTrue(copiedConfig.isRecordAggregationEnabled());
 
     }
 
@@ -72,6 +86,11 @@ public class KinesisRecorderConfigTest {
         KinesisRecorderConfig kConfig = new KinesisRecorderConfig();
         kConfig.withMaxStorageSize(100);
         assertEquals(kConfig.getMaxStorageSize(), 100);
+
+        assertFalse(kConfig.isAutoFlushEnabled());
+        kConfig.withAutoFlushInterval(60 * 1000);
+        assertEquals(kConfig.getAutoFlushInterval(), 60 * 1000);
+        assertTrue(kConfig.isAutoFlushEnabled());
     }
 
 }
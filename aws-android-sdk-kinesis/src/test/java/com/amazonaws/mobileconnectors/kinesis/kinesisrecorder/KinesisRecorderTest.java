@@ -94,7 +94,8 @@ public class KinesisRecorderTest {
             byte[] bytes = randomBytes(length);
             req.setData(ByteBuffer.wrap(bytes));
             req.setPartitionKey(UUID.randomUUID().toString());
-            recordStore.put(adapter.translateFromRecord(req).toString());
+            recordStore.put(adapter.translateFromRecord(req).toString()
+                    .getBytes(StringUtils.UTF8));
         }
 
         recorder = new KinesisRecorder(directory, Regions.US_EAST_1, provider);
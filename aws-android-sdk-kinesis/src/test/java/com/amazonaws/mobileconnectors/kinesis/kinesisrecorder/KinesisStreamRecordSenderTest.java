@@ -15,8 +15,11 @@
 
 package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 
@@ -25,9 +28,11 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.RequestClientOptions.Marker;
 import com.amazonaws.services.kinesis.AmazonKinesis;
 import com.amazonaws.services.kinesis.model.PutRecordsRequest;
+import com.amazonaws.services.kinesis.model.PutRecordsRequestEntry;
 import com.amazonaws.services.kinesis.model.PutRecordsResult;
 import com.amazonaws.services.kinesis.model.PutRecordsResultEntry;
 import com.amazonaws.services.kinesisfirehose.model.InvalidArgumentException;
+import com.amazonaws.util.Md5Utils;
 import com.amazonaws.util.StringUtils;
 
 import org.junit.Before;
@@ -35,8 +40,11 @@ import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class KinesisStreamRecordSenderTest {
@@ -74,7 +82,7 @@ public class KinesisStreamRecordSenderTest {
             data.add(("record" + i).getBytes(StringUtils.UTF8));
         }
         Mockito.when(client.putRecords(any(PutRecordsRequest.class))).thenReturn(result);
-        List<byte[]> failures = sender.sendBatch(streamName, data);
+        List<byte[]> failures = sender.sendBatch(streamName, data, null);
 
         ArgumentCaptor<PutRecordsRequest> argument = ArgumentCaptor
                 .forClass(PutRecordsRequest.class);
@@ -114,7 +122,7 @@ public class KinesisStreamRecordSenderTest {
             data.add(("record" + i).getBytes(StringUtils.UTF8));
         }
         Mockito.when(client.putRecords(any(PutRecordsRequest.class))).thenReturn(result);
-        List<byte[]> failures = sender.sendBatch(streamName, data);
+        List<byte[]> failures = sender.sendBatch(streamName, data, null);
 
         assertTrue("has 5 failures", failures.size() == 5);
         for (int i = 0; i < 5; i++) {
@@ -146,7 +154,108 @@ public class KinesisStreamRecordSenderTest {
         }
         Mockito.when(client.putRecords(any(PutRecordsRequest.class))).thenThrow(
                 new InvalidArgumentException("invalid argument"));
-        sender.sendBatch(streamName, data);
+        sender.sendBatch(streamName, data, null);
+    }
+
+    @Test
+    public void testSendBatchWithPartitionKeys() {
+        List<byte[]> data = new ArrayList<byte[]>();
+        List<String> partitionKeys = new ArrayList<String>();
+        for (int i = 0; i < 4; i++) {
+            data.add(("record" + i).getBytes(StringUtils.UTF8));
+            partitionKeys.add(i % 2 == 0 ? "key" + i : null);
+        }
+        Mockito.when(client.putRecords(any(PutRecordsRequest.class))).thenReturn(
+                okResult(data.size()));
+        sender.sendBatch("stream", data, partitionKeys);
+
+        ArgumentCaptor<PutRecordsRequest> argument = ArgumentCaptor
+                .forClass(PutRecordsRequest.class);
+        Mockito.verify(client).putRecords(argument.capture());
+        List<PutRecordsRequestEntry> records = argument.getValue().getRecords();
+        assertEquals("one record per data", 4, records.size());
+        assertEquals("given key", "key0", records.get(0).getPartitionKey());
+        assertEquals("given key", "key2", records.get(2).getPartitionKey());
+        assertNotNull("random key", records.get(1).getPartitionKey());
+        assertNotNull("random key", records.get(3).getPartitionKey());
+    }
+
+    @Test
+    public void testSendBatchWithAggregation() throws IOException {
+        sender = new KinesisStreamRecordSender(client, USER_AGENT, true);
+        List<byte[]> data = new ArrayList<byte[]>();
+        List<String> partitionKeys = new ArrayList<String>();
+        for (int i = 0; i < 10; i++) {
+            data.add(("record" + i).getBytes(StringUtils.UTF8));
+            partitionKeys.add("key" + (i % 3));
+        }
+        // too large to be aggregated
+        data.add(new byte[KinesisStreamRecordSender.MAX_AGGREGATED_RECORD_SIZE]);
+        partitionKeys.add("large");
+        PutRecordsResult result = okResult(2);
+        result.getRecords().get(0).setErrorCode("ServiceUnavailable");
+        result.setFailedRecordCount(1);
+        Mockito.when(client.putRecords(any(PutRecordsRequest.class))).thenReturn(result);
+        List<byte[]> failures = sender.sendBatch("stream", data, partitionKeys);
+
+        ArgumentCaptor<PutRecordsRequest> argument = ArgumentCaptor
+                .forClass(PutRecordsRequest.class);
+        Mockito.verify(client).putRecords(argument.capture());
+        List<PutRecordsRequestEntry> records = argument.getValue().getRecords();
+        assertEquals("aggregated and large records", 2, records.size());
+        assertEquals("key of first record", "key0", records.get(0).getPartitionKey());
+        assertEquals("large record", "large", records.get(1).getPartitionKey());
+        assertSame("large record sent as is", data.get(10), records.get(1).getData().array());
+
+        // decode the aggregated record
+        byte[] aggregated = records.get(0).getData().array();
+        assertArrayEquals("magic", RecordAggregator.AGGREGATED_RECORD_MAGIC,
+                Arrays.copyOfRange(aggregated, 0, 4));
+        byte[] message = Arrays.copyOfRange(aggregated, 4, aggregated.length - 16);
+        assertArrayEquals("digest", Md5Utils.computeMD5Hash(message),
+                Arrays.copyOfRange(aggregated, aggregated.length - 16, aggregated.length));
+        List<String> keys = new ArrayList<String>();
+        List<String> values = new ArrayList<String>();
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(message));
+        while (in.available() > 0) {
+            int tag = in.read();
+            byte[] field = new byte[in.read()];
+            in.readFully(field);
+            if (tag == 0x0A) {
+                keys.add(new String(field, StringUtils.UTF8));
+            } else {
+                assertEquals("record tag", 0x1A, tag);
+                // partition key index, then data
+                assertEquals("index tag", 0x08, field[0]);
+                assertEquals("key index", partitionKeys.get(values.size()),
+                        keys.get(field[1]));
+                assertEquals("data tag", 0x1A, field[2]);
+                values.add(new String(field, 4, field[3], StringUtils.UTF8));
+            }
+        }
+        assertEquals("partition key table", Arrays.asList("key0", "key1", "key2"), keys);
+        assertEquals("records", 10, values.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("record", "record" + i, values.get(i));
+        }
+
+        assertEquals("all aggregated data failed", 10, failures.size());
+        for (int i = 0; i < 10; i++) {
+            assertSame("same data", data.get(i), failures.get(i));
+        }
+    }
+
+    private PutRecordsResult okResult(int count) {
+        PutRecordsResult result = new PutRecordsResult();
+        List<PutRecordsResultEntry> entries = new ArrayList<PutRecordsResultEntry>();
+        result.setFailedRecordCount(0);
+        for (int i = 0; i < count; i++) {
+            PutRecordsResultEntry entry = new PutRecordsResultEntry();
+            entry.setSequenceNumber("record_id_" + i);
+            entries.add(entry);
+        }
+        result.setRecords(entries);
+        return result;
     }
 
     @Test
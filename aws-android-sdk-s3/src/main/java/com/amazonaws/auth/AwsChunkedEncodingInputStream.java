@@ -26,6 +26,8 @@ import org.apache.commons.logging.LogFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
 /**
  * A wrapper class of InputStream that implements chunked-encoding.
@@ -41,7 +43,11 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
     private static final String CHUNK_STRING_TO_SIGN_PREFIX = "AWS4-HMAC-SHA256-PAYLOAD";
     private static final String CHUNK_SIGNATURE_HEADER = ";chunk-signature=";
     private static final int SIGNATURE_LENGTH = 64;
-    private static final byte[] FINAL_CHUNK = new byte[0];
+    private static final byte[] CLRF_BYTES = CLRF.getBytes(UTF8);
+
+    /** Hex encoded SHA-256 hash of the empty nonsig-extension */
+    private static final String EMPTY_NONSIG_EXTENSION_HASH =
+            "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855";
 
     private InputStream is = null;
     private final int maxBufferSize;
@@ -52,6 +58,14 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
     private String priorChunkSignature;
     private final AWS4Signer aws4Signer;
 
+    /**
+     * Buffers reused by every chunk of this stream, allocated on the first
+     * read so that each chunk is signed without allocating new arrays.
+     */
+    private byte[] chunkData;
+    private byte[] signedChunk;
+    private MessageDigest sha256;
+
     /** Iterator on the current chunk that has been signed */
     private ChunkContentIterator currentChunkIterator;
 
@@ -276,13 +290,16 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
      * @return Returns true if next chunk is the last empty chunk.
      */
     private boolean setUpNextChunk() throws IOException {
-        byte[] chunkData = new byte[DEFAULT_CHUNK_SIZE];
+        if (chunkData == null) {
+            chunkData = new byte[DEFAULT_CHUNK_SIZE];
+        }
         int chunkSizeInBytes = 0;
         while (chunkSizeInBytes < DEFAULT_CHUNK_SIZE) {
             /** Read from the buffer of the decoded stream */
             if (null != decodedStreamBuffer
                     && decodedStreamBuffer.hasNext()) {
-                chunkData[chunkSizeInBytes++] = decodedStreamBuffer.next();
+                chunkSizeInBytes += decodedStreamBuffer.read(chunkData, chunkSizeInBytes,
+                        DEFAULT_CHUNK_SIZE - chunkSizeInBytes);
             }
             /** Read from the wrapped stream */
             else {
@@ -297,27 +314,21 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
                     break;
             }
         }
-        if (chunkSizeInBytes == 0) {
-            byte[] signedFinalChunk = createSignedChunk(FINAL_CHUNK);
-            currentChunkIterator = new ChunkContentIterator(signedFinalChunk);
-            return true;
-        }
-        else {
-            if (chunkSizeInBytes < chunkData.length) {
-                byte[] temp = new byte[chunkSizeInBytes];
-                System.arraycopy(chunkData, 0, temp, 0, chunkSizeInBytes);
-                chunkData = temp;
-            }
-            byte[] signedChunkContent = createSignedChunk(chunkData);
-            currentChunkIterator = new ChunkContentIterator(signedChunkContent);
-            return false;
-        }
+        int signedChunkLength = createSignedChunk(chunkData, chunkSizeInBytes);
+        currentChunkIterator = new ChunkContentIterator(signedChunk, signedChunkLength);
+        return chunkSizeInBytes == 0;
     }
 
-    private byte[] createSignedChunk(byte[] chunkData) {
+    /**
+     * Signs the first <code>length</code> bytes of the chunk data and writes
+     * the signed chunk into the reusable signed chunk buffer.
+     *
+     * @return the length of the signed chunk.
+     */
+    private int createSignedChunk(byte[] chunkData, int length) {
         StringBuilder chunkHeader = new StringBuilder();
         // chunk-size
-        chunkHeader.append(Integer.toHexString(chunkData.length));
+        chunkHeader.append(Integer.toHexString(length));
         // nonsig-extension
         String nonsigExtension = "";
         // sig-extension
@@ -326,8 +337,8 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
                         dateTime + "\n" +
                         keyPath + "\n" +
                         priorChunkSignature + "\n" +
-                        BinaryUtils.toHex(aws4Signer.hash(nonsigExtension)) + "\n" +
-                        BinaryUtils.toHex(aws4Signer.hash(chunkData));
+                        EMPTY_NONSIG_EXTENSION_HASH + "\n" +
+                        BinaryUtils.toHex(hash(chunkData, length));
         String chunkSignature = BinaryUtils.toHex(aws4Signer.sign(chunkStringToSign, kSigning,
                 SigningAlgorithm.HmacSHA256));
         priorChunkSignature = chunkSignature;
@@ -336,19 +347,37 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
 
         try {
             byte[] header = chunkHeader.toString().getBytes(UTF8);
-            byte[] trailer = CLRF.getBytes(UTF8);
-            byte[] signedChunk = new byte[header.length + chunkData.length + trailer.length];
+            if (signedChunk == null) {
+                signedChunk = new byte[(int) calculateSignedChunkLength(DEFAULT_CHUNK_SIZE)];
+            }
             System.arraycopy(header, 0, signedChunk, 0, header.length);
-            System.arraycopy(chunkData, 0, signedChunk, header.length, chunkData.length);
-            System.arraycopy(trailer, 0,
-                    signedChunk, header.length + chunkData.length,
-                    trailer.length);
-            return signedChunk;
+            System.arraycopy(chunkData, 0, signedChunk, header.length, length);
+            System.arraycopy(CLRF_BYTES, 0,
+                    signedChunk, header.length + length,
+                    CLRF_BYTES.length);
+            return header.length + length + CLRF_BYTES.length;
         } catch (Exception e) {
             throw new AmazonClientException("Unable to sign the chunked data. " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Hashes the first <code>length</code> bytes of the data with the SHA-256
+     * digest owned by this stream.
+     */
+    private byte[] hash(byte[] data, int length) {
+        try {
+            if (sha256 == null) {
+                sha256 = MessageDigest.getInstance("SHA-256");
+            }
+            sha256.update(data, 0, length);
+            return sha256.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new AmazonClientException("Unable to compute hash while signing request: "
+                    + e.getMessage(), e);
+        }
+    }
+
     @Override
     protected InputStream getWrappedInputStream() {
         return is;
@@ -18,14 +18,24 @@ package com.amazonaws.auth;
 class ChunkContentIterator {
 
     private final byte[] signedChunk;
+    private final int length;
     private int pos;
 
     public ChunkContentIterator(byte[] signedChunk) {
+        this(signedChunk, signedChunk.length);
+    }
+
+    /**
+     * Iterates over the first <code>length</code> bytes of the given array,
+     * which allows a single buffer to be reused for consecutive chunks.
+     */
+    public ChunkContentIterator(byte[] signedChunk, int length) {
         this.signedChunk = signedChunk;
+        this.length = length;
     }
 
     public boolean hasNext() {
-        return pos < signedChunk.length;
+        return pos < length;
     }
 
     public int read(byte[] output, int offset, int length) {
@@ -33,7 +43,7 @@ class ChunkContentIterator {
             return 0;
         if (!hasNext())
             return -1;
-        int remaingBytesNum = signedChunk.length - pos;
+        int remaingBytesNum = this.length - pos;
         int bytesToRead = Math.min(remaingBytesNum, length);
         System.arraycopy(signedChunk, pos, output, offset, bytesToRead);
         pos += bytesToRead;
@@ -72,6 +72,23 @@ class DecodedStreamBuffer {
         return bufferArray[pos++];
     }
 
+    /**
+     * Copies up to <code>length</code> buffered bytes into the given array,
+     * starting from the current read position.
+     *
+     * @return the number of bytes copied, which is zero if nothing is left in
+     *         the buffer.
+     */
+    public int read(byte[] array, int offset, int length) {
+        if (!hasNext()) {
+            return 0;
+        }
+        int count = Math.min(length, byteBuffered - pos);
+        System.arraycopy(bufferArray, pos, array, offset, count);
+        pos += count;
+        return count;
+    }
+
     public void startReadBuffer() {
         if (bufferSizeOverflow) {
             throw new AmazonClientException(
@@ -64,6 +64,24 @@ public final class PersistableDownload extends PersistableTransfer {
      */
     private final String file;
 
+    /**
+     * Size of each part of a multi-part download, or -1 if the object is
+     * downloaded with a single request.
+     */
+    private final long partSize;
+
+    /**
+     * ETag of the object of a multi-part download, so that the parts
+     * downloaded before and after a pause come from the same object.
+     */
+    private final String eTag;
+
+    /**
+     * Indexes of the parts of a multi-part download already written to the
+     * file, in ascending order.
+     */
+    private final int[] completedParts;
+
     @Deprecated
     public PersistableDownload() {
         this(null, null, null, null, null, false, null);
@@ -77,6 +95,21 @@ public final class PersistableDownload extends PersistableTransfer {
             ResponseHeaderOverrides responseHeaders,
             boolean isRequesterPays,
             String file) {
+        this(bucketName, key, versionId, range, responseHeaders, isRequesterPays, file, -1,
+                null, null);
+    }
+
+    public PersistableDownload(
+            String bucketName,
+            String key,
+            String versionId,
+            long[] range,
+            ResponseHeaderOverrides responseHeaders,
+            boolean isRequesterPays,
+            String file,
+            long partSize,
+            String eTag,
+            int[] completedParts) {
         this.bucketName = bucketName;
         this.key = key;
         this.versionId = versionId;
@@ -84,6 +117,9 @@ public final class PersistableDownload extends PersistableTransfer {
         this.responseHeaders = responseHeaders;
         this.isRequesterPays = isRequesterPays;
         this.file = file;
+        this.partSize = partSize;
+        this.eTag = eTag;
+        this.completedParts = completedParts == null ? new int[0] : completedParts.clone();
     }
 
     /**
@@ -136,6 +172,29 @@ public final class PersistableDownload extends PersistableTransfer {
         return file;
     }
 
+    /**
+     * Returns the size of each part of a multi-part download, or -1 if the
+     * object is downloaded with a single request.
+     */
+    long getPartSize() {
+        return partSize;
+    }
+
+    /**
+     * Returns the ETag of the object of a multi-part download.
+     */
+    String getETag() {
+        return eTag;
+    }
+
+    /**
+     * Returns the indexes of the parts of a multi-part download already
+     * written to the file.
+     */
+    int[] getCompletedParts() {
+        return completedParts.clone();
+    }
+
     String getPauseType() {
         return pauseType;
     }
@@ -159,6 +218,15 @@ public final class PersistableDownload extends PersistableTransfer {
                 }
                 writer.endArray();
             }
+            if (partSize > 0) {
+                writer.name("partSize").value(partSize)
+                        .name("eTag").value(eTag)
+                        .name("completedParts").beginArray();
+                for (int part : completedParts) {
+                    writer.value(part);
+                }
+                writer.endArray();
+            }
             if (responseHeaders != null) {
                 writer.name("responseHeaders").beginObject()
                         .name("contentType").value(responseHeaders.getContentType())
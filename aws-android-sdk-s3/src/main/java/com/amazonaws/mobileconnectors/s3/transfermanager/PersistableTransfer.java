@@ -28,6 +28,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Abstract base class for the information of a pausible upload or download;
@@ -79,6 +81,8 @@ public abstract class PersistableTransfer {
         long[] range = null;
         ResponseHeaderOverrides responseHeaders = null;
         boolean isRequesterPays = false;
+        String eTag = null;
+        int[] completedParts = null;
 
         AwsJsonReader reader = JsonUtils
                 .getJsonReader(new BufferedReader(new InputStreamReader(in, StringUtils.UTF8)));
@@ -135,6 +139,19 @@ public abstract class PersistableTransfer {
                         }
                     }
                     reader.endObject();
+                } else if (name.equals("eTag")) {
+                    eTag = reader.nextString();
+                } else if (name.equals("completedParts")) {
+                    List<Integer> parts = new ArrayList<Integer>();
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        parts.add(Integer.parseInt(reader.nextString()));
+                    }
+                    reader.endArray();
+                    completedParts = new int[parts.size()];
+                    for (int i = 0; i < completedParts.length; i++) {
+                        completedParts[i] = parts.get(i);
+                    }
                 } else if (name.equals("isRequesterPays")) {
                     isRequesterPays = Boolean.parseBoolean(reader.nextString());
                 } else {
@@ -148,7 +165,7 @@ public abstract class PersistableTransfer {
 
         if (PersistableDownload.TYPE.equals(type)) {
             return (T) new PersistableDownload(bucketName, key, versionId, range, responseHeaders,
-                    isRequesterPays, file);
+                    isRequesterPays, file, partSize, eTag, completedParts);
         } else if (PersistableUpload.TYPE.equals(type)) {
             return (T) new PersistableUpload(bucketName, key, file, multipartUploadId, partSize,
                     mutlipartUploadThreshold);
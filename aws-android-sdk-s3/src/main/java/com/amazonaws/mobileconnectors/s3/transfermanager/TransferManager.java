@@ -35,6 +35,7 @@ import com.amazonaws.mobileconnectors.s3.transfermanager.internal.CopyImpl;
 import com.amazonaws.mobileconnectors.s3.transfermanager.internal.CopyMonitor;
 import com.amazonaws.mobileconnectors.s3.transfermanager.internal.DownloadImpl;
 import com.amazonaws.mobileconnectors.s3.transfermanager.internal.DownloadMonitor;
+import com.amazonaws.mobileconnectors.s3.transfermanager.internal.MultipartDownloadCallable;
 import com.amazonaws.mobileconnectors.s3.transfermanager.internal.MultipleFileDownloadImpl;
 import com.amazonaws.mobileconnectors.s3.transfermanager.internal.MultipleFileTransferMonitor;
 import com.amazonaws.mobileconnectors.s3.transfermanager.internal.MultipleFileUploadImpl;
@@ -597,6 +598,19 @@ public class TransferManager {
             final File file, final TransferStateChangeListener stateListener,
             final S3ProgressListener s3progressListener,
             final boolean resumeExistingDownload) {
+        return doDownload(getObjectRequest, file, stateListener, s3progressListener,
+                resumeExistingDownload, null);
+    }
+
+    /**
+     * Same as above, but resumes the given paused multi-part download if it's
+     * not null.
+     */
+    private Download doDownload(final GetObjectRequest getObjectRequest,
+            final File file, final TransferStateChangeListener stateListener,
+            final S3ProgressListener s3progressListener,
+            final boolean resumeExistingDownload,
+            final PersistableDownload pausedDownload) {
 
         appendSingleObjectUserAgent(getObjectRequest);
 
@@ -643,11 +657,6 @@ public class TransferManager {
         }
         final ObjectMetadata objectMetadata = s3.getObjectMetadata(getObjectMetadataRequest);
 
-        // We still pass the unfiltered listener chain into DownloadImpl
-        final DownloadImpl download = new DownloadImpl(description,
-                transferProgress, listenerChain, null, stateListener,
-                getObjectRequest, file);
-
         long startingByte = 0;
         long lastByte = objectMetadata.getContentLength() - 1;
 
@@ -660,6 +669,59 @@ public class TransferManager {
         long totalBytesToDownload = lastByte - startingByte + 1;
         transferProgress.setTotalBytesToTransfer(totalBytesToDownload);
 
+        long partSize = -1;
+        int[] completedParts = null;
+        if (pausedDownload != null && pausedDownload.getPartSize() > 0) {
+            if (!file.exists()) {
+                log.info("File " + file + " was removed since the download was paused, "
+                        + "download it again");
+            } else if (pausedDownload.getETag() != null
+                    && pausedDownload.getETag().equals(objectMetadata.getETag())) {
+                partSize = pausedDownload.getPartSize();
+                completedParts = pausedDownload.getCompletedParts();
+            } else {
+                log.info("Object " + getObjectRequest.getKey()
+                        + " was modified since the download was paused, download it again");
+            }
+        }
+        if (partSize <= 0 && !resumeExistingDownload
+                && totalBytesToDownload >= configuration.getMultipartDownloadThreshold()
+                && isDownloadParallelizable(getObjectRequest)) {
+            partSize = configuration.getDownloadPartSize();
+            completedParts = null;
+        }
+
+        // We still pass the unfiltered listener chain into DownloadImpl
+        final DownloadImpl download = new DownloadImpl(description,
+                transferProgress, listenerChain, null, stateListener,
+                getObjectRequest, file, partSize, objectMetadata.getETag(), completedParts);
+
+        if (partSize > 0) {
+            if (completedParts != null) {
+                long bytesDownloaded = 0;
+                for (int part : completedParts) {
+                    bytesDownloaded += Math.min(partSize,
+                            totalBytesToDownload - part * partSize);
+                }
+                transferProgress.updateProgress(bytesDownloaded);
+            } else {
+                // overwrite the file, parts are written at their position
+                file.delete();
+            }
+            S3Object s3Object = new S3Object();
+            s3Object.setBucketName(getObjectRequest.getBucketName());
+            s3Object.setKey(getObjectRequest.getKey());
+            s3Object.setObjectMetadata(objectMetadata);
+            download.setS3Object(s3Object);
+
+            final CountDownLatch latch = new CountDownLatch(1);
+            Future<?> future = submitMultipartDownloadTask(getObjectRequest, file,
+                    objectMetadata, startingByte, lastByte, partSize, latch, download);
+            download.setMonitor(new DownloadMonitor(download, future));
+            latch.countDown();
+            return download;
+        }
+
         if (resumeExistingDownload) {
             if (file.exists()) {
                 long numberOfBytesRead = file.length();
@@ -744,6 +806,53 @@ public class TransferManager {
         return future;
     }
 
+    /**
+     * Returns true if the specified download request can be split into ranged
+     * parts fetched in parallel.
+     */
+    private boolean isDownloadParallelizable(GetObjectRequest getObjectRequest) {
+        // Decryption of an encrypted object depends on the data before each
+        // byte, so ranged parts can't be decrypted independently.
+        return !(s3 instanceof AmazonS3EncryptionClient)
+                && configuration.getDownloadPartSize() > 0;
+    }
+
+    private Future<?> submitMultipartDownloadTask(
+            final GetObjectRequest getObjectRequest, final File file,
+            final ObjectMetadata objectMetadata, final long startingByte, final long lastByte,
+            final long partSize, final CountDownLatch latch, final DownloadImpl download) {
+        // Same conditions as for downloads with a single request, the whole
+        // object must be downloaded for its MD5 digest to match the ETag.
+        boolean performIntegrityCheck = getObjectRequest.getRange() == null
+                && !ServiceUtils.skipMd5CheckPerRequest(getObjectRequest)
+                && !ServiceUtils.skipMd5CheckPerResponse(objectMetadata);
+        final MultipartDownloadCallable callable = new MultipartDownloadCallable(s3, threadPool,
+                download, getObjectRequest, file, objectMetadata.getETag(), startingByte,
+                lastByte, partSize, configuration.getMaximumDownloadParallelism(),
+                performIntegrityCheck);
+        return threadPool.submit(new Callable<Object>() {
+            @Override
+            public Object call() throws Exception {
+                try {
+                    latch.await();
+                    download.setState(TransferState.InProgress);
+                    callable.call();
+                    download.setState(TransferState.Completed);
+                    return true;
+                } catch (Throwable t) {
+                    // Downloads aren't allowed to move from canceled to failed
+                    if (download.getState() != TransferState.Canceled) {
+                        download.setState(TransferState.Failed);
+                    }
+                    if (t instanceof Exception)
+                        throw (Exception) t;
+                    else
+                        throw (Error) t;
+                }
+            }
+        });
+    }
+
     /**
      * Downloads all objects in the virtual directory designated by the
      * keyPrefix given to the destination directory given. All virtual
@@ -1397,6 +1506,11 @@ public class TransferManager {
         request.setRequesterPays(persistableDownload.isRequesterPays());
         request.setResponseHeaders(persistableDownload.getResponseHeaders());
 
+        if (persistableDownload.getPartSize() > 0) {
+            // the parts already downloaded are skipped
+            return doDownload(request, new File(persistableDownload.getFile()), null, null,
+                    OVERWRITE_MODE, persistableDownload);
+        }
         return doDownload(request, new File(persistableDownload.getFile()), null, null,
                 APPEND_MODE);
     }
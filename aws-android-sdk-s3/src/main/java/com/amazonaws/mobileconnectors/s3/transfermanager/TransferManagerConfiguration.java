@@ -18,6 +18,8 @@ package com.amazonaws.mobileconnectors.s3.transfermanager;
 import static com.amazonaws.services.s3.internal.Constants.GB;
 import static com.amazonaws.services.s3.internal.Constants.MB;
 
+import com.amazonaws.mobileconnectors.s3.transferutility.AdaptiveTransferConfiguration;
+
 /**
  * Configuration options for how {@link TransferManager} processes requests.
  * <p>
@@ -47,6 +49,15 @@ public class TransferManagerConfiguration {
     /** Default minimum size of each part for multi-part copy. */
     private static final long DEFAULT_MINIMUM_COPY_PART_SIZE = 100 * MB;
 
+    /** Default size of each part for multi-part downloads. */
+    private static final long DEFAULT_DOWNLOAD_PART_SIZE = 5 * MB;
+
+    /** Default size threshold for when to use multi-part downloads. */
+    private static final long DEFAULT_MULTIPART_DOWNLOAD_THRESHOLD = 16 * MB;
+
+    /** Default maximum number of parts of a download fetched in parallel. */
+    private static final int DEFAULT_MAXIMUM_DOWNLOAD_PARALLELISM = 4;
+
     /**
      * The minimum part size for upload parts. Decreasing the minimum part size
      * will cause multipart uploads to be split into a larger number of smaller
@@ -85,6 +96,31 @@ public class TransferManagerConfiguration {
      */
     private long multipartCopyPartSize = DEFAULT_MINIMUM_COPY_PART_SIZE;
 
+    /**
+     * The size in bytes of each part when a multi-part download is carried
+     * out. Each part is fetched with its own ranged request.
+     */
+    private long downloadPartSize = DEFAULT_DOWNLOAD_PART_SIZE;
+
+    /**
+     * The size threshold, in bytes, for when to use multi-part downloads.
+     * Downloads over this size will be split into ranged parts fetched in
+     * parallel, while smaller downloads will use a single connection.
+     */
+    private long multipartDownloadThreshold = DEFAULT_MULTIPART_DOWNLOAD_THRESHOLD;
+
+    /**
+     * The maximum number of parts of a multi-part download fetched at the
+     * same time.
+     */
+    private int maximumDownloadParallelism = DEFAULT_MAXIMUM_DOWNLOAD_PARALLELISM;
+
+    /**
+     * The configuration of the adaptive control of multipart uploads, or null
+     * to upload with fixed part sizes and all the parts at the same time.
+     */
+    private AdaptiveTransferConfiguration adaptiveTransferConfiguration;
+
     /**
      * Returns the minimum part size for upload parts. Decreasing the minimum
      * part size causes multipart uploads to be split into a larger number of
@@ -192,4 +228,100 @@ public class TransferManagerConfiguration {
     public void setMultipartCopyThreshold(long multipartCopyThreshold) {
         this.multipartCopyThreshold = multipartCopyThreshold;
     }
+
+    /**
+     * Returns the size in bytes of each part of a multi-part download.
+     *
+     * @return The size in bytes of each part of a multi-part download.
+     */
+    public long getDownloadPartSize() {
+        return downloadPartSize;
+    }
+
+    /**
+     * Sets the size in bytes of each part of a multi-part download. Smaller
+     * parts lose less data when a download is paused or interrupted, but cost
+     * an extra request each.
+     *
+     * @param downloadPartSize The size in bytes of each part of a multi-part
+     *            download.
+     */
+    public void setDownloadPartSize(long downloadPartSize) {
+        this.downloadPartSize = downloadPartSize;
+    }
+
+    /**
+     * Returns the size threshold in bytes for when to use multi-part
+     * downloads. Downloads over this size will be split into ranged parts
+     * fetched in parallel, while smaller downloads will use a single
+     * connection.
+     *
+     * @return The size threshold in bytes for when to use multi-part
+     *         downloads.
+     */
+    public long getMultipartDownloadThreshold() {
+        return multipartDownloadThreshold;
+    }
+
+    /**
+     * Sets the size threshold in bytes for when to use multi-part downloads.
+     * Downloads over this size will be split into ranged parts fetched in
+     * parallel, while smaller downloads will use a single connection.
+     *
+     * @param multipartDownloadThreshold The size threshold in bytes for when
+     *            to use multi-part downloads.
+     */
+    public void setMultipartDownloadThreshold(long multipartDownloadThreshold) {
+        this.multipartDownloadThreshold = multipartDownloadThreshold;
+    }
+
+    /**
+     * Returns the maximum number of parts of a multi-part download fetched at
+     * the same time.
+     *
+     * @return The maximum number of parts of a download fetched in parallel.
+     */
+    public int getMaximumDownloadParallelism() {
+        return maximumDownloadParallelism;
+    }
+
+    /**
+     * Sets the maximum number of parts of a multi-part download fetched at
+     * the same time. Parts are fetched by the thread pool of the
+     * <code>TransferManager</code>, so it's also bounded by the size of the
+     * thread pool.
+     *
+     * @param maximumDownloadParallelism The maximum number of parts of a
+     *            download fetched in parallel.
+     */
+    public void setMaximumDownloadParallelism(int maximumDownloadParallelism) {
+        this.maximumDownloadParallelism = maximumDownloadParallelism;
+    }
+
+    /**
+     * Returns the configuration of the adaptive control of multipart uploads.
+     *
+     * @return The configuration of the adaptive control, or null if it's
+     *         disabled.
+     */
+    public AdaptiveTransferConfiguration getAdaptiveTransferConfiguration() {
+        return adaptiveTransferConfiguration;
+    }
+
+    /**
+     * Sets the configuration of the adaptive control of multipart uploads.
+     * The part size of a new parallel upload then adapts to the measured
+     * throughput of the parts, without going below the minimum upload part
+     * size, and the number of parts uploaded at the same time adapts too. The
+     * same configuration can be shared with a
+     * {@link com.amazonaws.mobileconnectors.s3.transferutility.TransferUtility}
+     * so that both use the same measurements.
+     *
+     * @param adaptiveTransferConfiguration The configuration of the adaptive
+     *            control, or null to disable it.
+     */
+    public void setAdaptiveTransferConfiguration(
+            AdaptiveTransferConfiguration adaptiveTransferConfiguration) {
+        this.adaptiveTransferConfiguration = adaptiveTransferConfiguration;
+    }
 }
@@ -27,6 +27,8 @@ import com.amazonaws.services.s3.model.S3Object;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Set;
+import java.util.TreeSet;
 
 public class DownloadImpl extends AbstractTransfer implements Download {
 
@@ -37,13 +39,56 @@ public class DownloadImpl extends AbstractTransfer implements Download {
      */
     private final PersistableDownload persistableDownload;
 
+    private final GetObjectRequest getObjectRequest;
+    private final File file;
+
+    /**
+     * Size of each part of a multi-part download, or -1 if the object is
+     * downloaded with a single request.
+     */
+    private final long partSize;
+    private final String eTag;
+
+    /**
+     * Indexes of the parts written to the file when the download is a
+     * multi-part download.
+     */
+    private final Set<Integer> completedParts = new TreeSet<Integer>();
+
     public DownloadImpl(String description, TransferProgress transferProgress,
             ProgressListenerChain progressListenerChain, S3Object s3Object,
             TransferStateChangeListener listener,
             GetObjectRequest getObjectRequest, File file) {
+        this(description, transferProgress, progressListenerChain, s3Object, listener,
+                getObjectRequest, file, -1, null, null);
+    }
+
+    /**
+     * Constructs a multi-part download.
+     *
+     * @param partSize size of each part, or -1 if the object is downloaded
+     *            with a single request
+     * @param eTag ETag of the object
+     * @param completedParts indexes of the parts already written to the file,
+     *            or null
+     */
+    public DownloadImpl(String description, TransferProgress transferProgress,
+            ProgressListenerChain progressListenerChain, S3Object s3Object,
+            TransferStateChangeListener listener,
+            GetObjectRequest getObjectRequest, File file, long partSize, String eTag,
+            int[] completedParts) {
         super(description, transferProgress, progressListenerChain, listener);
         this.s3Object = s3Object;
-        this.persistableDownload = captureDownloadState(getObjectRequest, file);
+        this.getObjectRequest = getObjectRequest;
+        this.file = file;
+        this.partSize = partSize;
+        this.eTag = eTag;
+        if (completedParts != null) {
+            for (int part : completedParts) {
+                this.completedParts.add(part);
+            }
+        }
+        this.persistableDownload = captureDownloadState();
         S3ProgressPublisher.publishTransferPersistable(progressListenerChain,
                 persistableDownload);
     }
@@ -88,7 +133,7 @@ public class DownloadImpl extends AbstractTransfer implements Download {
 
         this.monitor.getFuture().cancel(true);
 
-        if (s3Object != null) {
+        if (s3Object != null && s3Object.getObjectContent() != null) {
             s3Object.getObjectContent().abort();
         }
         setState(TransferState.Canceled);
@@ -115,6 +160,25 @@ public class DownloadImpl extends AbstractTransfer implements Download {
         this.s3Object = s3Object;
     }
 
+    /**
+     * Records that a part of a multi-part download is written to the file.
+     *
+     * @param part index of the part
+     */
+    public synchronized void setPartCompleted(int part) {
+        completedParts.add(part);
+    }
+
+    /**
+     * Returns whether a part of a multi-part download is already written to
+     * the file.
+     *
+     * @param part index of the part
+     */
+    public synchronized boolean isPartCompleted(int part) {
+        return completedParts.contains(part);
+    }
+
     /**
      * This method is also responsible for firing COMPLETED signal to the
      * listeners.
@@ -132,19 +196,28 @@ public class DownloadImpl extends AbstractTransfer implements Download {
      * Returns the captured state of the download; or null if it should not be
      * captured (for security reason).
      */
-    private PersistableDownload captureDownloadState(
-            final GetObjectRequest getObjectRequest, final File file) {
+    private PersistableDownload captureDownloadState() {
         if (getObjectRequest.getSSECustomerKey() == null) {
             return new PersistableDownload(
                     getObjectRequest.getBucketName(),
                     getObjectRequest.getKey(), getObjectRequest.getVersionId(),
                     getObjectRequest.getRange(),
                     getObjectRequest.getResponseHeaders(),
-                    getObjectRequest.isRequesterPays(), file.getAbsolutePath());
+                    getObjectRequest.isRequesterPays(), file.getAbsolutePath(),
+                    partSize, eTag, getCompletedParts());
         }
         return null;
     }
 
+    private synchronized int[] getCompletedParts() {
+        int[] parts = new int[completedParts.size()];
+        int i = 0;
+        for (int part : completedParts) {
+            parts[i++] = part;
+        }
+        return parts;
+    }
+
     /*
      * (non-Javadoc)
      * @see com.amazonaws.mobileconnectors.s3.transfermanager.Download#pause()
@@ -159,6 +232,10 @@ public class DownloadImpl extends AbstractTransfer implements Download {
             throw new PauseException(TransferManagerUtils.determinePauseStatus(
                     currentState, forceCancel));
         }
+        if (partSize > 0) {
+            // the parts written so far don't need to be downloaded again
+            return captureDownloadState();
+        }
         return persistableDownload;
     }
 }
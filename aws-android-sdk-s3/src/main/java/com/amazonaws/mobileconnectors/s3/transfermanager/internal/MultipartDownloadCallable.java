@@ -0,0 +1,303 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transfermanager.internal;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.internal.ServiceUtils;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.Md5Utils;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Downloads an Amazon S3 object into a file as ranged parts fetched in
+ * parallel. Each part is written at its position in the file, and the parts
+ * already written are recorded in the {@link DownloadImpl} so that a paused
+ * download only fetches the missing ones when resumed.
+ * <p>
+ * The thread calling {@link #call()} fetches parts itself while helper tasks
+ * submitted to the thread pool fetch the others, so the download completes
+ * even if the thread pool is busy with other transfers. Every part request
+ * carries the ETag of the object as a constraint, so parts from a modified
+ * object are never mixed with the ones already written.
+ * </p>
+ */
+public class MultipartDownloadCallable implements Callable<Boolean> {
+
+    private static final Log log = LogFactory.getLog(MultipartDownloadCallable.class);
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final AmazonS3 s3;
+    private final ExecutorService threadPool;
+    private final DownloadImpl download;
+    private final GetObjectRequest getObjectRequest;
+    private final File file;
+    private final String eTag;
+    private final long startingByte;
+    private final long lastByte;
+    private final long partSize;
+    private final int parallelism;
+    private final boolean performIntegrityCheck;
+
+    /** Index of the next part to fetch. */
+    private final AtomicInteger nextPart = new AtomicInteger();
+    private final int partCount;
+    private final CountDownLatch remainingParts;
+    private final List<Future<?>> futures = new ArrayList<Future<?>>();
+    private final Set<S3Object> inFlight = Collections.synchronizedSet(new HashSet<S3Object>());
+    private volatile Throwable error;
+    private FileChannel channel;
+
+    /**
+     * @param s3 the client to fetch the parts with
+     * @param threadPool the thread pool to fetch parts in parallel
+     * @param download the download
+     * @param getObjectRequest the original request
+     * @param file the file to write the object to
+     * @param eTag the ETag of the object
+     * @param startingByte the first byte to download
+     * @param lastByte the last byte to download
+     * @param partSize the size of each part
+     * @param parallelism the maximum number of parts fetched at the same time
+     * @param performIntegrityCheck whether to check the MD5 digest of the
+     *            file against the ETag of the object
+     */
+    public MultipartDownloadCallable(AmazonS3 s3, ExecutorService threadPool,
+            DownloadImpl download, GetObjectRequest getObjectRequest, File file, String eTag,
+            long startingByte, long lastByte, long partSize, int parallelism,
+            boolean performIntegrityCheck) {
+        this.s3 = s3;
+        this.threadPool = threadPool;
+        this.download = download;
+        this.getObjectRequest = getObjectRequest;
+        this.file = file;
+        this.eTag = eTag;
+        this.startingByte = startingByte;
+        this.lastByte = lastByte;
+        this.partSize = partSize;
+        this.parallelism = Math.max(1, parallelism);
+        this.performIntegrityCheck = performIntegrityCheck;
+        this.partCount = getPartCount(lastByte - startingByte + 1, partSize);
+        this.remainingParts = new CountDownLatch(partCount);
+    }
+
+    /**
+     * Returns the number of parts of the given size needed to download the
+     * given number of bytes.
+     */
+    static int getPartCount(long totalBytes, long partSize) {
+        return (int) ((totalBytes + partSize - 1) / partSize);
+    }
+
+    /**
+     * Downloads the missing parts of the object.
+     *
+     * @return true once all the parts are written to the file
+     */
+    @Override
+    public Boolean call() throws Exception {
+        File parentDirectory = file.getParentFile();
+        if (parentDirectory != null && !parentDirectory.exists()) {
+            parentDirectory.mkdirs();
+        }
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        try {
+            channel = randomAccessFile.getChannel();
+            // helpers start from the second part, the calling thread takes
+            // the first one
+            for (int i = 1; i < Math.min(parallelism, partCount); i++) {
+                try {
+                    futures.add(threadPool.submit(new Runnable() {
+                        @Override
+                        public void run() {
+                            downloadParts();
+                        }
+                    }));
+                } catch (RejectedExecutionException e) {
+                    // the calling thread downloads the remaining parts
+                    break;
+                }
+            }
+            downloadParts();
+            remainingParts.await();
+        } finally {
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+            synchronized (inFlight) {
+                for (S3Object s3Object : inFlight) {
+                    s3Object.getObjectContent().abort();
+                }
+            }
+            randomAccessFile.close();
+        }
+
+        if (error instanceof Error) {
+            throw (Error) error;
+        } else if (error != null) {
+            throw (Exception) error;
+        }
+        if (performIntegrityCheck) {
+            checkIntegrity();
+        }
+        return true;
+    }
+
+    /**
+     * Downloads parts until there are none left or a part failed.
+     */
+    private void downloadParts() {
+        int part;
+        while ((part = nextPart.getAndIncrement()) < partCount) {
+            try {
+                if (error == null && !download.isPartCompleted(part)) {
+                    downloadPart(part);
+                    download.setPartCompleted(part);
+                }
+            } catch (Throwable t) {
+                if (error == null) {
+                    error = t;
+                }
+            } finally {
+                remainingParts.countDown();
+            }
+        }
+    }
+
+    private void downloadPart(int part) throws IOException {
+        long start = startingByte + part * partSize;
+        long end = Math.min(start + partSize - 1, lastByte);
+        try {
+            downloadRange(start, end);
+        } catch (AmazonClientException ace) {
+            if (!ace.isRetryable() || Thread.currentThread().isInterrupted()) {
+                throw ace;
+            }
+            log.info("Retry the download of part " + part + " of object "
+                    + getObjectRequest.getKey() + " (bucket " + getObjectRequest.getBucketName()
+                    + ")", ace);
+            downloadRange(start, end);
+        }
+    }
+
+    /**
+     * Fetches a range of the object and writes it at its position in the
+     * file.
+     */
+    private void downloadRange(long start, long end) throws IOException {
+        S3Object s3Object = s3.getObject(newRangeRequest(start, end));
+        if (s3Object == null) {
+            throw new AmazonClientException("Object " + getObjectRequest.getKey()
+                    + " was modified during the download");
+        }
+        inFlight.add(s3Object);
+        long position = start - startingByte;
+        long expected = end - start + 1;
+        try {
+            InputStream content = s3Object.getObjectContent();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int bytesRead;
+            while ((bytesRead = content.read(buffer)) > -1) {
+                if (position + bytesRead > end - startingByte + 1) {
+                    throw new AmazonClientException("Received more data than requested for "
+                            + "range " + start + "-" + end);
+                }
+                ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, bytesRead);
+                while (byteBuffer.hasRemaining()) {
+                    position += channel.write(byteBuffer, position);
+                }
+            }
+        } catch (IOException e) {
+            throw new AmazonClientException(
+                    "Unable to store object contents to disk: " + e.getMessage(), e);
+        } finally {
+            inFlight.remove(s3Object);
+            try {
+                s3Object.getObjectContent().close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+        long received = position - (start - startingByte);
+        if (received != expected) {
+            // a truncated response, worth retrying
+            throw new AmazonClientException("Received " + received + " bytes instead of "
+                    + expected + " for range " + start + "-" + end);
+        }
+    }
+
+    private GetObjectRequest newRangeRequest(long start, long end) {
+        GetObjectRequest request = new GetObjectRequest(getObjectRequest.getBucketName(),
+                getObjectRequest.getKey(), getObjectRequest.getVersionId());
+        request.setRange(start, end);
+        request.setResponseHeaders(getObjectRequest.getResponseHeaders());
+        request.setRequesterPays(getObjectRequest.isRequesterPays());
+        request.setSSECustomerKey(getObjectRequest.getSSECustomerKey());
+        request.setGeneralProgressListener(getObjectRequest.getGeneralProgressListener());
+        if (eTag != null) {
+            request.setMatchingETagConstraints(Arrays.asList(eTag));
+        }
+        return request;
+    }
+
+    /**
+     * Amazon S3 doesn't return a digest of a range, so the integrity of the
+     * whole file is checked once all the parts are written, as it's done for
+     * downloads with a single request.
+     */
+    private void checkIntegrity() {
+        if (eTag == null || ServiceUtils.isMultipartUploadETag(eTag)) {
+            return;
+        }
+        byte[] clientSideHash;
+        try {
+            clientSideHash = Md5Utils.computeMD5Hash(new FileInputStream(file));
+        } catch (IOException e) {
+            log.warn("Unable to calculate MD5 hash to validate download: " + e.getMessage(), e);
+            return;
+        }
+        if (!Arrays.equals(clientSideHash, BinaryUtils.fromHex(ServiceUtils.removeQuotes(eTag)))) {
+            throw new AmazonClientException("Unable to verify integrity of data download.  " +
+                    "Client calculated content hash didn't match hash calculated by Amazon S3.  " +
+                    "The data stored in '" + file.getAbsolutePath() + "' may be corrupt.");
+        }
+    }
+}
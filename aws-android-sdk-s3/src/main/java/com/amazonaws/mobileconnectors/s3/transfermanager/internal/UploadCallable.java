@@ -24,6 +24,8 @@ import com.amazonaws.mobileconnectors.s3.transfermanager.TransferManager;
 import com.amazonaws.mobileconnectors.s3.transfermanager.TransferManagerConfiguration;
 import com.amazonaws.mobileconnectors.s3.transfermanager.TransferProgress;
 import com.amazonaws.mobileconnectors.s3.transfermanager.model.UploadResult;
+import com.amazonaws.mobileconnectors.s3.transferutility.AdaptiveTransferConfiguration;
+import com.amazonaws.mobileconnectors.s3.transferutility.AdaptiveTransferController;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3EncryptionClient;
 import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
@@ -144,13 +146,16 @@ public class UploadCallable implements Callable<UploadResult> {
     /**
      * Captures the state of the upload.
      */
-    private void captureUploadStateIfPossible() {
+    private void captureUploadStateIfPossible(long partSize) {
         if (putObjectRequest.getSSECustomerKey() == null) {
+            /*
+             * The actual part size is persisted, as the adaptive control may
+             * pick a bigger one than the minimum.
+             */
             persistableUpload = new PersistableUpload(putObjectRequest.getBucketName(),
                     putObjectRequest.getKey(), putObjectRequest.getFile()
                             .getAbsolutePath(), multipartUploadId,
-                    configuration.getMinimumUploadPartSize(),
-                    configuration.getMultipartUploadThreshold());
+                    partSize, configuration.getMultipartUploadThreshold());
             notifyPersistableTransferAvailability();
         }
     }
@@ -186,7 +191,7 @@ public class UploadCallable implements Callable<UploadResult> {
                     putObjectRequest, multipartUploadId, optimalPartSize);
 
             if (TransferManagerUtils.isUploadParallelizable(putObjectRequest, isUsingEncryption)) {
-                captureUploadStateIfPossible();
+                captureUploadStateIfPossible(optimalPartSize);
                 uploadPartsInParallel(requestFactory, multipartUploadId);
                 return null;
             } else {
@@ -229,8 +234,17 @@ public class UploadCallable implements Callable<UploadResult> {
      * Computes and returns the optimal part size for the upload.
      */
     private long getOptimalPartSize(boolean isUsingEncryption) {
-        long optimalPartSize = TransferManagerUtils.calculateOptimalPartSize(putObjectRequest,
-                configuration);
+        long optimalPartSize;
+        AdaptiveTransferConfiguration adaptive = configuration.getAdaptiveTransferConfiguration();
+        if (adaptive != null && multipartUploadId == null) {
+            // a resumed upload keeps the part size it started with
+            optimalPartSize = adaptive.getController().getPartSize(
+                    TransferManagerUtils.getContentLength(putObjectRequest),
+                    configuration.getMinimumUploadPartSize());
+        } else {
+            optimalPartSize = TransferManagerUtils.calculateOptimalPartSize(putObjectRequest,
+                    configuration);
+        }
         if (isUsingEncryption && optimalPartSize % 32 > 0) {
             // When using encryption, parts must line up correctly along cipher
             // block boundaries
@@ -285,6 +299,10 @@ public class UploadCallable implements Callable<UploadResult> {
             String uploadId) {
 
         Map<Integer, PartSummary> partNumbers = identifyExistingPartsForResume(uploadId);
+        AdaptiveTransferController controller = null;
+        if (configuration.getAdaptiveTransferConfiguration() != null) {
+            controller = configuration.getAdaptiveTransferConfiguration().getController();
+        }
 
         while (requestFactory.hasMoreRequests()) {
             if (threadPool.isShutdown())
@@ -297,7 +315,7 @@ public class UploadCallable implements Callable<UploadResult> {
                 transferProgress.updateProgress(summary.getSize());
                 continue;
             }
-            futures.add(threadPool.submit(new UploadPartCallable(s3, request)));
+            futures.add(threadPool.submit(new UploadPartCallable(s3, request, controller)));
         }
     }
 
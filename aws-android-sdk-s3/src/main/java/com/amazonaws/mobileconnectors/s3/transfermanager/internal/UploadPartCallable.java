@@ -15,23 +15,58 @@
 
 package com.amazonaws.mobileconnectors.s3.transfermanager.internal;
 
+import com.amazonaws.AbortedException;
+import com.amazonaws.mobileconnectors.s3.transferutility.AdaptiveTransferController;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.PartETag;
 import com.amazonaws.services.s3.model.UploadPartRequest;
 
+import java.io.InterruptedIOException;
 import java.util.concurrent.Callable;
 
 public class UploadPartCallable implements Callable<PartETag> {
     private final AmazonS3 s3;
     private final UploadPartRequest request;
+    private final AdaptiveTransferController controller;
 
     public UploadPartCallable(AmazonS3 s3, UploadPartRequest request) {
+        this(s3, request, null);
+    }
+
+    /**
+     * @param s3 the client to upload the part with
+     * @param request the request of the part
+     * @param controller the controller which limits the number of parts
+     *            uploaded at the same time, or null
+     */
+    public UploadPartCallable(AmazonS3 s3, UploadPartRequest request,
+            AdaptiveTransferController controller) {
         this.s3 = s3;
         this.request = request;
+        this.controller = controller;
     }
 
     @Override
     public PartETag call() throws Exception {
-        return s3.uploadPart(request).getPartETag();
+        if (controller == null) {
+            return s3.uploadPart(request).getPartETag();
+        }
+        controller.acquire();
+        long start = System.currentTimeMillis();
+        try {
+            PartETag partETag = s3.uploadPart(request).getPartETag();
+            controller.release(request.getPartSize(), System.currentTimeMillis() - start, true);
+            return partETag;
+        } catch (Exception e) {
+            if (e instanceof AbortedException || e.getCause() instanceof InterruptedIOException
+                    || Thread.currentThread().isInterrupted()) {
+                // paused or canceled, which says nothing about the network
+                controller.cancel();
+            } else {
+                controller.release(request.getPartSize(), System.currentTimeMillis() - start,
+                        false);
+            }
+            throw e;
+        }
     }
 }
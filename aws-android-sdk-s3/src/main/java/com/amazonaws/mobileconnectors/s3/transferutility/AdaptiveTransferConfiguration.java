@@ -0,0 +1,193 @@
+/**
+ * Copyright 2015-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import static com.amazonaws.services.s3.internal.Constants.MB;
+
+/**
+ * Configuration of the adaptive control of multipart uploads, shared by
+ * {@link TransferUtility} and
+ * {@link com.amazonaws.mobileconnectors.s3.transfermanager.TransferManager}.
+ * <p>
+ * When it's set, the number of parts uploaded at the same time grows by one
+ * as long as it increases the overall throughput and is halved when a part
+ * fails or the throughput drops, within the configured bounds. The part size
+ * of a new upload is picked so that a part takes about the target part
+ * duration at the throughput measured for the previous parts. The measurements
+ * are kept by the {@link AdaptiveTransferController} of this configuration,
+ * so transfers configured with the same instance learn from each other.
+ * </p>
+ */
+public class AdaptiveTransferConfiguration {
+
+    /** Default number of parts uploaded at the same time at first. */
+    private static final int DEFAULT_INITIAL_CONCURRENCY = 2;
+
+    /** Default minimum number of parts uploaded at the same time. */
+    private static final int DEFAULT_MINIMUM_CONCURRENCY = 1;
+
+    /** Default maximum number of parts uploaded at the same time. */
+    private static final int DEFAULT_MAXIMUM_CONCURRENCY = 8;
+
+    /** Default time in milliseconds a part should take to upload. */
+    private static final long DEFAULT_TARGET_PART_DURATION = 10 * 1000L;
+
+    /** Default maximum size of the parts. */
+    private static final long DEFAULT_MAXIMUM_PART_SIZE = 100 * MB;
+
+    private int initialConcurrency = DEFAULT_INITIAL_CONCURRENCY;
+    private int minimumConcurrency = DEFAULT_MINIMUM_CONCURRENCY;
+    private int maximumConcurrency = DEFAULT_MAXIMUM_CONCURRENCY;
+
+    /**
+     * The time a part should take to upload. Longer parts need fewer
+     * requests, shorter parts lose less work when they fail.
+     */
+    private long targetPartDuration = DEFAULT_TARGET_PART_DURATION;
+
+    /**
+     * The maximum size of the parts, which bounds the part size picked from
+     * the measured throughput. The minimum size is the one of the transfer
+     * utility or the transfer manager.
+     */
+    private long maximumPartSize = DEFAULT_MAXIMUM_PART_SIZE;
+
+    private AdaptiveTransferController controller;
+
+    /**
+     * Returns the number of parts uploaded at the same time before any part
+     * is measured.
+     *
+     * @return The initial number of parts uploaded at the same time.
+     */
+    public int getInitialConcurrency() {
+        return initialConcurrency;
+    }
+
+    /**
+     * Sets the number of parts uploaded at the same time before any part is
+     * measured.
+     *
+     * @param initialConcurrency The initial number of parts uploaded at the
+     *            same time.
+     */
+    public void setInitialConcurrency(int initialConcurrency) {
+        if (initialConcurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1");
+        }
+        this.initialConcurrency = initialConcurrency;
+    }
+
+    /**
+     * Returns the minimum number of parts uploaded at the same time.
+     *
+     * @return The minimum number of parts uploaded at the same time.
+     */
+    public int getMinimumConcurrency() {
+        return minimumConcurrency;
+    }
+
+    /**
+     * Sets the minimum number of parts uploaded at the same time.
+     *
+     * @param minimumConcurrency The minimum number of parts uploaded at the
+     *            same time.
+     */
+    public void setMinimumConcurrency(int minimumConcurrency) {
+        if (minimumConcurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1");
+        }
+        this.minimumConcurrency = minimumConcurrency;
+    }
+
+    /**
+     * Returns the maximum number of parts uploaded at the same time.
+     *
+     * @return The maximum number of parts uploaded at the same time.
+     */
+    public int getMaximumConcurrency() {
+        return maximumConcurrency;
+    }
+
+    /**
+     * Sets the maximum number of parts uploaded at the same time.
+     *
+     * @param maximumConcurrency The maximum number of parts uploaded at the
+     *            same time.
+     */
+    public void setMaximumConcurrency(int maximumConcurrency) {
+        if (maximumConcurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1");
+        }
+        this.maximumConcurrency = maximumConcurrency;
+    }
+
+    /**
+     * Returns the time in milliseconds a part should take to upload.
+     *
+     * @return The target duration of a part in milliseconds.
+     */
+    public long getTargetPartDuration() {
+        return targetPartDuration;
+    }
+
+    /**
+     * Sets the time in milliseconds a part should take to upload.
+     *
+     * @param targetPartDuration The target duration of a part in
+     *            milliseconds.
+     */
+    public void setTargetPartDuration(long targetPartDuration) {
+        if (targetPartDuration <= 0) {
+            throw new IllegalArgumentException("Target part duration must be positive");
+        }
+        this.targetPartDuration = targetPartDuration;
+    }
+
+    /**
+     * Returns the maximum size in bytes of the parts.
+     *
+     * @return The maximum part size in bytes.
+     */
+    public long getMaximumPartSize() {
+        return maximumPartSize;
+    }
+
+    /**
+     * Sets the maximum size in bytes of the parts.
+     *
+     * @param maximumPartSize The maximum part size in bytes.
+     */
+    public void setMaximumPartSize(long maximumPartSize) {
+        if (maximumPartSize <= 0) {
+            throw new IllegalArgumentException("Maximum part size must be positive");
+        }
+        this.maximumPartSize = maximumPartSize;
+    }
+
+    /**
+     * Returns the controller which applies this configuration and keeps the
+     * measurements of the transfers configured with it.
+     *
+     * @return The controller of this configuration.
+     */
+    public synchronized AdaptiveTransferController getController() {
+        if (controller == null) {
+            controller = new AdaptiveTransferController(this);
+        }
+        return controller;
+    }
+}
@@ -0,0 +1,210 @@
+/**
+ * Copyright 2015-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import static com.amazonaws.services.s3.internal.Constants.MAXIMUM_UPLOAD_PARTS;
+
+/**
+ * Adapts the part size and the number of parts uploaded at the same time to
+ * the measured network conditions, as configured by an
+ * {@link AdaptiveTransferConfiguration}. It's thread safe.
+ * <p>
+ * A part upload calls {@link #acquire()} before it starts and
+ * {@link #release(long, long, boolean)} when it's done, or {@link #cancel()}
+ * when it's interrupted. The concurrency limit
+ * is adjusted additive increase, multiplicative decrease style once per round,
+ * a round being as many completed parts as the limit: the limit grows by one
+ * when the throughput of the round is noticeably higher than the one of the
+ * previous round, and it's halved when a part fails or the throughput drops.
+ * </p>
+ */
+public class AdaptiveTransferController {
+
+    /** Relative throughput gain of a round that increases the limit. */
+    static final double INCREASE_THRESHOLD = 0.05;
+
+    /** Relative throughput loss of a round that decreases the limit. */
+    static final double DECREASE_THRESHOLD = 0.25;
+
+    /** Weight of a new sample in the moving averages. */
+    static final double SMOOTHING_FACTOR = 0.3;
+
+    private final AdaptiveTransferConfiguration configuration;
+
+    private int limit;
+    private int inFlight;
+
+    /** Moving average of the throughput of a part in bytes per millisecond. */
+    private double partThroughput;
+
+    /** Moving average of the duration of a part in milliseconds. */
+    private double partDuration;
+
+    private long roundStart;
+    private long roundBytes;
+    private int roundParts;
+
+    /** Throughput of the previous round in bytes per millisecond. */
+    private double lastRoundThroughput;
+
+    /**
+     * @param configuration the configuration to apply
+     */
+    AdaptiveTransferController(AdaptiveTransferConfiguration configuration) {
+        this.configuration = configuration;
+        this.limit = configuration.getInitialConcurrency();
+    }
+
+    /**
+     * Returns the part size of a new multipart upload, which takes about the
+     * target part duration at the measured throughput of a part. It's at least
+     * the given minimum and big enough to keep the number of parts within the
+     * limit of a multipart upload.
+     *
+     * @param contentLength the size in bytes of the object to upload
+     * @param minimumPartSize the minimum part size in bytes
+     * @return the part size in bytes
+     */
+    public synchronized long getPartSize(long contentLength, long minimumPartSize) {
+        long partSize = (long) Math.max(minimumPartSize,
+                Math.ceil((double) contentLength / MAXIMUM_UPLOAD_PARTS));
+        if (partThroughput > 0) {
+            long targetPartSize = Math.min((long) (partThroughput
+                    * configuration.getTargetPartDuration()), configuration.getMaximumPartSize());
+            partSize = Math.max(partSize, targetPartSize);
+        }
+        return partSize;
+    }
+
+    /**
+     * Waits until a part can start without exceeding the concurrency limit.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public synchronized void acquire() throws InterruptedException {
+        while (inFlight >= getLimit()) {
+            wait();
+        }
+        if (inFlight == 0) {
+            // the time spent idle doesn't count in the throughput
+            startRound();
+        }
+        inFlight++;
+    }
+
+    /**
+     * Records the outcome of a part which started with {@link #acquire()} and
+     * adjusts the concurrency limit.
+     *
+     * @param bytes the size in bytes of the part
+     * @param durationMillis the time the part took in milliseconds
+     * @param succeeded whether the part was uploaded
+     */
+    public synchronized void release(long bytes, long durationMillis, boolean succeeded) {
+        inFlight--;
+        if (!succeeded) {
+            decrease();
+            notifyAll();
+            return;
+        }
+
+        long duration = Math.max(1, durationMillis);
+        partThroughput = average(partThroughput, (double) bytes / duration);
+        partDuration = average(partDuration, duration);
+
+        roundBytes += bytes;
+        roundParts++;
+        if (roundParts >= getLimit()) {
+            double throughput = (double) roundBytes
+                    / Math.max(1, currentTimeMillis() - roundStart);
+            if (lastRoundThroughput == 0
+                    || throughput >= lastRoundThroughput * (1 + INCREASE_THRESHOLD)) {
+                limit = Math.min(getLimit() + 1, configuration.getMaximumConcurrency());
+                lastRoundThroughput = throughput;
+            } else if (throughput < lastRoundThroughput * (1 - DECREASE_THRESHOLD)) {
+                decrease();
+            } else {
+                lastRoundThroughput = throughput;
+            }
+            startRound();
+        }
+        notifyAll();
+    }
+
+    /**
+     * Gives back the slot of a part which started with {@link #acquire()} but
+     * was interrupted, without measuring it.
+     */
+    public synchronized void cancel() {
+        inFlight--;
+        notifyAll();
+    }
+
+    /**
+     * @return the number of parts allowed to upload at the same time
+     */
+    public synchronized int getConcurrencyLimit() {
+        return getLimit();
+    }
+
+    /**
+     * @return the measured throughput of a part in bytes per second, or 0
+     *         before any part is measured
+     */
+    public synchronized long getPartThroughput() {
+        return (long) (partThroughput * 1000);
+    }
+
+    /**
+     * @return the measured duration of a part in milliseconds, or 0 before
+     *         any part is measured
+     */
+    public synchronized long getPartDuration() {
+        return (long) partDuration;
+    }
+
+    long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * Returns the limit within the configured bounds, which may have changed
+     * since the limit was computed.
+     */
+    private int getLimit() {
+        int maximum = configuration.getMaximumConcurrency();
+        int minimum = Math.min(configuration.getMinimumConcurrency(), maximum);
+        return Math.max(minimum, Math.min(limit, maximum));
+    }
+
+    private void decrease() {
+        limit = Math.max(getLimit() / 2, configuration.getMinimumConcurrency());
+        // the throughput at the lower limit is measured from scratch
+        lastRoundThroughput = 0;
+        startRound();
+    }
+
+    private void startRound() {
+        roundStart = currentTimeMillis();
+        roundBytes = 0;
+        roundParts = 0;
+    }
+
+    private static double average(double average, double sample) {
+        return average == 0 ? sample
+                : SMOOTHING_FACTOR * sample + (1 - SMOOTHING_FACTOR) * average;
+    }
+}
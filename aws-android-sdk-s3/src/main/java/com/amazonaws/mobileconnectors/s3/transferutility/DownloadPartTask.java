@@ -0,0 +1,154 @@
+/**
+ * Copyright 2015-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import android.util.Log;
+
+import com.amazonaws.AbortedException;
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+
+/**
+ * Downloads a part of a multipart download, a range of the object which is
+ * written at its position in the file. The request carries the ETag of the
+ * object as a constraint so that a part of a modified object is never mixed
+ * with the parts already written.
+ */
+class DownloadPartTask implements Callable<Boolean> {
+
+    private final static String TAG = "DownloadPartTask";
+
+    private final GetObjectRequest request;
+    private final TransferRecord part;
+    private final TransferRecord download;
+    private final AmazonS3 s3;
+    private final TransferDBUtil dbUtil;
+
+    public DownloadPartTask(GetObjectRequest request, TransferRecord part,
+            TransferRecord download, AmazonS3 s3, TransferDBUtil dbUtil) {
+        this.request = request;
+        this.part = part;
+        this.download = download;
+        this.s3 = s3;
+        this.dbUtil = dbUtil;
+    }
+
+    /*
+     * Runs part download task and returns whether successfully downloaded.
+     */
+    @Override
+    public Boolean call() throws Exception {
+        try {
+            S3Object object = s3.getObject(request);
+            if (object == null) {
+                /*
+                 * The ETag constraint isn't met. Forget the ETag so that the
+                 * download starts over when it's resumed.
+                 */
+                download.eTag = null;
+                dbUtil.updateETag(download.id, null);
+                throw new AmazonClientException("Object " + part.key
+                        + " was modified during the download");
+            }
+            saveToFile(object.getObjectContent(), new File(part.file));
+            dbUtil.updateState(part.id, TransferState.PART_COMPLETED);
+            return true;
+        } catch (Exception e) {
+            dbUtil.updateState(part.id, TransferState.FAILED);
+            if (e instanceof AbortedException
+                    || e.getCause() != null && (e.getCause() instanceof InterruptedIOException
+                    || e.getCause() instanceof InterruptedException)) {
+                // thread interrupted by user
+                return false;
+            }
+            Log.e(TAG, "Encountered error downloading part " + e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the range at its position in the file and checks that the whole
+     * range was received.
+     *
+     * @param is input stream of the range
+     * @param file file to be written
+     */
+    private void saveToFile(InputStream is, File file) {
+        long expected = part.rangeLast - part.rangeStart + 1;
+        long received = 0;
+        RandomAccessFile raf = null;
+        try {
+            raf = new RandomAccessFile(file, "rw");
+            raf.seek(part.rangeStart);
+            byte[] buffer = new byte[1024 * 16];
+            int bytesRead;
+            while ((bytesRead = is.read(buffer)) != -1) {
+                if (received + bytesRead > expected) {
+                    throw new AmazonClientException("Received more data than requested for part "
+                            + part.partNumber);
+                }
+                raf.write(buffer, 0, bytesRead);
+                received += bytesRead;
+            }
+        } catch (IOException e) {
+            throw new AmazonClientException(
+                    "Unable to store object contents to disk: " + e.getMessage(), e);
+        } finally {
+            try {
+                if (raf != null) {
+                    raf.close();
+                }
+            } catch (IOException ioe) {
+                // ignore
+            }
+            try {
+                is.close();
+            } catch (IOException ioe) {
+                // ignore
+            }
+        }
+        if (received != expected) {
+            throw new AmazonClientException("Received " + received + " bytes instead of "
+                    + expected + " for part " + part.partNumber);
+        }
+    }
+
+    /**
+     * Creates the request of a part of a multipart download.
+     *
+     * @param part the record of the part
+     * @param eTag the ETag of the object
+     * @return a ranged request with the ETag constraint
+     */
+    static GetObjectRequest createPartRequest(TransferRecord part, String eTag) {
+        GetObjectRequest request = new GetObjectRequest(part.bucketName, part.key);
+        request.setRange(part.rangeStart, part.rangeLast);
+        if (eTag != null) {
+            request.setMatchingETagConstraints(Arrays.asList(eTag));
+        }
+        return request;
+    }
+}
@@ -15,26 +15,39 @@
 
 package com.amazonaws.mobileconnectors.s3.transferutility;
 
+import android.content.ContentValues;
 import android.util.Log;
 
 import com.amazonaws.AbortedException;
 import com.amazonaws.AmazonClientException;
+import com.amazonaws.event.ProgressListener;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
 import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
 
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
  * Performs download operation and returns a Boolean value indicating whether
- * the file has been downloaded successfully.
+ * the file has been downloaded successfully. A download resumes from the bytes
+ * already in the file as long as the object keeps the ETag it had when the
+ * download started. A multipart download fetches the object as concurrent
+ * ranged parts whose progress is tracked in the part records of the download.
  */
 class DownloadTask implements Callable<Boolean> {
 
@@ -42,6 +55,7 @@ class DownloadTask implements Callable<Boolean> {
 
     private final AmazonS3 s3;
     private final TransferRecord download;
+    private final TransferDBUtil dbUtil;
     private final TransferStatusUpdater updater;
 
     /**
@@ -50,10 +64,14 @@ class DownloadTask implements Callable<Boolean> {
      * @param download A TransferRecord object storing all the information of
      *            the download
      * @param s3 Low-level S3 client
+     * @param dbUtil database util
+     * @param updater status updater
      */
-    public DownloadTask(TransferRecord download, AmazonS3 s3, TransferStatusUpdater updater) {
+    public DownloadTask(TransferRecord download, AmazonS3 s3, TransferDBUtil dbUtil,
+            TransferStatusUpdater updater) {
         this.download = download;
         this.s3 = s3;
+        this.dbUtil = dbUtil;
         this.updater = updater;
     }
 
@@ -63,25 +81,35 @@ class DownloadTask implements Callable<Boolean> {
     @Override
     public Boolean call() throws Exception {
         updater.updateState(download.id, TransferState.IN_PROGRESS);
+        if (download.isMultipart == 1 && download.partNumber == 0) {
+            return downloadMultipartAndWaitForCompletion();
+        }
+        return downloadSinglePartAndWaitForCompletion();
+    }
 
-        final GetObjectRequest getObjectRequest = new GetObjectRequest(download.bucketName,
-                download.key);
-        TransferUtility.appendTransferServiceUserAgentString(getObjectRequest);
+    private Boolean downloadSinglePartAndWaitForCompletion() {
         File file = new File(download.file);
         long bytesCurrent = file.length();
         if (bytesCurrent > 0) {
             Log.d(TAG, String.format("Resume transfer %d from %d bytes", download.id,
                     bytesCurrent));
-            /*
-             * Setting the last byte position to －1 means downloading the object
-             * from bytesCurrent to the end.
-             */
-            getObjectRequest.setRange(bytesCurrent, -1);
         }
-        getObjectRequest.setGeneralProgressListener(updater.newProgressListener(download.id));
+        ProgressListener transferProgress = updater.newProgressListener(download.id);
 
         try {
-            S3Object object = s3.getObject(getObjectRequest);
+            S3Object object = s3.getObject(createGetObjectRequest(bytesCurrent,
+                    transferProgress));
+            if (object == null && bytesCurrent > 0 && download.eTag != null) {
+                /*
+                 * The object was modified since the bytes in the file were
+                 * downloaded, which are useless now.
+                 */
+                Log.d(TAG, "Object of transfer " + download.id
+                        + " was modified, restart from 0 bytes");
+                file.delete();
+                bytesCurrent = 0;
+                object = s3.getObject(createGetObjectRequest(bytesCurrent, transferProgress));
+            }
             if (object == null) {
                 updater.throwError(download.id, new IllegalStateException(
                         "AmazonS3.getObject returns null"));
@@ -89,6 +117,11 @@ class DownloadTask implements Callable<Boolean> {
                 return false;
             }
 
+            String eTag = object.getObjectMetadata().getETag();
+            if (eTag != null && !eTag.equals(download.eTag)) {
+                download.eTag = eTag;
+                dbUtil.updateETag(download.id, eTag);
+            }
             long bytesTotal = object.getObjectMetadata().getInstanceLength();
             updater.updateProgress(download.id, bytesCurrent, bytesTotal);
             saveToFile(object.getObjectContent(), file);
@@ -112,6 +145,164 @@ class DownloadTask implements Callable<Boolean> {
         return false;
     }
 
+    /**
+     * Creates the request of a download that resumes from the given byte.
+     *
+     * @param bytesCurrent bytes already in the file
+     * @param listener progress listener of the download
+     * @return a request of the remaining bytes of the object
+     */
+    private GetObjectRequest createGetObjectRequest(long bytesCurrent,
+            ProgressListener listener) {
+        GetObjectRequest getObjectRequest = new GetObjectRequest(download.bucketName,
+                download.key);
+        TransferUtility.appendTransferServiceUserAgentString(getObjectRequest);
+        if (bytesCurrent > 0) {
+            /*
+             * Setting the last byte position to －1 means downloading the object
+             * from bytesCurrent to the end.
+             */
+            getObjectRequest.setRange(bytesCurrent, -1);
+            /*
+             * The bytes in the file must come from the same version of the
+             * object.
+             */
+            if (download.eTag != null) {
+                getObjectRequest.setMatchingETagConstraints(Arrays.asList(download.eTag));
+            }
+        }
+        getObjectRequest.setGeneralProgressListener(listener);
+        return getObjectRequest;
+    }
+
+    private Boolean downloadMultipartAndWaitForCompletion() throws ExecutionException {
+        /*
+         * The part records are created once the size and the ETag of the
+         * object are known. The parts already written to the file are kept as
+         * long as the object has the same ETag, which the part requests check.
+         */
+        File file = new File(download.file);
+        long bytesAlreadyTransferred = 0;
+        if (download.eTag == null || !file.exists()) {
+            try {
+                createPartRecords(file);
+            } catch (AmazonClientException ace) {
+                if (ace instanceof AbortedException) {
+                    Log.d(TAG, "Transfer " + download.id + " is interrupted by user");
+                    return false;
+                }
+                Log.e(TAG, "Error starting multipart download: " + download.id
+                        + " due to " + ace.getMessage());
+                updater.throwError(download.id, ace);
+                updater.updateState(download.id, TransferState.FAILED);
+                return false;
+            }
+        } else {
+            bytesAlreadyTransferred = dbUtil.queryBytesTransferredByMainUploadId(download.id);
+            if (bytesAlreadyTransferred > 0) {
+                Log.d(TAG, String.format("Resume transfer %d from %d bytes",
+                        download.id, bytesAlreadyTransferred));
+            }
+        }
+        updater.updateProgress(download.id, bytesAlreadyTransferred, download.bytesTotal);
+
+        ProgressListener transferProgress = updater.newProgressListener(download.id);
+        List<TransferRecord> parts = dbUtil.getNonCompletedDownloadPartsFromDB(download.id);
+        Log.d(TAG, "multipart download " + download.id + " in " + parts.size() + " parts.");
+        ArrayList<Future<Boolean>> futures = new ArrayList<Future<Boolean>>();
+        for (TransferRecord part : parts) {
+            GetObjectRequest request = DownloadPartTask.createPartRequest(part, download.eTag);
+            TransferUtility.appendMultipartTransferServiceUserAgentString(request);
+            request.setGeneralProgressListener(transferProgress);
+            futures.add(TransferThreadPool.submitTask(new DownloadPartTask(request, part,
+                    download, s3, dbUtil), download.id));
+        }
+        try {
+            boolean isSuccess = true;
+            for (Future<Boolean> f : futures) {
+                // DownloadPartTask returns false when it's interrupted by user
+                // and the state is set by caller
+                boolean b = f.get();
+                isSuccess &= b;
+            }
+            if (!isSuccess) {
+                return false;
+            }
+        } catch (InterruptedException e) {
+            for (Future<?> f : futures) {
+                f.cancel(true);
+            }
+            // abort by user
+            Log.d(TAG, "Transfer " + download.id + " is interrupted by user");
+            return false;
+        } catch (ExecutionException ee) {
+            for (Future<?> f : futures) {
+                f.cancel(true);
+            }
+            if (ee.getCause() != null && ee.getCause() instanceof Exception) {
+                Exception e = (Exception) ee.getCause();
+                if (e instanceof AbortedException || e.getCause() != null
+                        && (e.getCause() instanceof InterruptedIOException
+                        || e.getCause() instanceof InterruptedException)) {
+                    // abort by user
+                    Log.d(TAG, "Transfer " + download.id + " is interrupted by user");
+                    return false;
+                }
+                Log.e(TAG, "Failed to download: " + download.id + " due to " + e.getMessage());
+                updater.throwError(download.id, e);
+            }
+            updater.updateState(download.id, TransferState.FAILED);
+            return false;
+        }
+
+        // the part records are only needed to resume the download
+        dbUtil.deletePartRecords(download.id);
+        updater.updateProgress(download.id, download.bytesTotal, download.bytesTotal);
+        updater.updateState(download.id, TransferState.COMPLETED);
+        return true;
+    }
+
+    /**
+     * Fetches the metadata of the object and creates the records of its
+     * parts, replacing the ones of a previous attempt along with the file.
+     *
+     * @param file file to download the object to
+     */
+    private void createPartRecords(File file) {
+        GetObjectMetadataRequest getObjectMetadataRequest = new GetObjectMetadataRequest(
+                download.bucketName, download.key);
+        TransferUtility.appendMultipartTransferServiceUserAgentString(getObjectMetadataRequest);
+        ObjectMetadata metadata = s3.getObjectMetadata(getObjectMetadataRequest);
+        long bytesTotal = metadata.getContentLength();
+        long partSize = TransferUtility.getOptimalPartSize(bytesTotal);
+        int partCount = (int) ((bytesTotal + partSize - 1) / partSize);
+
+        dbUtil.deletePartRecords(download.id);
+        if (file.exists()) {
+            file.delete();
+        }
+        if (partCount > 0) {
+            ContentValues[] valuesArray = new ContentValues[partCount];
+            for (int i = 0; i < partCount; i++) {
+                long rangeStart = i * partSize;
+                long rangeLast = Math.min(rangeStart + partSize, bytesTotal) - 1;
+                valuesArray[i] = dbUtil.generateContentValuesForDownloadPart(
+                        download.bucketName, download.key, file, i + 1, rangeStart, rangeLast);
+            }
+            if (dbUtil.bulkInsertPartRecords(download.id, valuesArray) == 0) {
+                throw new AmazonClientException("Unable to create the part records of download "
+                        + download.id);
+            }
+        } else {
+            // an empty object has no parts, but its file must exist
+            saveToFile(new ByteArrayInputStream(new byte[0]), file);
+        }
+        download.bytesTotal = bytesTotal;
+        dbUtil.updateBytesTotalForDownload(download.id, bytesTotal);
+        download.eTag = metadata.getETag();
+        dbUtil.updateETag(download.id, download.eTag);
+    }
+
     /**
      * Writes stream data into a file.
      *
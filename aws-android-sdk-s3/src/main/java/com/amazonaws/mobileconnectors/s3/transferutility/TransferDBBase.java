@@ -64,7 +64,8 @@ class TransferDBBase {
         uriMatcher.addURI(mAuthority, BASE_PATH + "/#", TRANSFER_ID);
 
         /*
-         * The Uri of TRANSFER_PART is for part records of a multipart upload.
+         * The Uri of TRANSFER_PART is for part records of a multipart upload
+         * or download.
          */
         uriMatcher.addURI(mAuthority, BASE_PATH + "/part/#", TRANSFER_PART);
 
@@ -224,9 +225,15 @@ class TransferDBBase {
     }
 
     /**
+     * Inserts records in a transaction. With the Uri of the table, the first
+     * values are a summary record and the others are its parts. With the Uri
+     * of the part records of a transfer, all the values are parts of that
+     * transfer.
+     *
      * @param uri The Uri of a table.
      * @param valuesArray A array of values to insert.
-     * @return Number of rows inserted.
+     * @return The id of the summary record for the Uri of the table, or the
+     *         number of rows inserted for the Uri of part records.
      */
     public int bulkInsert(Uri uri, ContentValues[] valuesArray) {
         int uriType = uriMatcher.match(uri);
@@ -250,6 +257,23 @@ class TransferDBBase {
                     db.endTransaction();
                 }
                 break;
+            case TRANSFER_PART:
+                int mainTransferId = Integer.parseInt(uri.getLastPathSegment());
+                try {
+                    db.beginTransaction();
+                    for (ContentValues values : valuesArray) {
+                        values.put(TransferTable.COLUMN_MAIN_UPLOAD_ID, mainTransferId);
+                        db.insertOrThrow(TransferTable.TABLE_TRANSFER, null, values);
+                    }
+                    db.setTransactionSuccessful();
+                    return valuesArray.length;
+                } catch (Exception e) {
+                    Log.e(TransferDBBase.class.getSimpleName(),
+                            "bulkInsert error : " + e.getMessage());
+                    return 0;
+                } finally {
+                    db.endTransaction();
+                }
             default:
                 throw new IllegalArgumentException("Unknown URI: " + uri);
         }
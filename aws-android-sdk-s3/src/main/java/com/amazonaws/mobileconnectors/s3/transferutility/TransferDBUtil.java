@@ -132,6 +132,23 @@ class TransferDBUtil {
                 new ObjectMetadata());
     }
 
+    /**
+     * Inserts a download record into database with the given values. The
+     * object of a multipart download is fetched as concurrent ranged parts,
+     * whose records are created once its size is known.
+     *
+     * @param bucket The name of the bucket containing the object to download.
+     * @param key The key under which the object to download is stored.
+     * @param file The file to download the object's data to.
+     * @return An Uri of the record inserted.
+     */
+    public Uri insertMultipartDownloadRecord(String bucket, String key, File file) {
+        ContentValues values = generateContentValuesForSinglePartTransfer(TransferType.DOWNLOAD,
+                bucket, key, file, new ObjectMetadata(), null);
+        values.put(TransferTable.COLUMN_IS_MULTIPART, 1);
+        return transferDBBase.insert(transferDBBase.getContentUri(), values);
+    }
+
     /**
      * Inserts multiple records at a time.
      *
@@ -142,6 +159,17 @@ class TransferDBUtil {
         return transferDBBase.bulkInsert(transferDBBase.getContentUri(), valuesArray);
     }
 
+    /**
+     * Inserts the part records of a transfer at a time.
+     *
+     * @param mainTransferId The id of the summary record of the parts.
+     * @param valuesArray An array of values of the parts to insert.
+     * @return Number of rows inserted, 0 if the parts couldn't be inserted.
+     */
+    public int bulkInsertPartRecords(int mainTransferId, ContentValues[] valuesArray) {
+        return transferDBBase.bulkInsert(getPartUri(mainTransferId), valuesArray);
+    }
+
     /**
      * Writes transfer status including transfer state, current transferred
      * bytes and total bytes into database.
@@ -256,6 +284,19 @@ class TransferDBUtil {
         return transferDBBase.update(getRecordUri(id), values, null, null);
     }
 
+    /**
+     * Updates the priority of a transfer.
+     *
+     * @param id The id of the transfer.
+     * @param priority The priority of the transfer.
+     * @return Number of rows updated.
+     */
+    public int updatePriority(int id, int priority) {
+        ContentValues values = new ContentValues();
+        values.put(TransferTable.COLUMN_PRIORITY, priority);
+        return transferDBBase.update(getRecordUri(id), values, null, null);
+    }
+
     /**
      * Updates states of all transfer records which are "running" and "waiting"
      * to "network disconnect"
@@ -464,6 +505,19 @@ class TransferDBUtil {
         return transferDBBase.delete(getRecordUri(id), null, null);
     }
 
+    /**
+     * Deletes the part records of a multipart transfer.
+     *
+     * @param mainTransferId The id of the summary record of the parts.
+     * @return Number of rows deleted.
+     */
+    public int deletePartRecords(int mainTransferId) {
+        return transferDBBase.delete(transferDBBase.getContentUri(),
+                TransferTable.COLUMN_MAIN_UPLOAD_ID + "=?", new String[] {
+                    String.valueOf(mainTransferId)
+                });
+    }
+
     /**
      * Queries all the PartETags of completed parts from the multipart upload
      * specified by the mainUploadId. The list of PartETags is used to complete
@@ -537,6 +591,64 @@ class TransferDBUtil {
         return list;
     }
 
+    /**
+     * Queries the part records of a multipart download which are not
+     * completed yet. It's used when starting or resuming a multipart download.
+     *
+     * @param mainDownloadId The id of the multipart download.
+     * @return A list of the records of the parts to download.
+     */
+    public List<TransferRecord> getNonCompletedDownloadPartsFromDB(int mainDownloadId) {
+        List<TransferRecord> list = new ArrayList<TransferRecord>();
+        Cursor c = transferDBBase.query(getPartUri(mainDownloadId), null, null, null, null);
+        try {
+            while (c.moveToNext()) {
+                if (TransferState.PART_COMPLETED.equals(TransferState.getState(c.getString(c
+                        .getColumnIndexOrThrow(TransferTable.COLUMN_STATE))))) {
+                    continue;
+                }
+                TransferRecord part = new TransferRecord(
+                        c.getInt(c.getColumnIndexOrThrow(TransferTable.COLUMN_ID)));
+                part.updateFromDB(c);
+                list.add(part);
+            }
+        } finally {
+            c.close();
+        }
+        return list;
+    }
+
+    /**
+     * Generates a ContentValues object to insert into the database with the
+     * given values for a part record of a multipart download.
+     *
+     * @param bucket The name of the bucket containing the object to download.
+     * @param key The key under which the object to download is stored.
+     * @param file The file to download the object's data to.
+     * @param partNumber The part number of this part.
+     * @param rangeStart The first byte of the object in this part.
+     * @param rangeLast The last byte of the object in this part.
+     * @return The ContentValues object generated.
+     */
+    public ContentValues generateContentValuesForDownloadPart(String bucket, String key,
+            File file, int partNumber, long rangeStart, long rangeLast) {
+        ContentValues values = new ContentValues();
+        values.put(TransferTable.COLUMN_TYPE, TransferType.DOWNLOAD.toString());
+        values.put(TransferTable.COLUMN_STATE, TransferState.WAITING.toString());
+        values.put(TransferTable.COLUMN_BUCKET_NAME, bucket);
+        values.put(TransferTable.COLUMN_KEY, key);
+        values.put(TransferTable.COLUMN_FILE, file.getAbsolutePath());
+        values.put(TransferTable.COLUMN_BYTES_CURRENT, 0l);
+        values.put(TransferTable.COLUMN_BYTES_TOTAL, rangeLast - rangeStart + 1);
+        values.put(TransferTable.COLUMN_IS_MULTIPART, 1);
+        values.put(TransferTable.COLUMN_PART_NUM, partNumber);
+        values.put(TransferTable.COLUMN_FILE_OFFSET, rangeStart);
+        values.put(TransferTable.COLUMN_DATA_RANGE_START, rangeStart);
+        values.put(TransferTable.COLUMN_DATA_RANGE_LAST, rangeLast);
+        values.put(TransferTable.COLUMN_IS_ENCRYPTED, 0);
+        return values;
+    }
+
     /**
      * Generates a ContentValues object to insert into the database with the
      * given values for a multipart upload record.
@@ -0,0 +1,42 @@
+/**
+ * Copyright 2015-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+
+/**
+ * A task of a transfer, which {@link TransferTaskQueue} schedules along with
+ * the other tasks of the same transfer.
+ */
+class TransferFutureTask<T> extends FutureTask<T> {
+
+    private final int transferId;
+
+    /**
+     * @param callable the task
+     * @param transferId id of the transfer the task belongs to, the main
+     *            transfer for a part
+     */
+    TransferFutureTask(Callable<T> callable, int transferId) {
+        super(callable);
+        this.transferId = transferId;
+    }
+
+    int getTransferId() {
+        return transferId;
+    }
+}
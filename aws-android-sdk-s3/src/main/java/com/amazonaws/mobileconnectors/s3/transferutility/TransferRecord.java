@@ -76,6 +76,7 @@ class TransferRecord {
     public String sseKMSKey;
     public String md5;
     public String cannedAcl;
+    public int priority;
 
     private Future<?> submittedTask;
 
@@ -143,6 +144,7 @@ class TransferRecord {
         this.sseKMSKey = c.getString(c.getColumnIndexOrThrow(TransferTable.COLUMN_SSE_KMS_KEY));
         this.md5 = c.getString(c.getColumnIndexOrThrow(TransferTable.COLUMN_CONTENT_MD5));
         this.cannedAcl = c.getString(c.getColumnIndexOrThrow(TransferTable.COLUMN_CANNED_ACL));
+        this.priority = c.getInt(c.getColumnIndexOrThrow(TransferTable.COLUMN_PRIORITY));
     }
 
     /**
@@ -156,11 +158,13 @@ class TransferRecord {
      */
     public boolean start(AmazonS3 s3, TransferDBUtil dbUtil, TransferStatusUpdater updater) {
         if (!isRunning() && checkIsReadyToRun()) {
+            TransferThreadPool.initPriority(id, priority);
             if (type.equals(TransferType.DOWNLOAD)) {
-                submittedTask = TransferThreadPool.submitTask(new DownloadTask(this, s3, updater));
+                submittedTask = TransferThreadPool.submitTask(new DownloadTask(this, s3, dbUtil,
+                        updater), id);
             } else {
                 submittedTask = TransferThreadPool.submitTask(new UploadTask(this, s3, dbUtil,
-                        updater));
+                        updater), id);
             }
             return true;
         }
@@ -190,18 +194,20 @@ class TransferRecord {
      * Cancels a running transfer.
      *
      * @param s3 s3 instance
+     * @param dbUtil database util
      * @param updater status updater
      * @return true if the transfer is running and is canceled successfully,
      *         false otherwise
      */
-    public boolean cancel(final AmazonS3 s3, final TransferStatusUpdater updater) {
+    public boolean cancel(final AmazonS3 s3, TransferDBUtil dbUtil,
+            final TransferStatusUpdater updater) {
         if (!isFinalState(state)) {
             updater.updateState(id, TransferState.CANCELED);
             if (isRunning()) {
                 submittedTask.cancel(true);
             }
             // additional cleanups
-            if (isMultipart == 1) {
+            if (TransferType.UPLOAD.equals(type) && isMultipart == 1) {
                 new Thread(new Runnable() {
                     @Override
                     public void run() {
@@ -217,6 +223,9 @@ class TransferRecord {
             } else if (TransferType.DOWNLOAD.equals(type)) {
                 // remove partially download file
                 new File(file).delete();
+                if (isMultipart == 1) {
+                    dbUtil.deletePartRecords(id);
+                }
             }
             return true;
         }
@@ -273,6 +282,7 @@ class TransferRecord {
                 .append("bytesCurrent:").append(bytesCurrent).append(",")
                 .append("fileOffset:").append(fileOffset).append(",")
                 .append("state:").append(state).append(",")
+                .append("priority:").append(priority).append(",")
                 .append("cannedAcl:").append(cannedAcl).append(",")
                 .append("mainUploadId:").append(mainUploadId).append(",")
                 .append("isMultipart:").append(isMultipart).append(",")
@@ -196,6 +196,12 @@ class TransferTable {
      */
     public static final String COLUMN_CANNED_ACL = "canned_acl";
 
+    /**
+     * Priority of this transfer, the tasks of transfers with a higher
+     * priority run first.
+     */
+    public static final String COLUMN_PRIORITY = "priority";
+
     /*
      * Database creation SQL statement
      */
@@ -260,6 +266,9 @@ class TransferTable {
         if (oldVersion < 4 && newVersion >= 4) {
             addVersion4Columns(database);
         }
+        if (oldVersion < 5 && newVersion >= 5) {
+            addVersion5Columns(database);
+        }
     }
 
     /**
@@ -300,4 +309,13 @@ class TransferTable {
                 " ADD COLUMN " + COLUMN_CANNED_ACL + " text;";
         database.execSQL(addCannedAcl);
     }
+
+    /**
+     * Adds columns that were introduced in version 5 to the database
+     */
+    private static void addVersion5Columns(SQLiteDatabase database) {
+        String addPriority = "ALTER TABLE " + TABLE_TRANSFER +
+                " ADD COLUMN " + COLUMN_PRIORITY + " integer;";
+        database.execSQL(addPriority);
+    }
 }
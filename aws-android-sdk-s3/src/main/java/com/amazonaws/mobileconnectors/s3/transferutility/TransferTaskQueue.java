@@ -0,0 +1,312 @@
+/**
+ * Copyright 2015-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A task queue of a transfer thread pool which serves the transfers fairly
+ * rather than the tasks in submission order. The tasks of each transfer are
+ * kept in their own queue, and the transfers take turns: the next task comes
+ * from the transfer with the highest priority which was served the longest
+ * time ago. A transfer with many parts thus doesn't hold back the other
+ * transfers of the same priority. Priorities are looked up when a task is
+ * taken, so a change applies to the tasks already queued.
+ */
+class TransferTaskQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+
+    /** Id of the transfer of tasks which don't belong to a transfer. */
+    static final int NO_TRANSFER = -1;
+
+    private final Map<Integer, Integer> priorities;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+
+    /** Queued tasks of each transfer in submission order. */
+    private final Map<Integer, Deque<Runnable>> tasks = new HashMap<Integer, Deque<Runnable>>();
+
+    /** Transfers with queued tasks, the one served the longest ago first. */
+    private final LinkedList<Integer> turns = new LinkedList<Integer>();
+
+    private int count;
+
+    /**
+     * @param priorities priorities of the transfers by id, a transfer without
+     *            one has priority 0
+     */
+    TransferTaskQueue(Map<Integer, Integer> priorities) {
+        this.priorities = priorities;
+    }
+
+    /**
+     * Gets the id of the transfer of the task.
+     */
+    static int getTransferId(Runnable task) {
+        return task instanceof TransferFutureTask
+                ? ((TransferFutureTask<?>) task).getTransferId()
+                : NO_TRANSFER;
+    }
+
+    @Override
+    public boolean offer(Runnable task) {
+        if (task == null) {
+            throw new NullPointerException();
+        }
+        int transferId = getTransferId(task);
+        lock.lock();
+        try {
+            Deque<Runnable> queue = tasks.get(transferId);
+            if (queue == null) {
+                queue = new ArrayDeque<Runnable>();
+                tasks.put(transferId, queue);
+                turns.addLast(transferId);
+            }
+            queue.addLast(task);
+            count++;
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(Runnable task, long timeout, TimeUnit unit) {
+        return offer(task);
+    }
+
+    @Override
+    public void put(Runnable task) {
+        offer(task);
+    }
+
+    @Override
+    public Runnable poll() {
+        lock.lock();
+        try {
+            return count == 0 ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable peek() {
+        lock.lock();
+        try {
+            return count == 0 ? null : tasks.get(nextTransfer()).peekFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> c, int maxElements) {
+        lock.lock();
+        try {
+            int n = 0;
+            while (n < maxElements && count > 0) {
+                c.add(dequeue());
+                n++;
+            }
+            return n;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        lock.lock();
+        try {
+            for (Iterator<Map.Entry<Integer, Deque<Runnable>>> it = tasks.entrySet().iterator(); it
+                    .hasNext();) {
+                Map.Entry<Integer, Deque<Runnable>> entry = it.next();
+                if (entry.getValue().remove(o)) {
+                    count--;
+                    if (entry.getValue().isEmpty()) {
+                        it.remove();
+                        turns.remove(entry.getKey());
+                    }
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of queued tasks of a transfer.
+     *
+     * @param transferId id of the transfer
+     * @return the number of queued tasks of the transfer
+     */
+    int size(int transferId) {
+        lock.lock();
+        try {
+            Deque<Runnable> queue = tasks.get(transferId);
+            return queue == null ? 0 : queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the queued tasks in the order of
+     * the transfers' turns. Removing a task through the iterator removes it
+     * from the queue.
+     */
+    @Override
+    public Iterator<Runnable> iterator() {
+        final List<Runnable> snapshot = new ArrayList<Runnable>();
+        lock.lock();
+        try {
+            for (Integer transferId : turns) {
+                snapshot.addAll(tasks.get(transferId));
+            }
+        } finally {
+            lock.unlock();
+        }
+        final Iterator<Runnable> it = snapshot.iterator();
+        return new Iterator<Runnable>() {
+            private Runnable last;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public Runnable next() {
+                last = it.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+                TransferTaskQueue.this.remove(last);
+                last = null;
+            }
+        };
+    }
+
+    /**
+     * Takes the next task, the queue must not be empty. Must hold the lock.
+     */
+    private Runnable dequeue() {
+        Integer transferId = nextTransfer();
+        turns.remove(transferId);
+        Deque<Runnable> queue = tasks.get(transferId);
+        Runnable task = queue.pollFirst();
+        if (queue.isEmpty()) {
+            tasks.remove(transferId);
+        } else {
+            turns.addLast(transferId);
+        }
+        count--;
+        return task;
+    }
+
+    /**
+     * Finds the transfer with the highest priority which was served the
+     * longest time ago. Must hold the lock.
+     */
+    private Integer nextTransfer() {
+        Integer next = null;
+        int nextPriority = 0;
+        for (Integer transferId : turns) {
+            int priority = getPriority(transferId);
+            if (next == null || priority > nextPriority) {
+                next = transferId;
+                nextPriority = priority;
+            }
+        }
+        return next;
+    }
+
+    private int getPriority(int transferId) {
+        Integer priority = priorities.get(transferId);
+        return priority == null ? 0 : priority;
+    }
+}
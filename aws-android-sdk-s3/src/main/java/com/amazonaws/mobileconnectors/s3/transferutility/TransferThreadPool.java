@@ -15,45 +15,205 @@
 
 package com.amazonaws.mobileconnectors.s3.transferutility;
 
+import java.util.Map;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Runs the tasks of the transfers: uploads and downloads in the main thread
+ * pool, and their parts in the part thread pool. Both pools serve the
+ * transfers in turns by priority rather than the tasks in submission order,
+ * see {@link TransferTaskQueue}.
+ */
 class TransferThreadPool {
 
-    private static ExecutorService executorMainTask;
-    private static ExecutorService executorPartTask;
+    private static ThreadPoolExecutor executorMainTask;
+    private static ThreadPoolExecutor executorPartTask;
+    private static TransferTaskQueue mainTaskQueue;
+    private static TransferTaskQueue partTaskQueue;
+    private static AdaptiveTransferConfiguration adaptiveTransferConfiguration;
+
+    /** Maximum numbers of threads, 0 for the default. */
+    private static int maximumMainThreads;
+    private static int maximumPartThreads;
+
+    /** Priorities of the transfers by id. */
+    private static final Map<Integer, Integer> priorities = new ConcurrentHashMap<Integer, Integer>();
 
     private synchronized static void init() {
-        int processors = Runtime.getRuntime().availableProcessors();
         if (executorMainTask == null) {
-            executorMainTask = buildExecutor(processors + 1);
+            mainTaskQueue = new TransferTaskQueue(priorities);
+            executorMainTask = buildExecutor(getMainThreads(), mainTaskQueue);
         }
         if (executorPartTask == null) {
-            executorPartTask = buildExecutor(processors + 1);
+            partTaskQueue = new TransferTaskQueue(priorities);
+            executorPartTask = buildExecutor(getPartThreads(), partTaskQueue);
         }
     }
 
-    public static <T> Future<T> submitTask(Callable<T> c) {
+    /**
+     * Submits a task of a transfer.
+     *
+     * @param c the task
+     * @param transferId id of the transfer, the main transfer for a part
+     * @return the future result of the task
+     */
+    public static <T> Future<T> submitTask(Callable<T> c, int transferId) {
         init();
-        if (c instanceof UploadPartTask) {
-            return executorPartTask.submit(c);
+        TransferFutureTask<T> task = new TransferFutureTask<T>(c, transferId);
+        if (c instanceof UploadPartTask || c instanceof DownloadPartTask) {
+            executorPartTask.execute(task);
         } else {
-            return executorMainTask.submit(c);
+            executorMainTask.execute(task);
+        }
+        return task;
+    }
+
+    /**
+     * Sets the priority of a transfer. The tasks of transfers with a higher
+     * priority run first, even the ones already queued.
+     *
+     * @param transferId id of the transfer
+     * @param priority the priority, 0 by default
+     */
+    static void setPriority(int transferId, int priority) {
+        priorities.put(transferId, priority);
+    }
+
+    /**
+     * Sets the priority a transfer has when it starts, unless it was already
+     * set since.
+     *
+     * @param transferId id of the transfer
+     * @param priority the priority stored with the transfer
+     */
+    static void initPriority(int transferId, int priority) {
+        if (!priorities.containsKey(transferId)) {
+            priorities.put(transferId, priority);
+        }
+    }
+
+    /**
+     * Forgets the priority of a deleted transfer.
+     *
+     * @param transferId id of the transfer
+     */
+    static void removePriority(int transferId) {
+        priorities.remove(transferId);
+    }
+
+    /**
+     * Sets the maximum numbers of threads, which bound the number of
+     * transfers and the number of parts running at the same time.
+     *
+     * @param mainThreads the number of threads running uploads and downloads,
+     *            or 0 for the number of processors plus one
+     * @param partThreads the number of threads running parts, or 0 for the
+     *            number of processors plus one, or the maximum concurrency
+     *            of the adaptive control if larger
+     */
+    synchronized static void setMaximumThreads(int mainThreads, int partThreads) {
+        maximumMainThreads = mainThreads;
+        maximumPartThreads = partThreads;
+        resize(executorMainTask, getMainThreads());
+        resize(executorPartTask, getPartThreads());
+    }
+
+    /**
+     * @return the number of uploads and downloads waiting for a thread
+     */
+    static int getQueuedTaskCount() {
+        TransferTaskQueue queue = mainTaskQueue;
+        return queue == null ? 0 : queue.size();
+    }
+
+    /**
+     * @return the number of parts waiting for a thread
+     */
+    static int getQueuedPartCount() {
+        TransferTaskQueue queue = partTaskQueue;
+        return queue == null ? 0 : queue.size();
+    }
+
+    /**
+     * @param transferId id of the transfer
+     * @return the number of parts of the transfer waiting for a thread
+     */
+    static int getQueuedPartCount(int transferId) {
+        TransferTaskQueue queue = partTaskQueue;
+        return queue == null ? 0 : queue.size(transferId);
+    }
+
+    /**
+     * Sets the configuration of the adaptive control of part uploads. The
+     * part thread pool grows if needed so that it never limits the number of
+     * parts uploaded at the same time below the configured maximum, unless
+     * the number of part threads is set.
+     *
+     * @param configuration the configuration, or null to upload parts with
+     *            all the threads of the part thread pool
+     */
+    synchronized static void setAdaptiveTransferConfiguration(
+            AdaptiveTransferConfiguration configuration) {
+        adaptiveTransferConfiguration = configuration;
+        if (executorPartTask != null && executorPartTask.getMaximumPoolSize() < getPartThreads()) {
+            resize(executorPartTask, getPartThreads());
+        }
+    }
+
+    /**
+     * @return the controller of the part uploads, or null if they aren't
+     *         adaptively controlled
+     */
+    synchronized static AdaptiveTransferController getAdaptiveTransferController() {
+        return adaptiveTransferConfiguration == null ? null
+                : adaptiveTransferConfiguration.getController();
+    }
+
+    private static int getMainThreads() {
+        if (maximumMainThreads > 0) {
+            return maximumMainThreads;
+        }
+        return Runtime.getRuntime().availableProcessors() + 1;
+    }
+
+    private static int getPartThreads() {
+        if (maximumPartThreads > 0) {
+            return maximumPartThreads;
+        }
+        int threads = Runtime.getRuntime().availableProcessors() + 1;
+        if (adaptiveTransferConfiguration != null) {
+            threads = Math.max(threads, adaptiveTransferConfiguration.getMaximumConcurrency());
+        }
+        return threads;
+    }
+
+    private static void resize(ThreadPoolExecutor executor, int threads) {
+        if (executor == null) {
+            return;
+        }
+        // the core size can't exceed the maximum size at any time
+        if (threads > executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(threads);
+            executor.setCorePoolSize(threads);
+        } else {
+            executor.setCorePoolSize(threads);
+            executor.setMaximumPoolSize(threads);
         }
     }
 
     public static void closeThreadPool() {
         shutdown(executorPartTask);
         executorPartTask = null;
+        partTaskQueue = null;
         shutdown(executorMainTask);
         executorMainTask = null;
+        mainTaskQueue = null;
     }
-
-    private static void shutdown(ExecutorService executor) {
+    private static void shutdown(ThreadPoolExecutor executor) {
         if (executor == null) {
             return;
         }
@@ -71,14 +231,14 @@ class TransferThreadPool {
         }
     }
 
-    private static ExecutorService buildExecutor(int maxThreadsAllowed) {
+    private static ThreadPoolExecutor buildExecutor(int maxThreadsAllowed,
+            TransferTaskQueue queue) {
         /*
          * Create a bounded thread pool for executing transfers; it creates
          * threads as needed (up to maximum) and reclaims them when finished.
          */
         final ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreadsAllowed,
-                maxThreadsAllowed, 10, TimeUnit.SECONDS,
-                new LinkedBlockingQueue<Runnable>());
+                maxThreadsAllowed, 10, TimeUnit.SECONDS, queue);
         /*
          * It's safe to discard tasks, as they are saved in database and will be
          * recovered on next database scan.
@@ -97,6 +97,7 @@ public class TransferUtility {
     private final AmazonS3 s3;
     private final Context appContext;
     private final TransferDBUtil dbUtil;
+    private final AdaptiveTransferConfiguration adaptiveTransferConfiguration;
 
     /**
      * Constructs a new TransferUtility specifying the client to use and
@@ -105,12 +106,33 @@ public class TransferUtility {
      *
      * @param s3 The client to use when making requests to Amazon S3
      * @param context The current context
-     * @param configuration Configuration parameters for this TransferUtility
      */
     public TransferUtility(AmazonS3 s3, Context context) {
+        this(s3, context, null);
+    }
+
+    /**
+     * Constructs a new TransferUtility specifying the client to use and the
+     * configuration of the adaptive control of multipart uploads. The part
+     * size of the multipart uploads started by this TransferUtility adapts to
+     * the measured throughput of the parts. The number of parts uploaded at
+     * the same time adapts too, for all the uploads of the transfer service
+     * from now on.
+     *
+     * @param s3 The client to use when making requests to Amazon S3
+     * @param context The current context
+     * @param adaptiveTransferConfiguration The configuration of the adaptive
+     *            control
+     */
+    public TransferUtility(AmazonS3 s3, Context context,
+            AdaptiveTransferConfiguration adaptiveTransferConfiguration) {
         this.s3 = s3;
         this.appContext = context.getApplicationContext();
         this.dbUtil = new TransferDBUtil(appContext);
+        this.adaptiveTransferConfiguration = adaptiveTransferConfiguration;
+        if (adaptiveTransferConfiguration != null) {
+            TransferThreadPool.setAdaptiveTransferConfiguration(adaptiveTransferConfiguration);
+        }
     }
 
     /**
@@ -124,11 +146,31 @@ public class TransferUtility {
      * @return A TransferObserver used to track download progress and state
      */
     public TransferObserver download(String bucket, String key, File file) {
+        return download(bucket, key, file, false);
+    }
+
+    /**
+     * Starts downloading the S3 object specified by the bucket and the key to
+     * the given file. The file must be a valid file. Directory isn't supported.
+     * Note that if the given file exists, it'll be overwritten. A multipart
+     * download fetches the object as ranged parts downloaded concurrently,
+     * which takes an extra request to get the size of the object but speeds
+     * up the download of a large object. Either kind of download resumes from
+     * the bytes already downloaded unless the object was modified meanwhile.
+     *
+     * @param bucket The name of the bucket containing the object to download.
+     * @param key The key under which the object to download is stored.
+     * @param file The file to download the object's data to.
+     * @param multipart Whether to download the object in parts.
+     * @return A TransferObserver used to track download progress and state
+     */
+    public TransferObserver download(String bucket, String key, File file, boolean multipart) {
         if (file == null || file.isDirectory()) {
             throw new IllegalArgumentException("Invalid file: " + file);
         }
-        Uri uri = dbUtil.insertSingleTransferRecord(TransferType.DOWNLOAD,
-                bucket, key, file);
+        Uri uri = multipart
+                ? dbUtil.insertMultipartDownloadRecord(bucket, key, file)
+                : dbUtil.insertSingleTransferRecord(TransferType.DOWNLOAD, bucket, key, file);
         int recordId = Integer.parseInt(uri.getLastPathSegment());
         if (file.isFile()) {
             Log.w(TAG, "Overwrite existing file: " + file);
@@ -299,9 +341,10 @@ public class TransferUtility {
     private int createMultipartUploadRecords(String bucket, String key, File file,
             ObjectMetadata metadata, CannedAccessControlList cannedAcl) {
         long remainingLenth = file.length();
-        double partSize = (double) remainingLenth / (double) MAXIMUM_UPLOAD_PARTS;
-        partSize = Math.ceil(partSize);
-        long optimalPartSize = (long) Math.max(partSize, MINIMUM_UPLOAD_PART_SIZE);
+        long optimalPartSize = adaptiveTransferConfiguration == null
+                ? getOptimalPartSize(remainingLenth)
+                : adaptiveTransferConfiguration.getController().getPartSize(remainingLenth,
+                        MINIMUM_UPLOAD_PART_SIZE);
         long fileOffset = 0;
         int partNumber = 1;
 
@@ -328,6 +371,20 @@ public class TransferUtility {
         return dbUtil.bulkInsertTransferRecords(valuesArray);
     }
 
+    /**
+     * Gets the size of the parts of a multipart transfer, which is at least
+     * {@link #MINIMUM_UPLOAD_PART_SIZE} and big enough to keep the number of
+     * parts within the limit of a multipart upload.
+     *
+     * @param length The size in bytes of the object or the file
+     * @return The size in bytes of each part but the last one
+     */
+    static long getOptimalPartSize(long length) {
+        double partSize = (double) length / (double) MAXIMUM_UPLOAD_PARTS;
+        partSize = Math.ceil(partSize);
+        return (long) Math.max(partSize, MINIMUM_UPLOAD_PART_SIZE);
+    }
+
     /**
      * Pauses a transfer task with the given id.
      *
@@ -413,9 +470,76 @@ public class TransferUtility {
      */
     public boolean deleteTransferRecord(int id) {
         cancel(id);
+        TransferThreadPool.removePriority(id);
+        dbUtil.deletePartRecords(id);
         return dbUtil.deleteTransferRecords(id) > 0;
     }
 
+    /**
+     * Sets the priority of a transfer. The transfers take turns to run their
+     * tasks, so a transfer with many parts doesn't hold back the others, but
+     * the tasks of transfers with a higher priority always run first. The
+     * priority of a transfer is 0 by default and applies right away, even to
+     * the tasks already waiting for a thread.
+     *
+     * @param id A transfer id specifying the transfer
+     * @param priority The priority of the transfer, higher runs first
+     * @return Whether the priority was stored
+     */
+    public boolean setPriority(int id, int priority) {
+        TransferThreadPool.setPriority(id, priority);
+        return dbUtil.updatePriority(id, priority) > 0;
+    }
+
+    /**
+     * Sets the maximum numbers of threads of the transfer service, for all
+     * its transfers. They bound the number of uploads and downloads running at
+     * the same time, and the number of their parts running at the same time.
+     *
+     * @param maximumTransfers The maximum number of uploads and downloads
+     *            running at the same time, or 0 for the number of processors
+     *            plus one
+     * @param maximumParts The maximum number of parts running at the same
+     *            time, or 0 for the number of processors plus one
+     */
+    public void setMaximumConcurrency(int maximumTransfers, int maximumParts) {
+        if (maximumTransfers < 0 || maximumParts < 0) {
+            throw new IllegalArgumentException("Concurrency can't be negative");
+        }
+        TransferThreadPool.setMaximumThreads(maximumTransfers, maximumParts);
+    }
+
+    /**
+     * Returns the number of uploads and downloads of the transfer service
+     * which are waiting for a thread to run.
+     *
+     * @return The number of queued transfers
+     */
+    public int getQueuedTransferCount() {
+        return TransferThreadPool.getQueuedTaskCount();
+    }
+
+    /**
+     * Returns the number of parts of multipart transfers which are waiting
+     * for a thread to run.
+     *
+     * @return The number of queued parts
+     */
+    public int getQueuedPartCount() {
+        return TransferThreadPool.getQueuedPartCount();
+    }
+
+    /**
+     * Returns the number of parts of a multipart transfer which are waiting
+     * for a thread to run.
+     *
+     * @param id A transfer id specifying the transfer
+     * @return The number of queued parts of the transfer
+     */
+    public int getQueuedPartCount(int id) {
+        return TransferThreadPool.getQueuedPartCount(id);
+    }
+
     /**
      * Send an intent to {@link TransferService}
      *
@@ -44,10 +44,25 @@ class UploadPartTask implements Callable<Boolean> {
      */
     @Override
     public Boolean call() throws Exception {
+        AdaptiveTransferController controller = TransferThreadPool
+                .getAdaptiveTransferController();
+        if (controller != null) {
+            try {
+                controller.acquire();
+            } catch (InterruptedException e) {
+                // thread interrupted by user
+                return false;
+            }
+        }
+        long start = System.currentTimeMillis();
         try {
             UploadPartResult putPartResult = s3.uploadPart(request);
+            long duration = System.currentTimeMillis() - start;
             dbUtil.updateState(request.getId(), TransferState.PART_COMPLETED);
             dbUtil.updateETag(request.getId(), putPartResult.getETag());
+            if (controller != null) {
+                controller.release(request.getPartSize(), duration, true);
+            }
             return true;
         } catch (Exception e) {
             dbUtil.updateState(request.getId(), TransferState.FAILED);
@@ -55,8 +70,15 @@ class UploadPartTask implements Callable<Boolean> {
                     || e.getCause() != null && (e.getCause() instanceof InterruptedIOException
                     || e.getCause() instanceof InterruptedException)) {
                 // thread interrupted by user
+                if (controller != null) {
+                    controller.cancel();
+                }
                 return false;
             }
+            if (controller != null) {
+                controller.release(request.getPartSize(), System.currentTimeMillis() - start,
+                        false);
+            }
             Log.e(TAG, "Encountered error uploading part " + e.getMessage());
             throw e;
         }
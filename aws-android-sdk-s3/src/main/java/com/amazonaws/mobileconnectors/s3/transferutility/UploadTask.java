@@ -121,7 +121,8 @@ class UploadTask implements Callable<Boolean> {
         for (UploadPartRequest request : requestList) {
             TransferUtility.appendMultipartTransferServiceUserAgentString(request);
             request.setGeneralProgressListener(transferProgress);
-            futures.add(TransferThreadPool.submitTask(new UploadPartTask(request, s3, dbUtil)));
+            futures.add(TransferThreadPool.submitTask(new UploadPartTask(request, s3, dbUtil),
+                    upload.id));
         }
         try {
             boolean isSuccess = true;
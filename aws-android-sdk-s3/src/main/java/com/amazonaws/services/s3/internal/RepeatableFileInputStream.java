@@ -32,6 +32,8 @@ import java.io.InputStream;
 /**
  * A repeatable input stream for files. This input stream can be repeated an
  * unlimited number of times, without any limitation on when a repeat can occur.
+ * Repeats move the position of the file channel back to the mark point, so
+ * they don't reopen the file nor read it again up to the mark point.
  */
 public class RepeatableFileInputStream extends SdkInputStream {
     private static final Log log = LogFactory.getLog(RepeatableFileInputStream.class);
@@ -67,23 +69,20 @@ public class RepeatableFileInputStream extends SdkInputStream {
 
     /**
      * Resets the input stream to the last mark point, or the beginning of the
-     * stream if there is no mark point, by creating a new FileInputStream based
-     * on the underlying file.
+     * stream if there is no mark point, by moving the position of the
+     * underlying file channel.
      *
-     * @throws IOException when the FileInputStream cannot be re-created.
+     * @throws IOException when the position of the file channel cannot be
+     *             changed.
      */
     @Override
     public void reset() throws IOException {
-        this.fis.close();
         abortIfNeeded();
-        this.fis = new FileInputStream(file);
-
-        long skipped = 0;
-        long toSkip = markPoint;
-        while (toSkip > 0) {
-            skipped = this.fis.skip(toSkip);
-            toSkip -= skipped;
+        if (!this.fis.getChannel().isOpen()) {
+            // closed by the caller, the stream can still be repeated
+            this.fis = new FileInputStream(file);
         }
+        this.fis.getChannel().position(markPoint);
 
         if (log.isDebugEnabled()) {
             log.debug("Reset to mark point " + markPoint
@@ -143,7 +142,9 @@ public class RepeatableFileInputStream extends SdkInputStream {
     public int read(byte[] arg0, int arg1, int arg2) throws IOException {
         abortIfNeeded();
         int count = fis.read(arg0, arg1, arg2);
-        bytesReadPastMarkPoint += count;
+        if (count > 0) {
+            bytesReadPastMarkPoint += count;
+        }
         return count;
     }
 
@@ -90,4 +90,21 @@ public class DecodedStreamBufferTest {
         assertArrayEquals(toBuff, baos.toByteArray());
     }
 
+    @Test
+    public void testBulkReadBufferedAmount() {
+        byte[] toBuff = "0123456789".getBytes(StringUtils.UTF8);
+
+        DecodedStreamBuffer buff = new DecodedStreamBuffer(20);
+
+        buff.buffer(toBuff, 0, toBuff.length);
+        buff.startReadBuffer();
+
+        byte[] read = new byte[toBuff.length];
+        assertEquals(4, buff.read(read, 0, 4));
+        assertEquals(6, buff.read(read, 4, 20));
+        assertEquals(0, buff.read(read, 0, 1));
+        assertFalse(buff.hasNext());
+
+        assertArrayEquals(toBuff, read);
+    }
 }
@@ -15,6 +15,7 @@
 
 package com.amazonaws.mobileconnectors.s3.transfermanager;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -86,4 +87,24 @@ public class PersistableTransferTest {
                 download.getResponseHeaders().getExpires());
     }
 
+    @Test
+    public void testMultipartDownload() {
+        PersistableDownload target = new PersistableDownload("bucketName", "key", null, null,
+                null, false, "file", 1000, "etag", new int[] {
+                        0, 2, 3
+                });
+
+        String json = target.serialize();
+        PersistableDownload download = PersistableTransfer.deserializeFrom(json);
+        assertEquals("partSize", target.getPartSize(), download.getPartSize());
+        assertEquals("eTag", target.getETag(), download.getETag());
+        assertArrayEquals("completedParts", target.getCompletedParts(),
+                download.getCompletedParts());
+
+        PersistableDownload singlePart = PersistableTransfer.deserializeFrom(
+                new PersistableDownload("bucketName", "key", null, null, null, false, "file")
+                        .serialize());
+        assertEquals("no partSize", -1, singlePart.getPartSize());
+        assertEquals("no completed parts", 0, singlePart.getCompletedParts().length);
+    }
 }
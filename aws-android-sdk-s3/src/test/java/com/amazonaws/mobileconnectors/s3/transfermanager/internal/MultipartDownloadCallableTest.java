@@ -0,0 +1,193 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.amazonaws.mobileconnectors.s3.transfermanager.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.event.ProgressListenerChain;
+import com.amazonaws.mobileconnectors.s3.transfermanager.TransferProgress;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.Md5Utils;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class MultipartDownloadCallableTest {
+
+    private static final String BUCKET = "bucket";
+    private static final String KEY = "key";
+    private static final int PART_SIZE = 1000;
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    private AmazonS3 s3;
+    private ExecutorService threadPool;
+    private byte[] content;
+    private String eTag;
+    private File file;
+    private Set<Long> requestedRanges;
+
+    @Before
+    public void setup() throws Exception {
+        s3 = Mockito.mock(AmazonS3.class);
+        threadPool = Executors.newFixedThreadPool(4);
+        content = new byte[10 * PART_SIZE + 123];
+        new Random().nextBytes(content);
+        eTag = BinaryUtils.toHex(Md5Utils.computeMD5Hash(content));
+        file = new File(temp.newFolder(), "download");
+        requestedRanges = Collections.synchronizedSet(new HashSet<Long>());
+        Mockito.when(s3.getObject(Mockito.any(GetObjectRequest.class))).thenAnswer(
+                new Answer<S3Object>() {
+                    @Override
+                    public S3Object answer(InvocationOnMock invocation) {
+                        GetObjectRequest request = (GetObjectRequest) invocation.getArguments()[0];
+                        assertEquals("etag constraint", Arrays.asList(eTag),
+                                request.getMatchingETagConstraints());
+                        long[] range = request.getRange();
+                        requestedRanges.add(range[0]);
+                        return newS3Object(range[0], range[1]);
+                    }
+                });
+    }
+
+    @After
+    public void tearDown() {
+        threadPool.shutdownNow();
+    }
+
+    @Test
+    public void testDownloadParts() throws Exception {
+        DownloadImpl download = newDownload(null);
+        newCallable(download, 4).call();
+
+        assertArrayEquals("content", content, FileUtils.readFileToByteArray(file));
+        assertEquals("one request per part", 11, requestedRanges.size());
+        for (int part = 0; part < 11; part++) {
+            assertTrue("part completed", download.isPartCompleted(part));
+        }
+    }
+
+    @Test
+    public void testDownloadMissingParts() throws Exception {
+        // the first half of the object is already on disk
+        byte[] existing = new byte[content.length];
+        System.arraycopy(content, 0, existing, 0, 5 * PART_SIZE);
+        FileUtils.writeByteArrayToFile(file, existing);
+
+        DownloadImpl download = newDownload(new int[] {
+                0, 1, 2, 3, 4
+        });
+        newCallable(download, 1).call();
+
+        assertArrayEquals("content", content, FileUtils.readFileToByteArray(file));
+        assertEquals("only missing parts", 6, requestedRanges.size());
+        for (int part = 0; part < 5; part++) {
+            assertTrue("not requested again",
+                    !requestedRanges.contains((long) part * PART_SIZE));
+        }
+    }
+
+    @Test
+    public void testIntegrityCheck() throws Exception {
+        eTag = BinaryUtils.toHex(Md5Utils.computeMD5Hash(new byte[1]));
+        try {
+            newCallable(newDownload(null), 4).call();
+            fail("Should fail integrity check");
+        } catch (AmazonClientException e) {
+            assertTrue(e.getMessage().contains("integrity"));
+        }
+    }
+
+    @Test
+    public void testTruncatedPartIsRetried() throws Exception {
+        Mockito.doAnswer(new Answer<S3Object>() {
+            private boolean truncated;
+
+            @Override
+            public S3Object answer(InvocationOnMock invocation) {
+                long[] range = ((GetObjectRequest) invocation.getArguments()[0])
+                        .getRange();
+                if (!truncated) {
+                    truncated = true;
+                    return newS3Object(range[0], range[1] - 1);
+                }
+                return newS3Object(range[0], range[1]);
+            }
+        }).when(s3).getObject(Mockito.any(GetObjectRequest.class));
+        newCallable(newDownload(null), 1).call();
+        assertArrayEquals("content", content, FileUtils.readFileToByteArray(file));
+    }
+
+    @Test(expected = AmazonClientException.class)
+    public void testModifiedObject() throws Exception {
+        // getObject returns null when the ETag doesn't match
+        Mockito.doReturn(null).when(s3).getObject(Mockito.any(GetObjectRequest.class));
+        newCallable(newDownload(null), 4).call();
+    }
+
+    @Test
+    public void testGetPartCount() {
+        assertEquals(1, MultipartDownloadCallable.getPartCount(1, PART_SIZE));
+        assertEquals(1, MultipartDownloadCallable.getPartCount(PART_SIZE, PART_SIZE));
+        assertEquals(2, MultipartDownloadCallable.getPartCount(PART_SIZE + 1, PART_SIZE));
+    }
+
+    private S3Object newS3Object(long start, long end) {
+        S3Object s3Object = new S3Object();
+        s3Object.setObjectContent(new S3ObjectInputStream(new ByteArrayInputStream(content,
+                (int) start, (int) (end - start + 1))));
+        return s3Object;
+    }
+
+    private DownloadImpl newDownload(int[] completedParts) {
+        return new DownloadImpl("download", new TransferProgress(), new ProgressListenerChain(),
+                null, null, new GetObjectRequest(BUCKET, KEY), file, PART_SIZE, eTag,
+                completedParts);
+    }
+
+    private MultipartDownloadCallable newCallable(DownloadImpl download, int parallelism) {
+        return new MultipartDownloadCallable(s3, threadPool, download,
+                new GetObjectRequest(BUCKET, KEY), file, eTag, 0, content.length - 1, PART_SIZE,
+                parallelism, true);
+    }
+}
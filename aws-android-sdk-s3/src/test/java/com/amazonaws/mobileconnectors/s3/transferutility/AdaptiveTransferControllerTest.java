@@ -0,0 +1,162 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import static com.amazonaws.services.s3.internal.Constants.MB;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class AdaptiveTransferControllerTest {
+
+    private AdaptiveTransferConfiguration configuration;
+    private TestController controller;
+
+    @Before
+    public void setup() {
+        configuration = new AdaptiveTransferConfiguration();
+        controller = new TestController(configuration);
+    }
+
+    @Test
+    public void testPartSizeWithoutMeasurement() {
+        assertEquals(5 * MB, controller.getPartSize(100 * MB, 5 * MB));
+        // the number of parts stays within the limit of a multipart upload
+        assertEquals(10 * MB, controller.getPartSize(100000L * MB, 5 * MB));
+    }
+
+    @Test
+    public void testPartSizeFollowsThroughput() throws InterruptedException {
+        configuration.setTargetPartDuration(10 * 1000L);
+        // 1 MB per second
+        uploadPart(1000 * 1000, 1000, true);
+        assertEquals(1000 * 1000, controller.getPartThroughput());
+        assertEquals(1000, controller.getPartDuration());
+        assertEquals(10 * 1000 * 1000, controller.getPartSize(100 * MB, 5 * MB));
+        assertEquals(20 * MB, controller.getPartSize(100 * MB, 20 * MB));
+
+        configuration.setMaximumPartSize(8 * MB);
+        assertEquals(8 * MB, controller.getPartSize(100 * MB, 5 * MB));
+    }
+
+    @Test
+    public void testAdditiveIncrease() throws InterruptedException {
+        assertEquals(2, controller.getConcurrencyLimit());
+        // the first round sets the baseline
+        uploadRound(100, 1000);
+        assertEquals(3, controller.getConcurrencyLimit());
+        // a higher throughput increases the limit
+        uploadRound(200, 1000);
+        assertEquals(4, controller.getConcurrencyLimit());
+        // about the same throughput keeps the limit
+        uploadRound(201, 1000);
+        assertEquals(4, controller.getConcurrencyLimit());
+    }
+
+    @Test
+    public void testMultiplicativeDecrease() throws InterruptedException {
+        configuration.setInitialConcurrency(8);
+        controller = new TestController(configuration);
+        uploadRound(100, 1000);
+        assertEquals(8, controller.getConcurrencyLimit());
+
+        // a throughput drop halves the limit
+        uploadRound(50, 1000);
+        assertEquals(4, controller.getConcurrencyLimit());
+
+        // so does a failure
+        uploadPart(100, 10, false);
+        assertEquals(2, controller.getConcurrencyLimit());
+        uploadPart(100, 10, false);
+        assertEquals(1, controller.getConcurrencyLimit());
+        uploadPart(100, 10, false);
+        assertEquals(1, controller.getConcurrencyLimit());
+    }
+
+    @Test
+    public void testLimitWithinBounds() throws InterruptedException {
+        configuration.setMaximumConcurrency(3);
+        for (int i = 1; i <= 5; i++) {
+            uploadRound(100 * i, 1000);
+        }
+        assertEquals(3, controller.getConcurrencyLimit());
+        configuration.setMaximumConcurrency(2);
+        assertEquals(2, controller.getConcurrencyLimit());
+    }
+
+    @Test
+    public void testAcquireWaitsForTheLimit() throws Exception {
+        configuration.setInitialConcurrency(1);
+        controller = new TestController(configuration);
+        controller.acquire();
+        Thread waiting = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    controller.acquire();
+                } catch (InterruptedException e) {
+                    // done
+                }
+            }
+        });
+        waiting.start();
+        waiting.join(200);
+        assertTrue(waiting.isAlive());
+
+        controller.cancel();
+        waiting.join(1000);
+        assertFalse(waiting.isAlive());
+    }
+
+    /**
+     * Uploads as many parts as the limit, each part taking the given time, so
+     * that the round runs at the given throughput in bytes per millisecond.
+     */
+    private void uploadRound(long throughput, long duration) throws InterruptedException {
+        int parts = controller.getConcurrencyLimit();
+        for (int i = 0; i < parts; i++) {
+            controller.acquire();
+        }
+        controller.time += duration;
+        long bytes = throughput * duration / parts;
+        for (int i = 0; i < parts; i++) {
+            controller.release(bytes, duration, true);
+        }
+    }
+
+    private void uploadPart(long bytes, long duration, boolean succeeded)
+            throws InterruptedException {
+        controller.acquire();
+        controller.time += duration;
+        controller.release(bytes, duration, succeeded);
+    }
+
+    private static class TestController extends AdaptiveTransferController {
+        private long time = 1;
+
+        TestController(AdaptiveTransferConfiguration configuration) {
+            super(configuration);
+        }
+
+        @Override
+        long currentTimeMillis() {
+            return time;
+        }
+    }
+}
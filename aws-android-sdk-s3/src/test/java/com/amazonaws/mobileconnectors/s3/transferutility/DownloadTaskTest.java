@@ -0,0 +1,225 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class DownloadTaskTest {
+    private static final String BUCKET = "bucket";
+    private static final String KEY = "key";
+    private static final int PART_SIZE = TransferUtility.MINIMUM_UPLOAD_PART_SIZE;
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    private TransferDBUtil dbUtil;
+    private TransferStatusUpdater updater;
+    private AmazonS3 s3;
+    private File file;
+
+    /* The object in S3, changed by the tests. */
+    private volatile byte[] data;
+    private volatile String eTag;
+    /* The first byte of the range that fails, or -1. */
+    private volatile long failingRangeStart = -1;
+    private final List<Long> rangeStarts = Collections.synchronizedList(new ArrayList<Long>());
+
+    @Before
+    public void setup() throws Exception {
+        dbUtil = TransferDBUtilTest.newDBUtil();
+        updater = Mockito.mock(TransferStatusUpdater.class);
+        file = new File(temp.getRoot(), "file");
+        data = randomBytes(2 * PART_SIZE + 1024);
+        eTag = "etag1";
+
+        s3 = Mockito.mock(AmazonS3.class);
+        Mockito.when(s3.getObjectMetadata(Mockito.any(GetObjectMetadataRequest.class)))
+                .thenAnswer(new Answer<ObjectMetadata>() {
+                    @Override
+                    public ObjectMetadata answer(InvocationOnMock invocation) {
+                        ObjectMetadata metadata = new ObjectMetadata();
+                        metadata.setContentLength(data.length);
+                        metadata.setHeader("ETag", eTag);
+                        return metadata;
+                    }
+                });
+        Mockito.when(s3.getObject(Mockito.any(GetObjectRequest.class)))
+                .thenAnswer(new Answer<S3Object>() {
+                    @Override
+                    public S3Object answer(InvocationOnMock invocation) {
+                        GetObjectRequest request = (GetObjectRequest) invocation.getArguments()[0];
+                        List<String> eTags = request.getMatchingETagConstraints();
+                        if (!eTags.isEmpty() && !eTags.contains(eTag)) {
+                            // the client returns null when a constraint isn't met
+                            return null;
+                        }
+                        long[] range = request.getRange();
+                        rangeStarts.add(range[0]);
+                        if (range[0] == failingRangeStart) {
+                            throw new AmazonClientException("Unable to execute HTTP request");
+                        }
+                        S3Object object = new S3Object();
+                        object.setObjectContent(new ByteArrayInputStream(data, (int) range[0],
+                                (int) (range[1] - range[0] + 1)));
+                        return object;
+                    }
+                });
+    }
+
+    @Test
+    public void testMultipartDownloadCreatesPartRecords() throws Exception {
+        int id = insertDownload();
+        failingRangeStart = 2 * PART_SIZE;
+        assertFalse(download(id));
+        Mockito.verify(updater).updateState(id, TransferState.FAILED);
+
+        TransferRecord download = dbUtil.getTransferById(id);
+        assertEquals("etag1", download.eTag);
+        assertEquals(data.length, download.bytesTotal);
+        List<TransferRecord> parts = dbUtil.getNonCompletedDownloadPartsFromDB(id);
+        assertEquals("only the failed part left", 1, parts.size());
+        assertEquals(3, parts.get(0).partNumber);
+        assertEquals(2 * PART_SIZE, parts.get(0).rangeStart);
+        assertEquals(data.length - 1, parts.get(0).rangeLast);
+        assertEquals(2 * PART_SIZE, dbUtil.queryBytesTransferredByMainUploadId(id));
+    }
+
+    @Test
+    public void testResumeSkipsCompletedParts() throws Exception {
+        int id = insertDownload();
+        failingRangeStart = 2 * PART_SIZE;
+        assertFalse(download(id));
+
+        failingRangeStart = -1;
+        rangeStarts.clear();
+        assertTrue(download(id));
+        assertEquals("only the failed part downloaded again",
+                Arrays.asList((long) 2 * PART_SIZE), rangeStarts);
+        Mockito.verify(s3, Mockito.times(1)).getObjectMetadata(
+                Mockito.any(GetObjectMetadataRequest.class));
+        Mockito.verify(updater).updateState(id, TransferState.COMPLETED);
+        assertArrayEquals(data, FileUtils.readFileToByteArray(file));
+        assertEquals("part records deleted", 0, dbUtil.queryBytesTransferredByMainUploadId(id));
+        assertEquals(0, dbUtil.getNonCompletedDownloadPartsFromDB(id).size());
+    }
+
+    @Test
+    public void testRestartWhenObjectIsModified() throws Exception {
+        int id = insertDownload();
+        failingRangeStart = 2 * PART_SIZE;
+        assertFalse(download(id));
+
+        // the remaining part no longer matches the parts already written
+        failingRangeStart = -1;
+        data = randomBytes(2 * PART_SIZE + 2048);
+        eTag = "etag2";
+        assertFalse(download(id));
+        assertEquals("ETag forgotten", null, dbUtil.getTransferById(id).eTag);
+
+        rangeStarts.clear();
+        assertTrue(download(id));
+        Collections.sort(rangeStarts);
+        assertEquals("all parts downloaded again", Arrays.asList(0L, (long) PART_SIZE,
+                (long) 2 * PART_SIZE), rangeStarts);
+        assertEquals("etag2", dbUtil.getTransferById(id).eTag);
+        assertEquals(data.length, dbUtil.getTransferById(id).bytesTotal);
+        assertArrayEquals(data, FileUtils.readFileToByteArray(file));
+    }
+
+    @Test
+    public void testCancelDeletesPartRecords() throws Exception {
+        int id = insertDownload();
+        failingRangeStart = 2 * PART_SIZE;
+        assertFalse(download(id));
+        assertTrue(file.exists());
+
+        TransferRecord download = dbUtil.getTransferById(id);
+        assertTrue(download.cancel(s3, dbUtil, updater));
+        assertFalse("file deleted", file.exists());
+        assertEquals(0, dbUtil.getNonCompletedDownloadPartsFromDB(id).size());
+        assertEquals(0, dbUtil.queryBytesTransferredByMainUploadId(id));
+    }
+
+    @Test
+    public void testPartWithMissingBytesFails() throws Exception {
+        int id = insertDownload();
+        failingRangeStart = 2 * PART_SIZE;
+        assertFalse(download(id));
+        TransferRecord part = dbUtil.getNonCompletedDownloadPartsFromDB(id).get(0);
+
+        // the server sends less than the range of the part
+        S3Object object = new S3Object();
+        object.setObjectContent(new ByteArrayInputStream(new byte[10]));
+        Mockito.doReturn(object).when(s3).getObject(Mockito.any(GetObjectRequest.class));
+        DownloadPartTask task = new DownloadPartTask(DownloadPartTask.createPartRequest(part,
+                "etag1"), part, dbUtil.getTransferById(id), s3, dbUtil);
+        try {
+            task.call();
+            fail("Expected the part to fail");
+        } catch (AmazonClientException e) {
+            assertTrue(e.getMessage().contains("Received 10 bytes"));
+        }
+        assertEquals(1, dbUtil.getNonCompletedDownloadPartsFromDB(id).size());
+    }
+
+    private int insertDownload() {
+        return Integer.parseInt(dbUtil.insertMultipartDownloadRecord(BUCKET, KEY, file)
+                .getLastPathSegment());
+    }
+
+    private boolean download(int id) throws Exception {
+        return new DownloadTask(dbUtil.getTransferById(id), s3, dbUtil, updater).call();
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random().nextBytes(bytes);
+        return bytes;
+    }
+}
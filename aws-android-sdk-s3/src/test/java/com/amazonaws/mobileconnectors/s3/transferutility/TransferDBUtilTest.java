@@ -0,0 +1,145 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import android.content.ContentValues;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.util.List;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class TransferDBUtilTest {
+    private static final String BUCKET = "bucket";
+    private static final String KEY = "key";
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    private TransferDBUtil dbUtil;
+    private File file;
+
+    /**
+     * Creates a TransferDBUtil on the database of the current test. The
+     * database helper is shared by all the instances, so the one of a
+     * previous test is dropped first.
+     */
+    static TransferDBUtil newDBUtil() throws Exception {
+        Field field = TransferDBUtil.class.getDeclaredField("transferDBBase");
+        field.setAccessible(true);
+        field.set(null, null);
+        return new TransferDBUtil(Robolectric.application);
+    }
+
+    @Before
+    public void setup() throws Exception {
+        dbUtil = newDBUtil();
+        file = new File(temp.getRoot(), "file");
+    }
+
+    @Test
+    public void testInsertMultipartDownloadRecord() {
+        int id = Integer.parseInt(dbUtil.insertMultipartDownloadRecord(BUCKET, KEY, file)
+                .getLastPathSegment());
+
+        TransferRecord download = dbUtil.getTransferById(id);
+        assertNotNull(download);
+        assertEquals(TransferType.DOWNLOAD, download.type);
+        assertEquals(1, download.isMultipart);
+        assertEquals(0, download.partNumber);
+        assertEquals(BUCKET, download.bucketName);
+        assertEquals(KEY, download.key);
+        assertEquals(file.getAbsolutePath(), download.file);
+        assertEquals("no parts before the size is known", 0,
+                dbUtil.getNonCompletedDownloadPartsFromDB(id).size());
+    }
+
+    @Test
+    public void testGenerateContentValuesForDownloadPart() {
+        ContentValues values = dbUtil.generateContentValuesForDownloadPart(BUCKET, KEY, file, 2,
+                100, 199);
+        assertEquals(TransferType.DOWNLOAD.toString(),
+                values.getAsString(TransferTable.COLUMN_TYPE));
+        assertEquals(TransferState.WAITING.toString(),
+                values.getAsString(TransferTable.COLUMN_STATE));
+        assertEquals(file.getAbsolutePath(), values.getAsString(TransferTable.COLUMN_FILE));
+        assertEquals(Integer.valueOf(1), values.getAsInteger(TransferTable.COLUMN_IS_MULTIPART));
+        assertEquals(Integer.valueOf(2), values.getAsInteger(TransferTable.COLUMN_PART_NUM));
+        assertEquals(Long.valueOf(100), values.getAsLong(TransferTable.COLUMN_DATA_RANGE_START));
+        assertEquals(Long.valueOf(199), values.getAsLong(TransferTable.COLUMN_DATA_RANGE_LAST));
+        assertEquals(Long.valueOf(100), values.getAsLong(TransferTable.COLUMN_FILE_OFFSET));
+        assertEquals(Long.valueOf(100), values.getAsLong(TransferTable.COLUMN_BYTES_TOTAL));
+    }
+
+    @Test
+    public void testNonCompletedDownloadParts() {
+        int id = insertDownloadWithParts(3);
+
+        List<TransferRecord> parts = dbUtil.getNonCompletedDownloadPartsFromDB(id);
+        assertEquals(3, parts.size());
+        for (int i = 0; i < parts.size(); i++) {
+            TransferRecord part = parts.get(i);
+            assertEquals(id, part.mainUploadId);
+            assertEquals(i + 1, part.partNumber);
+            assertEquals(i * 100, part.rangeStart);
+            assertEquals(i * 100 + 99, part.rangeLast);
+        }
+
+        dbUtil.updateState(parts.get(1).id, TransferState.PART_COMPLETED);
+        parts = dbUtil.getNonCompletedDownloadPartsFromDB(id);
+        assertEquals("completed part skipped", 2, parts.size());
+        assertEquals(1, parts.get(0).partNumber);
+        assertEquals(3, parts.get(1).partNumber);
+        assertEquals(100, dbUtil.queryBytesTransferredByMainUploadId(id));
+    }
+
+    @Test
+    public void testDeletePartRecords() {
+        int id = insertDownloadWithParts(3);
+        int otherId = insertDownloadWithParts(2);
+
+        assertEquals(3, dbUtil.deletePartRecords(id));
+        assertEquals(0, dbUtil.getNonCompletedDownloadPartsFromDB(id).size());
+        assertNotNull("download kept", dbUtil.getTransferById(id));
+        assertEquals("other parts kept", 2,
+                dbUtil.getNonCompletedDownloadPartsFromDB(otherId).size());
+    }
+
+    private int insertDownloadWithParts(int partCount) {
+        int id = Integer.parseInt(dbUtil.insertMultipartDownloadRecord(BUCKET, KEY, file)
+                .getLastPathSegment());
+        ContentValues[] valuesArray = new ContentValues[partCount];
+        for (int i = 0; i < partCount; i++) {
+            valuesArray[i] = dbUtil.generateContentValuesForDownloadPart(BUCKET, KEY, file,
+                    i + 1, i * 100, i * 100 + 99);
+        }
+        assertEquals(partCount, dbUtil.bulkInsertPartRecords(id, valuesArray));
+        return id;
+    }
+}
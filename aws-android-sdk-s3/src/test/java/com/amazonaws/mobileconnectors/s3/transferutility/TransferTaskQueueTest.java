@@ -0,0 +1,155 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+public class TransferTaskQueueTest {
+
+    private Map<Integer, Integer> priorities;
+    private TransferTaskQueue queue;
+
+    @Before
+    public void setup() {
+        priorities = new HashMap<Integer, Integer>();
+        queue = new TransferTaskQueue(priorities);
+    }
+
+    @Test
+    public void testTransfersTakeTurns() {
+        // a big transfer queues its parts first
+        for (int i = 0; i < 4; i++) {
+            queue.offer(task(1, "big" + i));
+        }
+        queue.offer(task(2, "small0"));
+        queue.offer(task(2, "small1"));
+        queue.offer(task(3, "other0"));
+
+        assertEquals(7, queue.size());
+        assertEquals(4, queue.size(1));
+        assertEquals(2, queue.size(2));
+        assertEquals("big0", nameOf(queue.peek()));
+        assertEquals(listOf("big0", "small0", "other0", "big1", "small1", "big2", "big3"),
+                drain());
+        assertEquals(0, queue.size(1));
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void testHigherPriorityFirst() {
+        queue.offer(task(1, "low0"));
+        queue.offer(task(1, "low1"));
+        queue.offer(task(2, "high0"));
+        queue.offer(task(3, "high1"));
+        queue.offer(task(2, "high2"));
+        priorities.put(2, 5);
+        priorities.put(3, 5);
+
+        assertEquals(listOf("high0", "high1", "high2", "low0", "low1"), drain());
+    }
+
+    @Test
+    public void testPriorityChangeAppliesToQueuedTasks() {
+        queue.offer(task(1, "a0"));
+        queue.offer(task(1, "a1"));
+        queue.offer(task(2, "b0"));
+        queue.offer(task(2, "b1"));
+        assertEquals("a0", nameOf(queue.poll()));
+
+        priorities.put(1, -1);
+        assertEquals(listOf("b0", "b1", "a1"), drain());
+    }
+
+    @Test
+    public void testRemove() {
+        Runnable removed = task(1, "a1");
+        queue.offer(task(1, "a0"));
+        queue.offer(removed);
+        queue.offer(task(2, "b0"));
+        assertTrue(queue.remove(removed));
+        assertEquals(2, queue.size());
+
+        Iterator<Runnable> it = queue.iterator();
+        assertEquals("a0", nameOf(it.next()));
+        it.remove();
+        assertEquals(listOf("b0"), drain());
+    }
+
+    @Test
+    public void testPollWaitsForATask() throws Exception {
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+        new Thread(new Runnable() {
+            @Override
+            public void run() {
+                queue.offer(task(1, "late"));
+            }
+        }).start();
+        assertEquals("late", nameOf(queue.take()));
+    }
+
+    private List<String> drain() {
+        List<Runnable> tasks = new ArrayList<Runnable>();
+        queue.drainTo(tasks);
+        List<String> names = new ArrayList<String>();
+        for (Runnable task : tasks) {
+            names.add(nameOf(task));
+        }
+        return names;
+    }
+
+    private static List<String> listOf(String... names) {
+        List<String> list = new ArrayList<String>();
+        for (String name : names) {
+            list.add(name);
+        }
+        return list;
+    }
+
+    private static String nameOf(Runnable task) {
+        return ((NamedTask) task).name;
+    }
+
+    private static Runnable task(int transferId, String name) {
+        return new NamedTask(transferId, name);
+    }
+
+    private static class NamedTask extends TransferFutureTask<Object> {
+        private final String name;
+
+        NamedTask(int transferId, String name) {
+            super(new Callable<Object>() {
+                @Override
+                public Object call() {
+                    return null;
+                }
+            }, transferId);
+            this.name = name;
+        }
+    }
+}
@@ -56,4 +56,36 @@ public class RepeatableFileInputStreamTest {
         }
     }
 
+    @Test
+    public void testResetToMarkPoint() throws IOException {
+        File tmp = File.createTempFile("test" + new Date(), null);
+        try {
+            FileWriter writer = new FileWriter(tmp);
+            writer.write("content");
+            writer.close();
+
+            RepeatableFileInputStream rfis = new RepeatableFileInputStream(tmp);
+            try {
+                byte[] buffer = new byte[7];
+                assertEquals(3, rfis.read(buffer, 0, 3));
+                rfis.mark(0);
+                assertEquals(4, rfis.read(buffer, 0, 7));
+                assertEquals(-1, rfis.read(buffer, 0, 7));
+
+                rfis.reset();
+                assertEquals(4, rfis.read(buffer, 0, 7));
+                assertEquals("tent", new String(buffer, 0, 4));
+
+                // reset repeats the stream after it's closed too
+                rfis.close();
+                rfis.reset();
+                assertEquals(1, rfis.skip(1));
+                assertEquals('e', rfis.read());
+            } finally {
+                rfis.close();
+            }
+        } finally {
+            tmp.delete();
+        }
+    }
 }
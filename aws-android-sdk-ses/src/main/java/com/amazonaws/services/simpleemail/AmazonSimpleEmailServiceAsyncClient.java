@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.simpleemail;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -28,6 +27,7 @@ import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.simpleemail.model.*;
+import com.amazonaws.services.simpleemail.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonSimpleEmailService.
@@ -308,11 +308,9 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<DeleteIdentityResult> deleteIdentityAsync(final DeleteIdentityRequest deleteIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIdentityResult>() {
-            public DeleteIdentityResult call() throws Exception {
-                return deleteIdentity(deleteIdentityRequest);
-        }
-    });
+        return invokeAsync(deleteIdentityRequest,
+                new DeleteIdentityRequestMarshaller(), new DeleteIdentityResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -348,19 +346,9 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteIdentityRequest deleteIdentityRequest,
             final AsyncHandler<DeleteIdentityRequest, DeleteIdentityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIdentityResult>() {
-            public DeleteIdentityResult call() throws Exception {
-              DeleteIdentityResult result;
-                try {
-                result = deleteIdentity(deleteIdentityRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteIdentityRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(deleteIdentityRequest,
+                new DeleteIdentityRequestMarshaller(), new DeleteIdentityResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -395,11 +383,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<UpdateReceiptRuleResult> updateReceiptRuleAsync(final UpdateReceiptRuleRequest updateReceiptRuleRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateReceiptRuleResult>() {
-            public UpdateReceiptRuleResult call() throws Exception {
-                return updateReceiptRule(updateReceiptRuleRequest);
-        }
-    });
+        return invokeAsync(updateReceiptRuleRequest,
+                new UpdateReceiptRuleRequestMarshaller(),
+                new UpdateReceiptRuleResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -440,19 +427,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final UpdateReceiptRuleRequest updateReceiptRuleRequest,
             final AsyncHandler<UpdateReceiptRuleRequest, UpdateReceiptRuleResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateReceiptRuleResult>() {
-            public UpdateReceiptRuleResult call() throws Exception {
-              UpdateReceiptRuleResult result;
-                try {
-                result = updateReceiptRule(updateReceiptRuleRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateReceiptRuleRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(updateReceiptRuleRequest,
+                new UpdateReceiptRuleRequestMarshaller(),
+                new UpdateReceiptRuleResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -488,11 +466,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<ListVerifiedEmailAddressesResult> listVerifiedEmailAddressesAsync(final ListVerifiedEmailAddressesRequest listVerifiedEmailAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVerifiedEmailAddressesResult>() {
-            public ListVerifiedEmailAddressesResult call() throws Exception {
-                return listVerifiedEmailAddresses(listVerifiedEmailAddressesRequest);
-        }
-    });
+        return invokeAsync(listVerifiedEmailAddressesRequest,
+                new ListVerifiedEmailAddressesRequestMarshaller(),
+                new ListVerifiedEmailAddressesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -534,19 +511,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ListVerifiedEmailAddressesRequest listVerifiedEmailAddressesRequest,
             final AsyncHandler<ListVerifiedEmailAddressesRequest, ListVerifiedEmailAddressesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVerifiedEmailAddressesResult>() {
-            public ListVerifiedEmailAddressesResult call() throws Exception {
-              ListVerifiedEmailAddressesResult result;
-                try {
-                result = listVerifiedEmailAddresses(listVerifiedEmailAddressesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listVerifiedEmailAddressesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(listVerifiedEmailAddressesRequest,
+                new ListVerifiedEmailAddressesRequestMarshaller(),
+                new ListVerifiedEmailAddressesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -581,11 +549,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<DeleteReceiptRuleResult> deleteReceiptRuleAsync(final DeleteReceiptRuleRequest deleteReceiptRuleRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptRuleResult>() {
-            public DeleteReceiptRuleResult call() throws Exception {
-                return deleteReceiptRule(deleteReceiptRuleRequest);
-        }
-    });
+        return invokeAsync(deleteReceiptRuleRequest,
+                new DeleteReceiptRuleRequestMarshaller(),
+                new DeleteReceiptRuleResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -626,19 +593,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteReceiptRuleRequest deleteReceiptRuleRequest,
             final AsyncHandler<DeleteReceiptRuleRequest, DeleteReceiptRuleResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptRuleResult>() {
-            public DeleteReceiptRuleResult call() throws Exception {
-              DeleteReceiptRuleResult result;
-                try {
-                result = deleteReceiptRule(deleteReceiptRuleRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteReceiptRuleRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(deleteReceiptRuleRequest,
+                new DeleteReceiptRuleRequestMarshaller(),
+                new DeleteReceiptRuleResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -669,11 +627,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<VerifyEmailIdentityResult> verifyEmailIdentityAsync(final VerifyEmailIdentityRequest verifyEmailIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyEmailIdentityResult>() {
-            public VerifyEmailIdentityResult call() throws Exception {
-                return verifyEmailIdentity(verifyEmailIdentityRequest);
-        }
-    });
+        return invokeAsync(verifyEmailIdentityRequest,
+                new VerifyEmailIdentityRequestMarshaller(),
+                new VerifyEmailIdentityResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -710,19 +667,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final VerifyEmailIdentityRequest verifyEmailIdentityRequest,
             final AsyncHandler<VerifyEmailIdentityRequest, VerifyEmailIdentityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyEmailIdentityResult>() {
-            public VerifyEmailIdentityResult call() throws Exception {
-              VerifyEmailIdentityResult result;
-                try {
-                result = verifyEmailIdentity(verifyEmailIdentityRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(verifyEmailIdentityRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(verifyEmailIdentityRequest,
+                new VerifyEmailIdentityRequestMarshaller(),
+                new VerifyEmailIdentityResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -760,11 +708,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<GetIdentityNotificationAttributesResult> getIdentityNotificationAttributesAsync(final GetIdentityNotificationAttributesRequest getIdentityNotificationAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityNotificationAttributesResult>() {
-            public GetIdentityNotificationAttributesResult call() throws Exception {
-                return getIdentityNotificationAttributes(getIdentityNotificationAttributesRequest);
-        }
-    });
+        return invokeAsync(getIdentityNotificationAttributesRequest,
+                new GetIdentityNotificationAttributesRequestMarshaller(),
+                new GetIdentityNotificationAttributesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -808,19 +755,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetIdentityNotificationAttributesRequest getIdentityNotificationAttributesRequest,
             final AsyncHandler<GetIdentityNotificationAttributesRequest, GetIdentityNotificationAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityNotificationAttributesResult>() {
-            public GetIdentityNotificationAttributesResult call() throws Exception {
-              GetIdentityNotificationAttributesResult result;
-                try {
-                result = getIdentityNotificationAttributes(getIdentityNotificationAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getIdentityNotificationAttributesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(getIdentityNotificationAttributesRequest,
+                new GetIdentityNotificationAttributesRequestMarshaller(),
+                new GetIdentityNotificationAttributesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -865,11 +803,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<VerifyDomainDkimResult> verifyDomainDkimAsync(final VerifyDomainDkimRequest verifyDomainDkimRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainDkimResult>() {
-            public VerifyDomainDkimResult call() throws Exception {
-                return verifyDomainDkim(verifyDomainDkimRequest);
-        }
-    });
+        return invokeAsync(verifyDomainDkimRequest,
+                new VerifyDomainDkimRequestMarshaller(),
+                new VerifyDomainDkimResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -920,19 +857,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final VerifyDomainDkimRequest verifyDomainDkimRequest,
             final AsyncHandler<VerifyDomainDkimRequest, VerifyDomainDkimResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainDkimResult>() {
-            public VerifyDomainDkimResult call() throws Exception {
-              VerifyDomainDkimResult result;
-                try {
-                result = verifyDomainDkim(verifyDomainDkimRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(verifyDomainDkimRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(verifyDomainDkimRequest,
+                new VerifyDomainDkimRequestMarshaller(),
+                new VerifyDomainDkimResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -987,11 +915,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<GetIdentityDkimAttributesResult> getIdentityDkimAttributesAsync(final GetIdentityDkimAttributesRequest getIdentityDkimAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityDkimAttributesResult>() {
-            public GetIdentityDkimAttributesResult call() throws Exception {
-                return getIdentityDkimAttributes(getIdentityDkimAttributesRequest);
-        }
-    });
+        return invokeAsync(getIdentityDkimAttributesRequest,
+                new GetIdentityDkimAttributesRequestMarshaller(),
+                new GetIdentityDkimAttributesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1052,19 +979,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetIdentityDkimAttributesRequest getIdentityDkimAttributesRequest,
             final AsyncHandler<GetIdentityDkimAttributesRequest, GetIdentityDkimAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityDkimAttributesResult>() {
-            public GetIdentityDkimAttributesResult call() throws Exception {
-              GetIdentityDkimAttributesResult result;
-                try {
-                result = getIdentityDkimAttributes(getIdentityDkimAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getIdentityDkimAttributesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(getIdentityDkimAttributesRequest,
+                new GetIdentityDkimAttributesRequestMarshaller(),
+                new GetIdentityDkimAttributesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1099,11 +1017,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<DescribeReceiptRuleSetResult> describeReceiptRuleSetAsync(final DescribeReceiptRuleSetRequest describeReceiptRuleSetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReceiptRuleSetResult>() {
-            public DescribeReceiptRuleSetResult call() throws Exception {
-                return describeReceiptRuleSet(describeReceiptRuleSetRequest);
-        }
-    });
+        return invokeAsync(describeReceiptRuleSetRequest,
+                new DescribeReceiptRuleSetRequestMarshaller(),
+                new DescribeReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1144,19 +1061,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DescribeReceiptRuleSetRequest describeReceiptRuleSetRequest,
             final AsyncHandler<DescribeReceiptRuleSetRequest, DescribeReceiptRuleSetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReceiptRuleSetResult>() {
-            public DescribeReceiptRuleSetResult call() throws Exception {
-              DescribeReceiptRuleSetResult result;
-                try {
-                result = describeReceiptRuleSet(describeReceiptRuleSetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReceiptRuleSetRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeReceiptRuleSetRequest,
+                new DescribeReceiptRuleSetRequestMarshaller(),
+                new DescribeReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1192,12 +1100,9 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<Void> verifyEmailAddressAsync(final VerifyEmailAddressRequest verifyEmailAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                verifyEmailAddress(verifyEmailAddressRequest);
-                return null;
-        }
-    });
+        return invokeAsync(verifyEmailAddressRequest,
+                new VerifyEmailAddressRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -1239,18 +1144,9 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final VerifyEmailAddressRequest verifyEmailAddressRequest,
             final AsyncHandler<VerifyEmailAddressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                verifyEmailAddress(verifyEmailAddressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(verifyEmailAddressRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(verifyEmailAddressRequest,
+                new VerifyEmailAddressRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -1294,11 +1190,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<ListIdentityPoliciesResult> listIdentityPoliciesAsync(final ListIdentityPoliciesRequest listIdentityPoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIdentityPoliciesResult>() {
-            public ListIdentityPoliciesResult call() throws Exception {
-                return listIdentityPolicies(listIdentityPoliciesRequest);
-        }
-    });
+        return invokeAsync(listIdentityPoliciesRequest,
+                new ListIdentityPoliciesRequestMarshaller(),
+                new ListIdentityPoliciesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1348,19 +1243,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ListIdentityPoliciesRequest listIdentityPoliciesRequest,
             final AsyncHandler<ListIdentityPoliciesRequest, ListIdentityPoliciesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIdentityPoliciesResult>() {
-            public ListIdentityPoliciesResult call() throws Exception {
-              ListIdentityPoliciesResult result;
-                try {
-                result = listIdentityPolicies(listIdentityPoliciesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listIdentityPoliciesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(listIdentityPoliciesRequest,
+                new ListIdentityPoliciesRequestMarshaller(),
+                new ListIdentityPoliciesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1391,11 +1277,9 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<ListIdentitiesResult> listIdentitiesAsync(final ListIdentitiesRequest listIdentitiesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIdentitiesResult>() {
-            public ListIdentitiesResult call() throws Exception {
-                return listIdentities(listIdentitiesRequest);
-        }
-    });
+        return invokeAsync(listIdentitiesRequest,
+                new ListIdentitiesRequestMarshaller(), new ListIdentitiesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1432,19 +1316,9 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ListIdentitiesRequest listIdentitiesRequest,
             final AsyncHandler<ListIdentitiesRequest, ListIdentitiesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIdentitiesResult>() {
-            public ListIdentitiesResult call() throws Exception {
-              ListIdentitiesResult result;
-                try {
-                result = listIdentities(listIdentitiesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listIdentitiesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(listIdentitiesRequest,
+                new ListIdentitiesRequestMarshaller(), new ListIdentitiesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1477,11 +1351,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<GetIdentityVerificationAttributesResult> getIdentityVerificationAttributesAsync(final GetIdentityVerificationAttributesRequest getIdentityVerificationAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityVerificationAttributesResult>() {
-            public GetIdentityVerificationAttributesResult call() throws Exception {
-                return getIdentityVerificationAttributes(getIdentityVerificationAttributesRequest);
-        }
-    });
+        return invokeAsync(getIdentityVerificationAttributesRequest,
+                new GetIdentityVerificationAttributesRequestMarshaller(),
+                new GetIdentityVerificationAttributesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1520,19 +1393,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetIdentityVerificationAttributesRequest getIdentityVerificationAttributesRequest,
             final AsyncHandler<GetIdentityVerificationAttributesRequest, GetIdentityVerificationAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityVerificationAttributesResult>() {
-            public GetIdentityVerificationAttributesResult call() throws Exception {
-              GetIdentityVerificationAttributesResult result;
-                try {
-                result = getIdentityVerificationAttributes(getIdentityVerificationAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getIdentityVerificationAttributesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(getIdentityVerificationAttributesRequest,
+                new GetIdentityVerificationAttributesRequestMarshaller(),
+                new GetIdentityVerificationAttributesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1570,11 +1434,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<SetIdentityMailFromDomainResult> setIdentityMailFromDomainAsync(final SetIdentityMailFromDomainRequest setIdentityMailFromDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityMailFromDomainResult>() {
-            public SetIdentityMailFromDomainResult call() throws Exception {
-                return setIdentityMailFromDomain(setIdentityMailFromDomainRequest);
-        }
-    });
+        return invokeAsync(setIdentityMailFromDomainRequest,
+                new SetIdentityMailFromDomainRequestMarshaller(),
+                new SetIdentityMailFromDomainResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1618,19 +1481,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SetIdentityMailFromDomainRequest setIdentityMailFromDomainRequest,
             final AsyncHandler<SetIdentityMailFromDomainRequest, SetIdentityMailFromDomainResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityMailFromDomainResult>() {
-            public SetIdentityMailFromDomainResult call() throws Exception {
-              SetIdentityMailFromDomainResult result;
-                try {
-                result = setIdentityMailFromDomain(setIdentityMailFromDomainRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setIdentityMailFromDomainRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(setIdentityMailFromDomainRequest,
+                new SetIdentityMailFromDomainRequestMarshaller(),
+                new SetIdentityMailFromDomainResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1676,11 +1530,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<SetIdentityFeedbackForwardingEnabledResult> setIdentityFeedbackForwardingEnabledAsync(final SetIdentityFeedbackForwardingEnabledRequest setIdentityFeedbackForwardingEnabledRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityFeedbackForwardingEnabledResult>() {
-            public SetIdentityFeedbackForwardingEnabledResult call() throws Exception {
-                return setIdentityFeedbackForwardingEnabled(setIdentityFeedbackForwardingEnabledRequest);
-        }
-    });
+        return invokeAsync(setIdentityFeedbackForwardingEnabledRequest,
+                new SetIdentityFeedbackForwardingEnabledRequestMarshaller(),
+                new SetIdentityFeedbackForwardingEnabledResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1732,19 +1585,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SetIdentityFeedbackForwardingEnabledRequest setIdentityFeedbackForwardingEnabledRequest,
             final AsyncHandler<SetIdentityFeedbackForwardingEnabledRequest, SetIdentityFeedbackForwardingEnabledResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityFeedbackForwardingEnabledResult>() {
-            public SetIdentityFeedbackForwardingEnabledResult call() throws Exception {
-              SetIdentityFeedbackForwardingEnabledResult result;
-                try {
-                result = setIdentityFeedbackForwardingEnabled(setIdentityFeedbackForwardingEnabledRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setIdentityFeedbackForwardingEnabledRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(setIdentityFeedbackForwardingEnabledRequest,
+                new SetIdentityFeedbackForwardingEnabledRequestMarshaller(),
+                new SetIdentityFeedbackForwardingEnabledResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1784,11 +1628,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<ReorderReceiptRuleSetResult> reorderReceiptRuleSetAsync(final ReorderReceiptRuleSetRequest reorderReceiptRuleSetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReorderReceiptRuleSetResult>() {
-            public ReorderReceiptRuleSetResult call() throws Exception {
-                return reorderReceiptRuleSet(reorderReceiptRuleSetRequest);
-        }
-    });
+        return invokeAsync(reorderReceiptRuleSetRequest,
+                new ReorderReceiptRuleSetRequestMarshaller(),
+                new ReorderReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1834,19 +1677,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ReorderReceiptRuleSetRequest reorderReceiptRuleSetRequest,
             final AsyncHandler<ReorderReceiptRuleSetRequest, ReorderReceiptRuleSetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReorderReceiptRuleSetResult>() {
-            public ReorderReceiptRuleSetResult call() throws Exception {
-              ReorderReceiptRuleSetResult result;
-                try {
-                result = reorderReceiptRuleSet(reorderReceiptRuleSetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(reorderReceiptRuleSetRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(reorderReceiptRuleSetRequest,
+                new ReorderReceiptRuleSetRequestMarshaller(),
+                new ReorderReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1881,11 +1715,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<DeleteReceiptFilterResult> deleteReceiptFilterAsync(final DeleteReceiptFilterRequest deleteReceiptFilterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptFilterResult>() {
-            public DeleteReceiptFilterResult call() throws Exception {
-                return deleteReceiptFilter(deleteReceiptFilterRequest);
-        }
-    });
+        return invokeAsync(deleteReceiptFilterRequest,
+                new DeleteReceiptFilterRequestMarshaller(),
+                new DeleteReceiptFilterResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1926,19 +1759,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteReceiptFilterRequest deleteReceiptFilterRequest,
             final AsyncHandler<DeleteReceiptFilterRequest, DeleteReceiptFilterResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptFilterResult>() {
-            public DeleteReceiptFilterResult call() throws Exception {
-              DeleteReceiptFilterResult result;
-                try {
-                result = deleteReceiptFilter(deleteReceiptFilterRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteReceiptFilterRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(deleteReceiptFilterRequest,
+                new DeleteReceiptFilterRequestMarshaller(),
+                new DeleteReceiptFilterResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1974,11 +1798,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<SetReceiptRulePositionResult> setReceiptRulePositionAsync(final SetReceiptRulePositionRequest setReceiptRulePositionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetReceiptRulePositionResult>() {
-            public SetReceiptRulePositionResult call() throws Exception {
-                return setReceiptRulePosition(setReceiptRulePositionRequest);
-        }
-    });
+        return invokeAsync(setReceiptRulePositionRequest,
+                new SetReceiptRulePositionRequestMarshaller(),
+                new SetReceiptRulePositionResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2020,19 +1843,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SetReceiptRulePositionRequest setReceiptRulePositionRequest,
             final AsyncHandler<SetReceiptRulePositionRequest, SetReceiptRulePositionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetReceiptRulePositionResult>() {
-            public SetReceiptRulePositionResult call() throws Exception {
-              SetReceiptRulePositionResult result;
-                try {
-                result = setReceiptRulePosition(setReceiptRulePositionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setReceiptRulePositionRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(setReceiptRulePositionRequest,
+                new SetReceiptRulePositionRequestMarshaller(),
+                new SetReceiptRulePositionResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2067,11 +1881,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<DescribeReceiptRuleResult> describeReceiptRuleAsync(final DescribeReceiptRuleRequest describeReceiptRuleRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReceiptRuleResult>() {
-            public DescribeReceiptRuleResult call() throws Exception {
-                return describeReceiptRule(describeReceiptRuleRequest);
-        }
-    });
+        return invokeAsync(describeReceiptRuleRequest,
+                new DescribeReceiptRuleRequestMarshaller(),
+                new DescribeReceiptRuleResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2112,19 +1925,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DescribeReceiptRuleRequest describeReceiptRuleRequest,
             final AsyncHandler<DescribeReceiptRuleRequest, DescribeReceiptRuleResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReceiptRuleResult>() {
-            public DescribeReceiptRuleResult call() throws Exception {
-              DescribeReceiptRuleResult result;
-                try {
-                result = describeReceiptRule(describeReceiptRuleRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReceiptRuleRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeReceiptRuleRequest,
+                new DescribeReceiptRuleRequestMarshaller(),
+                new DescribeReceiptRuleResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2159,11 +1963,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<ListReceiptFiltersResult> listReceiptFiltersAsync(final ListReceiptFiltersRequest listReceiptFiltersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListReceiptFiltersResult>() {
-            public ListReceiptFiltersResult call() throws Exception {
-                return listReceiptFilters(listReceiptFiltersRequest);
-        }
-    });
+        return invokeAsync(listReceiptFiltersRequest,
+                new ListReceiptFiltersRequestMarshaller(),
+                new ListReceiptFiltersResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2204,19 +2007,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ListReceiptFiltersRequest listReceiptFiltersRequest,
             final AsyncHandler<ListReceiptFiltersRequest, ListReceiptFiltersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListReceiptFiltersResult>() {
-            public ListReceiptFiltersResult call() throws Exception {
-              ListReceiptFiltersResult result;
-                try {
-                result = listReceiptFilters(listReceiptFiltersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listReceiptFiltersRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(listReceiptFiltersRequest,
+                new ListReceiptFiltersRequestMarshaller(),
+                new ListReceiptFiltersResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2251,11 +2045,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<CreateReceiptFilterResult> createReceiptFilterAsync(final CreateReceiptFilterRequest createReceiptFilterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptFilterResult>() {
-            public CreateReceiptFilterResult call() throws Exception {
-                return createReceiptFilter(createReceiptFilterRequest);
-        }
-    });
+        return invokeAsync(createReceiptFilterRequest,
+                new CreateReceiptFilterRequestMarshaller(),
+                new CreateReceiptFilterResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2296,19 +2089,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final CreateReceiptFilterRequest createReceiptFilterRequest,
             final AsyncHandler<CreateReceiptFilterRequest, CreateReceiptFilterResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptFilterResult>() {
-            public CreateReceiptFilterResult call() throws Exception {
-              CreateReceiptFilterResult result;
-                try {
-                result = createReceiptFilter(createReceiptFilterRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createReceiptFilterRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createReceiptFilterRequest,
+                new CreateReceiptFilterRequestMarshaller(),
+                new CreateReceiptFilterResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2343,11 +2127,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<GetSendStatisticsResult> getSendStatisticsAsync(final GetSendStatisticsRequest getSendStatisticsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSendStatisticsResult>() {
-            public GetSendStatisticsResult call() throws Exception {
-                return getSendStatistics(getSendStatisticsRequest);
-        }
-    });
+        return invokeAsync(getSendStatisticsRequest,
+                new GetSendStatisticsRequestMarshaller(),
+                new GetSendStatisticsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2388,19 +2171,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetSendStatisticsRequest getSendStatisticsRequest,
             final AsyncHandler<GetSendStatisticsRequest, GetSendStatisticsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSendStatisticsResult>() {
-            public GetSendStatisticsResult call() throws Exception {
-              GetSendStatisticsResult result;
-                try {
-                result = getSendStatistics(getSendStatisticsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getSendStatisticsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(getSendStatisticsRequest,
+                new GetSendStatisticsRequestMarshaller(),
+                new GetSendStatisticsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2439,11 +2213,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<SetActiveReceiptRuleSetResult> setActiveReceiptRuleSetAsync(final SetActiveReceiptRuleSetRequest setActiveReceiptRuleSetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetActiveReceiptRuleSetResult>() {
-            public SetActiveReceiptRuleSetResult call() throws Exception {
-                return setActiveReceiptRuleSet(setActiveReceiptRuleSetRequest);
-        }
-    });
+        return invokeAsync(setActiveReceiptRuleSetRequest,
+                new SetActiveReceiptRuleSetRequestMarshaller(),
+                new SetActiveReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2488,19 +2261,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SetActiveReceiptRuleSetRequest setActiveReceiptRuleSetRequest,
             final AsyncHandler<SetActiveReceiptRuleSetRequest, SetActiveReceiptRuleSetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetActiveReceiptRuleSetResult>() {
-            public SetActiveReceiptRuleSetResult call() throws Exception {
-              SetActiveReceiptRuleSetResult result;
-                try {
-                result = setActiveReceiptRuleSet(setActiveReceiptRuleSetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setActiveReceiptRuleSetRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(setActiveReceiptRuleSetRequest,
+                new SetActiveReceiptRuleSetRequestMarshaller(),
+                new SetActiveReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2536,11 +2300,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<DescribeActiveReceiptRuleSetResult> describeActiveReceiptRuleSetAsync(final DescribeActiveReceiptRuleSetRequest describeActiveReceiptRuleSetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeActiveReceiptRuleSetResult>() {
-            public DescribeActiveReceiptRuleSetResult call() throws Exception {
-                return describeActiveReceiptRuleSet(describeActiveReceiptRuleSetRequest);
-        }
-    });
+        return invokeAsync(describeActiveReceiptRuleSetRequest,
+                new DescribeActiveReceiptRuleSetRequestMarshaller(),
+                new DescribeActiveReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2582,19 +2345,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DescribeActiveReceiptRuleSetRequest describeActiveReceiptRuleSetRequest,
             final AsyncHandler<DescribeActiveReceiptRuleSetRequest, DescribeActiveReceiptRuleSetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeActiveReceiptRuleSetResult>() {
-            public DescribeActiveReceiptRuleSetResult call() throws Exception {
-              DescribeActiveReceiptRuleSetResult result;
-                try {
-                result = describeActiveReceiptRuleSet(describeActiveReceiptRuleSetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeActiveReceiptRuleSetRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeActiveReceiptRuleSetRequest,
+                new DescribeActiveReceiptRuleSetRequestMarshaller(),
+                new DescribeActiveReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2684,11 +2438,9 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<SendRawEmailResult> sendRawEmailAsync(final SendRawEmailRequest sendRawEmailRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendRawEmailResult>() {
-            public SendRawEmailResult call() throws Exception {
-                return sendRawEmail(sendRawEmailRequest);
-        }
-    });
+        return invokeAsync(sendRawEmailRequest,
+                new SendRawEmailRequestMarshaller(), new SendRawEmailResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2784,19 +2536,9 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SendRawEmailRequest sendRawEmailRequest,
             final AsyncHandler<SendRawEmailRequest, SendRawEmailResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendRawEmailResult>() {
-            public SendRawEmailResult call() throws Exception {
-              SendRawEmailResult result;
-                try {
-                result = sendRawEmail(sendRawEmailRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(sendRawEmailRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(sendRawEmailRequest,
+                new SendRawEmailRequestMarshaller(), new SendRawEmailResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2831,11 +2573,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<CreateReceiptRuleResult> createReceiptRuleAsync(final CreateReceiptRuleRequest createReceiptRuleRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptRuleResult>() {
-            public CreateReceiptRuleResult call() throws Exception {
-                return createReceiptRule(createReceiptRuleRequest);
-        }
-    });
+        return invokeAsync(createReceiptRuleRequest,
+                new CreateReceiptRuleRequestMarshaller(),
+                new CreateReceiptRuleResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2876,19 +2617,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final CreateReceiptRuleRequest createReceiptRuleRequest,
             final AsyncHandler<CreateReceiptRuleRequest, CreateReceiptRuleResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptRuleResult>() {
-            public CreateReceiptRuleResult call() throws Exception {
-              CreateReceiptRuleResult result;
-                try {
-                result = createReceiptRule(createReceiptRuleRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createReceiptRuleRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createReceiptRuleRequest,
+                new CreateReceiptRuleRequestMarshaller(),
+                new CreateReceiptRuleResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2927,11 +2659,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<DeleteReceiptRuleSetResult> deleteReceiptRuleSetAsync(final DeleteReceiptRuleSetRequest deleteReceiptRuleSetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptRuleSetResult>() {
-            public DeleteReceiptRuleSetResult call() throws Exception {
-                return deleteReceiptRuleSet(deleteReceiptRuleSetRequest);
-        }
-    });
+        return invokeAsync(deleteReceiptRuleSetRequest,
+                new DeleteReceiptRuleSetRequestMarshaller(),
+                new DeleteReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2976,19 +2707,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteReceiptRuleSetRequest deleteReceiptRuleSetRequest,
             final AsyncHandler<DeleteReceiptRuleSetRequest, DeleteReceiptRuleSetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptRuleSetResult>() {
-            public DeleteReceiptRuleSetResult call() throws Exception {
-              DeleteReceiptRuleSetResult result;
-                try {
-                result = deleteReceiptRuleSet(deleteReceiptRuleSetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteReceiptRuleSetRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(deleteReceiptRuleSetRequest,
+                new DeleteReceiptRuleSetRequestMarshaller(),
+                new DeleteReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3030,11 +2752,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<PutIdentityPolicyResult> putIdentityPolicyAsync(final PutIdentityPolicyRequest putIdentityPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutIdentityPolicyResult>() {
-            public PutIdentityPolicyResult call() throws Exception {
-                return putIdentityPolicy(putIdentityPolicyRequest);
-        }
-    });
+        return invokeAsync(putIdentityPolicyRequest,
+                new PutIdentityPolicyRequestMarshaller(),
+                new PutIdentityPolicyResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3082,19 +2803,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final PutIdentityPolicyRequest putIdentityPolicyRequest,
             final AsyncHandler<PutIdentityPolicyRequest, PutIdentityPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutIdentityPolicyResult>() {
-            public PutIdentityPolicyResult call() throws Exception {
-              PutIdentityPolicyResult result;
-                try {
-                result = putIdentityPolicy(putIdentityPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putIdentityPolicyRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(putIdentityPolicyRequest,
+                new PutIdentityPolicyRequestMarshaller(),
+                new PutIdentityPolicyResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3138,11 +2850,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<GetIdentityPoliciesResult> getIdentityPoliciesAsync(final GetIdentityPoliciesRequest getIdentityPoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityPoliciesResult>() {
-            public GetIdentityPoliciesResult call() throws Exception {
-                return getIdentityPolicies(getIdentityPoliciesRequest);
-        }
-    });
+        return invokeAsync(getIdentityPoliciesRequest,
+                new GetIdentityPoliciesRequestMarshaller(),
+                new GetIdentityPoliciesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3192,19 +2903,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetIdentityPoliciesRequest getIdentityPoliciesRequest,
             final AsyncHandler<GetIdentityPoliciesRequest, GetIdentityPoliciesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityPoliciesResult>() {
-            public GetIdentityPoliciesResult call() throws Exception {
-              GetIdentityPoliciesResult result;
-                try {
-                result = getIdentityPolicies(getIdentityPoliciesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getIdentityPoliciesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(getIdentityPoliciesRequest,
+                new GetIdentityPoliciesRequestMarshaller(),
+                new GetIdentityPoliciesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3255,11 +2957,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<SetIdentityDkimEnabledResult> setIdentityDkimEnabledAsync(final SetIdentityDkimEnabledRequest setIdentityDkimEnabledRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityDkimEnabledResult>() {
-            public SetIdentityDkimEnabledResult call() throws Exception {
-                return setIdentityDkimEnabled(setIdentityDkimEnabledRequest);
-        }
-    });
+        return invokeAsync(setIdentityDkimEnabledRequest,
+                new SetIdentityDkimEnabledRequestMarshaller(),
+                new SetIdentityDkimEnabledResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3316,19 +3017,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SetIdentityDkimEnabledRequest setIdentityDkimEnabledRequest,
             final AsyncHandler<SetIdentityDkimEnabledRequest, SetIdentityDkimEnabledResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityDkimEnabledResult>() {
-            public SetIdentityDkimEnabledResult call() throws Exception {
-              SetIdentityDkimEnabledResult result;
-                try {
-                result = setIdentityDkimEnabled(setIdentityDkimEnabledRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setIdentityDkimEnabledRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(setIdentityDkimEnabledRequest,
+                new SetIdentityDkimEnabledRequestMarshaller(),
+                new SetIdentityDkimEnabledResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3356,11 +3048,9 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<GetSendQuotaResult> getSendQuotaAsync(final GetSendQuotaRequest getSendQuotaRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSendQuotaResult>() {
-            public GetSendQuotaResult call() throws Exception {
-                return getSendQuota(getSendQuotaRequest);
-        }
-    });
+        return invokeAsync(getSendQuotaRequest,
+                new GetSendQuotaRequestMarshaller(), new GetSendQuotaResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3394,19 +3084,9 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetSendQuotaRequest getSendQuotaRequest,
             final AsyncHandler<GetSendQuotaRequest, GetSendQuotaResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSendQuotaResult>() {
-            public GetSendQuotaResult call() throws Exception {
-              GetSendQuotaResult result;
-                try {
-                result = getSendQuota(getSendQuotaRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getSendQuotaRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(getSendQuotaRequest,
+                new GetSendQuotaRequestMarshaller(), new GetSendQuotaResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3449,11 +3129,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<DeleteIdentityPolicyResult> deleteIdentityPolicyAsync(final DeleteIdentityPolicyRequest deleteIdentityPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIdentityPolicyResult>() {
-            public DeleteIdentityPolicyResult call() throws Exception {
-                return deleteIdentityPolicy(deleteIdentityPolicyRequest);
-        }
-    });
+        return invokeAsync(deleteIdentityPolicyRequest,
+                new DeleteIdentityPolicyRequestMarshaller(),
+                new DeleteIdentityPolicyResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3502,19 +3181,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteIdentityPolicyRequest deleteIdentityPolicyRequest,
             final AsyncHandler<DeleteIdentityPolicyRequest, DeleteIdentityPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIdentityPolicyResult>() {
-            public DeleteIdentityPolicyResult call() throws Exception {
-              DeleteIdentityPolicyResult result;
-                try {
-                result = deleteIdentityPolicy(deleteIdentityPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteIdentityPolicyRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(deleteIdentityPolicyRequest,
+                new DeleteIdentityPolicyRequestMarshaller(),
+                new DeleteIdentityPolicyResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3553,11 +3223,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<ListReceiptRuleSetsResult> listReceiptRuleSetsAsync(final ListReceiptRuleSetsRequest listReceiptRuleSetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListReceiptRuleSetsResult>() {
-            public ListReceiptRuleSetsResult call() throws Exception {
-                return listReceiptRuleSets(listReceiptRuleSetsRequest);
-        }
-    });
+        return invokeAsync(listReceiptRuleSetsRequest,
+                new ListReceiptRuleSetsRequestMarshaller(),
+                new ListReceiptRuleSetsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3602,19 +3271,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ListReceiptRuleSetsRequest listReceiptRuleSetsRequest,
             final AsyncHandler<ListReceiptRuleSetsRequest, ListReceiptRuleSetsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListReceiptRuleSetsResult>() {
-            public ListReceiptRuleSetsResult call() throws Exception {
-              ListReceiptRuleSetsResult result;
-                try {
-                result = listReceiptRuleSets(listReceiptRuleSetsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listReceiptRuleSetsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(listReceiptRuleSetsRequest,
+                new ListReceiptRuleSetsRequestMarshaller(),
+                new ListReceiptRuleSetsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3670,11 +3330,9 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<SendEmailResult> sendEmailAsync(final SendEmailRequest sendEmailRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendEmailResult>() {
-            public SendEmailResult call() throws Exception {
-                return sendEmail(sendEmailRequest);
-        }
-    });
+        return invokeAsync(sendEmailRequest,
+                new SendEmailRequestMarshaller(), new SendEmailResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3736,19 +3394,9 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SendEmailRequest sendEmailRequest,
             final AsyncHandler<SendEmailRequest, SendEmailResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendEmailResult>() {
-            public SendEmailResult call() throws Exception {
-              SendEmailResult result;
-                try {
-                result = sendEmail(sendEmailRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(sendEmailRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(sendEmailRequest,
+                new SendEmailRequestMarshaller(), new SendEmailResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3778,11 +3426,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<VerifyDomainIdentityResult> verifyDomainIdentityAsync(final VerifyDomainIdentityRequest verifyDomainIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainIdentityResult>() {
-            public VerifyDomainIdentityResult call() throws Exception {
-                return verifyDomainIdentity(verifyDomainIdentityRequest);
-        }
-    });
+        return invokeAsync(verifyDomainIdentityRequest,
+                new VerifyDomainIdentityRequestMarshaller(),
+                new VerifyDomainIdentityResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3818,19 +3465,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final VerifyDomainIdentityRequest verifyDomainIdentityRequest,
             final AsyncHandler<VerifyDomainIdentityRequest, VerifyDomainIdentityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainIdentityResult>() {
-            public VerifyDomainIdentityResult call() throws Exception {
-              VerifyDomainIdentityResult result;
-                try {
-                result = verifyDomainIdentity(verifyDomainIdentityRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(verifyDomainIdentityRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(verifyDomainIdentityRequest,
+                new VerifyDomainIdentityRequestMarshaller(),
+                new VerifyDomainIdentityResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3873,11 +3511,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<SetIdentityNotificationTopicResult> setIdentityNotificationTopicAsync(final SetIdentityNotificationTopicRequest setIdentityNotificationTopicRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityNotificationTopicResult>() {
-            public SetIdentityNotificationTopicResult call() throws Exception {
-                return setIdentityNotificationTopic(setIdentityNotificationTopicRequest);
-        }
-    });
+        return invokeAsync(setIdentityNotificationTopicRequest,
+                new SetIdentityNotificationTopicRequestMarshaller(),
+                new SetIdentityNotificationTopicResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3926,19 +3563,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SetIdentityNotificationTopicRequest setIdentityNotificationTopicRequest,
             final AsyncHandler<SetIdentityNotificationTopicRequest, SetIdentityNotificationTopicResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityNotificationTopicResult>() {
-            public SetIdentityNotificationTopicResult call() throws Exception {
-              SetIdentityNotificationTopicResult result;
-                try {
-                result = setIdentityNotificationTopic(setIdentityNotificationTopicRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setIdentityNotificationTopicRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(setIdentityNotificationTopicRequest,
+                new SetIdentityNotificationTopicRequestMarshaller(),
+                new SetIdentityNotificationTopicResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3974,12 +3602,9 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<Void> deleteVerifiedEmailAddressAsync(final DeleteVerifiedEmailAddressRequest deleteVerifiedEmailAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVerifiedEmailAddress(deleteVerifiedEmailAddressRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteVerifiedEmailAddressRequest,
+                new DeleteVerifiedEmailAddressRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -4021,18 +3646,9 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteVerifiedEmailAddressRequest deleteVerifiedEmailAddressRequest,
             final AsyncHandler<DeleteVerifiedEmailAddressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteVerifiedEmailAddress(deleteVerifiedEmailAddressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVerifiedEmailAddressRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteVerifiedEmailAddressRequest,
+                new DeleteVerifiedEmailAddressRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -4069,11 +3685,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<CloneReceiptRuleSetResult> cloneReceiptRuleSetAsync(final CloneReceiptRuleSetRequest cloneReceiptRuleSetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CloneReceiptRuleSetResult>() {
-            public CloneReceiptRuleSetResult call() throws Exception {
-                return cloneReceiptRuleSet(cloneReceiptRuleSetRequest);
-        }
-    });
+        return invokeAsync(cloneReceiptRuleSetRequest,
+                new CloneReceiptRuleSetRequestMarshaller(),
+                new CloneReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4116,19 +3731,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final CloneReceiptRuleSetRequest cloneReceiptRuleSetRequest,
             final AsyncHandler<CloneReceiptRuleSetRequest, CloneReceiptRuleSetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CloneReceiptRuleSetResult>() {
-            public CloneReceiptRuleSetResult call() throws Exception {
-              CloneReceiptRuleSetResult result;
-                try {
-                result = cloneReceiptRuleSet(cloneReceiptRuleSetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cloneReceiptRuleSetRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(cloneReceiptRuleSetRequest,
+                new CloneReceiptRuleSetRequestMarshaller(),
+                new CloneReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -4161,11 +3767,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<GetIdentityMailFromDomainAttributesResult> getIdentityMailFromDomainAttributesAsync(final GetIdentityMailFromDomainAttributesRequest getIdentityMailFromDomainAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityMailFromDomainAttributesResult>() {
-            public GetIdentityMailFromDomainAttributesResult call() throws Exception {
-                return getIdentityMailFromDomainAttributes(getIdentityMailFromDomainAttributesRequest);
-        }
-    });
+        return invokeAsync(getIdentityMailFromDomainAttributesRequest,
+                new GetIdentityMailFromDomainAttributesRequestMarshaller(),
+                new GetIdentityMailFromDomainAttributesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4204,19 +3809,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetIdentityMailFromDomainAttributesRequest getIdentityMailFromDomainAttributesRequest,
             final AsyncHandler<GetIdentityMailFromDomainAttributesRequest, GetIdentityMailFromDomainAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityMailFromDomainAttributesResult>() {
-            public GetIdentityMailFromDomainAttributesResult call() throws Exception {
-              GetIdentityMailFromDomainAttributesResult result;
-                try {
-                result = getIdentityMailFromDomainAttributes(getIdentityMailFromDomainAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getIdentityMailFromDomainAttributesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(getIdentityMailFromDomainAttributesRequest,
+                new GetIdentityMailFromDomainAttributesRequestMarshaller(),
+                new GetIdentityMailFromDomainAttributesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -4255,11 +3851,9 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<SendBounceResult> sendBounceAsync(final SendBounceRequest sendBounceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendBounceResult>() {
-            public SendBounceResult call() throws Exception {
-                return sendBounce(sendBounceRequest);
-        }
-    });
+        return invokeAsync(sendBounceRequest,
+                new SendBounceRequestMarshaller(), new SendBounceResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4304,19 +3898,9 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SendBounceRequest sendBounceRequest,
             final AsyncHandler<SendBounceRequest, SendBounceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendBounceResult>() {
-            public SendBounceResult call() throws Exception {
-              SendBounceResult result;
-                try {
-                result = sendBounce(sendBounceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(sendBounceRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(sendBounceRequest,
+                new SendBounceRequestMarshaller(), new SendBounceResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -4351,11 +3935,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<CreateReceiptRuleSetResult> createReceiptRuleSetAsync(final CreateReceiptRuleSetRequest createReceiptRuleSetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptRuleSetResult>() {
-            public CreateReceiptRuleSetResult call() throws Exception {
-                return createReceiptRuleSet(createReceiptRuleSetRequest);
-        }
-    });
+        return invokeAsync(createReceiptRuleSetRequest,
+                new CreateReceiptRuleSetRequestMarshaller(),
+                new CreateReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4396,19 +3979,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final CreateReceiptRuleSetRequest createReceiptRuleSetRequest,
             final AsyncHandler<CreateReceiptRuleSetRequest, CreateReceiptRuleSetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptRuleSetResult>() {
-            public CreateReceiptRuleSetResult call() throws Exception {
-              CreateReceiptRuleSetResult result;
-                try {
-                result = createReceiptRuleSet(createReceiptRuleSetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createReceiptRuleSetRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createReceiptRuleSetRequest,
+                new CreateReceiptRuleSetRequestMarshaller(),
+                new CreateReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
 }
@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.sns;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -28,6 +27,7 @@ import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.sns.model.*;
+import com.amazonaws.services.sns.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonSNS.
@@ -314,11 +314,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<ConfirmSubscriptionResult> confirmSubscriptionAsync(final ConfirmSubscriptionRequest confirmSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmSubscriptionResult>() {
-            public ConfirmSubscriptionResult call() throws Exception {
-                return confirmSubscription(confirmSubscriptionRequest);
-        }
-    });
+        return invokeAsync(confirmSubscriptionRequest,
+                new ConfirmSubscriptionRequestMarshaller(),
+                new ConfirmSubscriptionResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -354,19 +353,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final ConfirmSubscriptionRequest confirmSubscriptionRequest,
             final AsyncHandler<ConfirmSubscriptionRequest, ConfirmSubscriptionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmSubscriptionResult>() {
-            public ConfirmSubscriptionResult call() throws Exception {
-              ConfirmSubscriptionResult result;
-                try {
-                result = confirmSubscription(confirmSubscriptionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(confirmSubscriptionRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(confirmSubscriptionRequest,
+                new ConfirmSubscriptionRequestMarshaller(),
+                new ConfirmSubscriptionResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -408,11 +398,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<CreatePlatformApplicationResult> createPlatformApplicationAsync(final CreatePlatformApplicationRequest createPlatformApplicationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePlatformApplicationResult>() {
-            public CreatePlatformApplicationResult call() throws Exception {
-                return createPlatformApplication(createPlatformApplicationRequest);
-        }
-    });
+        return invokeAsync(createPlatformApplicationRequest,
+                new CreatePlatformApplicationRequestMarshaller(),
+                new CreatePlatformApplicationResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -460,19 +449,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final CreatePlatformApplicationRequest createPlatformApplicationRequest,
             final AsyncHandler<CreatePlatformApplicationRequest, CreatePlatformApplicationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePlatformApplicationResult>() {
-            public CreatePlatformApplicationResult call() throws Exception {
-              CreatePlatformApplicationResult result;
-                try {
-                result = createPlatformApplication(createPlatformApplicationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createPlatformApplicationRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createPlatformApplicationRequest,
+                new CreatePlatformApplicationRequestMarshaller(),
+                new CreatePlatformApplicationResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -498,11 +478,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<GetTopicAttributesResult> getTopicAttributesAsync(final GetTopicAttributesRequest getTopicAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTopicAttributesResult>() {
-            public GetTopicAttributesResult call() throws Exception {
-                return getTopicAttributes(getTopicAttributesRequest);
-        }
-    });
+        return invokeAsync(getTopicAttributesRequest,
+                new GetTopicAttributesRequestMarshaller(),
+                new GetTopicAttributesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -534,19 +513,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final GetTopicAttributesRequest getTopicAttributesRequest,
             final AsyncHandler<GetTopicAttributesRequest, GetTopicAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTopicAttributesResult>() {
-            public GetTopicAttributesResult call() throws Exception {
-              GetTopicAttributesResult result;
-                try {
-                result = getTopicAttributes(getTopicAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getTopicAttributesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(getTopicAttributesRequest,
+                new GetTopicAttributesRequestMarshaller(),
+                new GetTopicAttributesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -575,11 +545,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<SubscribeResult> subscribeAsync(final SubscribeRequest subscribeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SubscribeResult>() {
-            public SubscribeResult call() throws Exception {
-                return subscribe(subscribeRequest);
-        }
-    });
+        return invokeAsync(subscribeRequest,
+                new SubscribeRequestMarshaller(), new SubscribeResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -614,19 +582,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final SubscribeRequest subscribeRequest,
             final AsyncHandler<SubscribeRequest, SubscribeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SubscribeResult>() {
-            public SubscribeResult call() throws Exception {
-              SubscribeResult result;
-                try {
-                result = subscribe(subscribeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(subscribeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(subscribeRequest,
+                new SubscribeRequestMarshaller(), new SubscribeResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -654,12 +612,8 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<Void> deleteEndpointAsync(final DeleteEndpointRequest deleteEndpointRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteEndpoint(deleteEndpointRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteEndpointRequest, new DeleteEndpointRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -693,18 +647,8 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final DeleteEndpointRequest deleteEndpointRequest,
             final AsyncHandler<DeleteEndpointRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteEndpoint(deleteEndpointRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteEndpointRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteEndpointRequest, new DeleteEndpointRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -729,12 +673,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<Void> setTopicAttributesAsync(final SetTopicAttributesRequest setTopicAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setTopicAttributes(setTopicAttributesRequest);
-                return null;
-        }
-    });
+        return invokeAsync(setTopicAttributesRequest,
+                new SetTopicAttributesRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -765,18 +706,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final SetTopicAttributesRequest setTopicAttributesRequest,
             final AsyncHandler<SetTopicAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                setTopicAttributes(setTopicAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setTopicAttributesRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(setTopicAttributesRequest,
+                new SetTopicAttributesRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -804,12 +736,8 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<Void> deleteTopicAsync(final DeleteTopicRequest deleteTopicRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteTopic(deleteTopicRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteTopicRequest, new DeleteTopicRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -843,18 +771,8 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final DeleteTopicRequest deleteTopicRequest,
             final AsyncHandler<DeleteTopicRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteTopic(deleteTopicRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteTopicRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteTopicRequest, new DeleteTopicRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -879,12 +797,8 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<Void> removePermissionAsync(final RemovePermissionRequest removePermissionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                removePermission(removePermissionRequest);
-                return null;
-        }
-    });
+        return invokeAsync(removePermissionRequest, new RemovePermissionRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -915,18 +829,8 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final RemovePermissionRequest removePermissionRequest,
             final AsyncHandler<RemovePermissionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                removePermission(removePermissionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(removePermissionRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(removePermissionRequest, new RemovePermissionRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -956,11 +860,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<GetEndpointAttributesResult> getEndpointAttributesAsync(final GetEndpointAttributesRequest getEndpointAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetEndpointAttributesResult>() {
-            public GetEndpointAttributesResult call() throws Exception {
-                return getEndpointAttributes(getEndpointAttributesRequest);
-        }
-    });
+        return invokeAsync(getEndpointAttributesRequest,
+                new GetEndpointAttributesRequestMarshaller(),
+                new GetEndpointAttributesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -996,19 +899,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final GetEndpointAttributesRequest getEndpointAttributesRequest,
             final AsyncHandler<GetEndpointAttributesRequest, GetEndpointAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetEndpointAttributesResult>() {
-            public GetEndpointAttributesResult call() throws Exception {
-              GetEndpointAttributesResult result;
-                try {
-                result = getEndpointAttributes(getEndpointAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getEndpointAttributesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(getEndpointAttributesRequest,
+                new GetEndpointAttributesRequestMarshaller(),
+                new GetEndpointAttributesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1039,11 +933,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<GetPlatformApplicationAttributesResult> getPlatformApplicationAttributesAsync(final GetPlatformApplicationAttributesRequest getPlatformApplicationAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPlatformApplicationAttributesResult>() {
-            public GetPlatformApplicationAttributesResult call() throws Exception {
-                return getPlatformApplicationAttributes(getPlatformApplicationAttributesRequest);
-        }
-    });
+        return invokeAsync(getPlatformApplicationAttributesRequest,
+                new GetPlatformApplicationAttributesRequestMarshaller(),
+                new GetPlatformApplicationAttributesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1080,19 +973,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final GetPlatformApplicationAttributesRequest getPlatformApplicationAttributesRequest,
             final AsyncHandler<GetPlatformApplicationAttributesRequest, GetPlatformApplicationAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPlatformApplicationAttributesResult>() {
-            public GetPlatformApplicationAttributesResult call() throws Exception {
-              GetPlatformApplicationAttributesResult result;
-                try {
-                result = getPlatformApplicationAttributes(getPlatformApplicationAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getPlatformApplicationAttributesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(getPlatformApplicationAttributesRequest,
+                new GetPlatformApplicationAttributesRequestMarshaller(),
+                new GetPlatformApplicationAttributesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1121,11 +1005,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<ListSubscriptionsResult> listSubscriptionsAsync(final ListSubscriptionsRequest listSubscriptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSubscriptionsResult>() {
-            public ListSubscriptionsResult call() throws Exception {
-                return listSubscriptions(listSubscriptionsRequest);
-        }
-    });
+        return invokeAsync(listSubscriptionsRequest,
+                new ListSubscriptionsRequestMarshaller(),
+                new ListSubscriptionsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1160,19 +1043,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final ListSubscriptionsRequest listSubscriptionsRequest,
             final AsyncHandler<ListSubscriptionsRequest, ListSubscriptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSubscriptionsResult>() {
-            public ListSubscriptionsResult call() throws Exception {
-              ListSubscriptionsResult result;
-                try {
-                result = listSubscriptions(listSubscriptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listSubscriptionsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(listSubscriptionsRequest,
+                new ListSubscriptionsRequestMarshaller(),
+                new ListSubscriptionsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1199,12 +1073,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<Void> setSubscriptionAttributesAsync(final SetSubscriptionAttributesRequest setSubscriptionAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setSubscriptionAttributes(setSubscriptionAttributesRequest);
-                return null;
-        }
-    });
+        return invokeAsync(setSubscriptionAttributesRequest,
+                new SetSubscriptionAttributesRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -1237,18 +1108,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final SetSubscriptionAttributesRequest setSubscriptionAttributesRequest,
             final AsyncHandler<SetSubscriptionAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                setSubscriptionAttributes(setSubscriptionAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setSubscriptionAttributesRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(setSubscriptionAttributesRequest,
+                new SetSubscriptionAttributesRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -1279,12 +1141,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<Void> setPlatformApplicationAttributesAsync(final SetPlatformApplicationAttributesRequest setPlatformApplicationAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setPlatformApplicationAttributes(setPlatformApplicationAttributesRequest);
-                return null;
-        }
-    });
+        return invokeAsync(setPlatformApplicationAttributesRequest,
+                new SetPlatformApplicationAttributesRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -1321,18 +1180,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final SetPlatformApplicationAttributesRequest setPlatformApplicationAttributesRequest,
             final AsyncHandler<SetPlatformApplicationAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                setPlatformApplicationAttributes(setPlatformApplicationAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setPlatformApplicationAttributesRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(setPlatformApplicationAttributesRequest,
+                new SetPlatformApplicationAttributesRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -1378,11 +1228,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<CreatePlatformEndpointResult> createPlatformEndpointAsync(final CreatePlatformEndpointRequest createPlatformEndpointRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePlatformEndpointResult>() {
-            public CreatePlatformEndpointResult call() throws Exception {
-                return createPlatformEndpoint(createPlatformEndpointRequest);
-        }
-    });
+        return invokeAsync(createPlatformEndpointRequest,
+                new CreatePlatformEndpointRequestMarshaller(),
+                new CreatePlatformEndpointResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1434,19 +1283,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final CreatePlatformEndpointRequest createPlatformEndpointRequest,
             final AsyncHandler<CreatePlatformEndpointRequest, CreatePlatformEndpointResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePlatformEndpointResult>() {
-            public CreatePlatformEndpointResult call() throws Exception {
-              CreatePlatformEndpointResult result;
-                try {
-                result = createPlatformEndpoint(createPlatformEndpointRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createPlatformEndpointRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createPlatformEndpointRequest,
+                new CreatePlatformEndpointRequestMarshaller(),
+                new CreatePlatformEndpointResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1472,12 +1312,8 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<Void> addPermissionAsync(final AddPermissionRequest addPermissionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                addPermission(addPermissionRequest);
-                return null;
-        }
-    });
+        return invokeAsync(addPermissionRequest, new AddPermissionRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -1509,18 +1345,8 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final AddPermissionRequest addPermissionRequest,
             final AsyncHandler<AddPermissionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                addPermission(addPermissionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(addPermissionRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(addPermissionRequest, new AddPermissionRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -1546,11 +1372,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<GetSubscriptionAttributesResult> getSubscriptionAttributesAsync(final GetSubscriptionAttributesRequest getSubscriptionAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSubscriptionAttributesResult>() {
-            public GetSubscriptionAttributesResult call() throws Exception {
-                return getSubscriptionAttributes(getSubscriptionAttributesRequest);
-        }
-    });
+        return invokeAsync(getSubscriptionAttributesRequest,
+                new GetSubscriptionAttributesRequestMarshaller(),
+                new GetSubscriptionAttributesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1582,19 +1407,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final GetSubscriptionAttributesRequest getSubscriptionAttributesRequest,
             final AsyncHandler<GetSubscriptionAttributesRequest, GetSubscriptionAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSubscriptionAttributesResult>() {
-            public GetSubscriptionAttributesResult call() throws Exception {
-              GetSubscriptionAttributesResult result;
-                try {
-                result = getSubscriptionAttributes(getSubscriptionAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getSubscriptionAttributesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(getSubscriptionAttributesRequest,
+                new GetSubscriptionAttributesRequestMarshaller(),
+                new GetSubscriptionAttributesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1624,11 +1440,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<CreateTopicResult> createTopicAsync(final CreateTopicRequest createTopicRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTopicResult>() {
-            public CreateTopicResult call() throws Exception {
-                return createTopic(createTopicRequest);
-        }
-    });
+        return invokeAsync(createTopicRequest,
+                new CreateTopicRequestMarshaller(), new CreateTopicResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1664,19 +1478,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final CreateTopicRequest createTopicRequest,
             final AsyncHandler<CreateTopicRequest, CreateTopicResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTopicResult>() {
-            public CreateTopicResult call() throws Exception {
-              CreateTopicResult result;
-                try {
-                result = createTopic(createTopicRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createTopicRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createTopicRequest,
+                new CreateTopicRequestMarshaller(), new CreateTopicResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1705,11 +1509,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<ListTopicsResult> listTopicsAsync(final ListTopicsRequest listTopicsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTopicsResult>() {
-            public ListTopicsResult call() throws Exception {
-                return listTopics(listTopicsRequest);
-        }
-    });
+        return invokeAsync(listTopicsRequest,
+                new ListTopicsRequestMarshaller(), new ListTopicsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1744,19 +1546,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final ListTopicsRequest listTopicsRequest,
             final AsyncHandler<ListTopicsRequest, ListTopicsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTopicsResult>() {
-            public ListTopicsResult call() throws Exception {
-              ListTopicsResult result;
-                try {
-                result = listTopics(listTopicsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listTopicsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(listTopicsRequest,
+                new ListTopicsRequestMarshaller(), new ListTopicsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1794,11 +1586,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<ListEndpointsByPlatformApplicationResult> listEndpointsByPlatformApplicationAsync(final ListEndpointsByPlatformApplicationRequest listEndpointsByPlatformApplicationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEndpointsByPlatformApplicationResult>() {
-            public ListEndpointsByPlatformApplicationResult call() throws Exception {
-                return listEndpointsByPlatformApplication(listEndpointsByPlatformApplicationRequest);
-        }
-    });
+        return invokeAsync(listEndpointsByPlatformApplicationRequest,
+                new ListEndpointsByPlatformApplicationRequestMarshaller(),
+                new ListEndpointsByPlatformApplicationResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1842,19 +1633,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final ListEndpointsByPlatformApplicationRequest listEndpointsByPlatformApplicationRequest,
             final AsyncHandler<ListEndpointsByPlatformApplicationRequest, ListEndpointsByPlatformApplicationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEndpointsByPlatformApplicationResult>() {
-            public ListEndpointsByPlatformApplicationResult call() throws Exception {
-              ListEndpointsByPlatformApplicationResult result;
-                try {
-                result = listEndpointsByPlatformApplication(listEndpointsByPlatformApplicationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listEndpointsByPlatformApplicationRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(listEndpointsByPlatformApplicationRequest,
+                new ListEndpointsByPlatformApplicationRequestMarshaller(),
+                new ListEndpointsByPlatformApplicationResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1883,12 +1665,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<Void> deletePlatformApplicationAsync(final DeletePlatformApplicationRequest deletePlatformApplicationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deletePlatformApplication(deletePlatformApplicationRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deletePlatformApplicationRequest,
+                new DeletePlatformApplicationRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -1923,18 +1702,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final DeletePlatformApplicationRequest deletePlatformApplicationRequest,
             final AsyncHandler<DeletePlatformApplicationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deletePlatformApplication(deletePlatformApplicationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deletePlatformApplicationRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deletePlatformApplicationRequest,
+                new DeletePlatformApplicationRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -1970,11 +1740,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<ListPlatformApplicationsResult> listPlatformApplicationsAsync(final ListPlatformApplicationsRequest listPlatformApplicationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPlatformApplicationsResult>() {
-            public ListPlatformApplicationsResult call() throws Exception {
-                return listPlatformApplications(listPlatformApplicationsRequest);
-        }
-    });
+        return invokeAsync(listPlatformApplicationsRequest,
+                new ListPlatformApplicationsRequestMarshaller(),
+                new ListPlatformApplicationsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2016,19 +1785,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final ListPlatformApplicationsRequest listPlatformApplicationsRequest,
             final AsyncHandler<ListPlatformApplicationsRequest, ListPlatformApplicationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPlatformApplicationsResult>() {
-            public ListPlatformApplicationsResult call() throws Exception {
-              ListPlatformApplicationsResult result;
-                try {
-                result = listPlatformApplications(listPlatformApplicationsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listPlatformApplicationsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(listPlatformApplicationsRequest,
+                new ListPlatformApplicationsRequestMarshaller(),
+                new ListPlatformApplicationsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2058,12 +1818,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<Void> setEndpointAttributesAsync(final SetEndpointAttributesRequest setEndpointAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setEndpointAttributes(setEndpointAttributesRequest);
-                return null;
-        }
-    });
+        return invokeAsync(setEndpointAttributesRequest,
+                new SetEndpointAttributesRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -2099,18 +1856,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final SetEndpointAttributesRequest setEndpointAttributesRequest,
             final AsyncHandler<SetEndpointAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                setEndpointAttributes(setEndpointAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setEndpointAttributesRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(setEndpointAttributesRequest,
+                new SetEndpointAttributesRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -2142,12 +1890,8 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<Void> unsubscribeAsync(final UnsubscribeRequest unsubscribeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                unsubscribe(unsubscribeRequest);
-                return null;
-        }
-    });
+        return invokeAsync(unsubscribeRequest, new UnsubscribeRequestMarshaller(), null,
+                executorService, null);
     }
 
     /**
@@ -2185,18 +1929,8 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final UnsubscribeRequest unsubscribeRequest,
             final AsyncHandler<UnsubscribeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                unsubscribe(unsubscribeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(unsubscribeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(unsubscribeRequest, new UnsubscribeRequestMarshaller(), null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -2226,11 +1960,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<ListSubscriptionsByTopicResult> listSubscriptionsByTopicAsync(final ListSubscriptionsByTopicRequest listSubscriptionsByTopicRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSubscriptionsByTopicResult>() {
-            public ListSubscriptionsByTopicResult call() throws Exception {
-                return listSubscriptionsByTopic(listSubscriptionsByTopicRequest);
-        }
-    });
+        return invokeAsync(listSubscriptionsByTopicRequest,
+                new ListSubscriptionsByTopicRequestMarshaller(),
+                new ListSubscriptionsByTopicResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2266,19 +1999,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final ListSubscriptionsByTopicRequest listSubscriptionsByTopicRequest,
             final AsyncHandler<ListSubscriptionsByTopicRequest, ListSubscriptionsByTopicResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSubscriptionsByTopicResult>() {
-            public ListSubscriptionsByTopicResult call() throws Exception {
-              ListSubscriptionsByTopicResult result;
-                try {
-                result = listSubscriptionsByTopic(listSubscriptionsByTopicRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listSubscriptionsByTopicRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(listSubscriptionsByTopicRequest,
+                new ListSubscriptionsByTopicRequestMarshaller(),
+                new ListSubscriptionsByTopicResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2315,11 +2039,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<PublishResult> publishAsync(final PublishRequest publishRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PublishResult>() {
-            public PublishResult call() throws Exception {
-                return publish(publishRequest);
-        }
-    });
+        return invokeAsync(publishRequest,
+                new PublishRequestMarshaller(), new PublishResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2362,19 +2084,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final PublishRequest publishRequest,
             final AsyncHandler<PublishRequest, PublishResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PublishResult>() {
-            public PublishResult call() throws Exception {
-              PublishResult result;
-                try {
-                result = publish(publishRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(publishRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(publishRequest,
+                new PublishRequestMarshaller(), new PublishResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
 }